@@ -8,6 +8,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Properties;
 
+import com.tron.model.game.AIStrategyType;
 import com.tron.model.util.MapType;
 
 /**
@@ -17,7 +18,8 @@ import com.tron.model.util.MapType;
  * Provides persistence to maintain user preferences across sessions.
  * 
  * Features:
- * - Hard AI toggle for Story Mode (default: disabled)
+ * - AI strategy selection for Story Mode (default: normal AI)
+ * - Hard AI toggle kept as a shortcut for selecting the hard strategy
  * - Persistent configuration storage
  * - Thread-safe singleton access
  * 
@@ -54,18 +56,21 @@ public class GameSettings {
     private static final String CONFIG_FILE = "config/game_settings.properties";
     private static final String HARD_AI_KEY = "hardAIEnabled";
     private static final String MAP_TYPE_KEY = "mapType";
+    private static final String AI_STRATEGY_KEY = "aiStrategy";
+    private static final String ASYNC_AI_KEY = "asyncAIDecisions";
     
     // Gameplay preferences
-    private boolean hardAIEnabled;
+    private AIStrategyType aiStrategyType;
     private MapType selectedMapType;
+    private boolean asyncAIDecisions;
     
     /**
      * Private constructor enforces Singleton pattern.
      * Initializes default settings and loads persisted configuration.
      */
     private GameSettings() {
-        // Default: Hard AI disabled
-        this.hardAIEnabled = false;
+        // Default: normal AI
+        this.aiStrategyType = AIStrategyType.NORMAL;
         this.selectedMapType = MapType.DEFAULT;
         loadConfiguration();
     }
@@ -92,17 +97,62 @@ public class GameSettings {
      * @return true if Hard AI should be used, false for normal AI
      */
     public boolean isHardAIEnabled() {
-        return hardAIEnabled;
+        return aiStrategyType == AIStrategyType.HARD;
     }
     
     /**
      * Set Hard AI enabled state for Story Mode.
-     * Automatically persists the change to disk.
+     * Enabling selects the hard strategy; disabling returns to the normal
+     * AI if the hard strategy was selected. Automatically persists the change.
      * 
      * @param enabled true to enable Hard AI, false for normal AI
      */
     public void setHardAIEnabled(boolean enabled) {
-        this.hardAIEnabled = enabled;
+        if (enabled) {
+            this.aiStrategyType = AIStrategyType.HARD;
+        } else if (aiStrategyType == AIStrategyType.HARD) {
+            this.aiStrategyType = AIStrategyType.NORMAL;
+        }
+        saveConfiguration();
+    }
+    
+    /**
+     * Get the AI strategy used for computer players in Story Mode.
+     * 
+     * @return The selected AIStrategyType
+     */
+    public AIStrategyType getAIStrategyType() {
+        return aiStrategyType;
+    }
+    
+    /**
+     * Set the AI strategy used for computer players in Story Mode.
+     * Automatically persists the change to disk.
+     * 
+     * @param type The AI strategy to use
+     */
+    public void setAIStrategyType(AIStrategyType type) {
+        this.aiStrategyType = type;
+        saveConfiguration();
+    }
+    
+    /**
+     * Check if AI players decide on worker threads between ticks.
+     * 
+     * @return true if Story Mode uses an AI decision pipeline
+     */
+    public boolean isAsyncAIDecisions() {
+        return asyncAIDecisions;
+    }
+    
+    /**
+     * Set whether AI players decide on worker threads between ticks.
+     * Automatically persists the change to disk.
+     * 
+     * @param enabled true to decide off the game thread, false to decide in each move
+     */
+    public void setAsyncAIDecisions(boolean enabled) {
+        this.asyncAIDecisions = enabled;
         saveConfiguration();
     }
     
@@ -142,7 +192,20 @@ public class GameSettings {
         Properties props = new Properties();
         try (InputStream input = Files.newInputStream(configPath)) {
             props.load(input);
-            hardAIEnabled = Boolean.parseBoolean(props.getProperty(HARD_AI_KEY, "false"));
+            boolean hardAIEnabled = Boolean.parseBoolean(props.getProperty(HARD_AI_KEY, "false"));
+            
+            // Load AI strategy (older files only have the Hard AI flag)
+            String strategyName = props.getProperty(AI_STRATEGY_KEY);
+            aiStrategyType = hardAIEnabled ? AIStrategyType.HARD : AIStrategyType.NORMAL;
+            if (strategyName != null) {
+                try {
+                    aiStrategyType = AIStrategyType.valueOf(strategyName);
+                } catch (IllegalArgumentException e) {
+                    // Keep the value derived from the Hard AI flag
+                }
+            }
+            
+            asyncAIDecisions = Boolean.parseBoolean(props.getProperty(ASYNC_AI_KEY, "false"));
             
             // Load map type
             String mapTypeName = props.getProperty(MAP_TYPE_KEY, "DEFAULT");
@@ -169,7 +232,9 @@ public class GameSettings {
             Files.createDirectories(configPath.getParent());
             
             Properties props = new Properties();
-            props.setProperty(HARD_AI_KEY, String.valueOf(hardAIEnabled));
+            props.setProperty(HARD_AI_KEY, String.valueOf(isHardAIEnabled()));
+            props.setProperty(AI_STRATEGY_KEY, aiStrategyType.name());
+            props.setProperty(ASYNC_AI_KEY, String.valueOf(asyncAIDecisions));
             props.setProperty(MAP_TYPE_KEY, selectedMapType.name());
             
             try (OutputStream output = Files.newOutputStream(configPath)) {
@@ -185,8 +250,9 @@ public class GameSettings {
      * Useful for testing or user-requested reset.
      */
     public void resetToDefaults() {
-        hardAIEnabled = false;
+        aiStrategyType = AIStrategyType.NORMAL;
         selectedMapType = MapType.DEFAULT;
+        asyncAIDecisions = false;
         saveConfiguration();
     }
 }
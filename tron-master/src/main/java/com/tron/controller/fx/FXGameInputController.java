@@ -2,6 +2,7 @@ package com.tron.controller.fx;
 
 import com.tron.audio.AudioManager;
 import com.tron.audio.AudioManager.SoundEffect;
+import com.tron.model.game.SimulationThread;
 import com.tron.model.game.TronGameModel;
 import com.tron.model.input.GameInput;
 import com.tron.view.fx.FXPauseDialog;
@@ -27,6 +28,8 @@ import javafx.stage.Stage;
  * - Convert KeyEvent to GameInput enum
  * - Delegate to Model for processing
  * - Handle pause key (P) and show pause dialog
+ * - With a SimulationThread, queue input for it instead of calling the
+ *   Model from the FX thread
  * 
  * MVC Principles:
  * - No business logic (delegates to Model)
@@ -53,6 +56,7 @@ public class FXGameInputController {
     private Stage ownerStage;
     private Runnable backToMenuCallback;
     private AudioManager audioManager;
+    private SimulationThread simulation;
     
     /**
      * Constructor with model reference
@@ -97,6 +101,16 @@ public class FXGameInputController {
         this.backToMenuCallback = callback;
     }
     
+    /**
+     * Set the simulation thread ticking the model, if any
+     * Input is then queued for it, and pausing stops and restarts it
+     * 
+     * @param simulation The simulation thread, or null to call the model directly
+     */
+    public void setSimulation(SimulationThread simulation) {
+        this.simulation = simulation;
+    }
+    
     /**
      * Get the key pressed event handler
      * Attach this to Scene or Node's onKeyPressed property
@@ -140,7 +154,11 @@ public class FXGameInputController {
         GameInput input = GameInput.fromJavaFXKeyCode(event.getCode().name());
         
         // Delegate to model - no business logic here
-        model.handleInput(input);
+        if (simulation != null) {
+            simulation.submit(input);
+        } else {
+            model.handleInput(input);
+        }
         
         // Consume event to prevent further propagation
         event.consume();
@@ -160,7 +178,7 @@ public class FXGameInputController {
         }
         
         // Pause the game
-        model.pause();
+        pauseModel();
         
         // Pause BGM and play pause sound
         if (audioManager != null) {
@@ -175,7 +193,7 @@ public class FXGameInputController {
             pauseDialog.showAndWait(shouldContinue -> {
                 if (shouldContinue) {
                     // Continue game - resume from pause
-                    model.resume();
+                    resumeModel();
                     
                     // Resume BGM and play unpause sound
                     if (audioManager != null) {
@@ -184,6 +202,9 @@ public class FXGameInputController {
                     }
                 } else {
                     // Back to menu - stop game and navigate
+                    if (simulation != null) {
+                        simulation.stop();
+                    }
                     model.stop();
                     
                     // Stop BGM
@@ -199,13 +220,29 @@ public class FXGameInputController {
         } else {
             // Fallback: if no stage reference, just resume immediately
             // This shouldn't happen in normal operation
-            model.resume();
+            resumeModel();
             if (audioManager != null) {
                 audioManager.resumeBGM();
             }
         }
     }
     
+    private void pauseModel() {
+        if (simulation != null) {
+            simulation.pause();
+        } else {
+            model.pause();
+        }
+    }
+    
+    private void resumeModel() {
+        if (simulation != null) {
+            simulation.resume();
+        } else {
+            model.resume();
+        }
+    }
+    
     /**
      * Handle key release events
      * Currently not used, but provided for future extension
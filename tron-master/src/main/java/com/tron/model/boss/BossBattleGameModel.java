@@ -88,7 +88,7 @@ public class BossBattleGameModel extends TronGameModel {
         // Check player self-collision and boundary collision
         if (player != null) {
             // Self-collision check
-            player.crash(player.intersects(player));
+            player.crash(player.intersectsSwept(occupancyGrid));
             
             // Check if player died
             if (!player.getAlive()) {
@@ -157,9 +157,10 @@ public class BossBattleGameModel extends TronGameModel {
         int[] start = getRandomStartInPlayerArea();
         player = new PlayerHuman(start[0], start[1], start[2], start[3], PlayerColor.CYAN);
         players[0] = player;
-        player.addPlayers(players); // For self-collision detection
+        linkPlayers(playerAreaWidth, mapHeight); // For self-collision detection
         
         // Reset power-up system
+        powerUpManager.setRandom(splitRandom());
         powerUpManager.reset();
         powerUpManager.start();
         
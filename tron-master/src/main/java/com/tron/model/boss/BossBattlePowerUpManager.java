@@ -2,7 +2,7 @@ package com.tron.model.boss;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import com.tron.model.powerup.PowerUp;
 import com.tron.model.powerup.PowerUpType;
@@ -33,7 +33,7 @@ public class BossBattlePowerUpManager {
     private List<PowerUp> activePowerUps;
     private double timeSinceLastSpawn;
     private boolean enabled;
-    private Random random;
+    private SplittableRandom random;
     
     // Map boundaries (only left half for spawning)
     private int playerAreaWidth; // Left half width
@@ -49,7 +49,7 @@ public class BossBattlePowerUpManager {
         this.playerAreaWidth = playerAreaWidth;
         this.mapHeight = mapHeight;
         this.activePowerUps = new ArrayList<>();
-        this.random = new Random();
+        this.random = new SplittableRandom();
         this.enabled = false;
         this.timeSinceLastSpawn = 0.0;
     }
@@ -79,6 +79,21 @@ public class BossBattlePowerUpManager {
         this.timeSinceLastSpawn = 0.0;
     }
     
+    /**
+     * Set the generator spawn positions are drawn from. Game models pass
+     * a branch of their seeded random number tree on every reset, so a
+     * seeded game spawns the same power-ups in the same places.
+     * 
+     * @param random Generator for spawn positions
+     * @throws IllegalArgumentException if random is null
+     */
+    public void setRandom(SplittableRandom random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null");
+        }
+        this.random = random;
+    }
+    
     /**
      * Update power-up manager (called each game tick)
      * 
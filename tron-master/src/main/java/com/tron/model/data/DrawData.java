@@ -3,6 +3,7 @@ package com.tron.model.data;
 import java.util.List;
 
 import com.tron.model.util.PlayerColor;
+import com.tron.model.util.SegmentSource;
 import com.tron.model.util.Shape;
 
 /**
@@ -34,7 +35,9 @@ public class DrawData {
     private final int width;
     private final int height;
     private final PlayerColor color;
+    private final int rgb;
     private final List<Shape> path;
+    private final SegmentSource segments;
     private final boolean isAlive;
     private final boolean isJumping;
     
@@ -52,12 +55,33 @@ public class DrawData {
      */
     public DrawData(int x, int y, int width, int height, PlayerColor color, 
                     List<Shape> path, boolean isAlive, boolean isJumping) {
+        this(x, y, width, height, color, color.getRgb(), path, isAlive, isJumping);
+    }
+    
+    /**
+     * Constructs a DrawData object whose render color differs from its
+     * PlayerColor, e.g. a generated color for players beyond the base palette.
+     * 
+     * @param x X coordinate for rendering (top-left corner)
+     * @param y Y coordinate for rendering (top-left corner)
+     * @param width Width of the object in pixels
+     * @param height Height of the object in pixels
+     * @param color Player color (framework-independent)
+     * @param rgb Render color packed as 0xRRGGBB
+     * @param path Trail/path shapes for rendering
+     * @param isAlive Whether the object is still active
+     * @param isJumping Whether the object is currently jumping (affects trail rendering)
+     */
+    public DrawData(int x, int y, int width, int height, PlayerColor color, int rgb,
+                    List<Shape> path, boolean isAlive, boolean isJumping) {
         this.x = x;
         this.y = y;
         this.width = width;
         this.height = height;
         this.color = color;
+        this.rgb = rgb;
         this.path = path;
+        this.segments = path instanceof SegmentSource ? (SegmentSource) path : null;
         this.isAlive = isAlive;
         this.isJumping = isJumping;
     }
@@ -107,6 +131,15 @@ public class DrawData {
         return color;
     }
     
+    /**
+     * Gets the render color packed as 0xRRGGBB.
+     * 
+     * @return Packed RGB value to draw this object with
+     */
+    public int getRgb() {
+        return rgb;
+    }
+    
     /**
      * Gets the trail/path shapes for rendering.
      * 
@@ -116,6 +149,58 @@ public class DrawData {
         return path;
     }
     
+    /**
+     * Gets the number of trail segments. Together with the segment
+     * coordinate getters this reads a packed trail (a TrailBuffer
+     * snapshot) without creating an object per segment, which
+     * iterating getPath() would.
+     * 
+     * @return Number of trail segments
+     */
+    public int getSegmentCount() {
+        return path.size();
+    }
+    
+    /**
+     * Gets a trail segment's start X coordinate.
+     * 
+     * @param index Segment index, below getSegmentCount()
+     * @return Start X coordinate
+     */
+    public int getSegmentStartX(int index) {
+        return segments != null ? segments.getStartX(index) : path.get(index).getStartX();
+    }
+    
+    /**
+     * Gets a trail segment's start Y coordinate.
+     * 
+     * @param index Segment index, below getSegmentCount()
+     * @return Start Y coordinate
+     */
+    public int getSegmentStartY(int index) {
+        return segments != null ? segments.getStartY(index) : path.get(index).getStartY();
+    }
+    
+    /**
+     * Gets a trail segment's end X coordinate.
+     * 
+     * @param index Segment index, below getSegmentCount()
+     * @return End X coordinate
+     */
+    public int getSegmentEndX(int index) {
+        return segments != null ? segments.getEndX(index) : path.get(index).getEndX();
+    }
+    
+    /**
+     * Gets a trail segment's end Y coordinate.
+     * 
+     * @param index Segment index, below getSegmentCount()
+     * @return End Y coordinate
+     */
+    public int getSegmentEndY(int index) {
+        return segments != null ? segments.getEndY(index) : path.get(index).getEndY();
+    }
+    
     /**
      * Checks if the object is alive/active.
      * 
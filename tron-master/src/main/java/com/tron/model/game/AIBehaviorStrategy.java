@@ -1,9 +1,9 @@
 package com.tron.model.game;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Random;
+import java.util.SplittableRandom;
 
+import com.tron.model.util.Direction;
+import com.tron.model.util.SegmentIndex;
 import com.tron.model.util.Shape;
 
 /**
@@ -35,7 +35,17 @@ public class AIBehaviorStrategy implements PlayerBehaviorStrategy {
 	
 	protected final PlayerAI player;
 	protected Player[] players = new Player[1];
-	private final Random rand = new Random();
+	private SplittableRandom rand = new SplittableRandom();
+	private boolean deterministic = false;
+	
+	/**
+	 * Clock limit on a deterministic decision. Its work bound normally ends it
+	 * long before; the cap only guards against a stalled or runaway search.
+	 */
+	protected static final long DETERMINISTIC_SAFETY_CAP_NANOS = 1_000_000_000L;
+	
+	// Distance (exclusive) at which trails ahead trigger a turn
+	private static final int LOOKAHEAD_DISTANCE = 6;
 	
 	// Timer for decision-making intervals
 	private int time = 40;
@@ -58,6 +68,47 @@ public class AIBehaviorStrategy implements PlayerBehaviorStrategy {
 		this.players = players;
 	}
 	
+	/**
+	 * Sets the generator random decisions draw from. The game gives every
+	 * AI its own branch of the match's random number tree, so a seeded
+	 * match replays identically even when bots decide in parallel.
+	 * @param random the generator for this AI's random decisions
+	 * @throws IllegalArgumentException if random is null
+	 */
+	public void setRandom(SplittableRandom random) {
+		if (random == null) {
+			throw new IllegalArgumentException("Random cannot be null");
+		}
+		this.rand = random;
+	}
+	
+	/**
+	 * Gets the generator random decisions draw from.
+	 * @return this AI's generator
+	 */
+	protected SplittableRandom getRandom() {
+		return rand;
+	}
+	
+	/**
+	 * Sets whether decisions must be reproducible. Strategies that search
+	 * against a time budget then stop after a fixed amount of work instead,
+	 * keeping the clock only as a safety cap, so a seeded match replays
+	 * identically on any machine.
+	 * @param deterministic true to bound searches by work instead of time
+	 */
+	public void setDeterministic(boolean deterministic) {
+		this.deterministic = deterministic;
+	}
+	
+	/**
+	 * Checks whether decisions must be reproducible.
+	 * @return true if searches are bounded by work instead of time
+	 */
+	public boolean isDeterministic() {
+		return deterministic;
+	}
+	
 	/**
 	 * Decides the AI's move direction based on proximity reactions and random decisions.
 	 * This method contains the complete AI decision-making logic, 1:1 copied from
@@ -92,15 +143,20 @@ public class AIBehaviorStrategy implements PlayerBehaviorStrategy {
 	 */
 	@Override
 	public int[] getVelocity() {
-		return new int[] { player.velocityX, player.velocityY };
+		return new int[] { player.getNextVelocityX(), player.getNextVelocityY() };
 	}
 	
 	/**
 	 * Reacts to proximity of obstacles and trails.
 	 * This is the core AI decision-making logic.
 	 * 
+	 * Every trail check is a constant number of world queries: a ray cast
+	 * along the heading and, when turning, one band query beside the player.
+	 * The cost of a decision therefore depends on the index size only
+	 * logarithmically and does not grow with the number of segments drawn.
+	 * 
 	 * Logic flow:
-	 * 1. Check for lines/trails in immediate proximity
+	 * 1. Check for lines/trails in immediate proximity (segment index queries)
 	 * 2. React appropriately (change direction)
 	 * 3. Check for boundary proximity
 	 * 4. React appropriately (change direction away from boundary)
@@ -110,7 +166,7 @@ public class AIBehaviorStrategy implements PlayerBehaviorStrategy {
 	 * to ensure identical AI behavior and movement trail generation.
 	 */
 	private void reactProximity() {
-		int velocity = Math.max(Math.abs(player.velocityX), Math.abs(player.velocityY));
+		int velocity = Math.max(Math.abs(player.getNextVelocityX()), Math.abs(player.getNextVelocityY()));
 		
 		// Random boost with 1 in 100 chance
 		int r = rand.nextInt(100);
@@ -118,157 +174,71 @@ public class AIBehaviorStrategy implements PlayerBehaviorStrategy {
 			player.startBoost();
 		}
 		
-		// Collect all trails from all players for collision detection
-		ArrayList<Shape> lines = new ArrayList<>();
-		lines.addAll(player.getPath());
-		Collections.reverse(lines);
-		for (Player p : players) {
-			if (p != player) {
-				lines.addAll(p.getPath());
-			}
-		}
-		
-		// Check for obstacles in the path
-		for (int i = lines.size() - 1; i > 0; i--) {
-			Shape l = lines.get(i);
-			int maxX = Math.max(l.getStartX(), l.getEndX());
-			int minX = Math.min(l.getStartX(), l.getEndX());
-			int maxY = Math.max(l.getStartY(), l.getEndY());
-			int minY = Math.min(l.getStartY(), l.getEndY());
-			
-			// Moving right: check for vertical lines ahead
-			if (player.velocityX > 0 && l.isVertical() && player.y >= minY && player.y <= maxY) {
-				if (l.getStartX() - player.x < 6 && l.getStartX() - player.x > 0) {
-					boolean b = false;
-					for (int j = lines.size() - 1; j > 0; j--) {
-						Shape k = lines.get(j);
-						if (!k.isVertical() && player.y - k.getEndY() < 6 && 
-								player.y - k.getEndY() > 0) {
-							b = true;
-						}
-					}
-					if (b) {
-						player.velocityY = velocity;
-					} else {
-						player.velocityY = -velocity;
-					}
-					player.velocityX = 0;
-					time = 40;
-					return;
-				}
-			}
-			
-			// Moving left: check for vertical lines ahead
-			if (player.velocityX < 0 && l.isVertical() && player.y >= minY && player.y <= maxY) {
-				if (player.x - l.getStartX() < 6 && player.x - l.getStartX() > 0) {
-					boolean b = false;
-					for (int j = lines.size() - 1; j > 0; j--) {
-						Shape k = lines.get(j);
-						if (!k.isVertical() && player.y - k.getEndY() < 6 && 
-								player.y - k.getEndY() > 0) {
-							b = true;
-						}
-					}
-					if (b) {
-						player.velocityY = velocity;
-					} else {
-						player.velocityY = -velocity;
-					}
-					player.velocityX = 0;
-					time = 40;
-					return;
-				}
-			}
-			
-			// Moving down: check for horizontal lines ahead
-			if (player.velocityY > 0 && !l.isVertical() && player.x >= minX && player.x <= maxX) {
-				if (l.getStartY() - player.y < 6 && l.getStartY() - player.y > 0) {
-					boolean b = false;
-					for (int j = lines.size() - 1; j > 0; j--) {
-						Shape k = lines.get(j);
-						if (k.isVertical() && player.x - k.getEndX() < 6 && 
-								player.x - k.getEndX() > 0) {
-							b = true;
-						}
-					}
-					if (b) {
-						player.velocityX = velocity;
-					} else {
-						player.velocityX = -velocity;
-					}
-					player.velocityY = 0;
-					time = 40;
-					return;
+		// Check for trails in the path
+		if (trailAhead(LOOKAHEAD_DISTANCE)) {
+			if (player.getNextVelocityX() != 0) {
+				if (hasHorizontalTrailAbove(LOOKAHEAD_DISTANCE)) {
+					player.setNextVelocityY(velocity);
+				} else {
+					player.setNextVelocityY(-velocity);
 				}
-			}
-			
-			// Moving up: check for horizontal lines ahead
-			if (player.velocityY < 0 && !l.isVertical() && player.x >= minX && player.x <= maxX) {
-				if (player.y - l.getStartY() < 6 && player.y - l.getStartY() > 0) {
-					boolean b = false;
-					for (int j = lines.size() - 1; j > 0; j--) {
-						Shape k = lines.get(j);
-						if (k.isVertical() && player.x - k.getEndX() < 6 && 
-								player.x - k.getEndX() > 0) {
-							b = true;
-						}
-					}
-					if (b) {
-						player.velocityX = velocity;
-					} else {
-						player.velocityX = -velocity;
-					}
-					player.velocityY = 0;
-					time = 40;
-					return;
+				player.setNextVelocityX(0);
+			} else {
+				if (hasVerticalTrailLeft(LOOKAHEAD_DISTANCE)) {
+					player.setNextVelocityX(velocity);
+				} else {
+					player.setNextVelocityX(-velocity);
 				}
+				player.setNextVelocityY(0);
 			}
+			time = 40;
+			return;
 		}
 		
 		// Check if too close to left edge
-		if (player.x < 6 && player.velocityX != 0) {
+		if (player.x < 6 && player.getNextVelocityX() != 0) {
 			if (player.y < 250) {
-				player.velocityY = velocity;
+				player.setNextVelocityY(velocity);
 			} else {
-				player.velocityY = -velocity;
+				player.setNextVelocityY(-velocity);
 			}
-			player.velocityX = 0;
+			player.setNextVelocityX(0);
 			time = 40;
 			return;
 		}
 		
 		// Check if too close to right edge
-		if (player.rightBound - player.x < 6 && player.velocityX != 0) {
+		if (player.rightBound - player.x < 6 && player.getNextVelocityX() != 0) {
 			if (player.y < 250) {
-				player.velocityY = velocity;
+				player.setNextVelocityY(velocity);
 			} else {
-				player.velocityY = -velocity;
+				player.setNextVelocityY(-velocity);
 			}
-			player.velocityX = 0;
+			player.setNextVelocityX(0);
 			time = 40;
 			return;
 		}
 		
 		// Check if too close to top edge
-		if (player.y < 6 && player.velocityY != 0) {
+		if (player.y < 6 && player.getNextVelocityY() != 0) {
 			if (player.x < 250) {
-				player.velocityX = velocity;
+				player.setNextVelocityX(velocity);
 			} else {
-				player.velocityX = -velocity;
+				player.setNextVelocityX(-velocity);
 			}
-			player.velocityY = 0;
+			player.setNextVelocityY(0);
 			time = 40;
 			return;
 		}
 		
 		// Check if too close to bottom edge
-		if (player.bottomBound - player.y < 6 && player.velocityY != 0) {
+		if (player.bottomBound - player.y < 6 && player.getNextVelocityY() != 0) {
 			if (player.x < 250) {
-				player.velocityX = velocity;
+				player.setNextVelocityX(velocity);
 			} else {
-				player.velocityX = -velocity;
+				player.setNextVelocityX(-velocity);
 			}
-			player.velocityY = 0;
+			player.setNextVelocityY(0);
 			time = 40;
 			return;
 		}
@@ -276,29 +246,161 @@ public class AIBehaviorStrategy implements PlayerBehaviorStrategy {
 		// Make random movement decisions if no obstacles/boundaries detected
 		if (time == 0) {
 			int rando = rand.nextInt(4);
-			if (rando == 0 && player.velocityX != velocity) {
+			if (rando == 0 && player.getNextVelocityX() != velocity) {
 				if (player.x > 6) {
-					player.velocityX = -velocity;
-					player.velocityY = 0;
+					player.setNextVelocityX(-velocity);
+					player.setNextVelocityY(0);
 				}
-			} else if (rando == 1 && player.velocityX != -velocity) {
+			} else if (rando == 1 && player.getNextVelocityX() != -velocity) {
 				if (player.rightBound - player.x > 6) {
-					player.velocityX = velocity;
-					player.velocityY = 0;
+					player.setNextVelocityX(velocity);
+					player.setNextVelocityY(0);
 				}
-			} else if (rando == 2 && player.velocityY != velocity) {
+			} else if (rando == 2 && player.getNextVelocityY() != velocity) {
 				if (player.y > 6) {
-					player.velocityX = 0;
-					player.velocityY = -velocity;
+					player.setNextVelocityX(0);
+					player.setNextVelocityY(-velocity);
 				}
-			} else if (rando == 3 && player.velocityY != -velocity) {
+			} else if (rando == 3 && player.getNextVelocityY() != -velocity) {
 				if (player.bottomBound - player.y > 6) {
-					player.velocityX = 0;
-					player.velocityY = velocity;
+					player.setNextVelocityX(0);
+					player.setNextVelocityY(velocity);
 				}
 			}
 			time = 40;
 		}
 		time--;
 	}
+	
+	/**
+	 * Checks whether a trail crosses the player's path within the given distance.
+	 * Moving horizontally, only vertical segments block the path; moving vertically,
+	 * only horizontal ones. When the player is attached to a world view a single
+	 * query covers every player's trail. Otherwise committed trails are queried
+	 * through each player's segment index and the opponents' newest segments,
+	 * which are not indexed yet, are tested directly. The player's own newest
+	 * segment always lies behind the head, so it never blocks the path.
+	 * 
+	 * @param distance lookahead distance in pixels (exclusive)
+	 * @return true if a blocking segment lies strictly between 0 and distance ahead
+	 */
+	protected boolean trailAhead(int distance) {
+		Direction heading = Direction.fromVelocity(player.getNextVelocityX(), player.getNextVelocityY());
+		if (heading == null) {
+			return false;
+		}
+		WorldView world = player.getWorldView();
+		if (world != null) {
+			return world.distanceToTrail(player.x, player.y, heading, distance - 1) > 0;
+		}
+		int dx = heading.getDx();
+		int dy = heading.getDy();
+		if (player.getTrailIndex().rayCast(player.x, player.y, dx, dy, distance - 1) > 0) {
+			return true;
+		}
+		for (Player p : players) {
+			if (p == null || p == player) {
+				continue;
+			}
+			if (p.getTrailIndex().rayCast(player.x, player.y, dx, dy, distance - 1) > 0) {
+				return true;
+			}
+			Shape newest = p.getNewestSegment();
+			if (newest != null && crossesAhead(newest, heading, distance)) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks whether any horizontal trail lies on a row less than distance
+	 * pixels above the player, regardless of its horizontal extent.
+	 * Used to pick which way to turn when moving horizontally.
+	 * 
+	 * @param distance search distance in pixels (exclusive)
+	 * @return true if a horizontal trail is close above
+	 */
+	protected boolean hasHorizontalTrailAbove(int distance) {
+		int minY = player.y - distance + 1;
+		int maxY = player.y - 1;
+		WorldView world = player.getWorldView();
+		if (world != null) {
+			return world.hasHorizontalTrailBetween(minY, maxY);
+		}
+		if (player.getTrailIndex().hasHorizontalBetween(minY, maxY)) {
+			return true;
+		}
+		for (Player p : players) {
+			if (p == null || p == player) {
+				continue;
+			}
+			if (p.getTrailIndex().hasHorizontalBetween(minY, maxY)) {
+				return true;
+			}
+			Shape newest = p.getNewestSegment();
+			if (newest != null && !newest.isVertical()
+					&& newest.getEndY() >= minY && newest.getEndY() <= maxY) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks whether any vertical trail lies on a column less than distance
+	 * pixels left of the player, regardless of its vertical extent.
+	 * Used to pick which way to turn when moving vertically.
+	 * 
+	 * @param distance search distance in pixels (exclusive)
+	 * @return true if a vertical trail is close to the left
+	 */
+	protected boolean hasVerticalTrailLeft(int distance) {
+		int minX = player.x - distance + 1;
+		int maxX = player.x - 1;
+		WorldView world = player.getWorldView();
+		if (world != null) {
+			return world.hasVerticalTrailBetween(minX, maxX);
+		}
+		if (player.getTrailIndex().hasVerticalBetween(minX, maxX)) {
+			return true;
+		}
+		for (Player p : players) {
+			if (p == null || p == player) {
+				continue;
+			}
+			if (p.getTrailIndex().hasVerticalBetween(minX, maxX)) {
+				return true;
+			}
+			Shape newest = p.getNewestSegment();
+			if (newest != null && newest.isVertical()
+					&& newest.getEndX() >= minX && newest.getEndX() <= maxX) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Tests a single (unindexed) segment against the player's path ahead,
+	 * using the same rules as {@link SegmentIndex#rayCast}.
+	 */
+	private boolean crossesAhead(Shape segment, Direction heading, int distance) {
+		if (heading.isHorizontal()) {
+			if (!segment.isVertical()
+					|| player.y < Math.min(segment.getStartY(), segment.getEndY())
+					|| player.y > Math.max(segment.getStartY(), segment.getEndY())) {
+				return false;
+			}
+			int ahead = (segment.getStartX() - player.x) * heading.getDx();
+			return ahead > 0 && ahead < distance;
+		}
+		if (segment.isVertical()
+				|| player.x < Math.min(segment.getStartX(), segment.getEndX())
+				|| player.x > Math.max(segment.getStartX(), segment.getEndX())) {
+			return false;
+		}
+		int ahead = (segment.getStartY() - player.y) * heading.getDy();
+		return ahead > 0 && ahead < distance;
+	}
 }
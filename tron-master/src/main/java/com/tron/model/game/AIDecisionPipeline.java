@@ -0,0 +1,300 @@
+package com.tron.model.game;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+
+import com.tron.model.util.Latches;
+
+/**
+ * AIDecisionPipeline - Decides AI moves on worker threads between ticks
+ *
+ * Without a pipeline every bot decides inside its own move(), on the game
+ * thread, in the middle of the tick. With one, the model hands the bots to
+ * the pipeline when a tick ends and the decisions for the next tick run in
+ * parallel on worker threads while the game thread renders.
+ *
+ * Responsibilities:
+ * - submit(): refresh the world view to the end of tick N and start one
+ *   decision per live AI bot. Between ticks the model does not change
+ *   the arena, so the world view, the trail index and the bots' own
+ *   state form an immutable snapshot of tick N for the workers
+ * - collect(): at the start of tick N+1, wait for the decisions until
+ *   the deadline, never longer, then merge them in player order. A bot
+ *   whose decision failed or is still running gets the fallback move
+ * - Count decisions made in time and deadline misses
+ *
+ * Each worker decides into the bot's open decision (see
+ * {@link PlayerAI#openDecision()}), not into the bot itself, so a late
+ * decision can be left running while the game moves on: its worker is
+ * interrupted, and whatever it decides is dropped when it finishes. Until
+ * then the bot sits out later batches and keeps getting the fallback move,
+ * so its strategy never runs twice at once. A late worker may read the
+ * arena while the next tick changes it; that only affects the result it
+ * throws away.
+ *
+ * Design Pattern: Fork-Join (decisions fan out per bot, join at the tick)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public class AIDecisionPipeline {
+
+    /** Default time from submission until a decision counts as late */
+    public static final long DEFAULT_DEADLINE_NANOS = 15_000_000L;
+
+    // Decision states of a batch slot, guarded by the batch
+    private static final int RUNNING = 0;
+    private static final int DONE = 1;
+    private static final int FAILED = 2;
+    private static final int LATE = 3;
+
+    /**
+     * Decisions of one submit(). Late workers keep their batch, so a
+     * batch is never reused.
+     */
+    private static final class Batch {
+        final int[] states;
+        final Thread[] runners;
+        final CountDownLatch done;
+
+        Batch(int size, int tasks) {
+            states = new int[size];
+            runners = new Thread[size];
+            done = new CountDownLatch(tasks);
+        }
+    }
+
+    private final Executor executor;
+    private long deadlineNanos = DEFAULT_DEADLINE_NANOS;
+    private FallbackMove fallback = FallbackMove.KEEP_HEADING;
+
+    // Bots of the batch in flight, in player order, with their velocity
+    // before deciding
+    private PlayerAI[] bots = new PlayerAI[0];
+    private int[] startVelocityX = new int[0];
+    private int[] startVelocityY = new int[0];
+    private int botCount = 0;
+    private Batch batch;
+    private long submittedAt;
+
+    private long onTimeDecisions = 0;
+    private long missedDeadlines = 0;
+    private long lastWaitNanos = 0;
+
+    /**
+     * Creates a pipeline on the shared daemon decision pool.
+     */
+    public AIDecisionPipeline() {
+        this(DecisionPool.INSTANCE);
+    }
+
+    /**
+     * Creates a pipeline running decisions on the given executor.
+     *
+     * @param executor Executor for the decision tasks
+     * @throws IllegalArgumentException if executor is null
+     */
+    public AIDecisionPipeline(Executor executor) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.executor = executor;
+    }
+
+    /**
+     * Starts the next tick's decisions for every live AI bot. A bot whose
+     * late decision from an earlier batch is still running is not asked
+     * again; it gets the fallback move at collect().
+     * Any batch still in flight is collected first.
+     *
+     * @param players All players of the game; null entries are ignored
+     * @param world The world view shared by the players
+     */
+    public void submit(Player[] players, WorldView world) {
+        collect();
+        world.update(players);
+        ensureCapacity(players.length);
+        botCount = 0;
+        int tasks = 0;
+        for (Player p : players) {
+            if (p instanceof PlayerAI && p.getAlive()) {
+                bots[botCount] = (PlayerAI) p;
+                startVelocityX[botCount] = p.velocityX;
+                startVelocityY[botCount] = p.velocityY;
+                if (!bots[botCount].isDeciding()) {
+                    tasks++;
+                }
+                botCount++;
+            }
+        }
+        if (botCount == 0) {
+            return;
+        }
+        Batch started = new Batch(botCount, tasks);
+        batch = started;
+        submittedAt = System.nanoTime();
+        for (int i = 0; i < botCount; i++) {
+            PlayerAI bot = bots[i];
+            if (bot.isDeciding()) {
+                started.states[i] = LATE;
+            } else {
+                final int slot = i;
+                bot.openDecision();
+                executor.execute(() -> decide(bot, slot, started));
+            }
+        }
+    }
+
+    /**
+     * Waits for the batch in flight until the deadline and merges it into
+     * the bots. Decisions still running then are interrupted and replaced
+     * by the fallback move. Does nothing if no batch is in flight.
+     */
+    public void collect() {
+        if (batch == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        Latches.awaitUntil(batch.done, submittedAt + deadlineNanos);
+        lastWaitNanos = System.nanoTime() - start;
+
+        synchronized (batch) {
+            for (int i = 0; i < botCount; i++) {
+                PlayerAI bot = bots[i];
+                if (batch.states[i] == DONE) {
+                    bot.commitDecision();
+                    onTimeDecisions++;
+                } else {
+                    if (batch.states[i] == RUNNING) {
+                        batch.states[i] = LATE;
+                        if (batch.runners[i] != null) {
+                            batch.runners[i].interrupt();
+                        }
+                    }
+                    missedDeadlines++;
+                    int[] velocity = fallback.choose(bot, startVelocityX[i], startVelocityY[i]);
+                    bot.overrideDecision(velocity[0], velocity[1]);
+                }
+                bots[i] = null;
+            }
+        }
+        botCount = 0;
+        batch = null;
+    }
+
+    /**
+     * Check if a batch of decisions is in flight
+     * @return true between submit() and collect()
+     */
+    public boolean isPending() {
+        return batch != null;
+    }
+
+    /**
+     * Set the time from submission after which a decision is late
+     * @param deadlineNanos Deadline in nanoseconds
+     * @throws IllegalArgumentException if deadlineNanos is not positive
+     */
+    public void setDeadlineNanos(long deadlineNanos) {
+        if (deadlineNanos <= 0) {
+            throw new IllegalArgumentException("Deadline must be positive");
+        }
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Get the decision deadline
+     * @return Deadline in nanoseconds after submission
+     */
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    /**
+     * Set the move used for late or failed decisions
+     * @param fallback Fallback move
+     * @throws IllegalArgumentException if fallback is null
+     */
+    public void setFallback(FallbackMove fallback) {
+        if (fallback == null) {
+            throw new IllegalArgumentException("Fallback cannot be null");
+        }
+        this.fallback = fallback;
+    }
+
+    /**
+     * Get the move used for late or failed decisions
+     * @return Fallback move
+     */
+    public FallbackMove getFallback() {
+        return fallback;
+    }
+
+    /**
+     * Get the number of decisions merged in time
+     * @return On-time decision count
+     */
+    public long getOnTimeDecisions() {
+        return onTimeDecisions;
+    }
+
+    /**
+     * Get the number of decisions replaced by the fallback
+     * @return Late or failed decision count
+     */
+    public long getMissedDeadlines() {
+        return missedDeadlines;
+    }
+
+    /**
+     * Get how long the last collect() waited on the game thread
+     * @return Nanoseconds spent waiting, at most about the deadline
+     */
+    public long getLastWaitNanos() {
+        return lastWaitNanos;
+    }
+
+    /**
+     * Runs one bot's decision on a worker. A decision given up on before
+     * it started is not run; one given up on while running is dropped.
+     */
+    private static void decide(PlayerAI bot, int slot, Batch batch) {
+        synchronized (batch) {
+            if (batch.states[slot] == LATE) {
+                bot.dropDecision();
+                batch.done.countDown();
+                return;
+            }
+            batch.runners[slot] = Thread.currentThread();
+        }
+        int outcome = FAILED;
+        try {
+            bot.runDecision();
+            outcome = DONE;
+        } catch (RuntimeException e) {
+            // Counted as a miss at collect()
+        } finally {
+            synchronized (batch) {
+                batch.runners[slot] = null;
+                // Do not leak a miss's interrupt into the worker's next task
+                Thread.interrupted();
+                if (batch.states[slot] == LATE || outcome == FAILED) {
+                    bot.dropDecision();
+                }
+                if (batch.states[slot] == RUNNING) {
+                    batch.states[slot] = outcome;
+                }
+            }
+            batch.done.countDown();
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (bots.length < capacity) {
+            bots = new PlayerAI[capacity];
+            startVelocityX = new int[capacity];
+            startVelocityY = new int[capacity];
+        }
+    }
+}
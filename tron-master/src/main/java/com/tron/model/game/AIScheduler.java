@@ -0,0 +1,275 @@
+package com.tron.model.game;
+
+import com.tron.model.util.Direction;
+
+/**
+ * AIScheduler - Spreads full AI decisions over ticks under a time budget
+ *
+ * Most bots, most of the time, have nothing to decide: the way ahead is
+ * open and nobody is near. The scheduler runs in the model's move step,
+ * after the world view refresh, and gives each live bot one of three
+ * levels of detail per tick:
+ * - Danger: a trail or the arena edge within the danger radius straight
+ *   ahead, or another head within twice that radius. The bot gets a full
+ *   strategy decision every tick while budget lasts
+ * - Slot: every interval ticks, round-robin, a bot out of danger gets a
+ *   full decision too, so strategies still steer in open space
+ * - Otherwise the bot keeps its heading, which costs nothing
+ *
+ * Full decisions stop once the tick's budget is spent. A bot in danger
+ * that is left out gets the MOST_ROOM fallback and counts as a miss; a
+ * slot bot that is left out keeps its heading until a later tick. Bots in
+ * danger are served first, starting at a rotating offset, so the same bots
+ * are not always the ones left out.
+ *
+ * The interval adapts to the budget: it doubles (up to MAX_INTERVAL)
+ * after a tick that ran over and shrinks by one after a tick that used
+ * less than half, so AI time per tick stays near the budget as the number
+ * of bots grows.
+ *
+ * Design Pattern: Round-Robin Scheduling with Level of Detail
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public class AIScheduler {
+
+    /** Default AI time per tick */
+    public static final long DEFAULT_BUDGET_NANOS = 2_000_000L;
+
+    /** Default number of ticks between a calm bot's full decisions */
+    public static final int DEFAULT_INTERVAL = 4;
+
+    /** Longest interval the budget can stretch it to */
+    public static final int MAX_INTERVAL = 32;
+
+    /** Default distance in pixels at which a trail or edge ahead means danger */
+    public static final int DEFAULT_DANGER_RADIUS = 40;
+
+    private long budgetNanos;
+    private final int baseInterval;
+    private int interval;
+    private int dangerRadius = DEFAULT_DANGER_RADIUS;
+
+    private long tickCount = 0;
+    private int rotation = 0;
+    private PlayerAI[] bots = new PlayerAI[0];
+    private boolean[] danger = new boolean[0];
+
+    private long fullDecisions = 0;
+    private long cheapDecisions = 0;
+    private long budgetMisses = 0;
+    private long lastSpentNanos = 0;
+
+    /**
+     * Creates a scheduler with the default budget and interval.
+     */
+    public AIScheduler() {
+        this(DEFAULT_BUDGET_NANOS, DEFAULT_INTERVAL);
+    }
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param budgetNanos AI time per tick in nanoseconds
+     * @param interval Ticks between a calm bot's full decisions when within budget
+     * @throws IllegalArgumentException if budgetNanos or interval is not positive,
+     *         or interval exceeds MAX_INTERVAL
+     */
+    public AIScheduler(long budgetNanos, int interval) {
+        if (interval <= 0 || interval > MAX_INTERVAL) {
+            throw new IllegalArgumentException("Interval must be between 1 and " + MAX_INTERVAL);
+        }
+        setBudgetNanos(budgetNanos);
+        this.baseInterval = interval;
+        this.interval = interval;
+    }
+
+    /**
+     * Decides the next move of every live AI bot without a pending
+     * decision, at the level of detail its situation needs.
+     *
+     * @param players All players of the game; null entries are ignored
+     * @param world The world view, already refreshed for this tick
+     */
+    public void schedule(Player[] players, WorldView world) {
+        long start = System.nanoTime();
+        long stop = start + budgetNanos;
+        ensureCapacity(players.length);
+        int count = 0;
+        for (Player p : players) {
+            if (p instanceof PlayerAI && p.getAlive() && !((PlayerAI) p).hasDecision()) {
+                PlayerAI bot = (PlayerAI) p;
+                bots[count] = bot;
+                danger[count] = isInDanger(bot, world);
+                count++;
+            }
+        }
+
+        boolean overBudget = false;
+        if (count > 0) {
+            int offset = rotation++ % count;
+            // Bots in danger first
+            for (int k = 0; k < count; k++) {
+                int i = (offset + k) % count;
+                if (!danger[i]) {
+                    continue;
+                }
+                PlayerAI bot = bots[i];
+                if (System.nanoTime() - stop < 0) {
+                    bot.decide();
+                    fullDecisions++;
+                } else {
+                    int[] velocity = FallbackMove.MOST_ROOM.choose(bot, bot.velocityX, bot.velocityY);
+                    bot.overrideDecision(velocity[0], velocity[1]);
+                    budgetMisses++;
+                    overBudget = true;
+                }
+            }
+            // Then calm bots: their slot if it is due and budget is left, else keep going
+            for (int k = 0; k < count; k++) {
+                int i = (offset + k) % count;
+                if (danger[i]) {
+                    continue;
+                }
+                PlayerAI bot = bots[i];
+                boolean due = (tickCount + bot.getWorldSlot()) % interval == 0;
+                if (due && System.nanoTime() - stop < 0) {
+                    bot.decide();
+                    fullDecisions++;
+                } else {
+                    bot.overrideDecision(bot.velocityX, bot.velocityY);
+                    cheapDecisions++;
+                    overBudget |= due;
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                bots[i] = null;
+            }
+        }
+
+        lastSpentNanos = System.nanoTime() - start;
+        if (overBudget || lastSpentNanos > budgetNanos) {
+            interval = Math.min(interval * 2, MAX_INTERVAL);
+        } else if (lastSpentNanos < budgetNanos / 2 && interval > baseInterval) {
+            interval--;
+        }
+        tickCount++;
+    }
+
+    /**
+     * Checks whether a bot needs a full decision this tick: a trail or the
+     * arena edge close ahead, or another head nearby.
+     *
+     * @param bot The bot to check
+     * @param world The world view for this tick
+     * @return true if the bot is in danger
+     */
+    boolean isInDanger(PlayerAI bot, WorldView world) {
+        Direction heading = Direction.fromVelocity(bot.velocityX, bot.velocityY);
+        if (heading == null
+                || world.freeSpaceAlong(bot.x, bot.y, heading, dangerRadius) < dangerRadius) {
+            return true;
+        }
+        int self = bot.getWorldSlot();
+        int reach = 2 * dangerRadius;
+        for (int i = 0; i < world.getPlayerCount(); i++) {
+            if (i == self || !world.isAlive(i)) {
+                continue;
+            }
+            if (Math.abs(world.getHeadX(i) - bot.x) + Math.abs(world.getHeadY(i) - bot.y) <= reach) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Set the AI time per tick
+     * @param budgetNanos Budget in nanoseconds
+     * @throws IllegalArgumentException if budgetNanos is not positive
+     */
+    public void setBudgetNanos(long budgetNanos) {
+        if (budgetNanos <= 0) {
+            throw new IllegalArgumentException("Budget must be positive");
+        }
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Get the AI time per tick
+     * @return Budget in nanoseconds
+     */
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * Set the distance ahead at which a trail or edge means danger
+     * @param dangerRadius Radius in pixels
+     * @throws IllegalArgumentException if dangerRadius is not positive
+     */
+    public void setDangerRadius(int dangerRadius) {
+        if (dangerRadius <= 0) {
+            throw new IllegalArgumentException("Danger radius must be positive");
+        }
+        this.dangerRadius = dangerRadius;
+    }
+
+    /**
+     * Get the danger radius
+     * @return Radius in pixels
+     */
+    public int getDangerRadius() {
+        return dangerRadius;
+    }
+
+    /**
+     * Get the current interval between a calm bot's full decisions
+     * @return Interval in ticks, adapted to the budget
+     */
+    public int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Get the number of full strategy decisions made
+     * @return Full decision count
+     */
+    public long getFullDecisions() {
+        return fullDecisions;
+    }
+
+    /**
+     * Get the number of bots that kept their heading without deciding
+     * @return Keep-going count
+     */
+    public long getCheapDecisions() {
+        return cheapDecisions;
+    }
+
+    /**
+     * Get the number of bots in danger that got the fallback because the
+     * budget was spent
+     * @return Budget miss count
+     */
+    public long getBudgetMisses() {
+        return budgetMisses;
+    }
+
+    /**
+     * Get the AI time spent in the last tick
+     * @return Nanoseconds spent scheduling and deciding
+     */
+    public long getLastSpentNanos() {
+        return lastSpentNanos;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (bots.length < capacity) {
+            bots = new PlayerAI[capacity];
+            danger = new boolean[capacity];
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.tron.model.game;
+
+/**
+ * AIStrategyType - Selectable AI behaviors for computer-controlled players
+ *
+ * Each type names a PlayerBehaviorStrategy and knows how to create it for
+ * a given AI player, so settings can store the choice by name and game
+ * models can apply it without knowing the concrete strategy classes.
+ *
+ * - NORMAL: Proximity-based AI with random turns ({@link AIBehaviorStrategy})
+ * - HARD: Longer lookahead, jumps and boosts ({@link HardAIBehaviorStrategy})
+ * - TERRITORY: Flood-fill area maximizer ({@link FloodFillBehaviorStrategy})
+ * - DUEL: Alpha-beta search against a single opponent
+ *   ({@link MinimaxBehaviorStrategy})
+ * - MONTE_CARLO: Tree search on background threads
+ *   ({@link MonteCarloBehaviorStrategy})
+ *
+ * Design Pattern: Factory Method (one creation method per enum constant)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public enum AIStrategyType {
+    /** Proximity-based AI with random turns */
+    NORMAL("Normal AI") {
+        @Override
+        public PlayerBehaviorStrategy create(PlayerAI player) {
+            return new AIBehaviorStrategy(player);
+        }
+    },
+
+    /** Longer lookahead, jumps and more boosts */
+    HARD("Hard AI") {
+        @Override
+        public PlayerBehaviorStrategy create(PlayerAI player) {
+            return new HardAIBehaviorStrategy(player);
+        }
+    },
+
+    /** Steers toward the largest reachable territory */
+    TERRITORY("Territory AI (Flood Fill)") {
+        @Override
+        public PlayerBehaviorStrategy create(PlayerAI player) {
+            return new FloodFillBehaviorStrategy(player);
+        }
+    },
+
+    /** Searches the game tree in one-on-one matches */
+    DUEL("Duel AI (Alpha-Beta)") {
+        @Override
+        public PlayerBehaviorStrategy create(PlayerAI player) {
+            return new MinimaxBehaviorStrategy(player);
+        }
+    },
+
+    /** Monte Carlo tree search running between ticks */
+    MONTE_CARLO("Monte Carlo AI (MCTS)") {
+        @Override
+        public PlayerBehaviorStrategy create(PlayerAI player) {
+            return new MonteCarloBehaviorStrategy(player);
+        }
+    };
+
+    private final String displayName;
+
+    /**
+     * Constructor for AIStrategyType enum
+     *
+     * @param displayName Human-readable name for UI display
+     */
+    AIStrategyType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Get the display name for this AI type
+     *
+     * @return Human-readable name for UI
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Create the behavior strategy for an AI player
+     *
+     * @param player The AI player the strategy will control
+     * @return A new strategy of this type
+     */
+    public abstract PlayerBehaviorStrategy create(PlayerAI player);
+}
@@ -0,0 +1,197 @@
+package com.tron.model.game;
+
+import com.tron.model.util.ColorPalette;
+
+/**
+ * ArenaGameModel - Free-for-all arena with any number of AI bikes
+ *
+ * Responsibilities:
+ * - Spawn hundreds of AI players without overlapping heads
+ * - Give every bike a distinct generated color
+ * - End the match when at most one bike is left
+ * - Measure simulation throughput (ticks per second)
+ *
+ * Game Rules:
+ * - No human player; every slot is an AI bike
+ * - Bikes spawn on a jittered grid that scales with the bot count
+ * - Match ends when one (or no) bike survives
+ *
+ * Scaling:
+ * Every per-tick phase stays sub-quadratic in the bot count. Movement and
+ * AI lookahead query the shared arena trail index, collisions go through
+ * the sort-and-sweep collision phase and the occupancy grid, and the
+ * game-state notification is sent once per tick.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public class ArenaGameModel extends TronGameModel {
+
+    // Arena sizing: pixels reserved per bot along each axis, and border
+    private static final int SPAWN_SPACING = 24;
+    private static final int SPAWN_MARGIN = 20;
+    private static final int MIN_ARENA_SIZE = 500;
+
+    /** Bike movement speed of arenas sized by bot count */
+    public static final int DEFAULT_VELOCITY = 3;
+
+    // Tick timing
+    private long lastTickNanos = 0;
+    private long totalTickNanos = 0;
+    private long measuredTicks = 0;
+
+    private int aliveCount = 0;
+
+    /**
+     * Constructor for an arena sized to fit the bot count
+     *
+     * @param botCount Number of AI bikes
+     */
+    public ArenaGameModel(int botCount) {
+        this(arenaSizeFor(botCount), arenaSizeFor(botCount), DEFAULT_VELOCITY, botCount);
+    }
+
+    /**
+     * Constructor for an arena of explicit size
+     *
+     * @param mapWidth Width of the game area
+     * @param mapHeight Height of the game area
+     * @param velocity Bike movement speed
+     * @param botCount Number of AI bikes
+     */
+    public ArenaGameModel(int mapWidth, int mapHeight, int velocity, int botCount) {
+        super(mapWidth, mapHeight, velocity, botCount);
+    }
+
+    /**
+     * Get the side length of a square arena that gives every bot
+     * its own spawn cell.
+     *
+     * @param botCount Number of AI bikes
+     * @return Arena side length in pixels
+     */
+    public static int arenaSizeFor(int botCount) {
+        int perSide = (int) Math.ceil(Math.sqrt(Math.max(botCount, 1)));
+        return Math.max(MIN_ARENA_SIZE, perSide * SPAWN_SPACING + 2 * SPAWN_MARGIN);
+    }
+
+    /**
+     * Reset the arena
+     * Creates every bike on its spawn cell with a generated color
+     */
+    @Override
+    public void reset() {
+        player = null;
+        int cols = (int) Math.ceil(Math.sqrt(players.length * (double) mapWidth / mapHeight));
+        cols = Math.max(cols, 1);
+        int rows = (players.length + cols - 1) / cols;
+        int cellWidth = (mapWidth - 2 * SPAWN_MARGIN) / cols;
+        int cellHeight = (mapHeight - 2 * SPAWN_MARGIN) / Math.max(rows, 1);
+
+        for (int i = 0; i < players.length; i++) {
+            int[] start = getSpawn(i % cols, i / cols, cellWidth, cellHeight);
+            PlayerAI bot = new PlayerAI(start[0], start[1], start[2], start[3],
+                PLAYER_COLORS[i % PLAYER_COLORS.length]);
+            bot.setRgb(ColorPalette.colorAt(i));
+            players[i] = bot;
+        }
+
+        linkPlayers();
+
+        aliveCount = players.length;
+        lastTickNanos = 0;
+        totalTickNanos = 0;
+        measuredTicks = 0;
+        currentScore = 0;
+        isRunning = true;
+        paused = false;
+
+        notifyGameReset();
+    }
+
+    /**
+     * Get a spawn position and heading inside a grid cell
+     * The position is jittered within the middle half of the cell and the
+     * bike heads toward the arena center along a random axis.
+     *
+     * @return int array: [x, y, velocityX, velocityY]
+     */
+    private int[] getSpawn(int col, int row, int cellWidth, int cellHeight) {
+        int x = SPAWN_MARGIN + col * cellWidth + cellWidth / 4 + rand.nextInt(Math.max(cellWidth / 2, 1));
+        int y = SPAWN_MARGIN + row * cellHeight + cellHeight / 4 + rand.nextInt(Math.max(cellHeight / 2, 1));
+        int velX = 0;
+        int velY = 0;
+
+        if (rand.nextInt(2) == 0) {
+            velX = (x < mapWidth / 2) ? velocity : -velocity;
+        } else {
+            velY = (y < mapHeight / 2) ? velocity : -velocity;
+        }
+        return new int[] { x, y, velX, velY };
+    }
+
+    /**
+     * Update the arena by one time step and record how long it took
+     * The match stops once at most one bike is alive.
+     */
+    @Override
+    public void tick() {
+        if (!isRunning || paused) return;
+
+        long start = System.nanoTime();
+        super.tick();
+
+        int alive = 0;
+        for (Player p : players) {
+            if (p.getAlive()) {
+                alive++;
+            }
+        }
+        aliveCount = alive;
+        if (aliveCount <= 1) {
+            isRunning = false;
+        }
+
+        lastTickNanos = System.nanoTime() - start;
+        totalTickNanos += lastTickNanos;
+        measuredTicks++;
+    }
+
+    /**
+     * Get the number of bikes still alive after the last tick
+     * @return Live bike count
+     */
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    /**
+     * Get the duration of the last tick
+     * @return Nanoseconds spent in the last tick
+     */
+    public long getLastTickNanos() {
+        return lastTickNanos;
+    }
+
+    /**
+     * Get the number of ticks measured since the last reset
+     * @return Tick count
+     */
+    public long getMeasuredTicks() {
+        return measuredTicks;
+    }
+
+    /**
+     * Get the simulation throughput since the last reset, i.e. how many
+     * ticks per second the model could run if nothing else used the CPU.
+     *
+     * @return Ticks per second, or 0 if no tick has been measured yet
+     */
+    public double getTicksPerSecond() {
+        if (totalTickNanos == 0) {
+            return 0;
+        }
+        return measuredTicks * 1_000_000_000.0 / totalTickNanos;
+    }
+}
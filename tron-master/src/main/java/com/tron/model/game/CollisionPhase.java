@@ -0,0 +1,163 @@
+package com.tron.model.game;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import com.tron.model.util.OccupancyGrid;
+
+/**
+ * CollisionPhase - Per-tick collision resolution shared by all game modes
+ *
+ * Resolves head-vs-head and head-vs-trail collisions for one tick without
+ * testing every ordered pair of players.
+ *
+ * Responsibilities:
+ * - Keep a compact set of the players that are still alive
+ * - Broadphase: sort-and-sweep over head X extents, so only heads whose
+ *   X ranges overlap are handed to the exact box test
+ * - Narrowphase: crash both players of every overlapping head pair, then
+ *   test each live head's swept step against the arena occupancy grid
+ *
+ * The alive set keeps its X order between ticks. Heads move a few pixels
+ * per tick, so the insertion sort that restores the order is close to
+ * linear, and the sweep costs O(n + k) for k nearby pairs.
+ *
+ * Dead players are dropped from the alive set and never tested again;
+ * their trails stay in the occupancy grid, which already covers the
+ * position their head stopped at.
+ *
+ * Without an occupancy grid every live player falls back to
+ * {@link GameObject#intersects(GameObject)} against every player, which
+ * also scans the trails.
+ *
+ * Design Pattern: Sort and Sweep (broadphase collision detection)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public class CollisionPhase {
+
+    private static final Comparator<Player> BY_LEFT_EDGE =
+            Comparator.comparingInt(CollisionPhase::leftEdge);
+
+    // Players the alive set was built from
+    private Player[] source;
+
+    // Live players, ordered by the left edge of their head box
+    private Player[] alive = new Player[0];
+    private int aliveCount = 0;
+
+    // Narrowphase head tests performed by the last run
+    private int lastPairTests = 0;
+
+    /**
+     * Rebuilds the alive set from a (re)populated players array.
+     *
+     * @param players All players of the game; null entries are ignored
+     */
+    public void setPlayers(Player[] players) {
+        source = players;
+        if (alive.length < players.length) {
+            alive = new Player[players.length];
+        }
+        aliveCount = 0;
+        for (Player p : players) {
+            if (p != null && p.getAlive()) {
+                alive[aliveCount++] = p;
+            }
+        }
+        Arrays.fill(alive, aliveCount, alive.length, null);
+        Arrays.sort(alive, 0, aliveCount, BY_LEFT_EDGE);
+    }
+
+    /**
+     * Resolves all collisions for the current tick.
+     * Call once per tick after every player has moved.
+     *
+     * @param players All players of the game
+     * @param grid The arena occupancy grid, or null to scan trails instead
+     */
+    public void run(Player[] players, OccupancyGrid grid) {
+        if (players != source) {
+            setPlayers(players);
+        }
+        compactAndSort();
+        lastPairTests = 0;
+
+        if (grid == null) {
+            for (int i = 0; i < aliveCount; i++) {
+                Player p1 = alive[i];
+                for (Player p2 : players) {
+                    if (p2 != null) {
+                        lastPairTests++;
+                        p1.crash(p1.intersects(p2));
+                    }
+                }
+            }
+            return;
+        }
+
+        // Broadphase sweep over X, exact box test on candidates
+        for (int i = 0; i < aliveCount; i++) {
+            Player p1 = alive[i];
+            int right = p1.x + p1.width/2;
+            for (int j = i + 1; j < aliveCount && leftEdge(alive[j]) <= right; j++) {
+                Player p2 = alive[j];
+                lastPairTests++;
+                p1.crash(p1.intersectsHead(p2));
+                p2.crash(p2.intersectsHead(p1));
+            }
+        }
+
+        // Head-vs-trail for every player alive at the start of the tick
+        for (int i = 0; i < aliveCount; i++) {
+            alive[i].crash(alive[i].intersectsSwept(grid));
+        }
+    }
+
+    /**
+     * Get the number of players in the alive set after the last run
+     *
+     * @return Live player count
+     */
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    /**
+     * Get the number of narrowphase tests performed by the last run
+     *
+     * @return Pair tests (player-vs-player intersection calls)
+     */
+    public int getLastPairTests() {
+        return lastPairTests;
+    }
+
+    /**
+     * Drops players that died since the last tick and restores the X order.
+     * Insertion sort is used because heads only move a few pixels per tick.
+     */
+    private void compactAndSort() {
+        int n = 0;
+        for (int i = 0; i < aliveCount; i++) {
+            Player p = alive[i];
+            if (p.getAlive()) {
+                int key = leftEdge(p);
+                int j = n - 1;
+                while (j >= 0 && leftEdge(alive[j]) > key) {
+                    alive[j + 1] = alive[j];
+                    j--;
+                }
+                alive[j + 1] = p;
+                n++;
+            }
+        }
+        Arrays.fill(alive, n, aliveCount, null);
+        aliveCount = n;
+    }
+
+    private static int leftEdge(Player p) {
+        return p.x - p.width/2;
+    }
+}
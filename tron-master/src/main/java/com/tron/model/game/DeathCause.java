@@ -0,0 +1,37 @@
+package com.tron.model.game;
+
+/**
+ * DeathCause - Why a player crashed
+ *
+ * Recorded by the player at the moment it dies, e.g. for match statistics.
+ * Each cause has a one-letter code for compact result files.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public enum DeathCause {
+
+    /** Left the map in a bounded (non-wrapping) map */
+    WALL('W'),
+
+    /** Drove into a map obstacle */
+    OBSTACLE('O'),
+
+    /** Hit a trail or another player's head */
+    COLLISION('C');
+
+    private final char code;
+
+    DeathCause(char code) {
+        this.code = code;
+    }
+
+    /**
+     * Get the one-letter code
+     * @return 'W', 'O' or 'C'
+     */
+    public char getCode() {
+        return code;
+    }
+}
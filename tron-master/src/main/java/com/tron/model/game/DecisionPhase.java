@@ -0,0 +1,157 @@
+package com.tron.model.game;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * DecisionPhase - Decides every AI move of a tick before anyone moves
+ *
+ * Without a decision phase each bot decides inside its own move(), so a
+ * bot sees the steps of the players moved before it in the same tick.
+ * With one, the model splits the tick: first every live bot decides
+ * against the world view of the start of the tick, then the players move
+ * and collide one by one in player order as before.
+ *
+ * Responsibilities:
+ * - Collect the live AI bots that have no pending decision
+ * - Run their decisions one after another (sequential) or spread over a
+ *   work-stealing pool (parallel)
+ * - Time the phase
+ *
+ * During the phase nothing writes to the arena, and each decision only
+ * touches its own bot and strategy, so the order in which bots decide does
+ * not matter: with deterministic strategies the parallel phase gives the
+ * same game, step for step, as the sequential one.
+ *
+ * Design Pattern: Fork-Join (recursive split over the bots)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public class DecisionPhase {
+
+    // Bots per leaf task; decisions are coarse enough to split down to one
+    private static final int LEAF_SIZE = 1;
+
+    // Pool for parallel decisions, null to decide on the calling thread
+    private final ForkJoinPool pool;
+
+    private PlayerAI[] bots = new PlayerAI[0];
+    private int lastDecisionCount = 0;
+    private long lastPhaseNanos = 0;
+
+    /**
+     * Creates a phase deciding on the given pool.
+     *
+     * @param pool Pool for parallel decisions, or null to decide sequentially
+     */
+    public DecisionPhase(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Creates a phase that decides one bot after another on the game thread.
+     *
+     * @return Sequential decision phase
+     */
+    public static DecisionPhase sequential() {
+        return new DecisionPhase(null);
+    }
+
+    /**
+     * Creates a phase that decides on the shared daemon decision pool.
+     *
+     * @return Parallel decision phase
+     */
+    public static DecisionPhase parallel() {
+        return new DecisionPhase(DecisionPool.INSTANCE);
+    }
+
+    /**
+     * Decides the next move of every live AI bot without a pending decision.
+     * The world view must already be refreshed for this tick.
+     *
+     * @param players All players of the game; null entries are ignored
+     */
+    public void run(Player[] players) {
+        long start = System.nanoTime();
+        if (bots.length < players.length) {
+            bots = new PlayerAI[players.length];
+        }
+        int count = 0;
+        for (Player p : players) {
+            if (p instanceof PlayerAI && p.getAlive() && !((PlayerAI) p).hasDecision()) {
+                bots[count++] = (PlayerAI) p;
+            }
+        }
+        try {
+            if (pool == null || count <= LEAF_SIZE) {
+                for (int i = 0; i < count; i++) {
+                    bots[i].decide();
+                }
+            } else {
+                pool.invoke(new DecideTask(bots, 0, count));
+            }
+        } finally {
+            for (int i = 0; i < count; i++) {
+                bots[i] = null;
+            }
+        }
+        lastDecisionCount = count;
+        lastPhaseNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Check if decisions run on a pool
+     * @return true for a parallel phase
+     */
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    /**
+     * Get the number of bots that decided in the last run
+     * @return Decision count
+     */
+    public int getLastDecisionCount() {
+        return lastDecisionCount;
+    }
+
+    /**
+     * Get the duration of the last run
+     * @return Nanoseconds spent deciding
+     */
+    public long getLastPhaseNanos() {
+        return lastPhaseNanos;
+    }
+
+    /**
+     * Decides a range of bots, halving it until a leaf is small enough.
+     */
+    private static final class DecideTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final PlayerAI[] bots;
+        private final int from;
+        private final int to;
+
+        DecideTask(PlayerAI[] bots, int from, int to) {
+            this.bots = bots;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                for (int i = from; i < to; i++) {
+                    bots[i].decide();
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new DecideTask(bots, from, mid), new DecideTask(bots, mid, to));
+        }
+    }
+}
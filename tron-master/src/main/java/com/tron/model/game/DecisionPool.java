@@ -0,0 +1,36 @@
+package com.tron.model.game;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DecisionPool - Daemon worker pool shared by AI decision scheduling
+ *
+ * One work-stealing pool with a thread per core for
+ * {@link AIDecisionPipeline} and {@link DecisionPhase}. Its threads are
+ * daemons, so pending AI work never keeps the application alive.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+final class DecisionPool {
+
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    /** The shared pool */
+    static final ForkJoinPool INSTANCE = new ForkJoinPool(
+            Runtime.getRuntime().availableProcessors(),
+            pool -> {
+                ForkJoinWorkerThread thread =
+                        ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("ai-decision-" + THREAD_IDS.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            null, false);
+
+    private DecisionPool() {
+    }
+}
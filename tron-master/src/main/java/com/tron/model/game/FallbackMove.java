@@ -0,0 +1,69 @@
+package com.tron.model.game;
+
+import com.tron.model.util.Direction;
+
+/**
+ * FallbackMove - Cheap moves used when an AI decision is not ready in time
+ *
+ * Each constant turns the velocity a bot had before deciding into the
+ * velocity to use instead of the missing decision. Both cost at most a few
+ * world queries, so they are safe to run on the game thread.
+ *
+ * - KEEP_HEADING: Carry on in the same direction at the same speed
+ * - MOST_ROOM: Take whichever of straight, left and right has the most
+ *   free space in front of it, according to the bot's world view
+ *
+ * Design Pattern: Strategy (one move rule per enum constant)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public enum FallbackMove {
+    /** Keep the previous velocity */
+    KEEP_HEADING {
+        @Override
+        public int[] choose(PlayerAI bot, int velocityX, int velocityY) {
+            return new int[] { velocityX, velocityY };
+        }
+    },
+
+    /** Turn toward the longest free run among straight, left and right */
+    MOST_ROOM {
+        @Override
+        public int[] choose(PlayerAI bot, int velocityX, int velocityY) {
+            Direction heading = Direction.fromVelocity(velocityX, velocityY);
+            WorldView world = bot.getWorldView();
+            if (heading == null || world == null) {
+                return new int[] { velocityX, velocityY };
+            }
+            int speed = Math.max(Math.abs(velocityX), Math.abs(velocityY));
+            Direction best = heading;
+            int bestRoom = world.freeSpaceAlong(bot.x, bot.y, heading, LOOKAHEAD);
+            for (Direction turn : new Direction[] { heading.left(), heading.right() }) {
+                int room = world.freeSpaceAlong(bot.x, bot.y, turn, LOOKAHEAD);
+                if (room > bestRoom) {
+                    best = turn;
+                    bestRoom = room;
+                }
+            }
+            if (best == heading) {
+                return new int[] { velocityX, velocityY };
+            }
+            return new int[] { best.getDx() * speed, best.getDy() * speed };
+        }
+    };
+
+    /** Pixels of free space MOST_ROOM looks for in each direction */
+    public static final int LOOKAHEAD = 100;
+
+    /**
+     * Chooses the velocity to use instead of a missing decision.
+     *
+     * @param bot The bot whose decision is missing
+     * @param velocityX X velocity before the decision
+     * @param velocityY Y velocity before the decision
+     * @return int array: [velocityX, velocityY]
+     */
+    public abstract int[] choose(PlayerAI bot, int velocityX, int velocityY);
+}
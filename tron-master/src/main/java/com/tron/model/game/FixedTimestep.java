@@ -0,0 +1,170 @@
+package com.tron.model.game;
+
+/**
+ * FixedTimestep - Turns frame times into a fixed number of game ticks
+ *
+ * Frames arrive whenever the display or the scheduler allows; game ticks
+ * must happen at an exact rate. Each frame adds the time since the last
+ * frame to an accumulator and takes out as many whole ticks as it holds,
+ * so the game runs at the configured rate whatever the frame rate.
+ *
+ * Responsibilities:
+ * - advance(): number of ticks to run for a frame
+ * - Bound catch-up: after a long stall (a slow frame, a debugger, a
+ *   suspended window) at most maxStepsPerFrame ticks run; the rest of the
+ *   backlog is dropped and counted as skipped instead of freezing the
+ *   game in a burst of ticks
+ * - Count late ticks: ticks beyond the first in one frame, which ran
+ *   behind their schedule
+ * - getAlpha(): how far the current time is between the last tick and
+ *   the next, for interpolating what is drawn
+ *
+ * Time stops while the game is paused: call restart() so the pause is not
+ * caught up afterwards.
+ *
+ * Design Pattern: Fixed Timestep (accumulator game loop)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public class FixedTimestep {
+
+    /** Default tick time: 20 ms, i.e. 50 ticks per second */
+    public static final long DEFAULT_STEP_NANOS = 20_000_000L;
+
+    /** Default maximum number of ticks run for one frame */
+    public static final int DEFAULT_MAX_STEPS_PER_FRAME = 5;
+
+    private final long stepNanos;
+    private final int maxStepsPerFrame;
+
+    private boolean started = false;
+    private long lastFrame;
+    private long accumulator;
+
+    private long totalSteps = 0;
+    private long lateSteps = 0;
+    private long skippedSteps = 0;
+
+    /**
+     * Creates a 50 Hz timestep with the default catch-up bound.
+     */
+    public FixedTimestep() {
+        this(DEFAULT_STEP_NANOS, DEFAULT_MAX_STEPS_PER_FRAME);
+    }
+
+    /**
+     * Creates a timestep.
+     *
+     * @param stepNanos Nanoseconds per tick
+     * @param maxStepsPerFrame Most ticks run for one frame
+     * @throws IllegalArgumentException if either value is not positive
+     */
+    public FixedTimestep(long stepNanos, int maxStepsPerFrame) {
+        if (stepNanos <= 0) {
+            throw new IllegalArgumentException("Step time must be positive");
+        }
+        if (maxStepsPerFrame <= 0) {
+            throw new IllegalArgumentException("Max steps per frame must be positive");
+        }
+        this.stepNanos = stepNanos;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Accounts for a frame and returns the number of ticks to run for it.
+     * The first frame after creation or restart() only starts the clock.
+     *
+     * @param nowNanos Frame time, e.g. System.nanoTime() or an
+     *                 AnimationTimer timestamp
+     * @return Ticks to run, between 0 and maxStepsPerFrame
+     */
+    public int advance(long nowNanos) {
+        if (!started) {
+            started = true;
+            lastFrame = nowNanos;
+            return 0;
+        }
+        long elapsed = nowNanos - lastFrame;
+        lastFrame = nowNanos;
+        if (elapsed > 0) {
+            accumulator += elapsed;
+        }
+
+        long due = accumulator / stepNanos;
+        accumulator -= due * stepNanos;
+        int steps = (int) Math.min(due, maxStepsPerFrame);
+        skippedSteps += due - steps;
+        if (steps > 1) {
+            lateSteps += steps - 1;
+        }
+        totalSteps += steps;
+        return steps;
+    }
+
+    /**
+     * Forgets the time since the last frame, e.g. after a pause.
+     * The next advance() starts the clock again.
+     */
+    public void restart() {
+        started = false;
+        accumulator = 0;
+    }
+
+    /**
+     * Get the position between the last tick and the next
+     * @return Fraction of a tick in [0, 1)
+     */
+    public double getAlpha() {
+        return (double) accumulator / stepNanos;
+    }
+
+    /**
+     * Get the time from the last frame until the next tick is due
+     * @return Nanoseconds, at most one tick time
+     */
+    public long getNanosUntilNextStep() {
+        return stepNanos - accumulator;
+    }
+
+    /**
+     * Get the time per tick
+     * @return Nanoseconds per tick
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    /**
+     * Get the catch-up bound
+     * @return Most ticks run for one frame
+     */
+    public int getMaxStepsPerFrame() {
+        return maxStepsPerFrame;
+    }
+
+    /**
+     * Get the number of ticks handed out
+     * @return Tick count
+     */
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    /**
+     * Get the number of ticks that ran behind schedule, as catch-up
+     * @return Late tick count
+     */
+    public long getLateSteps() {
+        return lateSteps;
+    }
+
+    /**
+     * Get the number of ticks dropped by the catch-up bound
+     * @return Skipped tick count
+     */
+    public long getSkippedSteps() {
+        return skippedSteps;
+    }
+}
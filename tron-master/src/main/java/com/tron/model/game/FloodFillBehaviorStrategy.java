@@ -0,0 +1,351 @@
+package com.tron.model.game;
+
+import java.util.Arrays;
+
+import com.tron.model.util.Direction;
+
+/**
+ * Flood-Fill Territory AI Behavior Strategy
+ *
+ * Scores each legal heading (straight on, left, right) by how much of the
+ * arena is still reachable after taking it, and steers toward the largest
+ * territory. Unlike the proximity-based AIs it does not turn at random and
+ * avoids driving into pockets it cannot get out of.
+ *
+ * Decision logic:
+ * 1. A heading whose path is blocked within a safety margin (speed plus
+ *    head size) scores negative: the closer the wall, the worse
+ * 2. Otherwise the heading scores the number of cells reachable from the
+ *    point one margin ahead, found by a flood fill over the world view's
+ *    coarse cell grid. Only cells whose four neighbours are also free are
+ *    entered, so gaps too narrow to drive through do not count, and the
+ *    block of cells around every other live head counts as occupied
+ * 3. The highest score wins; ties keep the current heading, then prefer left
+ *
+ * The fill stops once it has counted a configurable area cap: beyond that
+ * every heading is "open enough", so open-field decisions stay cheap and
+ * tie toward going straight.
+ *
+ * Time budget:
+ * Each decision gets a configurable budget in nanoseconds, split evenly
+ * between the three headings. A flood fill that runs out of time stops and
+ * its partial count is used as the score, so a decision never takes much
+ * longer than the budget. An interrupt of the deciding thread (e.g. from a
+ * deadline decorator giving up on the decision) cuts the fills short the
+ * same way. Decisions cut short are counted.
+ *
+ * In a deterministic (seeded) match only the area cap bounds the work, so
+ * the decision does not depend on machine speed; the clock then only
+ * enforces a generous safety cap.
+ *
+ * Allocation:
+ * The fill queue and visited marks are scratch arrays sized to the cell
+ * grid and reused between decisions. Visited marks use a generation stamp,
+ * so they never need clearing. Steady-state decisions allocate nothing.
+ *
+ * Without a world view (a player not attached to a game model) the
+ * strategy falls back to the base proximity rules.
+ *
+ * Design Patterns:
+ * - Strategy Pattern: Implements PlayerBehaviorStrategy interface
+ * - Inheritance: Extends AIBehaviorStrategy for trail queries and fallback
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ * @see AIBehaviorStrategy
+ * @see WorldView
+ */
+public class FloodFillBehaviorStrategy extends AIBehaviorStrategy {
+
+	/** Default time budget per decision: 0.25 ms */
+	public static final long DEFAULT_BUDGET_NANOS = 250_000L;
+	
+	/** Default number of cells after which a region counts as open */
+	public static final int DEFAULT_AREA_CAP = 1024;
+
+	// How often (in dequeued cells) a flood fill checks the clock
+	private static final int CLOCK_CHECK_INTERVAL = 64;
+
+	private long budgetNanos;
+	private int areaCap = DEFAULT_AREA_CAP;
+
+	// Scratch buffers, reused while the cell grid keeps its size
+	private int[] queue = new int[0];
+	private int[] visited = new int[0];
+	private int generation = 0;
+
+	// Decision metrics
+	private long lastDecisionNanos = 0;
+	private int budgetExceededCount = 0;
+	private boolean budgetExceeded = false;
+
+	/**
+	 * Constructs a FloodFillBehaviorStrategy with the default time budget.
+	 *
+	 * @param player the AI player this strategy controls
+	 */
+	public FloodFillBehaviorStrategy(PlayerAI player) {
+		this(player, DEFAULT_BUDGET_NANOS);
+	}
+
+	/**
+	 * Constructs a FloodFillBehaviorStrategy with a given time budget.
+	 *
+	 * @param player the AI player this strategy controls
+	 * @param budgetNanos time budget per decision in nanoseconds
+	 */
+	public FloodFillBehaviorStrategy(PlayerAI player, long budgetNanos) {
+		super(player);
+		setBudgetNanos(budgetNanos);
+	}
+
+	/**
+	 * Picks the heading with the largest reachable territory.
+	 */
+	@Override
+	public void decideMoveDirection() {
+		WorldView world = player.getWorldView();
+		Direction heading = Direction.fromVelocity(player.getNextVelocityX(), player.getNextVelocityY());
+		if (world == null || heading == null) {
+			super.decideMoveDirection();
+			return;
+		}
+
+		long start = System.nanoTime();
+		long budget = isDeterministic() ? DETERMINISTIC_SAFETY_CAP_NANOS : budgetNanos;
+		long slice = budget / 3;
+		budgetExceeded = false;
+		prepareScratch(world);
+
+		Direction best = heading;
+		int bestScore = score(world, heading, start + slice);
+		Direction left = heading.left();
+		int leftScore = score(world, left, start + 2 * slice);
+		if (leftScore > bestScore) {
+			best = left;
+			bestScore = leftScore;
+		}
+		Direction right = heading.right();
+		if (score(world, right, start + budget) > bestScore) {
+			best = right;
+		}
+
+		if (best != heading) {
+			int speed = Math.max(Math.abs(player.getNextVelocityX()), Math.abs(player.getNextVelocityY()));
+			player.setNextVelocityX(best.getDx() * speed);
+			player.setNextVelocityY(best.getDy() * speed);
+		}
+
+		lastDecisionNanos = System.nanoTime() - start;
+		if (budgetExceeded) {
+			budgetExceededCount++;
+		}
+	}
+
+	/**
+	 * Territory AI never boosts; boosting shortens the time to react.
+	 *
+	 * @return false
+	 */
+	@Override
+	public boolean shouldBoost() {
+		return false;
+	}
+
+	/**
+	 * Scores one heading for another strategy that uses territory as a
+	 * guard, without deciding or touching the decision metrics.
+	 *
+	 * @param world the shared world view
+	 * @param direction heading to score
+	 * @param deadline System.nanoTime() value at which to stop counting
+	 * @return negative if blocked within the safety margin, else reachable cells
+	 */
+	int scoreHeading(WorldView world, Direction direction, long deadline) {
+		prepareScratch(world);
+		return score(world, direction, deadline);
+	}
+
+	/**
+	 * Scores a heading: negative when its path is blocked within the safety
+	 * margin, otherwise the reachable cell count from one margin ahead.
+	 */
+	private int score(WorldView world, Direction direction, long deadline) {
+		int speed = Math.max(Math.abs(player.getNextVelocityX()), Math.abs(player.getNextVelocityY()));
+		int margin = speed + Player.WIDTH;
+		int free = world.freeSpaceAlong(player.x, player.y, direction, margin);
+		if (free < margin) {
+			return free - margin;
+		}
+		int column = world.columnOf(player.x + direction.getDx() * margin);
+		int row = world.rowOf(player.y + direction.getDy() * margin);
+		return floodFill(world, column, row, deadline);
+	}
+
+	/**
+	 * Counts the passable cells reachable from a start cell, stopping early at
+	 * the area cap, the deadline or an interrupt. Cells around other players' heads count
+	 * as occupied. The start cell only has to be free: the safety margin check
+	 * has already cleared the path to it.
+	 */
+	private int floodFill(WorldView world, int startColumn, int startRow, long deadline) {
+		if (world.isCellBlocked(startColumn, startRow)) {
+			return 0;
+		}
+		int columns = world.getColumns();
+		int stamp = nextGeneration();
+		blockOtherHeads(world, stamp);
+
+		int start = startRow * columns + startColumn;
+		if (visited[start] == stamp) {
+			return 0;
+		}
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = start;
+		visited[start] = stamp;
+		while (head < tail && tail < areaCap) {
+			if ((head & (CLOCK_CHECK_INTERVAL - 1)) == 0 && head > 0
+					&& (System.nanoTime() > deadline || Thread.currentThread().isInterrupted())) {
+				budgetExceeded = true;
+				break;
+			}
+			int cell = queue[head++];
+			int c = cell % columns;
+			int r = cell / columns;
+			tail = visit(world, c - 1, r, cell - 1, stamp, tail);
+			tail = visit(world, c + 1, r, cell + 1, stamp, tail);
+			tail = visit(world, c, r - 1, cell - columns, stamp, tail);
+			tail = visit(world, c, r + 1, cell + columns, stamp, tail);
+		}
+		return Math.min(tail, areaCap);
+	}
+
+	private int visit(WorldView world, int column, int row, int cell, int stamp, int tail) {
+		if (isPassable(world, column, row) && visited[cell] != stamp) {
+			visited[cell] = stamp;
+			queue[tail++] = cell;
+		}
+		return tail;
+	}
+
+	/**
+	 * A cell is passable when it and its four neighbours are free, i.e. a
+	 * head inside it keeps clear of any trail. Off-grid cells are blocked.
+	 */
+	private static boolean isPassable(WorldView world, int column, int row) {
+		return !world.isCellBlocked(column, row)
+				&& !world.isCellBlocked(column - 1, row)
+				&& !world.isCellBlocked(column + 1, row)
+				&& !world.isCellBlocked(column, row - 1)
+				&& !world.isCellBlocked(column, row + 1);
+	}
+
+	/**
+	 * Marks the 3x3 cell block around every other live head, plus the cells
+	 * two steps ahead of it, as already visited for this fill.
+	 */
+	private void blockOtherHeads(WorldView world, int stamp) {
+		int columns = world.getColumns();
+		int rows = world.getRows();
+		int self = player.getWorldSlot();
+		for (int i = 0; i < world.getPlayerCount(); i++) {
+			if (i == self || !world.isAlive(i)) {
+				continue;
+			}
+			int hc = world.columnOf(world.getHeadX(i));
+			int hr = world.rowOf(world.getHeadY(i));
+			int dc = Integer.signum(world.getVelocityX(i));
+			int dr = Integer.signum(world.getVelocityY(i));
+			for (int r = hr - 1; r <= hr + 1; r++) {
+				for (int c = hc - 1; c <= hc + 1; c++) {
+					markVisited(c, r, columns, rows, stamp);
+				}
+			}
+			markVisited(hc + 2 * dc, hr + 2 * dr, columns, rows, stamp);
+		}
+	}
+
+	private void markVisited(int column, int row, int columns, int rows, int stamp) {
+		if (column >= 0 && column < columns && row >= 0 && row < rows) {
+			visited[row * columns + column] = stamp;
+		}
+	}
+
+	private void prepareScratch(WorldView world) {
+		int cells = world.getColumns() * world.getRows();
+		if (queue.length != cells) {
+			queue = new int[cells];
+			visited = new int[cells];
+			generation = 0;
+		}
+	}
+
+	private int nextGeneration() {
+		generation++;
+		if (generation == Integer.MAX_VALUE) {
+			Arrays.fill(visited, 0);
+			generation = 1;
+		}
+		return generation;
+	}
+
+	/**
+	 * Set the time budget per decision
+	 *
+	 * @param budgetNanos budget in nanoseconds
+	 * @throws IllegalArgumentException if the budget is not positive
+	 */
+	public void setBudgetNanos(long budgetNanos) {
+		if (budgetNanos <= 0) {
+			throw new IllegalArgumentException("Budget must be positive");
+		}
+		this.budgetNanos = budgetNanos;
+	}
+
+	/**
+	 * Set the number of cells after which a region counts as open
+	 *
+	 * @param areaCap area cap in cells
+	 * @throws IllegalArgumentException if the cap is not positive
+	 */
+	public void setAreaCap(int areaCap) {
+		if (areaCap <= 0) {
+			throw new IllegalArgumentException("Area cap must be positive");
+		}
+		this.areaCap = areaCap;
+	}
+
+	/**
+	 * Get the number of cells after which a region counts as open
+	 * @return area cap in cells
+	 */
+	public int getAreaCap() {
+		return areaCap;
+	}
+
+	/**
+	 * Get the time budget per decision
+	 * @return budget in nanoseconds
+	 */
+	public long getBudgetNanos() {
+		return budgetNanos;
+	}
+
+	/**
+	 * Get the duration of the last decision
+	 * @return nanoseconds spent in the last decision
+	 */
+	public long getLastDecisionNanos() {
+		return lastDecisionNanos;
+	}
+
+	/**
+	 * Get the number of decisions that ran out of budget
+	 * @return count of decisions whose flood fill was cut short
+	 */
+	public int getBudgetExceededCount() {
+		return budgetExceededCount;
+	}
+}
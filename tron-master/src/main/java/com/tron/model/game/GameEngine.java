@@ -0,0 +1,301 @@
+package com.tron.model.game;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * GameEngine - Drives a game model's ticks without any UI toolkit
+ *
+ * The JavaFX views advance their models from an AnimationTimer, which
+ * needs a running FX toolkit. The engine advances a model on its own, so
+ * games can run headless on CI machines and servers, e.g. for AI
+ * experiments and simulated matches.
+ *
+ * Responsibilities:
+ * - Call tick() until the game ends, a tick limit is reached or the
+ *   engine is stopped
+ * - Pace ticks at a fixed rate, or run them back to back as fast as
+ *   possible (tick time {@link #UNLIMITED})
+ * - Run on the calling thread with run(), or on a daemon thread with
+ *   start() and stop()
+ * - Offer hooks around the ticks to subclasses, such as
+ *   {@link SimulationThread}, which applies input and publishes frames
+ *
+ * At a fixed rate the ticks are counted out by a {@link FixedTimestep}, so
+ * the game keeps its rate when single ticks run long: missed ticks are
+ * caught up, at most a bounded number at once, and any backlog beyond
+ * that is dropped and reported as skipped.
+ *
+ * The engine only calls tick(); the model is reset and started by its
+ * creator, e.g. a GameModelFactory. While the model is paused the engine
+ * waits without ticking.
+ *
+ * Design Pattern: Game Loop, Template Method (tick hooks)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public class GameEngine {
+
+    /** Tick time that runs ticks back to back without pacing */
+    public static final long UNLIMITED = 0;
+
+    /** Default tick time: 20 ms, the 50 ticks per second of the views */
+    public static final long DEFAULT_TICK_NANOS = 20_000_000L;
+
+    /** Default most ticks caught up at once when running behind */
+    public static final int DEFAULT_MAX_CATCH_UP = FixedTimestep.DEFAULT_MAX_STEPS_PER_FRAME;
+
+    // Wait between checks while the model is paused
+    private static final long PAUSE_POLL_NANOS = 1_000_000L;
+
+    private final TronGameModel model;
+    private volatile long tickNanos;
+    private volatile boolean stopRequested;
+    private volatile long tickCount = 0;
+    private volatile long lateTicks = 0;
+    private volatile long skippedTicks = 0;
+    private Thread thread;
+
+    /**
+     * Creates an engine ticking at the default rate.
+     *
+     * @param model The model to drive
+     * @throws IllegalArgumentException if model is null
+     */
+    public GameEngine(TronGameModel model) {
+        this(model, DEFAULT_TICK_NANOS);
+    }
+
+    /**
+     * Creates an engine with a given tick time.
+     *
+     * @param model The model to drive
+     * @param tickNanos Nanoseconds per tick, or UNLIMITED
+     * @throws IllegalArgumentException if model is null or tickNanos is negative
+     */
+    public GameEngine(TronGameModel model, long tickNanos) {
+        if (model == null) {
+            throw new IllegalArgumentException("Model cannot be null");
+        }
+        this.model = model;
+        setTickNanos(tickNanos);
+    }
+
+    /**
+     * Ticks the model on the calling thread until the game ends, maxTicks
+     * ticks have run or stop() is called.
+     *
+     * @param maxTicks Maximum number of ticks to run
+     * @return Number of ticks run
+     */
+    public long run(long maxTicks) {
+        stopRequested = false;
+        return loop(maxTicks);
+    }
+
+    private long loop(long maxTicks) {
+        long ticks = 0;
+        FixedTimestep clock = null;
+        while (ticks < maxTicks && model.isRunning() && !stopRequested) {
+            if (model.isPaused()) {
+                LockSupport.parkNanos(PAUSE_POLL_NANOS);
+                if (clock != null) {
+                    clock.restart();
+                }
+                continue;
+            }
+
+            long period = tickNanos;
+            int steps = 1;
+            if (period == UNLIMITED) {
+                clock = null;
+            } else {
+                if (clock == null || clock.getStepNanos() != period) {
+                    clock = new FixedTimestep(period, DEFAULT_MAX_CATCH_UP);
+                }
+                long late = clock.getLateSteps();
+                long skipped = clock.getSkippedSteps();
+                steps = clock.advance(System.nanoTime());
+                lateTicks += clock.getLateSteps() - late;
+                skippedTicks += clock.getSkippedSteps() - skipped;
+            }
+
+            int ran = 0;
+            for (int i = 0; i < steps && ticks < maxTicks && model.isRunning(); i++) {
+                beforeTick();
+                model.tick();
+                ticks++;
+                tickCount++;
+                ran++;
+            }
+            if (ran > 0) {
+                afterTicks(ran);
+            }
+            if (clock != null) {
+                sleepNanos(clock.getNanosUntilNextStep());
+            }
+        }
+        afterLoop();
+        return ticks;
+    }
+
+    /**
+     * Called on the ticking thread right before each tick. Does nothing
+     * by default.
+     */
+    protected void beforeTick() {
+    }
+
+    /**
+     * Called on the ticking thread after each round of ticks, i.e. once
+     * per wake-up however many ticks were caught up. Does nothing by
+     * default.
+     *
+     * @param ticks Number of ticks in the round, at least 1
+     */
+    protected void afterTicks(int ticks) {
+    }
+
+    /**
+     * Called on the ticking thread when the loop ends, before run()
+     * returns or the engine thread ends. Does nothing by default.
+     */
+    protected void afterLoop() {
+    }
+
+    /**
+     * Creates the thread start() runs the loop on.
+     *
+     * @param loop The loop to run
+     * @return An unstarted daemon thread named "game-engine"
+     */
+    protected Thread newThread(Runnable loop) {
+        Thread t = new Thread(loop, "game-engine");
+        t.setDaemon(true);
+        return t;
+    }
+
+    /**
+     * Ticks the model on a daemon thread until the game ends or stop() is
+     * called. Does nothing if the engine thread is already running.
+     */
+    public synchronized void start() {
+        if (thread != null && thread.isAlive()) {
+            return;
+        }
+        stopRequested = false;
+        Thread t = newThread(() -> loop(Long.MAX_VALUE));
+        thread = t;
+        t.start();
+    }
+
+    /**
+     * Stops ticking after the current tick and waits for the engine thread,
+     * if any, to end.
+     */
+    public synchronized void stop() {
+        stopRequested = true;
+        Thread t = thread;
+        if (t == null) {
+            return;
+        }
+        LockSupport.unpark(t);
+        boolean interrupted = false;
+        while (t.isAlive()) {
+            try {
+                t.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        thread = null;
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Check if the engine thread is ticking
+     * @return true while the thread started by start() runs
+     */
+    public synchronized boolean isActive() {
+        return thread != null && thread.isAlive();
+    }
+
+    /**
+     * Set the time per tick
+     * @param tickNanos Nanoseconds per tick, or UNLIMITED
+     * @throws IllegalArgumentException if tickNanos is negative
+     */
+    public void setTickNanos(long tickNanos) {
+        if (tickNanos < 0) {
+            throw new IllegalArgumentException("Tick time cannot be negative");
+        }
+        this.tickNanos = tickNanos;
+    }
+
+    /**
+     * Set the tick rate
+     * @param ticksPerSecond Ticks per second
+     * @throws IllegalArgumentException if ticksPerSecond is not positive
+     */
+    public void setTicksPerSecond(double ticksPerSecond) {
+        if (!(ticksPerSecond > 0)) {
+            throw new IllegalArgumentException("Tick rate must be positive");
+        }
+        setTickNanos(Math.max(1, Math.round(1_000_000_000L / ticksPerSecond)));
+    }
+
+    /**
+     * Get the time per tick
+     * @return Nanoseconds per tick, or UNLIMITED
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Get the number of ticks run since the engine was created
+     * @return Tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Get the number of ticks that ran behind schedule, catching up
+     * @return Late tick count
+     */
+    public long getLateTicks() {
+        return lateTicks;
+    }
+
+    /**
+     * Get the number of ticks dropped because the engine fell too far behind
+     * @return Skipped tick count
+     */
+    public long getSkippedTicks() {
+        return skippedTicks;
+    }
+
+    /**
+     * Get the model being driven
+     * @return The model
+     */
+    public TronGameModel getModel() {
+        return model;
+    }
+
+    /**
+     * Sleeps for a number of nanoseconds, ending early if stop() is called.
+     */
+    private void sleepNanos(long nanos) {
+        long end = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (remaining > 0 && !stopRequested) {
+            LockSupport.parkNanos(this, remaining);
+            remaining = end - System.nanoTime();
+        }
+    }
+}
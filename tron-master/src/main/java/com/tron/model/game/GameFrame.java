@@ -0,0 +1,192 @@
+package com.tron.model.game;
+
+import com.tron.model.data.DrawData;
+
+/**
+ * GameFrame - Read-only picture of a game after a tick
+ *
+ * What a renderer needs to draw one frame, taken by the simulation thread
+ * right after a tick: every player's {@link DrawData} (whose trail is an
+ * O(1) snapshot), the heads before and after the tick for interpolation,
+ * the score and whether the game is still running. The renderer reads the
+ * frame instead of the live model, so it never sees a tick half done.
+ *
+ * Frames live in the slots of a {@link com.tron.model.util.TripleBuffer}
+ * and are refilled only by the simulation thread, and only while the
+ * renderer does not hold them; to the renderer a frame never changes.
+ *
+ * Responsibilities:
+ * - Hold the state needed for drawing, the HUD and game-over checks
+ * - getHeadX()/getHeadY(): head positions between the last two ticks
+ * - getPublishNanos(): when the frame was published, for measuring the
+ *   handoff latency
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ * @see SimulationThread
+ */
+public final class GameFrame {
+
+    private long tick = -1;
+    private long publishNanos;
+    private boolean running;
+    private int score;
+    private int boostsLeft;
+
+    private int playerCount;
+    private DrawData[] players = new DrawData[0];
+    private int[] headX = new int[0];
+    private int[] headY = new int[0];
+    private int[] previousHeadX = new int[0];
+    private int[] previousHeadY = new int[0];
+
+    /**
+     * Fills the frame from the model. Simulation thread only, before the
+     * frame is published.
+     *
+     * @param model The model right after a tick
+     * @param heads Head positions captured before that tick
+     * @param tick Number of ticks run
+     */
+    void fill(TronGameModel model, HeadInterpolator heads, long tick) {
+        this.tick = tick;
+        this.running = model.isRunning();
+        this.score = model.getCurrentScore();
+        PlayerHuman human = model.getPlayer();
+        this.boostsLeft = human != null ? human.getBoostsLeft() : 0;
+
+        Player[] source = model.getPlayers();
+        int n = source != null ? source.length : 0;
+        if (players.length < n) {
+            players = new DrawData[n];
+            headX = new int[n];
+            headY = new int[n];
+            previousHeadX = new int[n];
+            previousHeadY = new int[n];
+        }
+        for (int i = 0; i < n; i++) {
+            Player p = source[i];
+            players[i] = p != null ? p.getDrawData() : null;
+            if (p != null) {
+                headX[i] = p.getX();
+                headY[i] = p.getY();
+                previousHeadX[i] = heads.interpolateX(i, p, 0.0);
+                previousHeadY[i] = heads.interpolateY(i, p, 0.0);
+            }
+        }
+        for (int i = n; i < playerCount; i++) {
+            players[i] = null;
+        }
+        this.playerCount = n;
+    }
+
+    /**
+     * Stamps the publish time. Simulation thread only.
+     *
+     * @param nanos System.nanoTime() at publishing
+     */
+    void setPublishNanos(long nanos) {
+        this.publishNanos = nanos;
+    }
+
+    /**
+     * Get the number of ticks run when the frame was taken
+     * @return Tick count, or -1 for a frame never filled
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Get the time the frame was published
+     * @return System.nanoTime() at publishing
+     */
+    public long getPublishNanos() {
+        return publishNanos;
+    }
+
+    /**
+     * Check if the game was still running
+     * @return true if running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Get the score
+     * @return Current score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Get the human player's remaining boosts
+     * @return Boosts left, 0 without a human player
+     */
+    public int getBoostsLeft() {
+        return boostsLeft;
+    }
+
+    /**
+     * Get the number of player slots
+     * @return Player count
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Get a player's draw data
+     * @param slot Player index
+     * @return Draw data, or null for an empty slot
+     */
+    public DrawData getDrawData(int slot) {
+        return players[slot];
+    }
+
+    /**
+     * Get a head's X position between the last two ticks
+     * @param slot Player index
+     * @param alpha Fraction of a tick since the frame's tick, in [0, 1]
+     * @return Interpolated X position of the head's centre
+     */
+    public int getHeadX(int slot, double alpha) {
+        return lerp(previousHeadX[slot], headX[slot], alpha);
+    }
+
+    /**
+     * Get a head's Y position between the last two ticks
+     * @param slot Player index
+     * @param alpha Fraction of a tick since the frame's tick, in [0, 1]
+     * @return Interpolated Y position of the head's centre
+     */
+    public int getHeadY(int slot, double alpha) {
+        return lerp(previousHeadY[slot], headY[slot], alpha);
+    }
+
+    /**
+     * Get a head's X position after the frame's tick
+     * @param slot Player index
+     * @return X position of the head's centre
+     */
+    public int getHeadX(int slot) {
+        return headX[slot];
+    }
+
+    /**
+     * Get a head's Y position after the frame's tick
+     * @param slot Player index
+     * @return Y position of the head's centre
+     */
+    public int getHeadY(int slot) {
+        return headY[slot];
+    }
+
+    private static int lerp(int from, int to, double alpha) {
+        double t = Math.max(0, Math.min(1, alpha));
+        return (int) Math.round(from + (to - from) * t);
+    }
+}
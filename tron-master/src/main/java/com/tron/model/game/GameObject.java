@@ -1,9 +1,11 @@
 package com.tron.model.game;
 
-import java.util.ArrayList;
+import java.util.List;
 
 import com.tron.model.data.DrawData;
 import com.tron.model.util.Intersection;
+import com.tron.model.util.OccupancyGrid;
+import com.tron.model.util.SegmentIndex;
 import com.tron.model.util.Shape;
 
 /**
@@ -77,6 +79,22 @@ public abstract class GameObject {
 		return y;
 	}
 	
+	/**
+	 * Get horizontal velocity
+	 * @return X velocity in pixels per tick
+	 */
+	public int getXVelocity() {
+		return velocityX;
+	}
+	
+	/**
+	 * Get vertical velocity
+	 * @return Y velocity in pixels per tick
+	 */
+	public int getYVelocity() {
+		return velocityY;
+	}
+	
 	/**
 	 * Sets the movement bounds for this object.
 	 * Adjusts the maximum permissible position based on court dimensions.
@@ -149,6 +167,8 @@ public abstract class GameObject {
 
 	/**
 	 * Compute whether an object intersects a shape.
+	 * Uses the other object's trail index when it keeps one, otherwise
+	 * scans its path segment by segment.
 	 * 
 	 * @param other
 	 *            The other game object to test for intersection with.
@@ -156,15 +176,14 @@ public abstract class GameObject {
 	 * 
 	 */
 	public Intersection intersects(GameObject other) {
-		if (other != this) {
-			if (other.y - other.height/2 <= y + height/2 &&
-				other.y + other.height/2 >= y - height/2 &&
-				other.x - other.width/2 <= x + width/2 &&
-				other.x + other.width/2 >= x - width/2) {
-				return Intersection.UP;
-			}
+		if (intersectsHead(other) == Intersection.UP) {
+			return Intersection.UP;
+		}
+		SegmentIndex index = other.getTrailIndex();
+		if (index != null) {
+			return index.hits(x, y, width/2, height/2) ? Intersection.UP : Intersection.NONE;
 		}
-		ArrayList<Shape> pa = other.getPath();
+		List<Shape> pa = other.getPath();
 		for (int i = 0; i < pa.size() - 1; i++) {
 			Shape k = pa.get(i);
 			int x1 = k.getStartX();
@@ -187,6 +206,42 @@ public abstract class GameObject {
 		return Intersection.NONE;
 	}
 	
+	/**
+	 * Compute whether this object's bounding box overlaps another object's
+	 * bounding box. Trails are not considered.
+	 * 
+	 * @param other
+	 *            The other game object to test for intersection with.
+	 * @return NONE if the boxes do not overlap or other is this object, otherwise UP.
+	 */
+	public Intersection intersectsHead(GameObject other) {
+		if (other != this) {
+			if (other.y - other.height/2 <= y + height/2 &&
+				other.y + other.height/2 >= y - height/2 &&
+				other.x - other.width/2 <= x + width/2 &&
+				other.x + other.width/2 >= x - width/2) {
+				return Intersection.UP;
+			}
+		}
+		return Intersection.NONE;
+	}
+	
+	/**
+	 * Compute whether this object touches any trail recorded in an occupancy grid.
+	 * Equivalent to testing every committed trail segment in the arena, but costs
+	 * a constant number of cell lookups regardless of trail length.
+	 * 
+	 * @param grid
+	 *            The arena occupancy grid to test against.
+	 * @return NONE if no trail is within reach, otherwise UP.
+	 */
+	public Intersection intersects(OccupancyGrid grid) {
+		if (grid.hitsTrail(x, y, width/2, height/2)) {
+			return Intersection.UP;
+		}
+		return Intersection.NONE;
+	}
+	
 	/**
 	 * Handles behavior when the object crosses screen boundaries.
 	 * Abstract method implemented by subclasses to define boundary behavior:
@@ -213,8 +268,19 @@ public abstract class GameObject {
 	 * Gets the trail/path of this game object.
 	 * Used for collision detection with trails.
 	 * 
-	 * @return ArrayList of Shape objects representing the object's path
+	 * @return List of Shape objects representing the object's path
 	 */
-	public abstract ArrayList<Shape> getPath();
+	public abstract List<Shape> getPath();
+	
+	/**
+	 * Gets the index of this object's committed trail segments, i.e. every
+	 * path segment except the newest one.
+	 * Objects without an index are tested by scanning getPath().
+	 * 
+	 * @return The trail index, or null if this object does not keep one
+	 */
+	public SegmentIndex getTrailIndex() {
+		return null;
+	}
 }
 
@@ -1,11 +1,5 @@
 package com.tron.model.game;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Random;
-
-import com.tron.model.util.Shape;
-
 /**
  * Hard AI Behavior Strategy Implementation
  * 
@@ -48,7 +42,6 @@ public class HardAIBehaviorStrategy extends AIBehaviorStrategy {
 	private static final double HARD_BOOST_PROBABILITY = 0.05;
 	private static final double JUMP_PROBABILITY = 0.25;
 	
-	private final Random rand = new Random();
 	private int time = HARD_DECISION_INTERVAL;
 	
 	/**
@@ -77,7 +70,7 @@ public class HardAIBehaviorStrategy extends AIBehaviorStrategy {
 	 */
 	@Override
 	public boolean shouldBoost() {
-		return rand.nextDouble() < HARD_BOOST_PROBABILITY;
+		return getRandom().nextDouble() < HARD_BOOST_PROBABILITY;
 	}
 	
 	/**
@@ -101,142 +94,96 @@ public class HardAIBehaviorStrategy extends AIBehaviorStrategy {
 	 * 
 	 * Logic flow:
 	 * 1. Check for boost activation
-	 * 2. Collect all trail lines for collision detection
-	 * 3. Scan for obstacles in movement direction (10px lookahead)
-	 * 4. React with jump (20%) or turn (80%)
-	 * 5. Check boundary proximity (10px margin)
-	 * 6. Make random directional choices if clear
+	 * 2. Query trail indexes for obstacles in movement direction (15px lookahead)
+	 * 3. React with jump (25%) or turn (75%)
+	 * 4. Check boundary proximity (15px margin)
+	 * 5. Make random directional choices if clear
 	 */
 	private void reactProximityHard() {
-		int velocity = Math.max(Math.abs(player.velocityX), Math.abs(player.velocityY));
+		int velocity = Math.max(Math.abs(player.getNextVelocityX()), Math.abs(player.getNextVelocityY()));
 		
 		// Enhanced boost activation (2% chance)
 		if (shouldBoost()) {
 			player.startBoost();
 		}
 		
-		// Collect all trails from all players for collision detection
-		ArrayList<Shape> lines = new ArrayList<>();
-		lines.addAll(player.getPath());
-		Collections.reverse(lines);
-		for (Player p : players) {
-			if (p != player) {
-				lines.addAll(p.getPath());
-			}
-		}
-		
 		// Check for obstacles in the path with enhanced lookahead
-		for (int i = lines.size() - 1; i > 0; i--) {
-			Shape l = lines.get(i);
-			int maxX = Math.max(l.getStartX(), l.getEndX());
-			int minX = Math.min(l.getStartX(), l.getEndX());
-			int maxY = Math.max(l.getStartY(), l.getEndY());
-			int minY = Math.min(l.getStartY(), l.getEndY());
-			
-			// Moving right: check for vertical lines ahead
-			if (player.velocityX > 0 && l.isVertical() && player.y >= minY && player.y <= maxY) {
-				if (l.getStartX() - player.x < HARD_LOOKAHEAD_DISTANCE && l.getStartX() - player.x > 0) {
-					handleObstacleDetected(lines, velocity, true);
-					return;
-				}
-			}
-			
-			// Moving left: check for vertical lines ahead
-			if (player.velocityX < 0 && l.isVertical() && player.y >= minY && player.y <= maxY) {
-				if (player.x - l.getStartX() < HARD_LOOKAHEAD_DISTANCE && player.x - l.getStartX() > 0) {
-					handleObstacleDetected(lines, velocity, true);
-					return;
-				}
-			}
-			
-			// Moving down: check for horizontal lines ahead
-			if (player.velocityY > 0 && !l.isVertical() && player.x >= minX && player.x <= maxX) {
-				if (l.getStartY() - player.y < HARD_LOOKAHEAD_DISTANCE && l.getStartY() - player.y > 0) {
-					handleObstacleDetected(lines, velocity, false);
-					return;
-				}
-			}
-			
-			// Moving up: check for horizontal lines ahead
-			if (player.velocityY < 0 && !l.isVertical() && player.x >= minX && player.x <= maxX) {
-				if (player.y - l.getStartY() < HARD_LOOKAHEAD_DISTANCE && player.y - l.getStartY() > 0) {
-					handleObstacleDetected(lines, velocity, false);
-					return;
-				}
-			}
+		if (trailAhead(HARD_LOOKAHEAD_DISTANCE)) {
+			handleObstacleDetected(velocity, player.getNextVelocityX() != 0);
+			return;
 		}
 		
 		// Enhanced boundary detection with larger safety margins
 		// Check if too close to left edge
-		if (player.x < HARD_BOUNDARY_DISTANCE && player.velocityX != 0) {
+		if (player.x < HARD_BOUNDARY_DISTANCE && player.getNextVelocityX() != 0) {
 			if (player.y < 250) {
-				player.velocityY = velocity;
+				player.setNextVelocityY(velocity);
 			} else {
-				player.velocityY = -velocity;
+				player.setNextVelocityY(-velocity);
 			}
-			player.velocityX = 0;
+			player.setNextVelocityX(0);
 			time = HARD_DECISION_INTERVAL;
 			return;
 		}
 		
 		// Check if too close to right edge
-		if (player.rightBound - player.x < HARD_BOUNDARY_DISTANCE && player.velocityX != 0) {
+		if (player.rightBound - player.x < HARD_BOUNDARY_DISTANCE && player.getNextVelocityX() != 0) {
 			if (player.y < 250) {
-				player.velocityY = velocity;
+				player.setNextVelocityY(velocity);
 			} else {
-				player.velocityY = -velocity;
+				player.setNextVelocityY(-velocity);
 			}
-			player.velocityX = 0;
+			player.setNextVelocityX(0);
 			time = HARD_DECISION_INTERVAL;
 			return;
 		}
 		
 		// Check if too close to top edge
-		if (player.y < HARD_BOUNDARY_DISTANCE && player.velocityY != 0) {
+		if (player.y < HARD_BOUNDARY_DISTANCE && player.getNextVelocityY() != 0) {
 			if (player.x < 250) {
-				player.velocityX = velocity;
+				player.setNextVelocityX(velocity);
 			} else {
-				player.velocityX = -velocity;
+				player.setNextVelocityX(-velocity);
 			}
-			player.velocityY = 0;
+			player.setNextVelocityY(0);
 			time = HARD_DECISION_INTERVAL;
 			return;
 		}
 		
 		// Check if too close to bottom edge
-		if (player.bottomBound - player.y < HARD_BOUNDARY_DISTANCE && player.velocityY != 0) {
+		if (player.bottomBound - player.y < HARD_BOUNDARY_DISTANCE && player.getNextVelocityY() != 0) {
 			if (player.x < 250) {
-				player.velocityX = velocity;
+				player.setNextVelocityX(velocity);
 			} else {
-				player.velocityX = -velocity;
+				player.setNextVelocityX(-velocity);
 			}
-			player.velocityY = 0;
+			player.setNextVelocityY(0);
 			time = HARD_DECISION_INTERVAL;
 			return;
 		}
 		
 		// Make random movement decisions with faster interval
 		if (time == 0) {
-			int rando = rand.nextInt(4);
-			if (rando == 0 && player.velocityX != velocity) {
+			int rando = getRandom().nextInt(4);
+			if (rando == 0 && player.getNextVelocityX() != velocity) {
 				if (player.x > HARD_BOUNDARY_DISTANCE) {
-					player.velocityX = -velocity;
-					player.velocityY = 0;
+					player.setNextVelocityX(-velocity);
+					player.setNextVelocityY(0);
 				}
-			} else if (rando == 1 && player.velocityX != -velocity) {
+			} else if (rando == 1 && player.getNextVelocityX() != -velocity) {
 				if (player.rightBound - player.x > HARD_BOUNDARY_DISTANCE) {
-					player.velocityX = velocity;
-					player.velocityY = 0;
+					player.setNextVelocityX(velocity);
+					player.setNextVelocityY(0);
 				}
-			} else if (rando == 2 && player.velocityY != velocity) {
+			} else if (rando == 2 && player.getNextVelocityY() != velocity) {
 				if (player.y > HARD_BOUNDARY_DISTANCE) {
-					player.velocityX = 0;
-					player.velocityY = -velocity;
+					player.setNextVelocityX(0);
+					player.setNextVelocityY(-velocity);
 				}
-			} else if (rando == 3 && player.velocityY != -velocity) {
+			} else if (rando == 3 && player.getNextVelocityY() != -velocity) {
 				if (player.bottomBound - player.y > HARD_BOUNDARY_DISTANCE) {
-					player.velocityX = 0;
-					player.velocityY = velocity;
+					player.setNextVelocityX(0);
+					player.setNextVelocityY(velocity);
 				}
 			}
 			time = HARD_DECISION_INTERVAL;
@@ -250,13 +197,12 @@ public class HardAIBehaviorStrategy extends AIBehaviorStrategy {
 	 * Hard AI enhancement: 25% chance to jump over obstacle,
 	 * 75% chance to turn (using base AI turn logic).
 	 * 
-	 * @param lines all trail lines for space checking
 	 * @param velocity current movement velocity
 	 * @param isHorizontalMovement true if moving horizontally, false if vertically
 	 */
-	private void handleObstacleDetected(ArrayList<Shape> lines, int velocity, boolean isHorizontalMovement) {
+	private void handleObstacleDetected(int velocity, boolean isHorizontalMovement) {
 		// 25% chance to jump, 75% chance to turn
-		if (rand.nextDouble() < JUMP_PROBABILITY) {
+		if (getRandom().nextDouble() < JUMP_PROBABILITY) {
 			// Use jump to avoid obstacle
 			player.jump();
 			time = HARD_DECISION_INTERVAL;
@@ -266,22 +212,22 @@ public class HardAIBehaviorStrategy extends AIBehaviorStrategy {
 		// Turn logic (80% of the time)
 		if (isHorizontalMovement) {
 			// Was moving horizontally, turn vertically
-			boolean shouldTurnDown = checkSpaceBelow(lines);
+			boolean shouldTurnDown = checkSpaceBelow();
 			if (shouldTurnDown) {
-				player.velocityY = velocity;
+				player.setNextVelocityY(velocity);
 			} else {
-				player.velocityY = -velocity;
+				player.setNextVelocityY(-velocity);
 			}
-			player.velocityX = 0;
+			player.setNextVelocityX(0);
 		} else {
 			// Was moving vertically, turn horizontally
-			boolean shouldTurnRight = checkSpaceRight(lines);
+			boolean shouldTurnRight = checkSpaceRight();
 			if (shouldTurnRight) {
-				player.velocityX = velocity;
+				player.setNextVelocityX(velocity);
 			} else {
-				player.velocityX = -velocity;
+				player.setNextVelocityX(-velocity);
 			}
-			player.velocityY = 0;
+			player.setNextVelocityY(0);
 		}
 		time = HARD_DECISION_INTERVAL;
 	}
@@ -289,34 +235,18 @@ public class HardAIBehaviorStrategy extends AIBehaviorStrategy {
 	/**
 	 * Check if there is space below the current position.
 	 * 
-	 * @param lines all trail lines to check against
 	 * @return true if space is clear below, false if obstacle detected
 	 */
-	private boolean checkSpaceBelow(ArrayList<Shape> lines) {
-		for (int j = lines.size() - 1; j > 0; j--) {
-			Shape k = lines.get(j);
-			if (!k.isVertical() && player.y - k.getEndY() < HARD_LOOKAHEAD_DISTANCE && 
-					player.y - k.getEndY() > 0) {
-				return false; // Obstacle below, turn up instead
-			}
-		}
-		return true; // Clear below, safe to turn down
+	private boolean checkSpaceBelow() {
+		return !hasHorizontalTrailAbove(HARD_LOOKAHEAD_DISTANCE);
 	}
 	
 	/**
 	 * Check if there is space to the right of the current position.
 	 * 
-	 * @param lines all trail lines to check against
 	 * @return true if space is clear to the right, false if obstacle detected
 	 */
-	private boolean checkSpaceRight(ArrayList<Shape> lines) {
-		for (int j = lines.size() - 1; j > 0; j--) {
-			Shape k = lines.get(j);
-			if (k.isVertical() && player.x - k.getEndX() < HARD_LOOKAHEAD_DISTANCE && 
-					player.x - k.getEndX() > 0) {
-				return false; // Obstacle to the right, turn left instead
-			}
-		}
-		return true; // Clear to the right, safe to turn right
+	private boolean checkSpaceRight() {
+		return !hasVerticalTrailLeft(HARD_LOOKAHEAD_DISTANCE);
 	}
 }
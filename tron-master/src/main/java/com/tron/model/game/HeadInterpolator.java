@@ -0,0 +1,126 @@
+package com.tron.model.game;
+
+/**
+ * HeadInterpolator - Smooth head positions between fixed ticks
+ *
+ * With a fixed timestep, frames fall between ticks. Drawing the heads at
+ * their last tick position makes them move in visible jumps whenever the
+ * frame rate and the tick rate differ. The interpolator remembers where
+ * every head was before the latest tick, so a frame can draw each head
+ * part way along its last step, at the timestep's alpha.
+ *
+ * Responsibilities:
+ * - capture(): remember the head positions before a tick
+ * - interpolateX()/interpolateY(): position between the remembered and
+ *   the current one
+ * - Snap instead of sliding when a head moved further than a normal step
+ *   (wrap-around, a respawn) or the player in a slot was replaced
+ *
+ * Only heads are interpolated; trails are drawn as they are after the
+ * latest tick.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ * @see FixedTimestep
+ */
+public class HeadInterpolator {
+
+    /** Default distance in pixels above which a head snaps */
+    public static final int DEFAULT_SNAP_DISTANCE = 50;
+
+    private final int snapDistance;
+    private Player[] owners = new Player[0];
+    private int[] previousX = new int[0];
+    private int[] previousY = new int[0];
+
+    /**
+     * Creates an interpolator with the default snap distance.
+     */
+    public HeadInterpolator() {
+        this(DEFAULT_SNAP_DISTANCE);
+    }
+
+    /**
+     * Creates an interpolator.
+     *
+     * @param snapDistance Distance in pixels (per axis) above which a head
+     *                     is drawn at its current position
+     * @throws IllegalArgumentException if snapDistance is negative
+     */
+    public HeadInterpolator(int snapDistance) {
+        if (snapDistance < 0) {
+            throw new IllegalArgumentException("Snap distance cannot be negative");
+        }
+        this.snapDistance = snapDistance;
+    }
+
+    /**
+     * Remembers where every head is. Call right before each tick.
+     *
+     * @param players The players about to move; null entries are allowed
+     */
+    public void capture(Player[] players) {
+        if (owners.length < players.length) {
+            owners = new Player[players.length];
+            previousX = new int[players.length];
+            previousY = new int[players.length];
+        }
+        for (int i = 0; i < players.length; i++) {
+            Player p = players[i];
+            owners[i] = p;
+            if (p != null) {
+                previousX[i] = p.x;
+                previousY[i] = p.y;
+            }
+        }
+        for (int i = players.length; i < owners.length; i++) {
+            owners[i] = null;
+        }
+    }
+
+    /**
+     * Gets the X position to draw a head at.
+     *
+     * @param slot The player's index in the array given to capture()
+     * @param player The player
+     * @param alpha Fraction of the latest step to show, in [0, 1]
+     * @return Interpolated X position
+     */
+    public int interpolateX(int slot, Player player, double alpha) {
+        if (!tracked(slot, player)) {
+            return player.x;
+        }
+        return lerp(previousX[slot], player.x, alpha);
+    }
+
+    /**
+     * Gets the Y position to draw a head at.
+     *
+     * @param slot The player's index in the array given to capture()
+     * @param player The player
+     * @param alpha Fraction of the latest step to show, in [0, 1]
+     * @return Interpolated Y position
+     */
+    public int interpolateY(int slot, Player player, double alpha) {
+        if (!tracked(slot, player)) {
+            return player.y;
+        }
+        return lerp(previousY[slot], player.y, alpha);
+    }
+
+    /**
+     * A slot can be interpolated if it still holds the captured player and
+     * the head moved no further than a normal step.
+     */
+    private boolean tracked(int slot, Player player) {
+        return slot >= 0 && slot < owners.length && owners[slot] == player
+                && Math.abs(player.x - previousX[slot]) <= snapDistance
+                && Math.abs(player.y - previousY[slot]) <= snapDistance;
+    }
+
+    private static int lerp(int from, int to, double alpha) {
+        double t = Math.max(0, Math.min(1, alpha));
+        return (int) Math.round(from + (to - from) * t);
+    }
+}
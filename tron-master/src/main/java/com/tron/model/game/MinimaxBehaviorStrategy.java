@@ -0,0 +1,675 @@
+package com.tron.model.game;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import com.tron.model.util.Direction;
+
+/**
+ * Minimax Duel AI Behavior Strategy
+ *
+ * Searches the game tree for one-on-one matches (a single live opponent)
+ * with alpha-beta pruning and plays the move that holds up best against the
+ * opponent's best replies.
+ *
+ * Search model:
+ * The arena is the world view's coarse cell grid, copied once per decision
+ * into a compact occupancy array. Free cells next to a trail count as
+ * occupied (too narrow to pass), except right around the heads. Both heads step one cell per round; the
+ * bot moves first and the opponent replies knowing that move, which makes
+ * the search slightly pessimistic. A player with no free neighbour cell
+ * loses, and both heads entering the same cell is a draw. Leaves are scored
+ * by territory: a two-source breadth-first search, cut off at a radius,
+ * counts the cells each head reaches first.
+ *
+ * Search control:
+ * - Iterative deepening, one round (two plies) at a time, until the time
+ *   budget runs out or the deciding thread is interrupted. In a
+ *   deterministic (seeded) match a node budget replaces the time budget,
+ *   so the result does not depend on machine speed, and the clock only
+ *   enforces a generous safety cap. The best move of
+ *   the last completed depth is kept, and an unfinished depth only replaces
+ *   it with a move searched in full
+ * - Transposition table indexed by Zobrist hash (occupied cells, both heads,
+ *   side to move); entries are stamped per decision, so the table never
+ *   needs clearing when the arena changes
+ * - Move ordering: the table's best move first, and at the root the best
+ *   move of the previous depth
+ *
+ * Root moves are first scored by the flood fill's territory count. Moves
+ * blocked within the pixel safety margin, or leading into a region less
+ * than half the size of the best one, are never preferred over the rest,
+ * whatever the grid search says.
+ *
+ * With more than one live opponent, or one too far away to engage (more
+ * than twice the evaluation radius), the strategy delegates to
+ * {@link FloodFillBehaviorStrategy}; without a world view it falls back to
+ * the base proximity rules.
+ *
+ * Metrics: completed depth, node count, nodes per second and transposition
+ * hits of the last decision, for tuning the budget.
+ *
+ * Design Patterns:
+ * - Strategy Pattern: Implements PlayerBehaviorStrategy interface
+ * - Inheritance: Extends AIBehaviorStrategy for the fallback rules
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ * @see FloodFillBehaviorStrategy
+ * @see WorldView
+ */
+public class MinimaxBehaviorStrategy extends AIBehaviorStrategy {
+
+	/** Default time budget per decision: 1 ms */
+	public static final long DEFAULT_BUDGET_NANOS = 1_000_000L;
+
+	/** Default node budget per decision in a deterministic match: about 1 ms of search */
+	public static final long DEFAULT_NODE_BUDGET = 1024;
+
+	/** Default territory evaluation radius in cells */
+	public static final int DEFAULT_EVAL_RADIUS = 20;
+
+	/** Deepest search, in plies */
+	public static final int MAX_DEPTH = 64;
+
+	private static final int TABLE_BITS = 16;
+	private static final int TABLE_MASK = (1 << TABLE_BITS) - 1;
+	private static final int CLOCK_CHECK_INTERVAL = 64;
+	private static final long ZOBRIST_SEED = 0x5EEDL;
+
+	private static final int WIN = 1_000_000;
+	private static final int INFINITY = 4 * WIN;
+
+	private static final byte EXACT = 0;
+	private static final byte LOWER_BOUND = 1;
+	private static final byte UPPER_BOUND = 2;
+
+	private static final Direction[] DIRECTIONS = Direction.values();
+	private static final int ME = 0;
+	private static final int OPPONENT = 1;
+
+	private final FloodFillBehaviorStrategy fallback;
+	private long budgetNanos;
+	private long nodeBudget = DEFAULT_NODE_BUDGET;
+	private int evalRadius = DEFAULT_EVAL_RADIUS;
+
+	// Search grid, rebuilt from the world view each decision
+	private int columns;
+	private int rows;
+	private boolean[] occupied = new boolean[0];
+	private final int[] headCell = new int[2];
+	private long hash;
+
+	// Zobrist keys, regenerated only when the grid size changes
+	private long[] occupiedKeys = new long[0];
+	private final long[][] headKeys = new long[2][0];
+	private long sideKey;
+
+	// Transposition table
+	private final long[] tableKeys = new long[TABLE_MASK + 1];
+	private final int[] tableScores = new int[TABLE_MASK + 1];
+	private final int[] tableStamps = new int[TABLE_MASK + 1];
+	private final byte[] tableDepths = new byte[TABLE_MASK + 1];
+	private final byte[] tableFlags = new byte[TABLE_MASK + 1];
+	private final byte[] tableMoves = new byte[TABLE_MASK + 1];
+	private int decisionStamp = 0;
+
+	// Territory evaluation scratch
+	private int[] evalQueue = new int[0];
+	private int[] evalDistance = new int[0];
+	private int[] evalSeen = new int[0];
+	private byte[] evalOwner = new byte[0];
+	private final int[] evalCounts = new int[3];
+	private int evalStamp = 0;
+
+	// Search control
+	private long deadline;
+	private long nodeLimit;
+	private boolean aborted;
+	private long nodes;
+	private int tableHits;
+
+	// Decision metrics
+	private int lastDepth = 0;
+	private long lastNodes = 0;
+	private long lastDecisionNanos = 0;
+	private int lastTableHits = 0;
+
+	/**
+	 * Constructs a MinimaxBehaviorStrategy with the default time budget.
+	 *
+	 * @param player the AI player this strategy controls
+	 */
+	public MinimaxBehaviorStrategy(PlayerAI player) {
+		this(player, DEFAULT_BUDGET_NANOS);
+	}
+
+	/**
+	 * Constructs a MinimaxBehaviorStrategy with a given time budget.
+	 *
+	 * @param player the AI player this strategy controls
+	 * @param budgetNanos time budget per decision in nanoseconds
+	 */
+	public MinimaxBehaviorStrategy(PlayerAI player, long budgetNanos) {
+		super(player);
+		this.fallback = new FloodFillBehaviorStrategy(player);
+		setBudgetNanos(budgetNanos);
+	}
+
+	@Override
+	public void addPlayers(Player[] players) {
+		super.addPlayers(players);
+		fallback.addPlayers(players);
+	}
+
+	@Override
+	public void reset() {
+		super.reset();
+		fallback.reset();
+	}
+
+	@Override
+	public void setRandom(SplittableRandom random) {
+		super.setRandom(random);
+		fallback.setRandom(random);
+	}
+
+	@Override
+	public void setDeterministic(boolean deterministic) {
+		super.setDeterministic(deterministic);
+		fallback.setDeterministic(deterministic);
+	}
+
+	/**
+	 * Searches for the best move against the single live opponent.
+	 */
+	@Override
+	public void decideMoveDirection() {
+		WorldView world = player.getWorldView();
+		Direction heading = Direction.fromVelocity(player.getNextVelocityX(), player.getNextVelocityY());
+		if (world == null || heading == null) {
+			super.decideMoveDirection();
+			return;
+		}
+		int opponent = findOpponent(world);
+		if (opponent < 0 || !inEngagementRange(world, opponent)) {
+			fallback.decideMoveDirection();
+			return;
+		}
+
+		long start = System.nanoTime();
+		deadline = start + (isDeterministic() ? DETERMINISTIC_SAFETY_CAP_NANOS : budgetNanos);
+		nodeLimit = isDeterministic() ? nodeBudget : Long.MAX_VALUE;
+		aborted = false;
+		nodes = 0;
+		tableHits = 0;
+		decisionStamp++;
+		loadGrid(world, opponent);
+
+		Direction best = searchRoot(world, heading);
+		if (best != heading) {
+			int speed = Math.max(Math.abs(player.getNextVelocityX()), Math.abs(player.getNextVelocityY()));
+			player.setNextVelocityX(best.getDx() * speed);
+			player.setNextVelocityY(best.getDy() * speed);
+		}
+
+		lastDecisionNanos = System.nanoTime() - start;
+		lastNodes = nodes;
+		lastTableHits = tableHits;
+	}
+
+	/**
+	 * Duel AI never boosts; the search assumes equal speeds.
+	 *
+	 * @return false
+	 */
+	@Override
+	public boolean shouldBoost() {
+		return false;
+	}
+
+	/**
+	 * Get the slot of the only other live player
+	 * @return opponent slot, or -1 unless exactly one opponent is alive
+	 */
+	private int findOpponent(WorldView world) {
+		int self = player.getWorldSlot();
+		int opponent = -1;
+		for (int i = 0; i < world.getPlayerCount(); i++) {
+			if (i != self && world.isAlive(i)) {
+				if (opponent >= 0) {
+					return -1;
+				}
+				opponent = i;
+			}
+		}
+		return opponent;
+	}
+
+	/**
+	 * Check if the opponent is close enough for the search to matter: within
+	 * twice the evaluation radius (in cells, Manhattan distance). Further
+	 * apart, the territories cannot meet within the horizon and the duel is
+	 * a survival problem, which the flood fill handles better.
+	 */
+	private boolean inEngagementRange(WorldView world, int opponent) {
+		int dc = world.columnOf(player.x) - world.columnOf(world.getHeadX(opponent));
+		int dr = world.rowOf(player.y) - world.rowOf(world.getHeadY(opponent));
+		return Math.abs(dc) + Math.abs(dr) <= 2 * evalRadius;
+	}
+
+	/**
+	 * Iterative deepening over the three root moves. Blocked moves and moves
+	 * into pockets score below any searched move.
+	 */
+	private Direction searchRoot(WorldView world, Direction heading) {
+		Direction[] moves = { heading, heading.left(), heading.right() };
+		int[] unsafeScores = new int[moves.length];
+		int[] territory = new int[moves.length];
+		int bestTerritory = Integer.MIN_VALUE;
+		long guardDeadline = isDeterministic()
+				? deadline : System.nanoTime() + budgetNanos / 4;
+		for (int i = 0; i < moves.length; i++) {
+			territory[i] = fallback.scoreHeading(world, moves[i], guardDeadline);
+			bestTerritory = Math.max(bestTerritory, territory[i]);
+		}
+		if (bestTerritory < 0) {
+			// Nothing is safe; nothing to search
+			return moves[indexOfMax(territory)];
+		}
+		Direction best = null;
+		for (int i = 0; i < moves.length; i++) {
+			if (territory[i] < 0) {
+				unsafeScores[i] = -2 * WIN + territory[i];
+			} else if (2 * territory[i] < bestTerritory) {
+				unsafeScores[i] = -WIN - WIN / 2 + territory[i]; // Pocket
+			} else if (best == null) {
+				best = moves[i];
+			}
+		}
+
+		lastDepth = 0;
+		for (int depth = 2; depth <= MAX_DEPTH; depth += 2) {
+			Direction iterationBest = null;
+			int alpha = -INFINITY;
+			for (int k = -1; k < moves.length; k++) {
+				// Previous best first, then the rest in order
+				Direction move = k < 0 ? best : moves[k];
+				if (k >= 0 && move == best) {
+					continue;
+				}
+				int index = indexOf(moves, move);
+				int score = unsafeScores[index] != 0 ? unsafeScores[index] : searchMove(move, depth, alpha);
+				if (aborted) {
+					break;
+				}
+				if (score > alpha) {
+					alpha = score;
+					iterationBest = move;
+				}
+			}
+			if (iterationBest != null) {
+				best = iterationBest;
+			}
+			if (aborted) {
+				break;
+			}
+			lastDepth = depth;
+			if (Math.abs(alpha) >= WIN - MAX_DEPTH) {
+				break; // Result is forced; deeper search cannot change it
+			}
+		}
+		return best;
+	}
+
+	private int searchMove(Direction move, int depth, int alpha) {
+		int from = headCell[ME];
+		int target = neighbour(from, move);
+		if (target < 0 || occupied[target]) {
+			return -WIN + 1;
+		}
+		makeMove(ME, target);
+		int score = -search(depth - 1, 1, -INFINITY, -alpha);
+		unmakeMove(ME, from, target);
+		return score;
+	}
+
+	/**
+	 * Negamax alpha-beta search. Even plies are the bot's moves, odd plies
+	 * the opponent's; scores are from the side to move's point of view.
+	 */
+	private int search(int depth, int ply, int alpha, int beta) {
+		if (++nodes > nodeLimit || (nodes & (CLOCK_CHECK_INTERVAL - 1)) == 0
+				&& (System.nanoTime() > deadline || Thread.currentThread().isInterrupted())) {
+			aborted = true;
+		}
+		if (aborted) {
+			return 0;
+		}
+
+		int slot = (int) hash & TABLE_MASK;
+		int tableMove = -1;
+		if (tableStamps[slot] == decisionStamp && tableKeys[slot] == hash) {
+			tableMove = tableMoves[slot];
+			if (tableDepths[slot] >= depth) {
+				int stored = tableScores[slot];
+				byte flag = tableFlags[slot];
+				if (flag == EXACT
+						|| (flag == LOWER_BOUND && stored >= beta)
+						|| (flag == UPPER_BOUND && stored <= alpha)) {
+					tableHits++;
+					return stored;
+				}
+			}
+		}
+
+		int side = ply & 1;
+		if (depth == 0) {
+			return evaluate(side);
+		}
+
+		int alphaStart = alpha;
+		int from = headCell[side];
+		int best = -INFINITY;
+		int bestMove = -1;
+		for (int k = -1; k < DIRECTIONS.length; k++) {
+			int move = k < 0 ? tableMove : k;
+			if (move < 0 || (k >= 0 && move == tableMove)) {
+				continue;
+			}
+			int target = neighbour(from, DIRECTIONS[move]);
+			if (target < 0) {
+				continue;
+			}
+			int score;
+			if (occupied[target]) {
+				if (side != OPPONENT || target != headCell[ME]) {
+					continue;
+				}
+				score = 0; // Both heads enter the same cell: draw
+			} else {
+				makeMove(side, target);
+				score = -search(depth - 1, ply + 1, -beta, -alpha);
+				unmakeMove(side, from, target);
+				if (aborted) {
+					return 0;
+				}
+			}
+			if (score > best) {
+				best = score;
+				bestMove = move;
+			}
+			if (score > alpha) {
+				alpha = score;
+			}
+			if (alpha >= beta) {
+				break;
+			}
+		}
+		if (bestMove < 0) {
+			return -WIN + ply; // Boxed in; losing later is better
+		}
+
+		tableKeys[slot] = hash;
+		tableStamps[slot] = decisionStamp;
+		tableScores[slot] = best;
+		tableDepths[slot] = (byte) depth;
+		tableMoves[slot] = (byte) bestMove;
+		tableFlags[slot] = best <= alphaStart ? UPPER_BOUND : best >= beta ? LOWER_BOUND : EXACT;
+		return best;
+	}
+
+	/**
+	 * Territory difference from the side to move's point of view: cells the
+	 * side reaches strictly first, minus cells the other head reaches first,
+	 * within the evaluation radius.
+	 */
+	private int evaluate(int side) {
+		int stamp = ++evalStamp;
+		if (stamp == Integer.MAX_VALUE) {
+			Arrays.fill(evalSeen, 0);
+			evalStamp = stamp = 1;
+		}
+		int head = 0;
+		int tail = 0;
+		for (int p = 0; p < 2; p++) {
+			int cell = headCell[p];
+			evalSeen[cell] = stamp;
+			evalDistance[cell] = 0;
+			evalOwner[cell] = (byte) p;
+			evalQueue[tail++] = cell;
+		}
+		int[] count = evalCounts;
+		Arrays.fill(count, 0);
+		while (head < tail) {
+			int cell = evalQueue[head++];
+			int distance = evalDistance[cell];
+			byte owner = evalOwner[cell];
+			if (distance > 0) {
+				count[owner]++;
+			}
+			if (distance >= evalRadius) {
+				continue;
+			}
+			for (Direction d : DIRECTIONS) {
+				int next = neighbour(cell, d);
+				if (next < 0 || occupied[next]) {
+					continue;
+				}
+				if (evalSeen[next] != stamp) {
+					evalSeen[next] = stamp;
+					evalDistance[next] = distance + 1;
+					evalOwner[next] = owner;
+					evalQueue[tail++] = next;
+				} else if (evalDistance[next] == distance + 1 && evalOwner[next] != owner) {
+					evalOwner[next] = 2; // Reached by both at once: nobody's
+				}
+			}
+		}
+		return count[side] - count[1 - side];
+	}
+
+	private int neighbour(int cell, Direction direction) {
+		int c = cell % columns + direction.getDx();
+		int r = cell / columns + direction.getDy();
+		if (c < 0 || c >= columns || r < 0 || r >= rows) {
+			return -1;
+		}
+		return r * columns + c;
+	}
+
+	private void makeMove(int side, int target) {
+		occupied[target] = true;
+		hash ^= occupiedKeys[target] ^ headKeys[side][headCell[side]] ^ headKeys[side][target] ^ sideKey;
+		headCell[side] = target;
+	}
+
+	private void unmakeMove(int side, int from, int target) {
+		occupied[target] = false;
+		hash ^= occupiedKeys[target] ^ headKeys[side][target] ^ headKeys[side][from] ^ sideKey;
+		headCell[side] = from;
+	}
+
+	/**
+	 * Copies the world view's cell grid into the search grid and places both
+	 * heads. Scratch arrays and Zobrist keys are reused while the size holds.
+	 */
+	private void loadGrid(WorldView world, int opponent) {
+		columns = world.getColumns();
+		rows = world.getRows();
+		int cells = columns * rows;
+		if (occupied.length != cells) {
+			occupied = new boolean[cells];
+			evalQueue = new int[cells];
+			evalDistance = new int[cells];
+			evalSeen = new int[cells];
+			evalOwner = new byte[cells];
+			evalStamp = 0;
+			SplittableRandom random = new SplittableRandom(ZOBRIST_SEED);
+			occupiedKeys = random.longs(cells).toArray();
+			headKeys[ME] = random.longs(cells).toArray();
+			headKeys[OPPONENT] = random.longs(cells).toArray();
+			sideKey = random.nextLong();
+		}
+		headCell[ME] = clampedCell(world, player.x, player.y);
+		headCell[OPPONENT] = clampedCell(world, world.getHeadX(opponent), world.getHeadY(opponent));
+		for (int r = 0, cell = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++, cell++) {
+				occupied[cell] = world.isCellBlocked(c, r)
+						|| (!nearHead(c, r) && touchesTrail(world, c, r));
+			}
+		}
+		occupied[headCell[ME]] = true;
+		occupied[headCell[OPPONENT]] = true;
+		hash = headKeys[ME][headCell[ME]] ^ headKeys[OPPONENT][headCell[OPPONENT]];
+	}
+
+	/**
+	 * A free cell next to a trail is too narrow to drive through safely; the
+	 * search treats it as a wall, like the flood fill does.
+	 */
+	private static boolean touchesTrail(WorldView world, int column, int row) {
+		return world.isCellBlocked(column - 1, row)
+				|| world.isCellBlocked(column + 1, row)
+				|| world.isCellBlocked(column, row - 1)
+				|| world.isCellBlocked(column, row + 1);
+	}
+
+	/**
+	 * Cells around the heads stay open even next to a trail, or a head could
+	 * never leave its own trail behind.
+	 */
+	private boolean nearHead(int column, int row) {
+		for (int side = ME; side <= OPPONENT; side++) {
+			int c = headCell[side] % columns;
+			int r = headCell[side] / columns;
+			if (Math.abs(column - c) <= 1 && Math.abs(row - r) <= 1) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int clampedCell(WorldView world, int x, int y) {
+		int c = Math.min(Math.max(world.columnOf(x), 0), columns - 1);
+		int r = Math.min(Math.max(world.rowOf(y), 0), rows - 1);
+		return r * columns + c;
+	}
+
+	private static int indexOfMax(int[] values) {
+		int best = 0;
+		for (int i = 1; i < values.length; i++) {
+			if (values[i] > values[best]) {
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	private static int indexOf(Direction[] moves, Direction move) {
+		for (int i = 0; i < moves.length; i++) {
+			if (moves[i] == move) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Set the time budget per decision
+	 *
+	 * @param budgetNanos budget in nanoseconds
+	 * @throws IllegalArgumentException if the budget is not positive
+	 */
+	public void setBudgetNanos(long budgetNanos) {
+		if (budgetNanos <= 0) {
+			throw new IllegalArgumentException("Budget must be positive");
+		}
+		this.budgetNanos = budgetNanos;
+		fallback.setBudgetNanos(budgetNanos);
+	}
+
+	/**
+	 * Get the time budget per decision
+	 * @return budget in nanoseconds
+	 */
+	public long getBudgetNanos() {
+		return budgetNanos;
+	}
+
+	/**
+	 * Set the node budget per decision, used instead of the time budget in
+	 * a deterministic match
+	 *
+	 * @param nodeBudget budget in search nodes
+	 * @throws IllegalArgumentException if the budget is not positive
+	 */
+	public void setNodeBudget(long nodeBudget) {
+		if (nodeBudget <= 0) {
+			throw new IllegalArgumentException("Node budget must be positive");
+		}
+		this.nodeBudget = nodeBudget;
+	}
+
+	/**
+	 * Get the node budget per decision in a deterministic match
+	 * @return budget in search nodes
+	 */
+	public long getNodeBudget() {
+		return nodeBudget;
+	}
+
+	/**
+	 * Set how far (in cells) the territory evaluation looks from each head
+	 *
+	 * @param evalRadius radius in cells
+	 * @throws IllegalArgumentException if the radius is not positive
+	 */
+	public void setEvalRadius(int evalRadius) {
+		if (evalRadius <= 0) {
+			throw new IllegalArgumentException("Evaluation radius must be positive");
+		}
+		this.evalRadius = evalRadius;
+	}
+
+	/**
+	 * Get the depth of the last completed search iteration
+	 * @return depth in plies (0 if no iteration completed)
+	 */
+	public int getLastDepth() {
+		return lastDepth;
+	}
+
+	/**
+	 * Get the number of nodes searched in the last decision
+	 * @return node count
+	 */
+	public long getLastNodes() {
+		return lastNodes;
+	}
+
+	/**
+	 * Get the search speed of the last decision
+	 * @return nodes per second
+	 */
+	public long getNodesPerSecond() {
+		return lastDecisionNanos == 0 ? 0 : lastNodes * 1_000_000_000L / lastDecisionNanos;
+	}
+
+	/**
+	 * Get the number of transposition table cutoffs in the last decision
+	 * @return table hit count
+	 */
+	public int getLastTableHits() {
+		return lastTableHits;
+	}
+
+	/**
+	 * Get the duration of the last decision
+	 * @return nanoseconds spent in the last decision
+	 */
+	public long getLastDecisionNanos() {
+		return lastDecisionNanos;
+	}
+}
@@ -0,0 +1,662 @@
+package com.tron.model.game;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.tron.model.util.Direction;
+
+/**
+ * Monte Carlo Tree Search AI Behavior Strategy
+ *
+ * An anytime search that keeps running on background worker threads between
+ * ticks. Each decision commits the move the workers have explored most and
+ * hands them the predicted next position to search until the next decision.
+ *
+ * Search model:
+ * The tree covers the bot's own moves (one cell of the world view's grid per
+ * step); opponents move at random, so each tree node averages over their
+ * replies (open-loop search). Playouts run up to a fixed horizon and score
+ * 1 for outliving every opponent, 0.75 to 1 for surviving the horizon
+ * (more for each opponent that died) and 0 to 0.5 for dying (more for dying
+ * later). Children are selected by UCT; the tree grows one node set per
+ * playout until the node pool is full.
+ *
+ * Parallelism (root parallel):
+ * Every worker owns a private tree, grid copy and random generator, so
+ * workers never share mutable state and need no locks. At decision time the
+ * root visit counts of all workers searching the current position are
+ * summed. Workers publish those counts through atomic arrays and tag them
+ * with the position's generation; the decision re-reads the tag after the
+ * counts (seqlock style) and skips a worker that switched positions midway.
+ *
+ * Threading:
+ * Workers run in time slices on a shared pool of daemon threads (one per
+ * core, minus one for the UI thread) and resubmit themselves, so several
+ * MCTS bots share the cores fairly. The deciding thread only reads atomics
+ * and publishes an immutable snapshot; it never waits for a worker. Workers
+ * go idle when no decision has been made for half a second (game paused or
+ * over), after {@link #stop()}, or once a position has had enough playouts,
+ * and the next decision restarts them.
+ *
+ * Because the number of playouts behind a decision depends on timing, this
+ * strategy is the one part of the simulation a match seed does not make
+ * reproducible; the workers' generators are seeded independently.
+ *
+ * Allocation:
+ * Playouts are allocation-free: the grid is a packed bitset restored from an
+ * undo list of the cells a playout filled, and the tree lives in primitive
+ * arrays reused across positions.
+ *
+ * Until the workers have statistics for the current position, and when no
+ * explored move is safe at pixel level, the strategy decides with
+ * {@link FloodFillBehaviorStrategy}. Without a world view it falls back to
+ * the base proximity rules.
+ *
+ * Design Patterns:
+ * - Strategy Pattern: Implements PlayerBehaviorStrategy interface
+ * - Inheritance: Extends AIBehaviorStrategy for the fallback rules
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ * @see FloodFillBehaviorStrategy
+ * @see WorldView
+ */
+public class MonteCarloBehaviorStrategy extends AIBehaviorStrategy {
+
+	/** Default playout length in grid steps */
+	public static final int DEFAULT_HORIZON = 48;
+
+	/** Tree nodes per worker */
+	public static final int NODE_CAPACITY = 1 << 14;
+
+	/** Playouts per position after which a worker waits for the next decision */
+	public static final int MAX_PLAYOUTS_PER_POSITION = 200_000;
+
+	private static final long SLICE_NANOS = 1_000_000L;
+	private static final long IDLE_TIMEOUT_NANOS = 500_000_000L;
+	private static final int PUBLISH_INTERVAL = 32;
+	private static final double EXPLORATION = 0.7;
+	private static final Direction[] DIRECTIONS = Direction.values();
+
+	private final FloodFillBehaviorStrategy fallback;
+	private final Worker[] workers;
+	private final int horizon;
+
+	// Shared with workers
+	private volatile Snapshot current;
+	private volatile boolean active;
+	private volatile long lastDecisionTime;
+
+	// Deciding thread only
+	private long generation = 0;
+	private final long[] mergedVisits = new long[DIRECTIONS.length];
+	private final int[] workerVisits = new int[DIRECTIONS.length];
+	private long metricPlayouts = 0;
+	private long metricTime = 0;
+	private long playoutsPerSecond = 0;
+	private long lastRootVisits = 0;
+
+	/**
+	 * Constructs a MonteCarloBehaviorStrategy with one worker per pool thread.
+	 *
+	 * @param player the AI player this strategy controls
+	 */
+	public MonteCarloBehaviorStrategy(PlayerAI player) {
+		this(player, WorkerPool.INSTANCE.getParallelism(), DEFAULT_HORIZON);
+	}
+
+	/**
+	 * Constructs a MonteCarloBehaviorStrategy.
+	 *
+	 * @param player the AI player this strategy controls
+	 * @param workerCount number of root-parallel search trees
+	 * @param horizon playout length in grid steps
+	 * @throws IllegalArgumentException if workerCount or horizon is not positive
+	 */
+	public MonteCarloBehaviorStrategy(PlayerAI player, int workerCount, int horizon) {
+		super(player);
+		if (workerCount <= 0 || horizon <= 0) {
+			throw new IllegalArgumentException("Worker count and horizon must be positive");
+		}
+		this.fallback = new FloodFillBehaviorStrategy(player);
+		this.horizon = horizon;
+		this.workers = new Worker[workerCount];
+		SplittableRandom seeds = new SplittableRandom();
+		for (int i = 0; i < workerCount; i++) {
+			workers[i] = new Worker(seeds.split());
+		}
+	}
+
+	@Override
+	public void addPlayers(Player[] players) {
+		super.addPlayers(players);
+		fallback.addPlayers(players);
+	}
+
+	/**
+	 * Stops the background search and forgets the current position.
+	 */
+	@Override
+	public void reset() {
+		super.reset();
+		fallback.reset();
+		stop();
+		current = null;
+	}
+
+	/**
+	 * Commits the most explored safe move and publishes the predicted next
+	 * position to the workers. Never waits for the workers.
+	 */
+	@Override
+	public void decideMoveDirection() {
+		WorldView world = player.getWorldView();
+		Direction heading = Direction.fromVelocity(player.getNextVelocityX(), player.getNextVelocityY());
+		if (world == null || heading == null) {
+			super.decideMoveDirection();
+			return;
+		}
+		long now = System.nanoTime();
+		lastDecisionTime = now;
+		active = true;
+
+		int speed = Math.max(Math.abs(player.getNextVelocityX()), Math.abs(player.getNextVelocityY()));
+		Direction best = chooseFromStatistics(world, heading, speed);
+		if (best == null) {
+			lastRootVisits = 0;
+			fallback.decideMoveDirection();
+			best = Direction.fromVelocity(player.getNextVelocityX(), player.getNextVelocityY());
+		} else if (best != heading) {
+			player.setNextVelocityX(best.getDx() * speed);
+			player.setNextVelocityY(best.getDy() * speed);
+		}
+
+		publish(world, best, speed);
+		startWorkers();
+		updateThroughput(now);
+	}
+
+	/**
+	 * MCTS AI never boosts; playouts assume equal speeds.
+	 *
+	 * @return false
+	 */
+	@Override
+	public boolean shouldBoost() {
+		return false;
+	}
+
+	/**
+	 * Stops the background search at the end of the workers' current time
+	 * slices. The next decision restarts it.
+	 */
+	public void stop() {
+		active = false;
+	}
+
+	/**
+	 * Picks the pixel-safe candidate with the most merged root visits.
+	 *
+	 * @return the move, or null if no safe move has statistics
+	 */
+	private Direction chooseFromStatistics(WorldView world, Direction heading, int speed) {
+		Snapshot snapshot = current;
+		if (snapshot == null || snapshot.columns != world.getColumns()
+				|| snapshot.rows != world.getRows()) {
+			return null;
+		}
+		Arrays.fill(mergedVisits, 0);
+		for (Worker worker : workers) {
+			worker.addRootVisits(snapshot.generation, mergedVisits, workerVisits);
+		}
+		lastRootVisits = 0;
+		for (long visits : mergedVisits) {
+			lastRootVisits += visits;
+		}
+
+		int margin = speed + Player.WIDTH;
+		Direction best = null;
+		long bestVisits = 0;
+		for (int k = 0; k < 3; k++) {
+			Direction candidate = k == 0 ? heading : k == 1 ? heading.left() : heading.right();
+			long visits = mergedVisits[candidate.ordinal()];
+			if (visits > bestVisits
+					&& world.freeSpaceAlong(player.x, player.y, candidate, margin) >= margin) {
+				best = candidate;
+				bestVisits = visits;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Publishes the position expected at the next decision: the bot one step
+	 * along its new heading, live opponents one step along theirs.
+	 */
+	private void publish(WorldView world, Direction heading, int speed) {
+		int columns = world.getColumns();
+		int rows = world.getRows();
+		long[] cells = new long[(columns * rows + 63) >>> 6];
+		for (int r = 0, cell = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++, cell++) {
+				if (world.isCellBlocked(c, r)) {
+					cells[cell >>> 6] |= 1L << cell;
+				}
+			}
+		}
+
+		int self = player.getWorldSlot();
+		int count = 1;
+		for (int i = 0; i < world.getPlayerCount(); i++) {
+			if (i != self && world.isAlive(i)) {
+				count++;
+			}
+		}
+		int[] heads = new int[count];
+		heads[0] = cellOf(world, player.x + heading.getDx() * speed, player.y + heading.getDy() * speed);
+		for (int i = 0, h = 1; i < world.getPlayerCount(); i++) {
+			if (i != self && world.isAlive(i)) {
+				heads[h++] = cellOf(world, world.getHeadX(i) + world.getVelocityX(i),
+						world.getHeadY(i) + world.getVelocityY(i));
+			}
+		}
+		for (int head : heads) {
+			cells[head >>> 6] |= 1L << head;
+		}
+		current = new Snapshot(++generation, columns, rows, cells, heads);
+	}
+
+	private static int cellOf(WorldView world, int x, int y) {
+		int c = Math.min(Math.max(world.columnOf(x), 0), world.getColumns() - 1);
+		int r = Math.min(Math.max(world.rowOf(y), 0), world.getRows() - 1);
+		return r * world.getColumns() + c;
+	}
+
+	private void startWorkers() {
+		for (Worker worker : workers) {
+			if (worker.scheduled.compareAndSet(false, true)) {
+				WorkerPool.INSTANCE.execute(worker);
+			}
+		}
+	}
+
+	private void updateThroughput(long now) {
+		long total = getTotalPlayouts();
+		if (metricTime != 0 && now > metricTime) {
+			playoutsPerSecond = (total - metricPlayouts) * 1_000_000_000L / (now - metricTime);
+		}
+		metricPlayouts = total;
+		metricTime = now;
+	}
+
+	/**
+	 * Get the number of root-parallel search trees
+	 * @return worker count
+	 */
+	public int getWorkerCount() {
+		return workers.length;
+	}
+
+	/**
+	 * Get the number of playouts run by all workers so far
+	 * @return playout count
+	 */
+	public long getTotalPlayouts() {
+		long total = 0;
+		for (Worker worker : workers) {
+			total += worker.playouts;
+		}
+		return total;
+	}
+
+	/**
+	 * Get the search throughput between the last two decisions
+	 * @return playouts per second over all workers
+	 */
+	public long getPlayoutsPerSecond() {
+		return playoutsPerSecond;
+	}
+
+	/**
+	 * Get the root visits the last decision was based on
+	 * @return merged root visit count (0 if the fallback decided)
+	 */
+	public long getLastRootVisits() {
+		return lastRootVisits;
+	}
+
+	/**
+	 * Immutable search position: packed cell grid plus head cells, with the
+	 * bot's head first.
+	 */
+	private static final class Snapshot {
+		final long generation;
+		final int columns;
+		final int rows;
+		final long[] cells;
+		final int[] heads;
+
+		Snapshot(long generation, int columns, int rows, long[] cells, int[] heads) {
+			this.generation = generation;
+			this.columns = columns;
+			this.rows = rows;
+			this.cells = cells;
+			this.heads = heads;
+		}
+	}
+
+	/**
+	 * One root-parallel search: a private tree over the bot's moves, searched
+	 * in time slices on the shared pool.
+	 */
+	private final class Worker implements Runnable {
+		final AtomicBoolean scheduled = new AtomicBoolean();
+		final AtomicIntegerArray rootVisits = new AtomicIntegerArray(DIRECTIONS.length);
+		volatile long positionGeneration = -1;
+		volatile long playouts = 0;
+
+		private final SplittableRandom random;
+
+		// Tree: node 0 is the root; children of a node are four consecutive
+		// nodes, one per direction; firstChild 0 means not expanded
+		private final int[] firstChild = new int[NODE_CAPACITY];
+		private final int[] visits = new int[NODE_CAPACITY];
+		private final float[] reward = new float[NODE_CAPACITY];
+		private int nodeCount;
+		private final int[] path;
+
+		// Playout state
+		private Snapshot position;
+		private int positionPlayouts;
+		private long[] grid = new long[0];
+		private int[] undo = new int[0];
+		private int undoCount;
+		private int[] heads = new int[0];
+		private int[] targets = new int[0];
+		private boolean[] alive = new boolean[0];
+		private boolean[] dying = new boolean[0];
+
+		Worker(SplittableRandom random) {
+			this.random = random;
+			this.path = new int[horizon + 1];
+		}
+
+		@Override
+		public void run() {
+			boolean more = true;
+			long sliceEnd = System.nanoTime() + SLICE_NANOS;
+			while (System.nanoTime() < sliceEnd) {
+				Snapshot snapshot = current;
+				if (snapshot == null || (snapshot == position
+						&& positionPlayouts >= MAX_PLAYOUTS_PER_POSITION)) {
+					more = false;
+					break;
+				}
+				if (snapshot != position) {
+					load(snapshot);
+				}
+				for (int i = 0; i < PUBLISH_INTERVAL; i++) {
+					playout();
+				}
+				positionPlayouts += PUBLISH_INTERVAL;
+				playouts += PUBLISH_INTERVAL;
+				publishRoot();
+			}
+			if (more && active && System.nanoTime() - lastDecisionTime < IDLE_TIMEOUT_NANOS) {
+				WorkerPool.INSTANCE.execute(this);
+			} else {
+				scheduled.set(false);
+			}
+		}
+
+		/**
+		 * Adds this worker's root visits to a total if it is searching the
+		 * given position, reading the generation before and after the counts.
+		 */
+		void addRootVisits(long generation, long[] total, int[] scratch) {
+			if (positionGeneration != generation) {
+				return;
+			}
+			for (int d = 0; d < scratch.length; d++) {
+				scratch[d] = rootVisits.get(d);
+			}
+			if (positionGeneration != generation) {
+				return;
+			}
+			for (int d = 0; d < scratch.length; d++) {
+				total[d] += scratch[d];
+			}
+		}
+
+		private void load(Snapshot snapshot) {
+			if (grid.length != snapshot.cells.length) {
+				grid = new long[snapshot.cells.length];
+				undo = new int[snapshot.columns * snapshot.rows];
+			}
+			System.arraycopy(snapshot.cells, 0, grid, 0, grid.length);
+			undoCount = 0;
+			if (heads.length != snapshot.heads.length) {
+				heads = new int[snapshot.heads.length];
+				targets = new int[snapshot.heads.length];
+				alive = new boolean[snapshot.heads.length];
+				dying = new boolean[snapshot.heads.length];
+			}
+			nodeCount = 1;
+			firstChild[0] = 0;
+			visits[0] = 0;
+			reward[0] = 0;
+			for (int d = 0; d < DIRECTIONS.length; d++) {
+				rootVisits.lazySet(d, 0);
+			}
+			position = snapshot;
+			positionPlayouts = 0;
+			positionGeneration = snapshot.generation;
+		}
+
+		private void publishRoot() {
+			int base = firstChild[0];
+			if (base != 0) {
+				for (int d = 0; d < DIRECTIONS.length; d++) {
+					rootVisits.lazySet(d, visits[base + d]);
+				}
+			}
+		}
+
+		/**
+		 * One playout: descend the tree by UCT, expand, then move at random to
+		 * the horizon, and back the reward up the visited path.
+		 */
+		private void playout() {
+			for (int i = 0; i < undoCount; i++) {
+				int cell = undo[i];
+				grid[cell >>> 6] &= ~(1L << cell);
+			}
+			undoCount = 0;
+			int players = heads.length;
+			System.arraycopy(position.heads, 0, heads, 0, players);
+			Arrays.fill(alive, true);
+
+			int node = 0;
+			int pathLength = 0;
+			path[pathLength++] = 0;
+			boolean inTree = true;
+			int opponents = players - 1;
+			int deadOpponents = 0;
+			int step = 0;
+			while (step < horizon) {
+				int move;
+				if (inTree && firstChild[node] == 0) {
+					if (nodeCount + DIRECTIONS.length <= NODE_CAPACITY) {
+						expand(node);
+					} else {
+						inTree = false;
+					}
+				}
+				if (inTree) {
+					move = selectChild(node);
+					if (move >= 0) {
+						node = firstChild[node] + move;
+						path[pathLength++] = node;
+						inTree = visits[node] > 0;
+					}
+				} else {
+					move = randomMove(heads[0]);
+				}
+				targets[0] = move < 0 ? -1 : neighbour(heads[0], move);
+				for (int p = 1; p < players; p++) {
+					if (alive[p]) {
+						int m = randomMove(heads[p]);
+						targets[p] = m < 0 ? -1 : neighbour(heads[p], m);
+					}
+				}
+
+				// Boxed in or head-on: the players involved die
+				for (int p = 0; p < players; p++) {
+					boolean dies = alive[p] && targets[p] < 0;
+					for (int q = 0; q < players && alive[p] && !dies; q++) {
+						dies = q != p && alive[q] && targets[q] == targets[p];
+					}
+					dying[p] = dies;
+				}
+				for (int p = 0; p < players; p++) {
+					if (dying[p]) {
+						alive[p] = false;
+						if (p > 0) {
+							deadOpponents++;
+						}
+					}
+				}
+				step++;
+				if (!alive[0]) {
+					break;
+				}
+				for (int p = 0; p < players; p++) {
+					if (alive[p]) {
+						int cell = targets[p];
+						grid[cell >>> 6] |= 1L << cell;
+						undo[undoCount++] = cell;
+						heads[p] = cell;
+					}
+				}
+				if (opponents > 0 && deadOpponents == opponents) {
+					break;
+				}
+			}
+
+			float score;
+			if (!alive[0]) {
+				score = 0.5f * step / horizon;
+			} else if (opponents > 0 && deadOpponents == opponents) {
+				score = 1f;
+			} else {
+				score = 0.75f + 0.25f * deadOpponents / Math.max(opponents, 1);
+			}
+			for (int i = 0; i < pathLength; i++) {
+				visits[path[i]]++;
+				reward[path[i]] += score;
+			}
+		}
+
+		private void expand(int node) {
+			int base = nodeCount;
+			for (int d = 0; d < DIRECTIONS.length; d++) {
+				firstChild[base + d] = 0;
+				visits[base + d] = 0;
+				reward[base + d] = 0;
+			}
+			firstChild[node] = base;
+			nodeCount += DIRECTIONS.length;
+		}
+
+		/**
+		 * UCT selection over the bot's legal moves; unvisited children first,
+		 * starting from a random direction.
+		 *
+		 * @return direction index, or -1 if boxed in
+		 */
+		private int selectChild(int node) {
+			int base = firstChild[node];
+			double logVisits = Math.log(Math.max(visits[node], 1));
+			int start = random.nextInt(DIRECTIONS.length);
+			int best = -1;
+			double bestValue = Double.NEGATIVE_INFINITY;
+			for (int k = 0; k < DIRECTIONS.length; k++) {
+				int d = (start + k) & 3;
+				if (!isFree(neighbour(heads[0], d))) {
+					continue;
+				}
+				int childVisits = visits[base + d];
+				if (childVisits == 0) {
+					return d;
+				}
+				double value = reward[base + d] / childVisits
+						+ EXPLORATION * Math.sqrt(logVisits / childVisits);
+				if (value > bestValue) {
+					bestValue = value;
+					best = d;
+				}
+			}
+			return best;
+		}
+
+		/**
+		 * @return a random free direction from a cell, or -1 if boxed in
+		 */
+		private int randomMove(int cell) {
+			int free = 0;
+			for (int d = 0; d < DIRECTIONS.length; d++) {
+				if (isFree(neighbour(cell, d))) {
+					free++;
+				}
+			}
+			if (free == 0) {
+				return -1;
+			}
+			int pick = random.nextInt(free);
+			for (int d = 0; d < DIRECTIONS.length; d++) {
+				if (isFree(neighbour(cell, d)) && pick-- == 0) {
+					return d;
+				}
+			}
+			return -1;
+		}
+
+		private boolean isFree(int cell) {
+			return cell >= 0 && (grid[cell >>> 6] & (1L << cell)) == 0;
+		}
+
+		private int neighbour(int cell, int direction) {
+			int columns = position.columns;
+			int c = cell % columns + DIRECTIONS[direction].getDx();
+			int r = cell / columns + DIRECTIONS[direction].getDy();
+			if (c < 0 || c >= columns || r < 0 || r >= position.rows) {
+				return -1;
+			}
+			return r * columns + c;
+		}
+	}
+
+	/**
+	 * Shared pool of daemon search threads, created on first use.
+	 */
+	private static final class WorkerPool {
+		private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+		static final ForkJoinPool INSTANCE = new ForkJoinPool(
+				Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+				pool -> {
+					ForkJoinWorkerThread thread =
+							ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+					thread.setName("mcts-worker-" + THREAD_IDS.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				},
+				null, true);
+	}
+}
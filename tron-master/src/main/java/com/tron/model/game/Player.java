@@ -2,14 +2,19 @@ package com.tron.model.game;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import com.tron.model.data.DrawData;
 import com.tron.model.observer.PlayerObserver;
 import com.tron.model.observer.Subject;
 import com.tron.model.util.Intersection;
 import com.tron.model.util.MapConfig;
+import com.tron.model.util.OccupancyGrid;
 import com.tron.model.util.PlayerColor;
+import com.tron.model.util.SegmentIndex;
 import com.tron.model.util.Shape;
+import com.tron.model.util.TrailBuffer;
+import com.tron.model.util.TrailBuilder;
 
 /**
  * Abstract base class for all players in the Tron game implementing Observer Pattern.
@@ -59,6 +64,9 @@ public abstract class Player extends GameObject implements Subject<PlayerObserve
 	// player's color (using PlayerColor enum instead of AWT Color)
 	PlayerColor color;
 	
+	// Render color packed as 0xRRGGBB, defaults to the PlayerColor's value
+	private int rgb;
+	
 	// states of the player
 	boolean alive = true;
 	boolean jump = false;
@@ -79,12 +87,40 @@ public abstract class Player extends GameObject implements Subject<PlayerObserve
 	private static final int BOOST_DURATION_TICKS = 15;
 	private int boostTicksRemaining = 0;
 		
-	// Player object's path
-	ArrayList<Shape> lines = new ArrayList<>();
+	// Player object's path, packed as primitive coordinates
+	final TrailBuffer trail = new TrailBuffer();
+	
+	// Appends steps to the path, extending straight runs in place
+	private final TrailBuilder trailBuilder = new TrailBuilder(trail);
+	
+	// Trail step taken by the last move, tested as a swept segment during collision
+	int stepFromX;
+	int stepFromY;
+	int stepToX;
+	int stepToY;
+	boolean steppedOnTrail = false;
 	
 	// Map configuration for boundary behavior and obstacles
 	protected MapConfig mapConfig;
 	
+	// Arena-wide trail occupancy shared by all players of a game (optional)
+	protected OccupancyGrid occupancyGrid;
+	
+	// Committed trail segments (all but the newest) for log-time trail queries
+	private final SegmentIndex trailIndex = new SegmentIndex();
+	
+	// Every segment drawn by any player of the game, shared for AI lookahead (optional)
+	protected SegmentIndex arenaIndex;
+	
+	// Read-only per-tick view of the arena shared by all players of a game (optional)
+	protected WorldView worldView;
+	
+	// This player's slot in the world view
+	private int worldSlot = -1;
+	
+	// Why the player died, null while alive
+	private DeathCause deathCause;
+	
 	// Observer pattern - list of observers to notify of player state changes
 	private final List<PlayerObserver> observers = new ArrayList<>();
 	
@@ -227,6 +263,7 @@ public abstract class Player extends GameObject implements Subject<PlayerObserve
 		super(randX, randY, velx, vely, WIDTH, HEIGHT);
 		startVel = Math.max(Math.abs(velx), Math.abs(vely));
 		this.color = color;
+		this.rgb = color.getRgb();
 	}
 	
 
@@ -241,6 +278,25 @@ public abstract class Player extends GameObject implements Subject<PlayerObserve
 		return color;
 	}
 	
+	/**
+	 * Gets the render color of this player.
+	 * 
+	 * @return the color packed as 0xRRGGBB
+	 */
+	public int getRgb() {
+		return rgb;
+	}
+	
+	/**
+	 * Overrides the render color, e.g. with a generated palette color
+	 * for players beyond the PlayerColor constants.
+	 * 
+	 * @param rgb the color packed as 0xRRGGBB
+	 */
+	public void setRgb(int rgb) {
+		this.rgb = rgb;
+	}
+	
 	/**
 	 * Gets the number of boost charges remaining for this player.
 	 * Used by the UI to display boost availability.
@@ -315,11 +371,13 @@ public abstract class Player extends GameObject implements Subject<PlayerObserve
 			if (x < 0 || x > rightBound) {
 				velocityX = 0;
 				alive = false;
+				recordDeath(DeathCause.WALL);
 				notifyPlayerDied();  // Notify observers of death
 			}
 			if (y < 0 || y > bottomBound) {
 				velocityY = 0;
 				alive = false;
+				recordDeath(DeathCause.WALL);
 				notifyPlayerDied();  // Notify observers of death
 			}
 		}
@@ -329,6 +387,7 @@ public abstract class Player extends GameObject implements Subject<PlayerObserve
 			velocityX = 0;
 			velocityY = 0;
 			alive = false;
+			recordDeath(DeathCause.OBSTACLE);
 			notifyPlayerDied();  // Notify observers of death
 		}
 	}
@@ -340,7 +399,18 @@ public abstract class Player extends GameObject implements Subject<PlayerObserve
 	 */
 	public void jump() {
 		jump = true;
-	}	/**
+	}
+	
+	/**
+	 * Checks whether a jump is pending for the next move.
+	 * 
+	 * @return true between jump() and the move that performs it
+	 */
+	public boolean isJumping() {
+		return jump;
+	}
+	
+	/**
 	 * Activates a speed boost if charges are available.
 	 * Consumes one boost charge and temporarily increases the player's movement speed.
 	 * Notifies observers when boost is activated.
@@ -407,7 +477,8 @@ public abstract class Player extends GameObject implements Subject<PlayerObserve
 			WIDTH,
 			HEIGHT,
 			color,
-			new ArrayList<>(lines),  // Copy of path
+			rgb,
+			trail.snapshot(),  // O(1) snapshot of path
 			alive,
 			jump
 		);
@@ -420,10 +491,10 @@ public abstract class Player extends GameObject implements Subject<PlayerObserve
 		return alive;
 	}
 	
-	// returns the Player's path
+	// returns the Player's path as a live, read-only view of the trail buffer
 	@Override
-	public ArrayList<Shape> getPath() {
-		return lines;
+	public List<Shape> getPath() {
+		return trail.asList();
 	}
 	
 	/**
@@ -436,6 +507,201 @@ public abstract class Player extends GameObject implements Subject<PlayerObserve
 		this.mapConfig = mapConfig;
 	}
 	
+	/**
+	 * Set the arena occupancy grid this player records its trail into.
+	 * Segments are committed to the grid once they stop being the newest
+	 * segment, mirroring the trail collision rules.
+	 * 
+	 * @param occupancyGrid The shared arena grid, or null to disable recording
+	 */
+	public void setOccupancyGrid(OccupancyGrid occupancyGrid) {
+		this.occupancyGrid = occupancyGrid;
+	}
+	
+	/**
+	 * Get the arena occupancy grid this player records its trail into.
+	 * 
+	 * @return The shared arena grid, or null if none is attached
+	 */
+	public OccupancyGrid getOccupancyGrid() {
+		return occupancyGrid;
+	}
+	
+	/**
+	 * Set the arena-wide index this player publishes every trail step into.
+	 * Unlike the occupancy grid it also holds each player's newest segment,
+	 * which is what the AI sees when looking ahead.
+	 * 
+	 * @param arenaIndex The shared arena index, or null to disable publishing
+	 */
+	public void setArenaIndex(SegmentIndex arenaIndex) {
+		this.arenaIndex = arenaIndex;
+	}
+	
+	/**
+	 * Get the arena-wide index of every drawn trail segment.
+	 * 
+	 * @return The shared arena index, or null if none is attached
+	 */
+	public SegmentIndex getArenaIndex() {
+		return arenaIndex;
+	}
+	
+	/**
+	 * Attach the world view this player's strategy queries.
+	 * 
+	 * @param worldView The shared per-tick world view, or null to detach
+	 * @param slot This player's slot in the view
+	 */
+	public void setWorldView(WorldView worldView, int slot) {
+		this.worldView = worldView;
+		this.worldSlot = slot;
+	}
+	
+	/**
+	 * Get the shared per-tick world view.
+	 * 
+	 * @return The world view, or null if none is attached
+	 */
+	public WorldView getWorldView() {
+		return worldView;
+	}
+	
+	/**
+	 * Get this player's slot in the world view.
+	 * 
+	 * @return The slot, or -1 if no view is attached
+	 */
+	public int getWorldSlot() {
+		return worldSlot;
+	}
+	
+	/**
+	 * Give this player its own branch of the match's random number tree.
+	 * Players that make no random decisions ignore it.
+	 * 
+	 * @param random The generator this player's decisions draw from
+	 */
+	public void setRandom(SplittableRandom random) {
+		// Human players make no random decisions
+	}
+	
+	/**
+	 * Tell this player whether its decisions must be reproducible, as in
+	 * a seeded match. Players that do not search ignore it.
+	 * 
+	 * @param deterministic true to bound decisions by work instead of time
+	 */
+	public void setDeterministic(boolean deterministic) {
+		// Human players do not search
+	}
+	
+	/**
+	 * Get the index of this player's committed trail segments.
+	 * 
+	 * @return The trail index, holding every path segment except the newest
+	 */
+	@Override
+	public SegmentIndex getTrailIndex() {
+		return trailIndex;
+	}
+	
+	/**
+	 * Get the newest trail segment, which is not yet committed to the
+	 * trail index or the occupancy grid.
+	 * 
+	 * @return The newest segment, or null if the path is empty
+	 */
+	public Shape getNewestSegment() {
+		return trail.isEmpty() ? null : trail.get(trail.size() - 1);
+	}
+	
+	/**
+	 * Commits the current newest trail segment to the trail index and the
+	 * occupancy grid. Must be called before a new segment is appended to the
+	 * path, so that both always hold every segment except the newest one.
+	 * A segment that continues the previous straight run extends it in the
+	 * index instead of adding a new entry. Zero-length segments (left by a
+	 * stopped player) are always absorbed into the run they end and are skipped.
+	 */
+	protected void commitNewestSegment() {
+		if (trail.isEmpty()) {
+			return;
+		}
+		int last = trail.size() - 1;
+		int x1 = trail.getStartX(last);
+		int y1 = trail.getStartY(last);
+		int x2 = trail.getEndX(last);
+		int y2 = trail.getEndY(last);
+		if (x1 == x2 && y1 == y2) {
+			return;
+		}
+		if (trailIndex.canExtendLast(x1, y1, x2, y2)) {
+			trailIndex.extendLast(x2, y2);
+		} else {
+			trailIndex.insert(x1, y1, x2, y2);
+		}
+		if (occupancyGrid != null) {
+			occupancyGrid.mark(x1, y1, x2, y2);
+		}
+	}
+	
+	/**
+	 * Extends the path with the step just taken from (fromX, fromY) to the
+	 * current position. Commits the previous newest segment, lets the trail
+	 * builder extend or start a run, and records the step for collision.
+	 * Called from move() after the position has been advanced.
+	 * 
+	 * @param fromX Head X coordinate before the step
+	 * @param fromY Head Y coordinate before the step
+	 */
+	protected void extendTrail(int fromX, int fromY) {
+		commitNewestSegment();
+		trailBuilder.step(fromX, fromY, x, y);
+		recordTrailStep(fromX, fromY);
+	}
+	
+	/**
+	 * Records the trail-leaving step of the current move and publishes it
+	 * to the arena index. Called from move() after the position has been
+	 * advanced but before boundary handling, so the step spans the actual
+	 * pixels travelled. A stopped player's zero-length step is not published;
+	 * the run it ends already covers it.
+	 * 
+	 * @param fromX Head X coordinate before the step
+	 * @param fromY Head Y coordinate before the step
+	 */
+	protected void recordTrailStep(int fromX, int fromY) {
+		stepFromX = fromX;
+		stepFromY = fromY;
+		stepToX = x;
+		stepToY = y;
+		steppedOnTrail = true;
+		if (arenaIndex != null && (fromX != x || fromY != y)) {
+			arenaIndex.insert(fromX, fromY, x, y);
+		}
+		if (worldView != null) {
+			worldView.markStep(fromX, fromY, x, y);
+		}
+	}
+	
+	/**
+	 * Compute whether this player's last move hit any committed trail.
+	 * Tests every pixel of the swept step from the previous head position to
+	 * the new one, then the usual head tolerance at the final position, so
+	 * fast movement cannot tunnel through a trail. Jumps are intentionally
+	 * not swept: a jump hops over trails and only its landing point counts.
+	 * 
+	 * @param grid The arena occupancy grid to test against
+	 * @return NONE if the move was clear, otherwise UP
+	 */
+	public Intersection intersectsSwept(OccupancyGrid grid) {
+		if (steppedOnTrail && grid.sweepHits(stepFromX, stepFromY, stepToX, stepToY)) {
+			return Intersection.UP;
+		}
+		return intersects(grid);
+	}
+	
 	/**
 	 * Handles player collision with game objects or trails.
 	 * Sets the player's alive status to false and stops movement.
@@ -448,10 +714,30 @@ public abstract class Player extends GameObject implements Subject<PlayerObserve
 			velocityX = 0;
 			velocityY = 0;
 			alive = false;
+			recordDeath(DeathCause.COLLISION);
 			notifyPlayerDied();  // Notify observers of death
 		}
 	}
 	
+	/**
+	 * Keeps the first cause of death; later crashes in the same tick
+	 * do not overwrite it.
+	 */
+	private void recordDeath(DeathCause cause) {
+		if (deathCause == null) {
+			deathCause = cause;
+		}
+	}
+	
+	/**
+	 * Gets why this player died.
+	 * 
+	 * @return the cause of death, or null while the player is alive
+	 */
+	public DeathCause getDeathCause() {
+		return deathCause;
+	}
+	
 	/**
 	 * Moves the player on the screen based on its current velocity.
 	 * This abstract method must be implemented by subclasses (PlayerHuman, PlayerAI)
@@ -1,6 +1,7 @@
 package com.tron.model.game;
 
-import com.tron.model.util.Line;
+import java.util.SplittableRandom;
+
 import com.tron.model.util.PlayerColor;
 
 /**
@@ -39,6 +40,41 @@ public class PlayerAI extends Player {
 	 */
 	private PlayerBehaviorStrategy behaviorStrategy;
 	
+	/**
+	 * Decision made ahead of move() by an {@link AIDecisionPipeline}.
+	 * move() applies it instead of asking the strategy again.
+	 */
+	private boolean decided;
+	private boolean boostDecided;
+	
+	/**
+	 * The open decision: a working copy of the velocity, and the boost and
+	 * jump asked for, that strategies steer while deciding. It is copied into
+	 * the bot only by commitDecision(), so a decision running on a worker
+	 * thread never writes the bot's live state and a late one can simply be
+	 * dropped. Volatile because a late decision is dropped by the worker
+	 * while the game thread checks whether the bot is free again.
+	 */
+	private volatile boolean deciding;
+	private int nextVelocityX;
+	private int nextVelocityY;
+	private boolean nextBoost;
+	private boolean boostRequested;
+	private boolean jumpRequested;
+	private boolean steeredBySetters;
+	
+	/**
+	 * This player's branch of the match's random number tree, handed on to
+	 * strategies set later. Null until the game model provides one.
+	 */
+	private SplittableRandom random;
+	
+	/**
+	 * Whether decisions must be reproducible, handed on to strategies set
+	 * later like the random number branch.
+	 */
+	private boolean deterministic;
+	
 	/**
 	 * Constructs an AI player with the specified initial conditions.
 	 * Initializes the behavior strategy with AIBehaviorStrategy.
@@ -66,6 +102,10 @@ public class PlayerAI extends Player {
 			throw new IllegalArgumentException("Behavior strategy cannot be null");
 		}
 		this.behaviorStrategy = strategy;
+		if (random != null) {
+			setRandom(random);
+		}
+		setDeterministic(deterministic);
 	}
 	
 	/**
@@ -89,6 +129,38 @@ public class PlayerAI extends Player {
 		}
 	}
 	
+	/**
+	 * Hands the random number branch to the base AIBehaviorStrategy,
+	 * unwrapping decorators as addPlayers does. The branch is kept for
+	 * strategies set afterwards.
+	 * 
+	 * @param random The generator the AI's random decisions draw from
+	 */
+	@Override
+	public void setRandom(SplittableRandom random) {
+		this.random = random;
+		PlayerBehaviorStrategy baseStrategy = unwrapToBaseStrategy();
+		if (baseStrategy instanceof AIBehaviorStrategy) {
+			((AIBehaviorStrategy) baseStrategy).setRandom(random);
+		}
+	}
+	
+	/**
+	 * Hands the deterministic flag to the base AIBehaviorStrategy,
+	 * unwrapping decorators as setRandom does. The flag is kept for
+	 * strategies set afterwards.
+	 * 
+	 * @param deterministic true to bound searches by work instead of time
+	 */
+	@Override
+	public void setDeterministic(boolean deterministic) {
+		this.deterministic = deterministic;
+		PlayerBehaviorStrategy baseStrategy = unwrapToBaseStrategy();
+		if (baseStrategy instanceof AIBehaviorStrategy) {
+			((AIBehaviorStrategy) baseStrategy).setDeterministic(deterministic);
+		}
+	}
+	
 	/**
 	 * Unwraps the decorator chain to find the base AIBehaviorStrategy.
 	 * This is necessary to call strategy-specific methods like addPlayers.
@@ -106,13 +178,236 @@ public class PlayerAI extends Player {
 		return strategy;
 	}
 	
+	/**
+	 * Runs the behavior strategy's decision for the next move without moving.
+	 * The result is committed at once and kept for move(), which then skips
+	 * its own decision. A decision that throws is dropped.
+	 */
+	void decide() {
+		openDecision();
+		try {
+			runDecision();
+		} catch (RuntimeException e) {
+			dropDecision();
+			throw e;
+		}
+		commitDecision();
+	}
+	
+	/**
+	 * Opens a decision: the strategy will steer a copy of the current
+	 * velocity. Call on the thread that moves the bot, while it is not moving.
+	 */
+	void openDecision() {
+		nextVelocityX = velocityX;
+		nextVelocityY = velocityY;
+		nextBoost = false;
+		boostRequested = false;
+		jumpRequested = false;
+		steeredBySetters = false;
+		deciding = true;
+	}
+	
+	/**
+	 * Runs the strategy against the open decision. May run on any thread,
+	 * as long as only one thread decides for this bot at a time.
+	 */
+	void runDecision() {
+		behaviorStrategy.decideMoveDirection();
+		nextBoost = behaviorStrategy.shouldBoost();
+	}
+	
+	/**
+	 * Copies the open decision into the bot for the next move(). Call on
+	 * the thread that moves the bot, after runDecision() finished.
+	 */
+	void commitDecision() {
+		deciding = false;
+		if (steeredBySetters) {
+			// Replay through the setters for their turn checks and observers
+			setXVelocity(nextVelocityX);
+			setYVelocity(nextVelocityY);
+		} else {
+			velocityX = nextVelocityX;
+			velocityY = nextVelocityY;
+		}
+		if (boostRequested) {
+			startBoost();
+		}
+		if (jumpRequested) {
+			jump();
+		}
+		boostDecided = nextBoost;
+		decided = true;
+	}
+	
+	/**
+	 * Throws the open decision away, leaving the bot as it is. A worker
+	 * that finishes a decision given up on calls this to free the bot.
+	 */
+	void dropDecision() {
+		deciding = false;
+	}
+	
+	/**
+	 * Checks whether a decision is open, i.e. opened and not yet committed
+	 * or dropped. While it is, the strategy must not be asked again.
+	 * 
+	 * @return true while a decision is open
+	 */
+	boolean isDeciding() {
+		return deciding;
+	}
+	
+	/**
+	 * Gets the X velocity the next move will use: the open decision's
+	 * while one is open, the bot's otherwise. Strategies read and steer
+	 * through these, never through the velocity fields.
+	 * 
+	 * @return X velocity in pixels per tick
+	 */
+	int getNextVelocityX() {
+		return deciding ? nextVelocityX : velocityX;
+	}
+	
+	/**
+	 * Gets the Y velocity the next move will use.
+	 * 
+	 * @return Y velocity in pixels per tick
+	 * @see #getNextVelocityX()
+	 */
+	int getNextVelocityY() {
+		return deciding ? nextVelocityY : velocityY;
+	}
+	
+	/**
+	 * Sets the X velocity for the next move, in the open decision if any.
+	 * Unlike setXVelocity() this neither rejects reversals nor notifies.
+	 * 
+	 * @param velocityX X velocity in pixels per tick
+	 */
+	void setNextVelocityX(int velocityX) {
+		if (deciding) {
+			nextVelocityX = velocityX;
+		} else {
+			this.velocityX = velocityX;
+		}
+	}
+	
+	/**
+	 * Sets the Y velocity for the next move, in the open decision if any.
+	 * 
+	 * @param velocityY Y velocity in pixels per tick
+	 * @see #setNextVelocityX(int)
+	 */
+	void setNextVelocityY(int velocityY) {
+		if (deciding) {
+			nextVelocityY = velocityY;
+		} else {
+			this.velocityY = velocityY;
+		}
+	}
+	
+	/**
+	 * Gets the X velocity, from the open decision while one is open, so
+	 * strategies outside this package see their own steering.
+	 */
+	@Override
+	public int getXVelocity() {
+		return getNextVelocityX();
+	}
+	
+	/**
+	 * Gets the Y velocity, from the open decision while one is open.
+	 */
+	@Override
+	public int getYVelocity() {
+		return getNextVelocityY();
+	}
+	
+	/**
+	 * Sets the X velocity, in the open decision while one is open; the
+	 * reversal check applies against the decision's velocity.
+	 */
+	@Override
+	public void setXVelocity(int velocityX) {
+		if (!deciding) {
+			super.setXVelocity(velocityX);
+		} else if (!(velocityX > 0 && nextVelocityX < 0) && !(velocityX < 0 && nextVelocityX > 0)) {
+			nextVelocityX = velocityX;
+			steeredBySetters = true;
+		}
+	}
+	
+	/**
+	 * Sets the Y velocity, in the open decision while one is open.
+	 */
+	@Override
+	public void setYVelocity(int velocityY) {
+		if (!deciding) {
+			super.setYVelocity(velocityY);
+		} else if (!(velocityY > 0 && nextVelocityY < 0) && !(velocityY < 0 && nextVelocityY > 0)) {
+			nextVelocityY = velocityY;
+			steeredBySetters = true;
+		}
+	}
+	
+	/**
+	 * Starts a boost, or asks for one in the open decision.
+	 */
+	@Override
+	public void startBoost() {
+		if (deciding) {
+			boostRequested = true;
+		} else {
+			super.startBoost();
+		}
+	}
+	
+	/**
+	 * Jumps, or asks for a jump in the open decision.
+	 */
+	@Override
+	public void jump() {
+		if (deciding) {
+			jumpRequested = true;
+		} else {
+			super.jump();
+		}
+	}
+	
+	/**
+	 * Checks whether a decision is waiting for the next move().
+	 * 
+	 * @return true after decide() or overrideDecision() until the next move
+	 */
+	boolean hasDecision() {
+		return decided;
+	}
+	
+	/**
+	 * Replaces the next decision with a fixed velocity and no boost.
+	 * Used when a decision missed its deadline; an open decision stays
+	 * open until its worker drops it.
+	 * 
+	 * @param velocityX X velocity for the next move
+	 * @param velocityY Y velocity for the next move
+	 */
+	void overrideDecision(int velocityX, int velocityY) {
+		this.velocityX = velocityX;
+		this.velocityY = velocityY;
+		boostDecided = false;
+		decided = true;
+	}
+	
 	/**
 	 * Moves the AI player based on its behavior strategy.
 	 * The actual AI decision-making is delegated to the strategy (potentially decorated).
 	 * Movement trail generation logic is maintained here to ensure 1:1 parity with original PlayerAI.
 	 * 
 	 * This method:
-	 * 1. Calls the strategy's decideMoveDirection() to determine movement
+	 * 1. Calls the strategy's decideMoveDirection() to determine movement,
+	 *    unless a decision was already made through decide()
 	 * 2. Checks the strategy's shouldBoost() to determine boost activation
 	 * 3. Updates position and generates movement trails
 	 * 4. Handles collision detection and bounds checking
@@ -123,10 +418,18 @@ public class PlayerAI extends Player {
 		int b = y;
 		
 		// Use strategy (including decorators) to make AI decisions
-		behaviorStrategy.decideMoveDirection();
+		if (!decided) {
+			if (deciding) {
+				// A late decision still runs on a worker; keep heading
+				boostDecided = false;
+			} else {
+				decide();
+			}
+		}
+		decided = false;
 		
 		// Check for boost decision from strategy
-		if (behaviorStrategy.shouldBoost()) {
+		if (boostDecided) {
 			startBoost();
 		}
 		
@@ -135,25 +438,9 @@ public class PlayerAI extends Player {
 		if (!jump) {
 			x += velocityX;
 			y += velocityY;
-			if (lines.size() > 1) {
-				Line l1 = (Line) lines.get(lines.size() - 2);
-				Line l2 = (Line) lines.get(lines.size() - 1);
-				if (a == l1.getStartX() && 
-						l1.getEndY() == l2.getStartY()) {
-					lines.add(new Line(l1.getStartX(), l1.getStartY(), 
-							l2.getEndX(), l2.getEndY()));
-					lines.remove(lines.size() - 2);
-					lines.remove(lines.size() - 2);
-				} else if (b == l1.getStartY() && 
-						l1.getEndX() == l2.getStartX()) {
-					lines.add(new Line(l1.getStartX(), l1.getStartY(), 
-							l2.getEndX(), l2.getEndY()));
-					lines.remove(lines.size() - 2);
-					lines.remove(lines.size() - 2);
-				} 
-			}
-			lines.add(new Line(a, b, x, y));
+			extendTrail(a, b);
 		} else {
+			steppedOnTrail = false;
 			if (velocityX > 0) {
 				x += JUMPHEIGHT;
 			} else if (velocityX < 0) {
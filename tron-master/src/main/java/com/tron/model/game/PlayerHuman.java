@@ -1,6 +1,5 @@
 package com.tron.model.game;
 
-import com.tron.model.util.Line;
 import com.tron.model.util.PlayerColor;
 
 /**
@@ -101,25 +100,9 @@ public class PlayerHuman extends Player {
 		if (!jump) {
 			x += velocityX;
 			y += velocityY;
-			if (lines.size() > 1) {
-				Line l1 = (Line) lines.get(lines.size() - 2);
-				Line l2 = (Line) lines.get(lines.size() - 1);
-				if (a == l1.getStartX() && 
-						l1.getEndY() == l2.getStartY()) {
-					lines.add(new Line(l1.getStartX(), l1.getStartY(),
-							l2.getEndX(), l2.getEndY()));
-					lines.remove(lines.size() - 2);
-					lines.remove(lines.size() - 2);
-				} else if (b == l1.getStartY() && 
-						l1.getEndX() == l2.getStartX()) {
-					lines.add(new Line(l1.getStartX(), l1.getStartY(), 
-							l2.getEndX(), l2.getEndY()));
-					lines.remove(lines.size() - 2);
-					lines.remove(lines.size() - 2);
-				} 
-			}
-			lines.add(new Line(a, b, x, y));
+			extendTrail(a, b);
 		} else {
+			steppedOnTrail = false;
 			if (velocityX > 0) {
 				x += JUMPHEIGHT;
 			} else if (velocityX < 0) {
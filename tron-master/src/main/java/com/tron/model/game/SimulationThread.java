@@ -0,0 +1,207 @@
+package com.tron.model.game;
+
+import com.tron.model.input.GameInput;
+import com.tron.model.util.LatencyHistogram;
+import com.tron.model.util.SpscQueue;
+import com.tron.model.util.TripleBuffer;
+
+/**
+ * SimulationThread - Ticks a game on its own thread and publishes frames
+ *
+ * When the JavaFX views tick the model from an AnimationTimer, anything
+ * else on the FX thread (layout passes, dialogs, garbage collection of
+ * scene objects) delays the next tick and the game stutters. The
+ * simulation thread takes the ticking off the FX thread. The two threads
+ * share no locks:
+ * - Input goes to the simulation through an {@link SpscQueue}; it is
+ *   applied right before the next tick
+ * - After each round of ticks the simulation fills a {@link GameFrame}
+ *   and publishes it through a {@link TripleBuffer}; the renderer takes
+ *   the newest frame whenever it draws
+ *
+ * Responsibilities:
+ * - Run ticks at a fixed rate through the {@link GameEngine} loop, on a
+ *   high-priority daemon thread
+ * - submit(): queue input from the UI thread
+ * - acquireFrame(): newest frame for the UI thread, recording how long it
+ *   waited after publishing (getPublishLatency())
+ * - pause(), resume() and stop() for the UI thread
+ *
+ * While the thread runs only it touches the model; the model's observers
+ * are notified on it, so views must draw from frames instead. Once stop()
+ * or pause() returns, the model belongs to the caller again.
+ *
+ * Design Pattern: Game Loop with lock-free producer/consumer handoff
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ * @see GameEngine
+ */
+public class SimulationThread extends GameEngine {
+
+    /** Default number of inputs that can wait for the next tick */
+    public static final int DEFAULT_INPUT_CAPACITY = 64;
+
+    private final SpscQueue<GameInput> inputs;
+    private final TripleBuffer<GameFrame> frames = new TripleBuffer<>(GameFrame::new);
+    private final HeadInterpolator heads = new HeadInterpolator();
+    private final LatencyHistogram publishLatency = new LatencyHistogram();
+
+    /**
+     * Creates a simulation ticking at 50 Hz.
+     *
+     * @param model The model to drive
+     * @throws IllegalArgumentException if model is null
+     */
+    public SimulationThread(TronGameModel model) {
+        this(model, FixedTimestep.DEFAULT_STEP_NANOS, DEFAULT_INPUT_CAPACITY);
+    }
+
+    /**
+     * Creates a simulation.
+     *
+     * @param model The model to drive
+     * @param tickNanos Nanoseconds per tick
+     * @param inputCapacity Number of inputs that can wait for a tick
+     * @throws IllegalArgumentException if model is null or a value is not positive
+     */
+    public SimulationThread(TronGameModel model, long tickNanos, int inputCapacity) {
+        super(model, tickNanos);
+        this.inputs = new SpscQueue<>(inputCapacity);
+    }
+
+    /**
+     * Starts ticking on a new thread. Does nothing if already running.
+     * A frame of the model as it is now is published first, so frames
+     * from before a reset are never acquired afterwards.
+     */
+    @Override
+    public synchronized void start() {
+        if (isActive()) {
+            return;
+        }
+        publish();
+        super.start();
+    }
+
+    /**
+     * Set the time per tick; a simulation always runs at a fixed rate
+     * @param tickNanos Nanoseconds per tick
+     * @throws IllegalArgumentException if tickNanos is not positive
+     */
+    @Override
+    public void setTickNanos(long tickNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("Tick time must be positive");
+        }
+        super.setTickNanos(tickNanos);
+    }
+
+    /**
+     * Stops the thread and pauses the model.
+     */
+    public void pause() {
+        stop();
+        getModel().pause();
+    }
+
+    /**
+     * Resumes the model and starts ticking again.
+     */
+    public void resume() {
+        getModel().resume();
+        start();
+    }
+
+    /**
+     * Queues input for the next tick. UI thread only.
+     *
+     * @param input The input
+     * @return true if queued, false if the queue was full and the input dropped
+     */
+    public boolean submit(GameInput input) {
+        return inputs.offer(input);
+    }
+
+    /**
+     * Gets the newest published frame. UI thread only; the frame does not
+     * change until the next call.
+     *
+     * @return The newest frame; getTick() is -1 before the first start()
+     */
+    public GameFrame acquireFrame() {
+        boolean fresh = frames.hasFresh();
+        GameFrame frame = frames.acquire();
+        if (fresh) {
+            publishLatency.record(System.nanoTime() - frame.getPublishNanos());
+        }
+        return frame;
+    }
+
+    /**
+     * Applies the queued input and remembers the heads for interpolation.
+     */
+    @Override
+    protected void beforeTick() {
+        applyInputs();
+        heads.capture(getModel().getPlayers());
+    }
+
+    /**
+     * Publishes the state after each round of ticks.
+     */
+    @Override
+    protected void afterTicks(int ticks) {
+        publish();
+    }
+
+    /**
+     * Publishes the final state, e.g. the game over.
+     */
+    @Override
+    protected void afterLoop() {
+        publish();
+    }
+
+    /**
+     * Runs the simulation on a high-priority daemon thread.
+     */
+    @Override
+    protected Thread newThread(Runnable loop) {
+        Thread t = new Thread(loop, "game-simulation");
+        t.setDaemon(true);
+        t.setPriority(Thread.MAX_PRIORITY);
+        return t;
+    }
+
+    private void applyInputs() {
+        GameInput input;
+        while ((input = inputs.poll()) != null) {
+            getModel().handleInput(input);
+        }
+    }
+
+    private void publish() {
+        GameFrame frame = frames.getBack();
+        frame.fill(getModel(), heads, getTickCount());
+        frame.setPublishNanos(System.nanoTime());
+        frames.publish();
+    }
+
+    /**
+     * Get the time from publishing a frame until the UI thread took it
+     * @return Publish latency histogram
+     */
+    public LatencyHistogram getPublishLatency() {
+        return publishLatency;
+    }
+
+    /**
+     * Get the number of inputs dropped because the queue was full
+     * @return Dropped input count
+     */
+    public long getDroppedInputs() {
+        return inputs.getDropped();
+    }
+}
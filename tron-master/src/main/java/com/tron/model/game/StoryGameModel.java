@@ -108,26 +108,13 @@ public class StoryGameModel extends TronGameModel {
         // Don't increment score during Story mode (score earned on level complete)
         
         // Move all players
-        for (Player p : players) {
-            if (p != null) {
-                p.setBounds(mapWidth, mapHeight);
-                p.move();
-            }
-        }
+        movePlayers();
         
         // Check power-up collisions for all players
         checkPowerUpCollisions();
         
         // Check collisions
-        for (Player p1 : players) {
-            if (p1 != null) {
-                for (Player p2 : players) {
-                    if (p2 != null) {
-                        p1.crash(p1.intersects(p2));
-                    }
-                }
-            }
-        }
+        checkCollisions();
         
         // Check if human player died
         if (player != null && !player.getAlive()) {
@@ -152,6 +139,9 @@ public class StoryGameModel extends TronGameModel {
             // Score is added by view when level completes
         }
         
+        // Start the AI decisions for the next tick
+        scheduleDecisions();
+        
         // Notify observers of state change
         notifyGameStateChanged();
     }
@@ -174,7 +164,7 @@ public class StoryGameModel extends TronGameModel {
         
         // Check player self-collision
         if (player != null) {
-            player.crash(player.intersects(player));
+            player.crash(player.intersectsSwept(occupancyGrid));
             
             // Check if player died
             if (!player.getAlive()) {
@@ -309,6 +299,7 @@ public class StoryGameModel extends TronGameModel {
         
         // Reset and start normal power-up system
         powerUpManager.setPowerUpType(PowerUpType.BOOST);
+        powerUpManager.setRandom(splitRandom());
         powerUpManager.reset();
         powerUpManager.start();
     }
@@ -329,9 +320,10 @@ public class StoryGameModel extends TronGameModel {
         int[] start = getRandomStartInPlayerArea();
         player = new PlayerHuman(start[0], start[1], start[2], start[3], PLAYER_COLORS[0]);
         players[0] = player;
-        player.addPlayers(players);
+        linkPlayers(600, 600); // Boss level player area is 600x600
         
         // Reset and start Boss power-up system
+        bossPowerUpManager.setRandom(splitRandom());
         bossPowerUpManager.reset();
         bossPowerUpManager.start();
         
@@ -381,6 +373,7 @@ public class StoryGameModel extends TronGameModel {
         currentScore = savedScore;
         
         // Reset and start power-up system
+        powerUpManager.setRandom(splitRandom());
         powerUpManager.reset();
         powerUpManager.start();
     }
@@ -396,7 +389,7 @@ public class StoryGameModel extends TronGameModel {
         
         // Create AI players for remaining slots
         GameSettings gameSettings = GameSettings.getInstance();
-        boolean useHardAI = gameSettings.isHardAIEnabled();
+        AIStrategyType aiType = gameSettings.getAIStrategyType();
         
         for (int i = 1; i < players.length; i++) {
             start = getRandomStart();
@@ -404,21 +397,24 @@ public class StoryGameModel extends TronGameModel {
                 start[0], start[1], start[2], start[3], PLAYER_COLORS[i % PLAYER_COLORS.length]
             );
             
-            // Apply Hard AI behavior strategy if enabled
-            if (useHardAI) {
-                aiPlayer.setBehaviorStrategy(new HardAIBehaviorStrategy(aiPlayer));
+            // Apply the selected AI behavior strategy (normal AI is the default)
+            if (aiType != AIStrategyType.NORMAL) {
+                aiPlayer.setBehaviorStrategy(aiType.create(aiPlayer));
             }
             
             players[i] = aiPlayer;
         }
         
-        // Give all players reference to all other players (for collision detection)
-        for (Player p : players) {
-            if (p != null) {
-                p.addPlayers(players);
-            }
+        // Decide AI moves between ticks if enabled in the settings
+        if (!gameSettings.isAsyncAIDecisions()) {
+            setDecisionPipeline(null);
+        } else if (decisionPipeline == null) {
+            setDecisionPipeline(new AIDecisionPipeline());
         }
         
+        // Give all players reference to all other players (for collision detection)
+        linkPlayers();
+        
         isRunning = true;
         notifyGameReset();
     }
@@ -3,15 +3,12 @@ package com.tron.model.game;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import com.tron.config.GameSettings;
 import com.tron.model.score.HighScoreEntry;
+import com.tron.model.score.HighScorePrompt;
 import com.tron.model.score.Score;
 import com.tron.model.util.MapConfig;
-import com.tron.view.fx.FXPlayerInfoDialog;
-
-import javafx.application.Platform;
 
 /**
  * SurvivalGameModel - Survival mode game model
@@ -26,6 +23,10 @@ import javafx.application.Platform;
  * - Game ends when player dies
  * - Scores recorded to high score board
  * 
+ * The player's details for a high score are asked for through a
+ * {@link HighScorePrompt} set by the view. Without one (e.g. in headless
+ * simulation) qualifying scores are not entered.
+ * 
  * @author MattBrown
  * @author MattBrown
  * @version 2.0 (MVC Complete)
@@ -36,6 +37,7 @@ public class SurvivalGameModel extends TronGameModel {
     private List<Integer> highScores;
     private boolean scoreSaved = false; // Flag to prevent duplicate saves
     private MapConfig mapConfig; // Not final - needs to reload on reset
+    private HighScorePrompt highScorePrompt; // Null when running headless
     
     /**
      * Constructor for Survival mode
@@ -102,7 +104,7 @@ public class SurvivalGameModel extends TronGameModel {
     
     /**
      * Save current score to high scores
-     * If score qualifies, show dialog to collect player information
+     * If score qualifies, ask the high score prompt for player information
      */
     public void saveScore() {
         // Prevent duplicate saves
@@ -111,31 +113,51 @@ public class SurvivalGameModel extends TronGameModel {
         }
         
         // Check if score qualifies for high score list
-        if (!highScoreManager.isHighScore(currentScore)) {
+        if (highScorePrompt == null || !highScoreManager.isHighScore(currentScore)) {
             scoreSaved = true;
             return;
         }
         
-        // Score qualifies - show dialog on JavaFX thread
-        Platform.runLater(() -> {
-            FXPlayerInfoDialog dialog = new FXPlayerInfoDialog(currentScore);
-            Optional<HighScoreEntry> result = dialog.showAndGetResult();
-            
-            if (result.isPresent()) {
-                try {
-                    highScoreManager.addHighScore(result.get());
-                    loadHighScores(); // Reload to get updated list
-                } catch (IOException e) {
-                    System.err.println("Failed to save high score: " + e.getMessage());
-                } catch (IllegalArgumentException e) {
-                    System.err.println("Invalid score: " + e.getMessage());
-                }
-            }
-        });
+        // Score qualifies - the prompt answers whenever the player is done
+        highScorePrompt.requestEntry(currentScore, this::addHighScoreEntry);
         
         scoreSaved = true;
     }
     
+    /**
+     * Record a completed high score entry
+     * 
+     * @param entry Entry returned by the high score prompt
+     */
+    private void addHighScoreEntry(HighScoreEntry entry) {
+        try {
+            highScoreManager.addHighScore(entry);
+            loadHighScores(); // Reload to get updated list
+        } catch (IOException e) {
+            System.err.println("Failed to save high score: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid score: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Set how the player is asked for the details of a high score
+     * 
+     * @param highScorePrompt Prompt to use, or null to skip entering high scores
+     */
+    public void setHighScorePrompt(HighScorePrompt highScorePrompt) {
+        this.highScorePrompt = highScorePrompt;
+    }
+    
+    /**
+     * Get how the player is asked for the details of a high score
+     * 
+     * @return The prompt, or null if high scores are not entered
+     */
+    public HighScorePrompt getHighScorePrompt() {
+        return highScorePrompt;
+    }
+    
     /**
      * Get the list of high scores
      * 
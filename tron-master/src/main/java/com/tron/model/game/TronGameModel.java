@@ -2,12 +2,15 @@ package com.tron.model.game;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import com.tron.model.input.GameInput;
 import com.tron.model.observer.GameStateObserver;
 import com.tron.model.observer.Subject;
+import com.tron.model.util.ColorPalette;
+import com.tron.model.util.OccupancyGrid;
 import com.tron.model.util.PlayerColor;
+import com.tron.model.util.SegmentIndex;
 
 /**
  * TronGameModel - Core game model class implementing Subject in Observer Pattern
@@ -60,8 +63,9 @@ public class TronGameModel implements Subject<GameStateObserver> {
     protected PlayerHuman player;
     protected Player[] players;
     protected int currentScore;
-    protected boolean isRunning;
-    protected boolean paused = false;
+    // Volatile so a UI thread can check them while a SimulationThread ticks
+    protected volatile boolean isRunning;
+    protected volatile boolean paused = false;
     
     // Game configuration
     protected final int mapWidth;
@@ -69,13 +73,38 @@ public class TronGameModel implements Subject<GameStateObserver> {
     protected final int velocity;
     protected final int playerCount;
     
-    // Color palette for players
+    // Color palette for players; larger games continue with ColorPalette
     protected static final PlayerColor[] PLAYER_COLORS = {
         PlayerColor.CYAN, PlayerColor.PINK, PlayerColor.WHITE, PlayerColor.YELLOW,
         PlayerColor.BLUE, PlayerColor.ORANGE, PlayerColor.RED, PlayerColor.GREEN
     };
     
-    protected Random rand = new Random();
+    // Root of the match's random number tree; see setSeed()
+    protected SplittableRandom rand = new SplittableRandom();
+    
+    // Set by setSeed(); seeded AIs bound their searches by work, not time
+    private boolean seeded = false;
+    
+    // Arena-wide trail occupancy, rebuilt whenever players are (re)created
+    protected OccupancyGrid occupancyGrid;
+    
+    // Every segment drawn in the arena, used by the AI to look ahead
+    protected SegmentIndex arenaIndex;
+    
+    // Read-only arena view refreshed once per tick for the AI strategies
+    protected WorldView worldView;
+    
+    // Per-tick collision resolution over the live players
+    protected final CollisionPhase collisionPhase = new CollisionPhase();
+    
+    // Decides AI moves between ticks on worker threads; null decides in move()
+    protected AIDecisionPipeline decisionPipeline;
+    
+    // Decides all AI moves of a tick before anyone moves; null decides in move()
+    protected DecisionPhase decisionPhase;
+    
+    // Limits full AI decisions per tick to a time budget; null decides every bot
+    protected AIScheduler aiScheduler;
     
     // Observer pattern for MVC communication
     // Using CopyOnWriteArrayList for thread-safe iteration during notification
@@ -87,13 +116,13 @@ public class TronGameModel implements Subject<GameStateObserver> {
      * @param mapWidth Width of the game area
      * @param mapHeight Height of the game area
      * @param velocity Player movement speed
-     * @param playerCount Number of players (max 8)
+     * @param playerCount Number of players
      */
     public TronGameModel(int mapWidth, int mapHeight, int velocity, int playerCount) {
         this.mapWidth = mapWidth;
         this.mapHeight = mapHeight;
         this.velocity = velocity;
-        this.playerCount = Math.min(playerCount, 8);
+        this.playerCount = playerCount;
         this.players = new Player[this.playerCount];
         this.currentScore = 0;
         this.isRunning = false;
@@ -234,23 +263,10 @@ public class TronGameModel implements Subject<GameStateObserver> {
         notifyScoreChanged(0, currentScore);
         
         // Move all players
-        for (Player p : players) {
-            if (p != null) {
-                p.setBounds(mapWidth, mapHeight);
-                p.move();
-            }
-        }
+        movePlayers();
         
         // Check collisions
-        for (Player p1 : players) {
-            if (p1 != null) {
-                for (Player p2 : players) {
-                    if (p2 != null) {
-                        p1.crash(p1.intersects(p2));
-                    }
-                }
-            }
-        }
+        checkCollisions();
         
         // Check if human player is still alive
         if (player != null && !player.getAlive()) {
@@ -258,6 +274,9 @@ public class TronGameModel implements Subject<GameStateObserver> {
             notifyPlayerCrashed(0);
         }
         
+        // Start the AI decisions for the next tick
+        scheduleDecisions();
+        
         // Notify observers of state change
         notifyGameStateChanged();
     }
@@ -278,14 +297,11 @@ public class TronGameModel implements Subject<GameStateObserver> {
             players[i] = new com.tron.model.game.PlayerAI(
                 start[0], start[1], start[2], start[3], PLAYER_COLORS[i % PLAYER_COLORS.length]
             );
+            players[i].setRgb(ColorPalette.colorAt(i));
         }
         
         // Give all players reference to all other players (for collision detection)
-        for (Player p : players) {
-            if (p != null) {
-                p.addPlayers(players);
-            }
-        }
+        linkPlayers();
         
         currentScore = 0;
         isRunning = true;
@@ -294,6 +310,170 @@ public class TronGameModel implements Subject<GameStateObserver> {
         notifyGameReset();
     }
     
+    /**
+     * Give every player a reference to all players, a fresh arena
+     * occupancy grid sized to the map and a fresh arena trail index.
+     * Must be called whenever the players array is repopulated.
+     */
+    protected void linkPlayers() {
+        linkPlayers(mapWidth, mapHeight);
+    }
+    
+    /**
+     * Give every player a reference to all players, a fresh arena
+     * occupancy grid of the given size, a fresh arena trail index, the
+     * world view over it and its own branch of the random number tree.
+     * In a seeded match players are also told to decide deterministically.
+     * 
+     * @param arenaWidth Width of the area players can move in
+     * @param arenaHeight Height of the area players can move in
+     */
+    protected void linkPlayers(int arenaWidth, int arenaHeight) {
+        if (decisionPipeline != null) {
+            decisionPipeline.collect();
+        }
+        occupancyGrid = new OccupancyGrid(arenaWidth, arenaHeight);
+        arenaIndex = new SegmentIndex();
+        worldView = new WorldView(arenaIndex, arenaWidth, arenaHeight);
+        for (int i = 0; i < players.length; i++) {
+            Player p = players[i];
+            if (p != null) {
+                p.addPlayers(players);
+                p.setOccupancyGrid(occupancyGrid);
+                p.setArenaIndex(arenaIndex);
+                p.setWorldView(worldView, i);
+                p.setRandom(rand.split());
+                p.setDeterministic(seeded);
+            }
+        }
+        collisionPhase.setPlayers(players);
+    }
+    
+    /**
+     * Refresh the world view, then move every player by one step.
+     * The view is built once per tick and shared by all strategies,
+     * so AI cost depends on the queries made rather than on the
+     * number of players times their trail length.
+     * With a decision pipeline the bots' decisions were started when
+     * the previous tick ended and are merged here first. With a
+     * decision phase the remaining bots all decide before anyone moves;
+     * the moves and collisions stay sequential in player order. An AI
+     * scheduler runs before the phase and leaves it only the bots it
+     * did not handle.
+     */
+    protected void movePlayers() {
+        if (decisionPipeline != null) {
+            decisionPipeline.collect();
+        }
+        if (worldView != null) {
+            worldView.update(players);
+        }
+        if (aiScheduler != null && worldView != null) {
+            aiScheduler.schedule(players, worldView);
+        }
+        if (decisionPhase != null) {
+            decisionPhase.run(players);
+        }
+        for (Player p : players) {
+            if (p != null) {
+                p.setBounds(mapWidth, mapHeight);
+                p.move();
+            }
+        }
+    }
+    
+    /**
+     * Start the AI decisions for the next tick if a decision pipeline is
+     * set. Game modes call this once the tick has changed everything it
+     * is going to change, so the workers see a finished tick.
+     */
+    protected void scheduleDecisions() {
+        if (decisionPipeline != null && isRunning && worldView != null) {
+            decisionPipeline.submit(players, worldView);
+        }
+    }
+    
+    /**
+     * Decide AI moves between ticks on worker threads, or in each bot's
+     * move() when null (the default). Decisions in flight on the previous
+     * pipeline are merged first.
+     * 
+     * @param pipeline The decision pipeline, or null for synchronous decisions
+     */
+    public void setDecisionPipeline(AIDecisionPipeline pipeline) {
+        if (decisionPipeline != null) {
+            decisionPipeline.collect();
+        }
+        decisionPipeline = pipeline;
+    }
+    
+    /**
+     * Get the decision pipeline
+     * 
+     * @return The pipeline, or null if AI decisions run synchronously
+     */
+    public AIDecisionPipeline getDecisionPipeline() {
+        return decisionPipeline;
+    }
+    
+    /**
+     * Decide all AI moves of a tick before anyone moves, sequentially or in
+     * parallel, or decide in each bot's move() when null (the default).
+     * 
+     * @param phase The decision phase, or null
+     */
+    public void setDecisionPhase(DecisionPhase phase) {
+        decisionPhase = phase;
+    }
+    
+    /**
+     * Get the decision phase
+     * 
+     * @return The phase, or null if bots decide in move()
+     */
+    public DecisionPhase getDecisionPhase() {
+        return decisionPhase;
+    }
+    
+    /**
+     * Spread full AI decisions over ticks under a time budget, or decide
+     * every bot every tick when null (the default).
+     * 
+     * @param scheduler The AI scheduler, or null
+     */
+    public void setAIScheduler(AIScheduler scheduler) {
+        aiScheduler = scheduler;
+    }
+    
+    /**
+     * Get the AI scheduler
+     * 
+     * @return The scheduler, or null if every bot decides every tick
+     */
+    public AIScheduler getAIScheduler() {
+        return aiScheduler;
+    }
+    
+    /**
+     * Get the world view shared by this game's players
+     * 
+     * @return The world view, or null before the first reset
+     */
+    public WorldView getWorldView() {
+        return worldView;
+    }
+    
+    /**
+     * Crash every player whose head touches another player's head or any trail.
+     * Delegates to the shared collision phase: only live players are tested,
+     * head pairs come from a sort-and-sweep over head X positions, and
+     * head-vs-trail tests the step each head swept since the last tick
+     * against the arena occupancy grid.
+     */
+    protected void checkCollisions() {
+        collisionPhase.run(players, occupancyGrid);
+    }
+    
     /**
      * Generate random starting position and velocity for a player
      * Ensures the player initially moves toward the center
@@ -522,6 +702,43 @@ public class TronGameModel implements Subject<GameStateObserver> {
         isRunning = true;
     }
     
+    /**
+     * Seed the match's random number tree. Every random number of the
+     * simulation is drawn from it in a fixed order: each reset() first
+     * places the players from the root, then splits one branch per
+     * player slot in slot order (see linkPlayers), then one per game
+     * component the mode adds (such as power-up managers). The same
+     * seed and the same inputs on the same ticks therefore replay a
+     * bit-identical game, restarts included. Search AIs in a seeded
+     * match stop after a fixed amount of work instead of a time budget,
+     * so their decisions do not depend on machine speed either.
+     * 
+     * @param seed The seed
+     */
+    public void setSeed(long seed) {
+        rand = new SplittableRandom(seed);
+        seeded = true;
+    }
+    
+    /**
+     * Check whether the match was seeded with setSeed()
+     * 
+     * @return true if the match replays from a seed
+     */
+    public boolean isSeeded() {
+        return seeded;
+    }
+    
+    /**
+     * Split a new branch off the match's random number tree for a game
+     * component. Call in a fixed order during reset().
+     * 
+     * @return An independent generator
+     */
+    protected SplittableRandom splitRandom() {
+        return rand.split();
+    }
+    
     /**
      * Stop the game
      */
@@ -50,11 +50,7 @@ public class TwoPlayerGameModel extends TronGameModel {
         players[1] = player2;
         
         // Give both players reference to all players
-        for (Player p : players) {
-            if (p != null) {
-                p.addPlayers(players);
-            }
-        }
+        linkPlayers();
         
         currentScore = 0;
         player2Score = 0;
@@ -71,23 +67,10 @@ public class TwoPlayerGameModel extends TronGameModel {
         if (!isRunning) return;
         
         // Move all players
-        for (Player p : players) {
-            if (p != null) {
-                p.setBounds(mapWidth, mapHeight);
-                p.move();
-            }
-        }
+        movePlayers();
         
         // Check collisions
-        for (Player p1 : players) {
-            if (p1 != null) {
-                for (Player p2 : players) {
-                    if (p2 != null) {
-                        p1.crash(p1.intersects(p2));
-                    }
-                }
-            }
-        }
+        checkCollisions();
         
         // Check if either player died
         if ((player != null && !player.getAlive()) || (player2 != null && !player2.getAlive())) {
@@ -111,6 +94,9 @@ public class TwoPlayerGameModel extends TronGameModel {
             }
         }
         
+        // Start the AI decisions for the next tick
+        scheduleDecisions();
+        
         // Notify observers of state change
         notifyGameStateChanged();
     }
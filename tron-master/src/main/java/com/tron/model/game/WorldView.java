@@ -0,0 +1,413 @@
+package com.tron.model.game;
+
+import java.util.Arrays;
+
+import com.tron.model.util.Bitboard;
+import com.tron.model.util.Direction;
+import com.tron.model.util.SegmentIndex;
+
+/**
+ * WorldView - Read-only per-tick view of the arena for AI strategies
+ *
+ * One view is shared by every player of a game. The model refreshes it once
+ * per tick before the players move, and strategies query it instead of
+ * walking other players' trails.
+ *
+ * Responsibilities:
+ * - Answer ray-cast queries (distance to the nearest trail, edge or wall,
+ *   free space along a heading) from the arena trail index
+ * - Answer band queries (is there any trail on these rows or columns)
+ * - Hold every player's head state (position, velocity, alive) as of the
+ *   start of the tick, in primitive arrays reused between ticks
+ * - Expose the arena bounds the players move in
+ * - Keep a coarse cell grid of the arena for area searches (flood fill):
+ *   a cell is blocked once any trail step has passed through it. The grid
+ *   is a {@link Bitboard}; strategies copy it for make/unmake searches and
+ *   use its word-wise flood fill through {@link #reachableArea}
+ *
+ * Trail queries read the shared arena index, which the model extends as
+ * each player moves, so a query made during the move phase also sees the
+ * steps of players that moved earlier in the same tick. Head state does
+ * not change until the next refresh.
+ *
+ * The cost of a refresh is linear in the player count and independent of
+ * trail length; query cost depends only on the queries made.
+ *
+ * Design Pattern: Facade (read-only queries over the arena state)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class WorldView {
+
+    private final SegmentIndex trails;
+    private final int width;
+    private final int height;
+
+    /** Default side length of a cell in the coarse grid, in pixels */
+    public static final int DEFAULT_CELL_SIZE = 4;
+
+    // Coarse cell grid; a bit is set once a trail step passed through the cell
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final Bitboard cells;
+
+    // Head state per player slot, as of the last refresh
+    private int[] headX = new int[0];
+    private int[] headY = new int[0];
+    private int[] velocityX = new int[0];
+    private int[] velocityY = new int[0];
+    private boolean[] alive = new boolean[0];
+    private int playerCount = 0;
+
+    private long tick = 0;
+
+    /**
+     * Creates a view over an arena trail index.
+     *
+     * @param trails The arena index holding every drawn trail segment
+     * @param width Width of the area players move in
+     * @param height Height of the area players move in
+     */
+    public WorldView(SegmentIndex trails, int width, int height) {
+        this(trails, width, height, DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * Creates a view over an arena trail index with a given cell size.
+     *
+     * @param trails The arena index holding every drawn trail segment
+     * @param width Width of the area players move in
+     * @param height Height of the area players move in
+     * @param cellSize Side length of a coarse grid cell in pixels
+     */
+    public WorldView(SegmentIndex trails, int width, int height, int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.trails = trails;
+        this.width = width;
+        this.height = height;
+        this.cellSize = cellSize;
+        this.columns = Math.max((width + cellSize - 1) / cellSize, 1);
+        this.rows = Math.max((height + cellSize - 1) / cellSize, 1);
+        this.cells = new Bitboard(columns, rows);
+    }
+
+    /**
+     * Captures the head state of every player for the coming tick.
+     * Only the model refreshes the view.
+     *
+     * @param players All players of the game; null slots read as dead
+     */
+    void update(Player[] players) {
+        if (headX.length < players.length) {
+            headX = new int[players.length];
+            headY = new int[players.length];
+            velocityX = new int[players.length];
+            velocityY = new int[players.length];
+            alive = new boolean[players.length];
+        }
+        playerCount = players.length;
+        for (int i = 0; i < playerCount; i++) {
+            Player p = players[i];
+            if (p == null) {
+                alive[i] = false;
+                continue;
+            }
+            headX[i] = p.x;
+            headY[i] = p.y;
+            velocityX[i] = p.velocityX;
+            velocityY[i] = p.velocityY;
+            alive[i] = p.getAlive();
+        }
+        Arrays.fill(alive, playerCount, alive.length, false);
+        tick++;
+    }
+
+    /**
+     * Marks the cells covered by an axis-aligned trail step as blocked.
+     * Called by players as they move; strategies only read the grid.
+     *
+     * @param x1 Step start X coordinate
+     * @param y1 Step start Y coordinate
+     * @param x2 Step end X coordinate
+     * @param y2 Step end Y coordinate
+     */
+    void markStep(int x1, int y1, int x2, int y2) {
+        cells.setRect(clampColumn(x1), clampRow(y1), clampColumn(x2), clampRow(y2));
+    }
+
+    /**
+     * Get the side length of a coarse grid cell
+     * @return Cell size in pixels
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Get the number of cell columns in the coarse grid
+     * @return Column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Get the number of cell rows in the coarse grid
+     * @return Row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Check if a cell of the coarse grid is blocked by a trail.
+     * Cells outside the grid count as blocked.
+     *
+     * @param column Cell column
+     * @param row Cell row
+     * @return true if a trail passed through the cell or it is off the grid
+     */
+    public boolean isCellBlocked(int column, int row) {
+        return cells.get(column, row);
+    }
+
+    /**
+     * Creates a private copy of the cell grid, e.g. as the root position of a
+     * search that makes and unmakes moves on it.
+     *
+     * @return A new board equal to the current grid
+     */
+    public Bitboard copyCells() {
+        return new Bitboard(cells);
+    }
+
+    /**
+     * Copies the cell grid into an existing board, avoiding allocation.
+     *
+     * @param target Board of the grid's size
+     * @throws IllegalArgumentException if the sizes differ
+     */
+    public void copyCellsInto(Bitboard target) {
+        target.copyFrom(cells);
+    }
+
+    /**
+     * Counts the free cells reachable from the cell containing (x, y).
+     *
+     * @param x X coordinate in pixels
+     * @param y Y coordinate in pixels
+     * @param region Scratch board of the grid's size; receives the region
+     * @return Reachable cell count, 0 if the start cell is blocked
+     */
+    public int reachableArea(int x, int y, Bitboard region) {
+        return cells.floodFill(columnOf(x), rowOf(y), region);
+    }
+
+    /**
+     * Get the coarse grid column containing an X coordinate
+     * @param x X coordinate in pixels
+     * @return Cell column (may be outside the grid)
+     */
+    public int columnOf(int x) {
+        return Math.floorDiv(x, cellSize);
+    }
+
+    /**
+     * Get the coarse grid row containing a Y coordinate
+     * @param y Y coordinate in pixels
+     * @return Cell row (may be outside the grid)
+     */
+    public int rowOf(int y) {
+        return Math.floorDiv(y, cellSize);
+    }
+
+    /**
+     * Get the distance to the nearest trail crossing the path from (x, y).
+     * Only segments perpendicular to the direction of travel block the path;
+     * a segment through (x, y) itself is not reported.
+     *
+     * @param x Start X coordinate
+     * @param y Start Y coordinate
+     * @param direction Direction of travel
+     * @param maxDistance Maximum distance to search in pixels (inclusive)
+     * @return Distance to the nearest blocking trail, or -1 if none within range
+     */
+    public int distanceToTrail(int x, int y, Direction direction, int maxDistance) {
+        return trails.rayCast(x, y, direction.getDx(), direction.getDy(), maxDistance);
+    }
+
+    /**
+     * Get the distance from (x, y) to the arena edge in a direction.
+     *
+     * @param x Start X coordinate
+     * @param y Start Y coordinate
+     * @param direction Direction of travel
+     * @return Distance to the edge in pixels (0 or less when on or past it)
+     */
+    public int distanceToEdge(int x, int y, Direction direction) {
+        switch (direction) {
+            case UP: return y;
+            case DOWN: return height - y;
+            case LEFT: return x;
+            default: return width - x;
+        }
+    }
+
+    /**
+     * Get the distance from (x, y) to the nearest wall in a direction, where
+     * a wall is either a blocking trail or the arena edge.
+     *
+     * @param x Start X coordinate
+     * @param y Start Y coordinate
+     * @param direction Direction of travel
+     * @return Distance to the nearest wall in pixels
+     */
+    public int distanceToWall(int x, int y, Direction direction) {
+        int edge = distanceToEdge(x, y, direction);
+        if (edge <= 0) {
+            return Math.max(edge, 0);
+        }
+        int trail = distanceToTrail(x, y, direction, edge);
+        return trail > 0 ? trail : edge;
+    }
+
+    /**
+     * Get how many pixels a player at (x, y) can travel in a direction
+     * before reaching a wall, capped at maxDistance.
+     *
+     * @param x Start X coordinate
+     * @param y Start Y coordinate
+     * @param direction Direction of travel
+     * @param maxDistance Largest value of interest
+     * @return Free pixels ahead, between 0 and maxDistance
+     */
+    public int freeSpaceAlong(int x, int y, Direction direction, int maxDistance) {
+        int edge = distanceToEdge(x, y, direction);
+        int limit = Math.min(edge, maxDistance + 1);
+        if (limit <= 0) {
+            return 0;
+        }
+        int trail = distanceToTrail(x, y, direction, limit);
+        int wall = trail > 0 ? trail : limit;
+        return Math.max(Math.min(wall - 1, maxDistance), 0);
+    }
+
+    /**
+     * Checks whether any horizontal trail lies on a row in [minY, maxY].
+     *
+     * @param minY Lowest row (inclusive)
+     * @param maxY Highest row (inclusive)
+     * @return true if a horizontal segment lies on one of the rows
+     */
+    public boolean hasHorizontalTrailBetween(int minY, int maxY) {
+        return trails.hasHorizontalBetween(minY, maxY);
+    }
+
+    /**
+     * Checks whether any vertical trail lies on a column in [minX, maxX].
+     *
+     * @param minX Leftmost column (inclusive)
+     * @param maxX Rightmost column (inclusive)
+     * @return true if a vertical segment lies on one of the columns
+     */
+    public boolean hasVerticalTrailBetween(int minX, int maxX) {
+        return trails.hasVerticalBetween(minX, maxX);
+    }
+
+    /**
+     * Get the number of player slots captured by the last refresh
+     * @return Player slot count
+     */
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    /**
+     * Get a player's head X coordinate at the start of the tick
+     * @param slot Player slot
+     * @return Head X coordinate
+     */
+    public int getHeadX(int slot) {
+        return headX[checkSlot(slot)];
+    }
+
+    /**
+     * Get a player's head Y coordinate at the start of the tick
+     * @param slot Player slot
+     * @return Head Y coordinate
+     */
+    public int getHeadY(int slot) {
+        return headY[checkSlot(slot)];
+    }
+
+    /**
+     * Get a player's horizontal velocity at the start of the tick
+     * @param slot Player slot
+     * @return Horizontal velocity
+     */
+    public int getVelocityX(int slot) {
+        return velocityX[checkSlot(slot)];
+    }
+
+    /**
+     * Get a player's vertical velocity at the start of the tick
+     * @param slot Player slot
+     * @return Vertical velocity
+     */
+    public int getVelocityY(int slot) {
+        return velocityY[checkSlot(slot)];
+    }
+
+    /**
+     * Check if a player was alive at the start of the tick
+     * @param slot Player slot
+     * @return true if alive
+     */
+    public boolean isAlive(int slot) {
+        return alive[checkSlot(slot)];
+    }
+
+    /**
+     * Get the width of the area players move in
+     * @return Arena width
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Get the height of the area players move in
+     * @return Arena height
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Get the number of refreshes since the view was created
+     * @return Tick number
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    private int clampColumn(int x) {
+        return Math.min(Math.max(columnOf(x), 0), columns - 1);
+    }
+
+    private int clampRow(int y) {
+        return Math.min(Math.max(rowOf(y), 0), rows - 1);
+    }
+
+    private int checkSlot(int slot) {
+        if (slot < 0 || slot >= playerCount) {
+            throw new IndexOutOfBoundsException("Player slot " + slot + " out of range");
+        }
+        return slot;
+    }
+}
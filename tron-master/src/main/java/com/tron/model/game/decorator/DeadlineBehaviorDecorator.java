@@ -0,0 +1,406 @@
+package com.tron.model.game.decorator;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tron.model.game.FallbackMove;
+import com.tron.model.game.PlayerAI;
+import com.tron.model.game.PlayerBehaviorStrategy;
+import com.tron.model.util.Latches;
+
+/**
+ * Concrete decorator that gives an expensive strategy a time budget per decision.
+ *
+ * The wrapped strategy decides on a worker thread while the calling thread
+ * waits for at most the budget. A decision that finishes in time is used as
+ * is. One that is still thinking when the budget runs out is a deadline miss:
+ * - The worker is interrupted, and a decision that has not started yet is
+ *   not run at all. The search strategies (flood fill, minimax, and the
+ *   Monte Carlo fallback) check for interrupts where they check their own
+ *   clocks, so for them a miss costs little more than the budget
+ * - Its velocity change is undone and a cheap fallback decides instead,
+ *   either a {@link FallbackMove} or a cheap strategy such as
+ *   {@link com.tron.model.game.AIBehaviorStrategy}
+ * - The miss is counted for this bot
+ *
+ * The wrapped strategy steers the same decision the fallback then steers, so
+ * a late decision cannot be left running: the calling thread waits for it to
+ * stop before applying the fallback. The budget is therefore only as hard as
+ * the wrapped strategy's interrupt checks. A strategy that ignores interrupts
+ * (e.g. {@link com.tron.model.game.HardAIBehaviorStrategy}, or one written
+ * outside this project) keeps the caller waiting for its full run on every
+ * miss; getLastDecisionNanos() shows how long that was. Inside an
+ * {@link com.tron.model.game.AIDecisionPipeline} the game thread still moves
+ * on at the pipeline's deadline. To keep a strategy that is too slow for its
+ * budget from stalling every tick, it is skipped after a number of misses in
+ * a row and the fallback decides alone for a cooldown period.
+ *
+ * Side effects other than the velocity (e.g. a boost started inside the
+ * decision) are not undone.
+ *
+ * Usage:
+ * {@code
+ * PlayerBehaviorStrategy heavy = new MinimaxBehaviorStrategy(aiPlayer);
+ * DeadlineBehaviorDecorator bounded =
+ *     new DeadlineBehaviorDecorator(heavy, aiPlayer, 2_000_000L);
+ * aiPlayer.setBehaviorStrategy(bounded);
+ * }
+ *
+ * A fallback {@link com.tron.model.game.AIBehaviorStrategy} needs the other
+ * players like any AI strategy; pass them with its addPlayers().
+ *
+ * Thread Safety:
+ * Decisions of one decorator must not overlap. Counters may be read from
+ * any thread.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @see BehaviorStrategyDecorator
+ * @see FallbackMove
+ */
+public class DeadlineBehaviorDecorator extends BehaviorStrategyDecorator {
+
+	/** Default number of misses in a row before the strategy is skipped */
+	public static final int DEFAULT_MISS_LIMIT = 3;
+	/** Default number of decisions the strategy is skipped for */
+	public static final int DEFAULT_COOLDOWN = 30;
+
+	private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+	// Shared daemon workers; threads are reused and only created while
+	// decisions of several bots overlap
+	private static final ExecutorService WORKERS = Executors.newCachedThreadPool(task -> {
+		Thread thread = new Thread(task, "deadline-decision-" + THREAD_IDS.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final PlayerAI player;
+	private final long budgetNanos;
+	private final Executor executor;
+	private final FallbackMove fallbackMove;
+	private final PlayerBehaviorStrategy fallbackStrategy;
+
+	private int missLimit = DEFAULT_MISS_LIMIT;
+	private int cooldown = DEFAULT_COOLDOWN;
+	private int missesInRow = 0;
+	private int cooldownLeft = 0;
+	private boolean lastDecisionOnTime = true;
+
+	// Worker currently running the wrapped strategy, and whether the
+	// current decision was given up on, both guarded by this
+	private Thread runner;
+	private boolean abandoned;
+	private volatile boolean failed;
+
+	private volatile long decisions = 0;
+	private volatile long misses = 0;
+	private volatile long skipped = 0;
+	private volatile long lastDecisionNanos = 0;
+	private volatile long maxOverrunNanos = 0;
+
+	/**
+	 * Constructs a decorator that falls back to the heading with the most room.
+	 *
+	 * @param decoratedStrategy the expensive PlayerBehaviorStrategy to bound
+	 * @param player the player the strategy controls
+	 * @param budgetNanos time allowed per decision in nanoseconds
+	 * @throws IllegalArgumentException if an argument is null or the budget is not positive
+	 */
+	public DeadlineBehaviorDecorator(PlayerBehaviorStrategy decoratedStrategy, PlayerAI player,
+			long budgetNanos) {
+		this(decoratedStrategy, player, budgetNanos, FallbackMove.MOST_ROOM, null, WORKERS);
+	}
+
+	/**
+	 * Constructs a decorator with a fallback move.
+	 *
+	 * @param decoratedStrategy the expensive PlayerBehaviorStrategy to bound
+	 * @param player the player the strategy controls
+	 * @param budgetNanos time allowed per decision in nanoseconds
+	 * @param fallback move used when the decision misses its budget
+	 * @throws IllegalArgumentException if an argument is null or the budget is not positive
+	 */
+	public DeadlineBehaviorDecorator(PlayerBehaviorStrategy decoratedStrategy, PlayerAI player,
+			long budgetNanos, FallbackMove fallback) {
+		this(decoratedStrategy, player, budgetNanos, requireFallback(fallback), null, WORKERS);
+	}
+
+	/**
+	 * Constructs a decorator with a cheap fallback strategy, run on the
+	 * calling thread when the decision misses its budget.
+	 *
+	 * @param decoratedStrategy the expensive PlayerBehaviorStrategy to bound
+	 * @param player the player the strategy controls
+	 * @param budgetNanos time allowed per decision in nanoseconds
+	 * @param fallback cheap strategy controlling the same player
+	 * @throws IllegalArgumentException if an argument is null or the budget is not positive
+	 */
+	public DeadlineBehaviorDecorator(PlayerBehaviorStrategy decoratedStrategy, PlayerAI player,
+			long budgetNanos, PlayerBehaviorStrategy fallback) {
+		this(decoratedStrategy, player, budgetNanos, null, requireFallback(fallback), WORKERS);
+	}
+
+	/**
+	 * Constructs a decorator running decisions on a given executor.
+	 * Exactly one of the two fallbacks must be given.
+	 *
+	 * @param decoratedStrategy the expensive PlayerBehaviorStrategy to bound
+	 * @param player the player the strategy controls
+	 * @param budgetNanos time allowed per decision in nanoseconds
+	 * @param fallbackMove fallback move, or null
+	 * @param fallbackStrategy fallback strategy, or null
+	 * @param executor executor for the wrapped decisions
+	 * @throws IllegalArgumentException if an argument is invalid
+	 */
+	public DeadlineBehaviorDecorator(PlayerBehaviorStrategy decoratedStrategy, PlayerAI player,
+			long budgetNanos, FallbackMove fallbackMove, PlayerBehaviorStrategy fallbackStrategy,
+			Executor executor) {
+		super(decoratedStrategy);
+		if (player == null) {
+			throw new IllegalArgumentException("Player cannot be null");
+		}
+		if (budgetNanos <= 0) {
+			throw new IllegalArgumentException("Budget must be positive");
+		}
+		if ((fallbackMove == null) == (fallbackStrategy == null)) {
+			throw new IllegalArgumentException("Exactly one fallback must be given");
+		}
+		if (executor == null) {
+			throw new IllegalArgumentException("Executor cannot be null");
+		}
+		this.player = player;
+		this.budgetNanos = budgetNanos;
+		this.fallbackMove = fallbackMove;
+		this.fallbackStrategy = fallbackStrategy;
+		this.executor = executor;
+	}
+
+	private static <T> T requireFallback(T fallback) {
+		if (fallback == null) {
+			throw new IllegalArgumentException("Fallback cannot be null");
+		}
+		return fallback;
+	}
+
+	/**
+	 * Runs the wrapped decision within the budget, or the fallback instead.
+	 */
+	@Override
+	public void decideMoveDirection() {
+		decisions++;
+		if (cooldownLeft > 0) {
+			cooldownLeft--;
+			skipped++;
+			lastDecisionOnTime = false;
+			runFallback(player.getXVelocity(), player.getYVelocity());
+			return;
+		}
+
+		int startX = player.getXVelocity();
+		int startY = player.getYVelocity();
+		CountDownLatch done = new CountDownLatch(1);
+		failed = false;
+		synchronized (this) {
+			abandoned = false;
+		}
+		long start = System.nanoTime();
+		executor.execute(() -> runDecorated(done));
+
+		boolean onTime = Latches.awaitUntil(done, start + budgetNanos) && !failed;
+		if (!onTime) {
+			abandon();
+			Latches.awaitUntil(done, Latches.NO_DEADLINE);
+		}
+		long elapsed = System.nanoTime() - start;
+		lastDecisionNanos = elapsed;
+
+		if (onTime) {
+			missesInRow = 0;
+			lastDecisionOnTime = true;
+			return;
+		}
+		misses++;
+		if (elapsed - budgetNanos > maxOverrunNanos) {
+			maxOverrunNanos = elapsed - budgetNanos;
+		}
+		lastDecisionOnTime = false;
+		if (++missesInRow >= missLimit && cooldown > 0) {
+			missesInRow = 0;
+			cooldownLeft = cooldown;
+		}
+		steer(startX, startY);
+		runFallback(startX, startY);
+	}
+
+	/**
+	 * Asks the wrapped strategy about boosting after an on-time decision,
+	 * and the fallback strategy (if any) otherwise.
+	 *
+	 * @return the boost decision of whichever strategy decided
+	 */
+	@Override
+	public boolean shouldBoost() {
+		if (lastDecisionOnTime) {
+			return decoratedStrategy.shouldBoost();
+		}
+		return fallbackStrategy != null && fallbackStrategy.shouldBoost();
+	}
+
+	/**
+	 * Resets both strategies and ends any cooldown. Counters are kept.
+	 */
+	@Override
+	public void reset() {
+		missesInRow = 0;
+		cooldownLeft = 0;
+		lastDecisionOnTime = true;
+		decoratedStrategy.reset();
+		if (fallbackStrategy != null) {
+			fallbackStrategy.reset();
+		}
+	}
+
+	private void runDecorated(CountDownLatch done) {
+		synchronized (this) {
+			if (abandoned) {
+				// Missed before it started; the fallback has it covered
+				failed = true;
+				done.countDown();
+				return;
+			}
+			runner = Thread.currentThread();
+		}
+		try {
+			decoratedStrategy.decideMoveDirection();
+		} catch (RuntimeException e) {
+			failed = true;
+		} finally {
+			synchronized (this) {
+				runner = null;
+				// Do not leak a miss's interrupt into the worker's next task
+				Thread.interrupted();
+			}
+			done.countDown();
+		}
+	}
+
+	private synchronized void abandon() {
+		abandoned = true;
+		if (runner != null) {
+			runner.interrupt();
+		}
+	}
+
+	private void runFallback(int velocityX, int velocityY) {
+		if (fallbackStrategy != null) {
+			fallbackStrategy.decideMoveDirection();
+		} else {
+			int[] velocity = fallbackMove.choose(player, velocityX, velocityY);
+			steer(velocity[0], velocity[1]);
+		}
+	}
+
+	private void steer(int velocityX, int velocityY) {
+		if (player.getXVelocity() != velocityX || player.getYVelocity() != velocityY) {
+			player.setXVelocity(velocityX);
+			player.setYVelocity(velocityY);
+		}
+	}
+
+	/**
+	 * Sets how many misses in a row make the strategy sit out, and for how
+	 * many decisions.
+	 *
+	 * @param missLimit misses in a row before skipping, at least 1
+	 * @param cooldown decisions to skip, 0 to never skip
+	 * @throws IllegalArgumentException if missLimit is below 1 or cooldown is negative
+	 */
+	public void setCooldown(int missLimit, int cooldown) {
+		if (missLimit < 1) {
+			throw new IllegalArgumentException("Miss limit must be at least 1");
+		}
+		if (cooldown < 0) {
+			throw new IllegalArgumentException("Cooldown cannot be negative");
+		}
+		this.missLimit = missLimit;
+		this.cooldown = cooldown;
+	}
+
+	/**
+	 * Returns the time allowed per decision.
+	 *
+	 * @return budget in nanoseconds
+	 */
+	public long getBudgetNanos() {
+		return budgetNanos;
+	}
+
+	/**
+	 * Returns the fallback strategy.
+	 *
+	 * @return the fallback strategy, or null if a fallback move is used
+	 */
+	public PlayerBehaviorStrategy getFallbackStrategy() {
+		return fallbackStrategy;
+	}
+
+	/**
+	 * Returns the number of decisions asked for, including skipped ones.
+	 *
+	 * @return decision count
+	 */
+	public long getDecisionCount() {
+		return decisions;
+	}
+
+	/**
+	 * Returns the number of decisions that missed the budget or failed.
+	 *
+	 * @return deadline miss count
+	 */
+	public long getMissCount() {
+		return misses;
+	}
+
+	/**
+	 * Returns the number of decisions made by the fallback alone during a cooldown.
+	 *
+	 * @return skipped decision count
+	 */
+	public long getSkippedCount() {
+		return skipped;
+	}
+
+	/**
+	 * Returns the share of attempted decisions that missed the budget.
+	 *
+	 * @return misses divided by attempted decisions, 0 before the first one
+	 */
+	public double getMissRate() {
+		long attempted = decisions - skipped;
+		return attempted == 0 ? 0 : (double) misses / attempted;
+	}
+
+	/**
+	 * Returns how long the last attempted decision kept the caller waiting.
+	 *
+	 * @return nanoseconds, including waiting for a late decision to stop
+	 */
+	public long getLastDecisionNanos() {
+		return lastDecisionNanos;
+	}
+
+	/**
+	 * Returns the longest time the caller waited past the budget for a
+	 * late decision to stop.
+	 *
+	 * @return nanoseconds past the budget
+	 */
+	public long getMaxOverrunNanos() {
+		return maxOverrunNanos;
+	}
+}
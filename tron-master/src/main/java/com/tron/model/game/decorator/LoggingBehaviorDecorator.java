@@ -31,9 +31,13 @@ import com.tron.model.game.PlayerBehaviorStrategy;
  * This decorator is not thread-safe. If used in multi-threaded contexts,
  * synchronization should be added to the logging methods.
  * 
+ * For measuring strategies during play, use {@link MetricsBehaviorDecorator},
+ * which records latency and counts without printing or allocating.
+ * 
  * @author MattBrown
  * @author MattBrown
  * @see BehaviorStrategyDecorator
+ * @see MetricsBehaviorDecorator
  * @see PlayerBehaviorStrategy
  */
 public class LoggingBehaviorDecorator extends BehaviorStrategyDecorator {
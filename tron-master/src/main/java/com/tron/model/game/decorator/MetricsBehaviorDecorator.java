@@ -0,0 +1,271 @@
+package com.tron.model.game.decorator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.tron.model.game.Player;
+import com.tron.model.game.PlayerBehaviorStrategy;
+import com.tron.model.util.LatencyHistogram;
+import com.tron.model.util.TraceRing;
+
+/**
+ * Concrete decorator that measures a behavior strategy without slowing it down.
+ *
+ * This decorator replaces the println-based {@link LoggingBehaviorDecorator}
+ * for anything that runs every tick. Per decision it does a fixed amount of
+ * work on preallocated structures and never allocates or locks:
+ * - Decision latency goes into a lock-free {@link LatencyHistogram}, which
+ *   can be shared by the decorators of many bots
+ * - Boosts, turns and jumps are counted; turns and jumps are read from the
+ *   player before and after the wrapped decision
+ * - With tracing enabled, one event per decision, turn, boost, jump and
+ *   reset is written to a preallocated {@link TraceRing}; a
+ *   {@link TraceDrainer} empties it on a background thread
+ *
+ * Without a player only latency, boosts and resets are recorded, since
+ * turns and jumps are not visible through the strategy interface without
+ * allocating.
+ *
+ * Usage:
+ * {@code
+ * LatencyHistogram latency = new LatencyHistogram();
+ * MetricsBehaviorDecorator metrics =
+ *     new MetricsBehaviorDecorator(aiPlayer.getBehaviorStrategy(), aiPlayer, latency);
+ * metrics.enableTracing(4096);
+ * drainer.register(metrics.getTraceRing());
+ * aiPlayer.setBehaviorStrategy(metrics);
+ * }
+ *
+ * Thread Safety:
+ * Counters and the histogram may be read from any thread. A bot's decisions
+ * may move between threads from tick to tick (e.g. with a decision pipeline),
+ * but must not overlap, since the trace ring has a single producer.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @see BehaviorStrategyDecorator
+ * @see TraceDrainer
+ */
+public class MetricsBehaviorDecorator extends BehaviorStrategyDecorator {
+
+	/** Trace event: a decision, value = latency in nanoseconds, a/b = velocity */
+	public static final int EVENT_DECISION = 0;
+	/** Trace event: the heading changed, a/b = new velocity */
+	public static final int EVENT_TURN = 1;
+	/** Trace event: the strategy asked for a boost */
+	public static final int EVENT_BOOST = 2;
+	/** Trace event: the strategy started a jump */
+	public static final int EVENT_JUMP = 3;
+	/** Trace event: the strategy was reset */
+	public static final int EVENT_RESET = 4;
+
+	private final Player player;
+	private final LatencyHistogram latency;
+	private volatile TraceRing traceRing;
+
+	private final AtomicLong decisions = new AtomicLong();
+	private final AtomicLong boosts = new AtomicLong();
+	private final AtomicLong turns = new AtomicLong();
+	private final AtomicLong jumps = new AtomicLong();
+	private final AtomicLong resets = new AtomicLong();
+
+	/**
+	 * Constructs a decorator recording latency, boosts and resets only.
+	 *
+	 * @param decoratedStrategy the PlayerBehaviorStrategy to measure
+	 * @throws IllegalArgumentException if decoratedStrategy is null
+	 */
+	public MetricsBehaviorDecorator(PlayerBehaviorStrategy decoratedStrategy) {
+		this(decoratedStrategy, null, new LatencyHistogram());
+	}
+
+	/**
+	 * Constructs a decorator with its own latency histogram.
+	 *
+	 * @param decoratedStrategy the PlayerBehaviorStrategy to measure
+	 * @param player the player the strategy controls, or null to skip turns and jumps
+	 * @throws IllegalArgumentException if decoratedStrategy is null
+	 */
+	public MetricsBehaviorDecorator(PlayerBehaviorStrategy decoratedStrategy, Player player) {
+		this(decoratedStrategy, player, new LatencyHistogram());
+	}
+
+	/**
+	 * Constructs a decorator recording into a given, possibly shared, histogram.
+	 *
+	 * @param decoratedStrategy the PlayerBehaviorStrategy to measure
+	 * @param player the player the strategy controls, or null to skip turns and jumps
+	 * @param latency histogram receiving decision latencies
+	 * @throws IllegalArgumentException if decoratedStrategy or latency is null
+	 */
+	public MetricsBehaviorDecorator(PlayerBehaviorStrategy decoratedStrategy, Player player,
+			LatencyHistogram latency) {
+		super(decoratedStrategy);
+		if (latency == null) {
+			throw new IllegalArgumentException("Latency histogram cannot be null");
+		}
+		this.player = player;
+		this.latency = latency;
+	}
+
+	/**
+	 * Times the wrapped decision and records what it changed.
+	 */
+	@Override
+	public void decideMoveDirection() {
+		int oldX = 0;
+		int oldY = 0;
+		boolean wasJumping = false;
+		if (player != null) {
+			oldX = player.getXVelocity();
+			oldY = player.getYVelocity();
+			wasJumping = player.isJumping();
+		}
+
+		long start = System.nanoTime();
+		decoratedStrategy.decideMoveDirection();
+		long end = System.nanoTime();
+
+		decisions.incrementAndGet();
+		latency.record(end - start);
+		TraceRing ring = traceRing;
+		if (player == null) {
+			if (ring != null) {
+				ring.offer(end, EVENT_DECISION, end - start, 0, 0);
+			}
+			return;
+		}
+
+		int newX = player.getXVelocity();
+		int newY = player.getYVelocity();
+		if (ring != null) {
+			ring.offer(end, EVENT_DECISION, end - start, newX, newY);
+		}
+		if (Integer.signum(newX) != Integer.signum(oldX) || Integer.signum(newY) != Integer.signum(oldY)) {
+			turns.incrementAndGet();
+			if (ring != null) {
+				ring.offer(end, EVENT_TURN, 0, newX, newY);
+			}
+		}
+		if (!wasJumping && player.isJumping()) {
+			jumps.incrementAndGet();
+			if (ring != null) {
+				ring.offer(end, EVENT_JUMP, 0, newX, newY);
+			}
+		}
+	}
+
+	/**
+	 * Counts boost requests from the wrapped strategy.
+	 *
+	 * @return the wrapped strategy's boost decision
+	 */
+	@Override
+	public boolean shouldBoost() {
+		boolean boost = decoratedStrategy.shouldBoost();
+		if (boost) {
+			boosts.incrementAndGet();
+			TraceRing ring = traceRing;
+			if (ring != null) {
+				ring.offer(System.nanoTime(), EVENT_BOOST, 0, 0, 0);
+			}
+		}
+		return boost;
+	}
+
+	/**
+	 * Counts resets and delegates to the wrapped strategy.
+	 */
+	@Override
+	public void reset() {
+		resets.incrementAndGet();
+		TraceRing ring = traceRing;
+		if (ring != null) {
+			ring.offer(System.nanoTime(), EVENT_RESET, 0, 0, 0);
+		}
+		decoratedStrategy.reset();
+	}
+
+	/**
+	 * Starts writing trace events to a new preallocated ring.
+	 * Register the ring with a {@link TraceDrainer} to consume it.
+	 *
+	 * @param capacity minimum number of events the ring holds
+	 * @return the new trace ring
+	 * @throws IllegalArgumentException if capacity is not positive
+	 */
+	public TraceRing enableTracing(int capacity) {
+		TraceRing ring = new TraceRing(capacity);
+		traceRing = ring;
+		return ring;
+	}
+
+	/**
+	 * Stops writing trace events. The current ring keeps its waiting events.
+	 */
+	public void disableTracing() {
+		traceRing = null;
+	}
+
+	/**
+	 * Returns the ring trace events are written to.
+	 *
+	 * @return the trace ring, or null if tracing is off
+	 */
+	public TraceRing getTraceRing() {
+		return traceRing;
+	}
+
+	/**
+	 * Returns the histogram of decision latencies.
+	 *
+	 * @return the latency histogram
+	 */
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Returns the number of decisions measured.
+	 *
+	 * @return decision count
+	 */
+	public long getDecisionCount() {
+		return decisions.get();
+	}
+
+	/**
+	 * Returns the number of boosts the wrapped strategy asked for.
+	 *
+	 * @return boost count
+	 */
+	public long getBoostCount() {
+		return boosts.get();
+	}
+
+	/**
+	 * Returns the number of decisions that changed the heading.
+	 *
+	 * @return turn count, 0 without a player
+	 */
+	public long getTurnCount() {
+		return turns.get();
+	}
+
+	/**
+	 * Returns the number of decisions that started a jump.
+	 *
+	 * @return jump count, 0 without a player
+	 */
+	public long getJumpCount() {
+		return jumps.get();
+	}
+
+	/**
+	 * Returns the number of resets.
+	 *
+	 * @return reset count
+	 */
+	public long getResetCount() {
+		return resets.get();
+	}
+}
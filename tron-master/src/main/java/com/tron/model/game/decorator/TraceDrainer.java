@@ -0,0 +1,168 @@
+package com.tron.model.game.decorator;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.tron.model.util.TraceRing;
+
+/**
+ * Background thread that empties trace rings into a sink.
+ *
+ * Decorators such as {@link MetricsBehaviorDecorator} write trace events
+ * into their own {@link TraceRing} on the game or decision thread. One
+ * drainer serves any number of rings: every period it passes their waiting
+ * events to the sink on its own daemon thread, so formatting and output
+ * never run on the threads that make decisions.
+ *
+ * Rings can be registered and removed while the drainer runs. The sink is
+ * only ever called from the drainer thread, or from the caller of
+ * {@link #drainNow()} when the drainer is not running.
+ *
+ * Usage:
+ * {@code
+ * TraceDrainer drainer = new TraceDrainer(sink, 10);
+ * drainer.register(metricsDecorator.getTraceRing());
+ * drainer.start();
+ * }
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @see MetricsBehaviorDecorator
+ * @see TraceRing
+ */
+public class TraceDrainer {
+
+	// Events passed per ring per round, so one busy ring cannot starve the others
+	private static final int BATCH = 1024;
+
+	private final TraceRing.Sink sink;
+	private final long periodMillis;
+	private final CopyOnWriteArrayList<TraceRing> rings = new CopyOnWriteArrayList<>();
+	private volatile Thread thread;
+	private volatile boolean running;
+
+	/**
+	 * Constructs a drainer.
+	 *
+	 * @param sink receiver of all drained events
+	 * @param periodMillis pause between rounds in milliseconds
+	 * @throws IllegalArgumentException if sink is null or periodMillis is not positive
+	 */
+	public TraceDrainer(TraceRing.Sink sink, long periodMillis) {
+		if (sink == null) {
+			throw new IllegalArgumentException("Sink cannot be null");
+		}
+		if (periodMillis <= 0) {
+			throw new IllegalArgumentException("Period must be positive");
+		}
+		this.sink = sink;
+		this.periodMillis = periodMillis;
+	}
+
+	/**
+	 * Adds a ring to drain.
+	 *
+	 * @param ring the ring to drain
+	 * @throws IllegalArgumentException if ring is null
+	 */
+	public void register(TraceRing ring) {
+		if (ring == null) {
+			throw new IllegalArgumentException("Ring cannot be null");
+		}
+		rings.addIfAbsent(ring);
+	}
+
+	/**
+	 * Stops draining a ring. Events still waiting in it are left there.
+	 *
+	 * @param ring the ring to remove
+	 */
+	public void unregister(TraceRing ring) {
+		rings.remove(ring);
+	}
+
+	/**
+	 * Starts the daemon drainer thread. Does nothing if already running.
+	 */
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		running = true;
+		Thread t = new Thread(this::run, "trace-drainer");
+		t.setDaemon(true);
+		thread = t;
+		t.start();
+	}
+
+	/**
+	 * Stops the drainer thread after a final round, waiting for it to end.
+	 */
+	public synchronized void stop() {
+		Thread t = thread;
+		if (t == null) {
+			return;
+		}
+		running = false;
+		t.interrupt();
+		boolean interrupted = false;
+		while (t.isAlive()) {
+			try {
+				t.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		thread = null;
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Checks whether the drainer thread is running.
+	 *
+	 * @return true between start() and stop()
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Drains every ring once on the calling thread.
+	 * Only for use while the drainer thread is not running.
+	 *
+	 * @return number of events passed to the sink
+	 * @throws IllegalStateException if the drainer thread is running
+	 */
+	public int drainNow() {
+		if (running) {
+			throw new IllegalStateException("Drainer thread is running");
+		}
+		return drainAll();
+	}
+
+	private void run() {
+		while (running) {
+			drainAll();
+			try {
+				Thread.sleep(periodMillis);
+			} catch (InterruptedException e) {
+				// stop() interrupts the pause; the loop condition decides
+			}
+		}
+		drainAll();
+	}
+
+	private int drainAll() {
+		int drained = 0;
+		int round;
+		do {
+			round = 0;
+			for (TraceRing ring : rings) {
+				round += ring.drainTo(sink, BATCH);
+			}
+			drained += round;
+		} while (round > 0);
+		return drained;
+	}
+}
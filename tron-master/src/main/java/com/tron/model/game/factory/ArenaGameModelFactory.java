@@ -0,0 +1,81 @@
+package com.tron.model.game.factory;
+
+import com.tron.model.game.ArenaGameModel;
+import com.tron.model.game.TronGameModel;
+
+/**
+ * Concrete factory for creating Arena game models.
+ * 
+ * This factory creates ArenaGameModel instances for large free-for-all
+ * matches between AI bikes, e.g. for stress-testing.
+ * 
+ * Configuration:
+ * - Bot count: supplied by the caller (default 100)
+ * - Map dimensions: square, sized to the bot count (ArenaGameModel.arenaSizeFor)
+ *   unless an arena size is given
+ * - Player velocity: 3 pixels per frame (set by ArenaGameModel constructor)
+ * 
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0 (Factory Method Pattern Implementation)
+ */
+public class ArenaGameModelFactory extends GameModelFactory {
+    
+    private static final int DEFAULT_BOT_COUNT = 100;
+    
+    private final int botCount;
+    private final int arenaSize;
+    
+    /**
+     * Creates a factory for arenas with the default bot count.
+     */
+    public ArenaGameModelFactory() {
+        this(DEFAULT_BOT_COUNT);
+    }
+    
+    /**
+     * Creates a factory for arenas with the given bot count.
+     * 
+     * @param botCount Number of AI bikes per arena
+     */
+    public ArenaGameModelFactory(int botCount) {
+        this(botCount, ArenaGameModel.arenaSizeFor(botCount));
+    }
+    
+    /**
+     * Creates a factory for arenas with the given bot count and size.
+     * 
+     * @param botCount Number of AI bikes per arena
+     * @param arenaSize Side length of the square arena in pixels
+     */
+    public ArenaGameModelFactory(int botCount, int arenaSize) {
+        this.botCount = botCount;
+        this.arenaSize = arenaSize;
+    }
+    
+    /**
+     * Creates an ArenaGameModel with the configured bot count and size.
+     * 
+     * @return A new ArenaGameModel instance
+     */
+    @Override
+    public TronGameModel createGameModel() {
+        return new ArenaGameModel(arenaSize, arenaSize, ArenaGameModel.DEFAULT_VELOCITY, botCount);
+    }
+    
+    /**
+     * Get the number of bots per arena
+     * @return Bot count
+     */
+    public int getBotCount() {
+        return botCount;
+    }
+    
+    /**
+     * Get the arena size
+     * @return Side length in pixels
+     */
+    public int getArenaSize() {
+        return arenaSize;
+    }
+}
@@ -53,4 +53,21 @@ public abstract class GameModelFactory {
         model.reset();
         return model;
     }
+    
+    /**
+     * Template method that initializes a reproducible game model.
+     * 
+     * Same as initializeGame(), but seeds the model before the reset, so
+     * the same seed gives the same starting positions, e.g. for
+     * simulated matches that must be replayable.
+     * 
+     * @param seed Seed for the model's random numbers
+     * @return An initialized TronGameModel ready for use
+     */
+    public TronGameModel initializeGame(long seed) {
+        TronGameModel model = createGameModel();
+        model.setSeed(seed);
+        model.reset();
+        return model;
+    }
 }
@@ -2,7 +2,8 @@
  * Factory pattern implementation for creating different game mode instances.
  * <p>
  * This package contains factory classes responsible for instantiating various
- * game modes including story mode, survival mode, two-player mode, and boss battles.
+ * game modes including story mode, survival mode, two-player mode, boss battles
+ * and large AI arenas.
  * </p>
  *
  * @since 1.0
@@ -12,9 +12,21 @@
  *   <li><b>{@link com.tron.model.game.PlayerHuman}</b> - Human-controlled player</li>
  *   <li><b>{@link com.tron.model.game.PlayerAI}</b> - AI-controlled player</li>
  *   <li><b>{@link com.tron.model.game.TronGameModel}</b> - Base game model with core mechanics</li>
+ *   <li><b>{@link com.tron.model.game.CollisionPhase}</b> - Per-tick sort-and-sweep collision resolution over live players</li>
+ *   <li><b>{@link com.tron.model.game.WorldView}</b> - Read-only per-tick arena view shared by all AI strategies</li>
+ *   <li><b>{@link com.tron.model.game.AIDecisionPipeline}</b> - Runs the next tick's AI decisions on worker threads between ticks</li>
+ *   <li><b>{@link com.tron.model.game.FallbackMove}</b> - Cheap moves used when an AI decision misses its deadline</li>
+ *   <li><b>{@link com.tron.model.game.DecisionPhase}</b> - Decides every AI move of a tick, sequentially or in parallel, before anyone moves</li>
+ *   <li><b>{@link com.tron.model.game.AIScheduler}</b> - Budgeted round-robin AI decisions with keep-going for bots out of danger</li>
+ *   <li><b>{@link com.tron.model.game.GameEngine}</b> - Headless game loop ticking a model at a fixed rate or as fast as possible</li>
+ *   <li><b>{@link com.tron.model.game.FixedTimestep}</b> - Accumulator turning frame times into a fixed tick rate with bounded catch-up</li>
+ *   <li><b>{@link com.tron.model.game.HeadInterpolator}</b> - Head positions between ticks for smooth rendering</li>
+ *   <li><b>{@link com.tron.model.game.SimulationThread}</b> - Ticks a model on its own thread, with queued input and published frames</li>
+ *   <li><b>{@link com.tron.model.game.GameFrame}</b> - Read-only picture of a game after a tick, for drawing off the simulation thread</li>
  *   <li><b>{@link com.tron.model.game.StoryGameModel}</b> - Story mode with progressive difficulty</li>
  *   <li><b>{@link com.tron.model.game.SurvivalGameModel}</b> - Survival mode with high scores</li>
  *   <li><b>{@link com.tron.model.game.TwoPlayerGameModel}</b> - Local multiplayer mode</li>
+ *   <li><b>{@link com.tron.model.game.ArenaGameModel}</b> - Free-for-all arena with any number of AI bikes</li>
  * </ul>
  * 
  * <h2>Design Patterns</h2>
@@ -31,6 +43,10 @@
  *   <li>{@link com.tron.model.game.HumanBehaviorStrategy} - Human player input handling</li>
  *   <li>{@link com.tron.model.game.AIBehaviorStrategy} - Basic AI decision making</li>
  *   <li>{@link com.tron.model.game.HardAIBehaviorStrategy} - Advanced AI with prediction</li>
+ *   <li>{@link com.tron.model.game.FloodFillBehaviorStrategy} - Territory AI scoring headings by reachable area under a time budget</li>
+ *   <li>{@link com.tron.model.game.MinimaxBehaviorStrategy} - Duel AI using iterative-deepening alpha-beta search with a transposition table</li>
+ *   <li>{@link com.tron.model.game.MonteCarloBehaviorStrategy} - Anytime Monte Carlo tree search on background worker threads</li>
+ *   <li>{@link com.tron.model.game.AIStrategyType} - Selectable AI strategies, stored in GameSettings</li>
  * </ul>
  * 
  * @author MattBrown
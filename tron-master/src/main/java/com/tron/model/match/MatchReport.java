@@ -0,0 +1,120 @@
+package com.tron.model.match;
+
+/**
+ * MatchReport - Totals and throughput of a run of matches
+ *
+ * Throughput per core is the number of matches per second of CPU time
+ * spent inside them, so it does not depend on how many cores the run had
+ * or how busy the machine was; wall-clock throughput is given as well.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class MatchReport {
+
+    private final int matches;
+    private final long totalTicks;
+    private final int draws;
+    private final int parallelism;
+    private final long wallNanos;
+    private final long cpuNanos;
+
+    /**
+     * Creates a report.
+     *
+     * @param matches Matches run
+     * @param totalTicks Ticks run over all matches
+     * @param draws Matches without a single survivor
+     * @param parallelism Matches run at once
+     * @param wallNanos Elapsed time of the run
+     * @param cpuNanos CPU time spent in matches, or 0 if not measurable
+     */
+    public MatchReport(int matches, long totalTicks, int draws, int parallelism,
+                       long wallNanos, long cpuNanos) {
+        this.matches = matches;
+        this.totalTicks = totalTicks;
+        this.draws = draws;
+        this.parallelism = parallelism;
+        this.wallNanos = wallNanos;
+        this.cpuNanos = cpuNanos;
+    }
+
+    /**
+     * Get the number of matches run
+     * @return Match count
+     */
+    public int getMatches() {
+        return matches;
+    }
+
+    /**
+     * Get the number of ticks over all matches
+     * @return Tick count
+     */
+    public long getTotalTicks() {
+        return totalTicks;
+    }
+
+    /**
+     * Get the number of matches that ended without a single survivor
+     * @return Draw count
+     */
+    public int getDraws() {
+        return draws;
+    }
+
+    /**
+     * Get the number of matches run at once
+     * @return Parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Get the elapsed time of the run
+     * @return Nanoseconds
+     */
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    /**
+     * Get the CPU time spent in matches
+     * @return Nanoseconds, or 0 if the JVM cannot measure thread CPU time
+     */
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    /**
+     * Get the wall-clock throughput
+     * @return Matches per second
+     */
+    public double getMatchesPerSecond() {
+        return wallNanos > 0 ? matches * 1e9 / wallNanos : 0;
+    }
+
+    /**
+     * Get the throughput per core: matches per second of CPU time. Falls
+     * back to wall-clock time divided among the pool's threads when CPU
+     * time is not available.
+     *
+     * @return Matches per second per core
+     */
+    public double getMatchesPerSecondPerCore() {
+        if (cpuNanos > 0) {
+            return matches * 1e9 / cpuNanos;
+        }
+        return getMatchesPerSecond() / Math.max(parallelism, 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d matches, %d ticks, %d draws in %.2f s on %d threads: "
+                + "%.1f matches/s, %.1f matches/s/core",
+                matches, totalTicks, draws, wallNanos / 1e9, parallelism,
+                getMatchesPerSecond(), getMatchesPerSecondPerCore());
+    }
+}
@@ -0,0 +1,144 @@
+package com.tron.model.match;
+
+import com.tron.model.game.DeathCause;
+
+/**
+ * MatchResult - Outcome of one headless match
+ *
+ * Immutable record of a finished match: which seed produced it, who won,
+ * how many ticks it lasted, and for every player how many ticks it
+ * survived and why it died.
+ *
+ * Responsibilities:
+ * - Hold a match's outcome
+ * - toLine(): compact one-line form, as written by {@link MatchResultWriter}
+ *
+ * Line format, fields separated by single spaces:
+ * <pre>
+ * index seed winner ticks survived1cause1 survived2cause2 ...
+ * </pre>
+ * where winner is -1 for a draw and each cause is a {@link DeathCause}
+ * code, or '+' for a player still alive at the end. For example
+ * {@code 7 -4152386 2 913 640C 488W 913+}.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class MatchResult {
+
+    /** Winner of a match without a single survivor */
+    public static final int DRAW = -1;
+
+    /** Code written for a player that survived the match */
+    public static final char SURVIVED = '+';
+
+    private final int index;
+    private final long seed;
+    private final int winner;
+    private final long ticks;
+    private final long[] ticksSurvived;
+    private final DeathCause[] causes;
+
+    /**
+     * Creates a result.
+     *
+     * @param index Match number within its run
+     * @param seed Seed the match was created from
+     * @param winner Slot of the winning player, or DRAW
+     * @param ticks Number of ticks the match lasted
+     * @param ticksSurvived Ticks each player completed alive
+     * @param causes Each player's cause of death, null for survivors
+     */
+    public MatchResult(int index, long seed, int winner, long ticks,
+                       long[] ticksSurvived, DeathCause[] causes) {
+        if (ticksSurvived.length != causes.length) {
+            throw new IllegalArgumentException("One survival time and cause per player required");
+        }
+        this.index = index;
+        this.seed = seed;
+        this.winner = winner;
+        this.ticks = ticks;
+        this.ticksSurvived = ticksSurvived.clone();
+        this.causes = causes.clone();
+    }
+
+    /**
+     * Get the match number within its run
+     * @return Match index
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Get the seed the match was created from
+     * @return Seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Get the winner
+     * @return Slot of the only surviving player, or DRAW
+     */
+    public int getWinner() {
+        return winner;
+    }
+
+    /**
+     * Get the length of the match
+     * @return Ticks run
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Get the number of players
+     * @return Player count
+     */
+    public int getPlayerCount() {
+        return causes.length;
+    }
+
+    /**
+     * Get how long a player survived
+     * @param slot Player index
+     * @return Ticks the player completed alive
+     */
+    public long getTicksSurvived(int slot) {
+        return ticksSurvived[slot];
+    }
+
+    /**
+     * Get why a player died
+     * @param slot Player index
+     * @return Cause of death, or null if the player survived
+     */
+    public DeathCause getCause(int slot) {
+        return causes[slot];
+    }
+
+    /**
+     * Formats the result as one line, without a line break.
+     *
+     * @return Compact line form
+     */
+    public String toLine() {
+        StringBuilder sb = new StringBuilder(32 + 8 * causes.length);
+        sb.append(index).append(' ').append(seed).append(' ')
+          .append(winner).append(' ').append(ticks);
+        for (int i = 0; i < causes.length; i++) {
+            sb.append(' ').append(ticksSurvived[i])
+              .append(causes[i] != null ? causes[i].getCode() : SURVIVED);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "MatchResult[" + toLine() + "]";
+    }
+}
@@ -0,0 +1,90 @@
+package com.tron.model.match;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * MatchResultWriter - Streams match results to a compact text file
+ *
+ * Writes each result as one line ({@link MatchResult#toLine()}) as soon as
+ * it arrives, after a single comment line naming the fields. A run of
+ * thousands of matches is never held in memory, and a file cut short by a
+ * crash still holds every match finished before it.
+ *
+ * Responsibilities:
+ * - accept(): append one result line
+ * - close(): flush and close the file
+ *
+ * Thread-safe: results may be accepted from several threads.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public class MatchResultWriter implements Consumer<MatchResult>, Closeable {
+
+    /** First line of every result file */
+    public static final String HEADER = "# index seed winner ticks survived+cause...";
+
+    private final Writer out;
+    private long written = 0;
+
+    /**
+     * Creates or replaces a result file.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be created
+     */
+    public MatchResultWriter(Path file) throws IOException {
+        this(Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes results to a writer, which is closed with this one.
+     *
+     * @param out Destination
+     * @throws IOException if the header cannot be written
+     */
+    public MatchResultWriter(Writer out) throws IOException {
+        this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out);
+        this.out.write(HEADER);
+        this.out.write('\n');
+    }
+
+    /**
+     * Appends one result.
+     *
+     * @param result The result
+     * @throws UncheckedIOException if writing fails
+     */
+    @Override
+    public synchronized void accept(MatchResult result) {
+        try {
+            out.write(result.toLine());
+            out.write('\n');
+            written++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write match result", e);
+        }
+    }
+
+    /**
+     * Get the number of results written
+     * @return Result count
+     */
+    public synchronized long getWritten() {
+        return written;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,236 @@
+package com.tron.model.match;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import com.tron.model.game.DeathCause;
+import com.tron.model.game.Player;
+import com.tron.model.game.TronGameModel;
+import com.tron.model.game.factory.GameModelFactory;
+
+/**
+ * MatchRunner - Runs many independent headless matches concurrently
+ *
+ * Evaluating an AI strategy takes thousands of matches. The runner creates
+ * each match from a {@link GameModelFactory} (so the game mode, arena size
+ * and bot count are whatever the factory makes) with its own seed, ticks
+ * it to the end with no UI, and passes a {@link MatchResult} to a sink as
+ * soon as it finishes.
+ *
+ * Responsibilities:
+ * - run(): play a number of matches on a work-stealing pool and report
+ *   totals and throughput
+ * - runMatch(): play one match on the calling thread
+ * - seedFor(): derive each match's seed from the run's seed, so any
+ *   single match can be replayed on its own
+ *
+ * Matches are CPU-bound and never block, so a ForkJoinPool with one
+ * thread per core keeps every core busy; virtual threads would add
+ * nothing. Matches share no state, and results reach the sink one at a
+ * time, in the order the matches finish.
+ *
+ * Usage:
+ * <pre>
+ * MatchRunner runner = new MatchRunner(new ArenaGameModelFactory(8, 500));
+ * try (MatchResultWriter out = new MatchResultWriter(Path.of("results.txt"))) {
+ *     MatchReport report = runner.run(10_000, 42L, out);
+ *     System.out.println(report);
+ * }
+ * </pre>
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public class MatchRunner {
+
+    /** Default tick limit; a match still going after it is a draw */
+    public static final long DEFAULT_MAX_TICKS = 100_000;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final GameModelFactory factory;
+    private final int parallelism;
+    private long maxTicks = DEFAULT_MAX_TICKS;
+
+    /**
+     * Creates a runner using every available core.
+     *
+     * @param factory Creates the match models
+     */
+    public MatchRunner(GameModelFactory factory) {
+        this(factory, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a runner.
+     *
+     * @param factory Creates the match models
+     * @param parallelism Number of matches run at once
+     * @throws IllegalArgumentException if factory is null or parallelism is not positive
+     */
+    public MatchRunner(GameModelFactory factory, int parallelism) {
+        if (factory == null) {
+            throw new IllegalArgumentException("Factory cannot be null");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.factory = factory;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays matches concurrently and waits for all of them.
+     *
+     * @param matches Number of matches
+     * @param seed Seed of the run; match i uses seedFor(seed, i)
+     * @param sink Receives each result as its match ends, one at a time
+     * @return Totals and throughput of the run
+     * @throws IllegalArgumentException if matches is negative
+     */
+    public MatchReport run(int matches, long seed, Consumer<MatchResult> sink) {
+        if (matches < 0) {
+            throw new IllegalArgumentException("Match count cannot be negative");
+        }
+        LongAdder totalTicks = new LongAdder();
+        LongAdder cpuNanos = new LongAdder();
+        AtomicInteger draws = new AtomicInteger();
+        Object sinkLock = new Object();
+        boolean cpuTimed = THREADS.isCurrentThreadCpuTimeSupported();
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long start = System.nanoTime();
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(matches);
+            for (int i = 0; i < matches; i++) {
+                final int index = i;
+                tasks.add(pool.submit(() -> {
+                    long cpuStart = cpuTimed ? THREADS.getCurrentThreadCpuTime() : 0;
+                    MatchResult result = runMatch(index, seedFor(seed, index));
+                    if (cpuTimed) {
+                        cpuNanos.add(THREADS.getCurrentThreadCpuTime() - cpuStart);
+                    }
+                    totalTicks.add(result.getTicks());
+                    if (result.getWinner() == MatchResult.DRAW) {
+                        draws.incrementAndGet();
+                    }
+                    synchronized (sinkLock) {
+                        sink.accept(result);
+                    }
+                }));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        long wall = System.nanoTime() - start;
+        return new MatchReport(matches, totalTicks.sum(), draws.get(), parallelism,
+                wall, cpuNanos.sum());
+    }
+
+    /**
+     * Plays one match on the calling thread.
+     *
+     * @param index Match number, copied into the result
+     * @param seed Seed for the match model
+     * @return The result
+     */
+    public MatchResult runMatch(int index, long seed) {
+        TronGameModel model = factory.initializeGame(seed);
+        Player[] players = model.getPlayers();
+        int n = players.length;
+        long[] survived = new long[n];
+        DeathCause[] causes = new DeathCause[n];
+
+        // Slots still alive, compacted as players die
+        int[] alive = new int[n];
+        int aliveCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (players[i] != null && players[i].getAlive()) {
+                alive[aliveCount++] = i;
+            }
+        }
+
+        long ticks = 0;
+        while (ticks < maxTicks && model.isRunning()) {
+            model.tick();
+            ticks++;
+            int kept = 0;
+            for (int k = 0; k < aliveCount; k++) {
+                int slot = alive[k];
+                Player p = players[slot];
+                if (p.getAlive()) {
+                    alive[kept++] = slot;
+                } else {
+                    survived[slot] = ticks - 1;
+                    causes[slot] = p.getDeathCause();
+                }
+            }
+            aliveCount = kept;
+        }
+        for (int k = 0; k < aliveCount; k++) {
+            survived[alive[k]] = ticks;
+        }
+
+        int winner = aliveCount == 1 ? alive[0] : MatchResult.DRAW;
+        return new MatchResult(index, seed, winner, ticks, survived, causes);
+    }
+
+    /**
+     * Derives a match's seed from the run's seed.
+     *
+     * @param runSeed Seed of the run
+     * @param index Match number
+     * @return Seed of the match
+     */
+    public static long seedFor(long runSeed, int index) {
+        return new SplittableRandom(runSeed + 0x9E3779B97F4A7C15L * index).nextLong();
+    }
+
+    /**
+     * Set the tick limit per match
+     * @param maxTicks Ticks after which a match is stopped as a draw
+     * @throws IllegalArgumentException if maxTicks is not positive
+     */
+    public void setMaxTicks(long maxTicks) {
+        if (maxTicks <= 0) {
+            throw new IllegalArgumentException("Tick limit must be positive");
+        }
+        this.maxTicks = maxTicks;
+    }
+
+    /**
+     * Get the tick limit per match
+     * @return Maximum ticks per match
+     */
+    public long getMaxTicks() {
+        return maxTicks;
+    }
+
+    /**
+     * Get the number of matches run at once
+     * @return Parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Get the factory creating the match models
+     * @return The factory
+     */
+    public GameModelFactory getFactory() {
+        return factory;
+    }
+}
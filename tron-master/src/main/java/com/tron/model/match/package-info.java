@@ -0,0 +1,23 @@
+/**
+ * Headless matches run in bulk, for evaluating AI strategies.
+ * 
+ * <h2>Package Overview</h2>
+ * This package runs many independent games at once without any UI: each
+ * match is created by a {@link com.tron.model.game.factory.GameModelFactory}
+ * from its own seed, ticked to the end and summarised in a small result
+ * record. Results are streamed as matches finish, so runs of thousands of
+ * matches need no more memory than a handful.
+ * 
+ * <h2>Key Classes</h2>
+ * <ul>
+ *   <li><b>{@link com.tron.model.match.MatchRunner}</b> - Runs matches concurrently on a work-stealing pool</li>
+ *   <li><b>{@link com.tron.model.match.MatchResult}</b> - Winner, length and every player's ticks survived and cause of death</li>
+ *   <li><b>{@link com.tron.model.match.MatchResultWriter}</b> - Streams results to a compact line-per-match file</li>
+ *   <li><b>{@link com.tron.model.match.MatchReport}</b> - Totals and throughput (matches per second per core) of a run</li>
+ * </ul>
+ * 
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+package com.tron.model.match;
@@ -22,6 +22,7 @@
  *   <li>{@link com.tron.model.util} - Utility classes (colors, shapes, maps)</li>
  *   <li>{@link com.tron.model.data} - Data transfer objects for view rendering</li>
  *   <li>{@link com.tron.model.input} - Input event definitions</li>
+ *   <li>{@link com.tron.model.match} - Concurrent headless matches for AI evaluation</li>
  * </ul>
  * 
  * <h2>Design Principles</h2>
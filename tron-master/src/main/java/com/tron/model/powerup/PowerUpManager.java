@@ -2,7 +2,7 @@ package com.tron.model.powerup;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * PowerUpManager - Manages power-up spawning, timing, and lifecycle
@@ -36,7 +36,7 @@ public class PowerUpManager {
     private List<PowerUp> activePowerUps;
     private double timeSinceLastSpawn;
     private boolean enabled;
-    private Random random;
+    private SplittableRandom random;
     
     // Map boundaries for spawn location
     private int mapWidth;
@@ -55,7 +55,7 @@ public class PowerUpManager {
         this.mapWidth = mapWidth;
         this.mapHeight = mapHeight;
         this.activePowerUps = new ArrayList<>();
-        this.random = new Random();
+        this.random = new SplittableRandom();
         this.enabled = false;
         this.timeSinceLastSpawn = 0.0;
         this.currentType = PowerUpType.BOOST; // Default type
@@ -88,6 +88,21 @@ public class PowerUpManager {
         this.timeSinceLastSpawn = 0.0;
     }
     
+    /**
+     * Set the generator spawn positions are drawn from. Game models pass
+     * a branch of their seeded random number tree on every reset, so a
+     * seeded game spawns the same power-ups in the same places.
+     * 
+     * @param random Generator for spawn positions
+     * @throws IllegalArgumentException if random is null
+     */
+    public void setRandom(SplittableRandom random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Random cannot be null");
+        }
+        this.random = random;
+    }
+    
     /**
      * Set the type of power-up to spawn
      * 
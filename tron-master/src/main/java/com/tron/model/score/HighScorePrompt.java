@@ -0,0 +1,32 @@
+package com.tron.model.score;
+
+import java.util.function.Consumer;
+
+/**
+ * HighScorePrompt - Asks the player for the details of a new high score
+ *
+ * Lets the model record a qualifying score without knowing how the player
+ * is asked. The JavaFX view shows a dialog on the FX thread; headless
+ * runs set no prompt at all, so the model never touches a UI toolkit.
+ *
+ * Implementations may answer later and on another thread. They call
+ * onEntry once with the completed entry, or not at all if the player
+ * declines.
+ *
+ * Design Pattern: Strategy (the view supplies how to ask)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface HighScorePrompt {
+
+    /**
+     * Asks for the player's details for a qualifying score.
+     *
+     * @param score The score that made the high score list
+     * @param onEntry Receives the completed entry
+     */
+    void requestEntry(int score, Consumer<HighScoreEntry> onEntry);
+}
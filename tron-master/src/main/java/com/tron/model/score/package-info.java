@@ -11,6 +11,7 @@
  *   <li><b>{@link com.tron.model.score.Score}</b> - Singleton score manager with JSON persistence</li>
  *   <li><b>{@link com.tron.model.score.HighScoreEntry}</b> - Individual high score record</li>
  *   <li><b>{@link com.tron.model.score.LocalDateAdapter}</b> - Gson adapter for date serialization</li>
+ *   <li><b>{@link com.tron.model.score.HighScorePrompt}</b> - View-supplied callback asking the player for high score details</li>
  * </ul>
  * 
  * <h2>Features</h2>
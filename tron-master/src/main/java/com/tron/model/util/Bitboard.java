@@ -0,0 +1,361 @@
+package com.tron.model.util;
+
+import java.util.Arrays;
+
+/**
+ * Bitboard - Packed one-bit-per-cell grid of a discretized arena
+ *
+ * Cells are stored row-major in a {@code long[]}, each row padded to whole
+ * words, so a set bit means the cell is blocked. Search-based AIs use it as
+ * their arena state: a move is setting one bit and undoing it is clearing
+ * it, copying a board is one array copy, and counts are popcounts.
+ *
+ * Flood fill works on whole words instead of single cells:
+ * - Within a row, reach spreads through free runs with logarithmic shift
+ *   fills (Kogge-Stone), carrying across word boundaries
+ * - Between rows, each row takes in the reach of its neighbours; rows are
+ *   swept alternately top-down and bottom-up, updating in place, so reach
+ *   travels the whole height of an open area in one sweep
+ * Sweeps repeat until nothing changes; open areas settle in a few sweeps.
+ *
+ * Bits beyond the last column of a row are always clear. Cells outside the
+ * board read as blocked.
+ *
+ * Design Pattern: Spatial Index (bit raster)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class Bitboard {
+
+    private final int columns;
+    private final int rows;
+    private final int wordsPerRow;
+    private final long lastWordMask;
+    private final long[] words;
+
+    /**
+     * Creates an empty board.
+     *
+     * @param columns Number of cell columns
+     * @param rows Number of cell rows
+     * @throws IllegalArgumentException if either dimension is not positive
+     */
+    public Bitboard(int columns, int rows) {
+        if (columns <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Board dimensions must be positive");
+        }
+        this.columns = columns;
+        this.rows = rows;
+        this.wordsPerRow = (columns + 63) >>> 6;
+        int tailBits = columns & 63;
+        this.lastWordMask = tailBits == 0 ? -1L : (1L << tailBits) - 1;
+        this.words = new long[wordsPerRow * rows];
+    }
+
+    /**
+     * Creates a copy of another board.
+     *
+     * @param other Board to copy
+     */
+    public Bitboard(Bitboard other) {
+        this(other.columns, other.rows);
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    /**
+     * Get the number of cell columns
+     * @return Column count
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Get the number of cell rows
+     * @return Row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Check if a cell is blocked. Cells outside the board count as blocked.
+     *
+     * @param column Cell column
+     * @param row Cell row
+     * @return true if the cell is set or off the board
+     */
+    public boolean get(int column, int row) {
+        if (column < 0 || column >= columns || row < 0 || row >= rows) {
+            return true;
+        }
+        return (words[row * wordsPerRow + (column >>> 6)] & (1L << column)) != 0;
+    }
+
+    /**
+     * Marks a cell as blocked. Ignored outside the board.
+     *
+     * @param column Cell column
+     * @param row Cell row
+     */
+    public void set(int column, int row) {
+        if (column >= 0 && column < columns && row >= 0 && row < rows) {
+            words[row * wordsPerRow + (column >>> 6)] |= 1L << column;
+        }
+    }
+
+    /**
+     * Marks a cell as free. Ignored outside the board.
+     *
+     * @param column Cell column
+     * @param row Cell row
+     */
+    public void clear(int column, int row) {
+        if (column >= 0 && column < columns && row >= 0 && row < rows) {
+            words[row * wordsPerRow + (column >>> 6)] &= ~(1L << column);
+        }
+    }
+
+    /**
+     * Moves a head into a cell: blocks it if it is free.
+     *
+     * @param column Cell column
+     * @param row Cell row
+     * @return true if the move was legal (the cell was free and on the board)
+     */
+    public boolean makeMove(int column, int row) {
+        if (get(column, row)) {
+            return false;
+        }
+        words[row * wordsPerRow + (column >>> 6)] |= 1L << column;
+        return true;
+    }
+
+    /**
+     * Takes back a move made with {@link #makeMove(int, int)}.
+     *
+     * @param column Cell column
+     * @param row Cell row
+     */
+    public void unmakeMove(int column, int row) {
+        clear(column, row);
+    }
+
+    /**
+     * Blocks every cell of a rectangle, clipped to the board.
+     *
+     * @param column1 First column (inclusive)
+     * @param row1 First row (inclusive)
+     * @param column2 Last column (inclusive)
+     * @param row2 Last row (inclusive)
+     */
+    public void setRect(int column1, int row1, int column2, int row2) {
+        int c1 = Math.max(Math.min(column1, column2), 0);
+        int c2 = Math.min(Math.max(column1, column2), columns - 1);
+        int r1 = Math.max(Math.min(row1, row2), 0);
+        int r2 = Math.min(Math.max(row1, row2), rows - 1);
+        if (c1 > c2 || r1 > r2) {
+            return;
+        }
+        int firstWord = c1 >>> 6;
+        int lastWord = c2 >>> 6;
+        long firstMask = -1L << c1;
+        long lastMask = -1L >>> (63 - (c2 & 63));
+        for (int r = r1; r <= r2; r++) {
+            int base = r * wordsPerRow;
+            if (firstWord == lastWord) {
+                words[base + firstWord] |= firstMask & lastMask;
+                continue;
+            }
+            words[base + firstWord] |= firstMask;
+            for (int w = firstWord + 1; w < lastWord; w++) {
+                words[base + w] = -1L;
+            }
+            words[base + lastWord] |= lastMask;
+        }
+    }
+
+    /**
+     * Copies another board of the same size into this one.
+     *
+     * @param other Board to copy
+     * @throws IllegalArgumentException if the sizes differ
+     */
+    public void copyFrom(Bitboard other) {
+        checkSameSize(other);
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    /**
+     * Frees every cell.
+     */
+    public void clearAll() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Count blocked cells
+     * @return Number of set cells
+     */
+    public int count() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Count free cells
+     * @return Number of clear cells on the board
+     */
+    public int countFree() {
+        return columns * rows - count();
+    }
+
+    /**
+     * Finds every free cell reachable from a start cell through free
+     * neighbours (4-connected) and writes that region into another board.
+     *
+     * @param column Start column
+     * @param row Start row
+     * @param region Board receiving the reachable region (same size, not this)
+     * @return Number of reachable cells, 0 if the start is blocked
+     * @throws IllegalArgumentException if region is this board or differs in size
+     */
+    public int floodFill(int column, int row, Bitboard region) {
+        checkSameSize(region);
+        if (region == this) {
+            throw new IllegalArgumentException("Region must be a separate board");
+        }
+        region.clearAll();
+        if (get(column, row)) {
+            return 0;
+        }
+        region.set(column, row);
+        spreadRow(region.words, row, true);
+        int top = row;
+        int bottom = row;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int r = Math.max(top - 1, 0); r <= Math.min(bottom + 1, rows - 1); r++) {
+                if (spreadRow(region.words, r, false)) {
+                    changed = true;
+                    top = Math.min(top, r);
+                    bottom = Math.max(bottom, r);
+                }
+            }
+            for (int r = Math.min(bottom + 1, rows - 1); r >= Math.max(top - 1, 0); r--) {
+                if (spreadRow(region.words, r, false)) {
+                    changed = true;
+                    top = Math.min(top, r);
+                    bottom = Math.max(bottom, r);
+                }
+            }
+        }
+        return region.count();
+    }
+
+    /**
+     * Get the memory used by the cell words
+     * @return Size of the word array in bytes
+     */
+    public long getMemoryBytes() {
+        return 8L * words.length;
+    }
+
+    /**
+     * Grows the reach of one row from its vertical neighbours, then across
+     * its free runs in both directions. A row that gained nothing from its
+     * neighbours is already spread, unless forced (the start row).
+     *
+     * @return true if the row gained cells
+     */
+    private boolean spreadRow(long[] reach, int row, boolean force) {
+        int base = row * wordsPerRow;
+        long gained = 0;
+        for (int w = 0; w < wordsPerRow; w++) {
+            int i = base + w;
+            long grown = reach[i];
+            if (row > 0) {
+                grown |= reach[i - wordsPerRow];
+            }
+            if (row < rows - 1) {
+                grown |= reach[i + wordsPerRow];
+            }
+            grown &= free(i, w);
+            gained |= grown ^ reach[i];
+            reach[i] = grown;
+        }
+        if (gained == 0 && !force) {
+            return false;
+        }
+        long carry = 0;
+        for (int w = 0; w < wordsPerRow; w++) {
+            int i = base + w;
+            long open = free(i, w);
+            long grown = fillUp(reach[i] | (carry & open), open);
+            carry = grown >>> 63;
+            reach[i] = grown;
+        }
+        carry = 0;
+        for (int w = wordsPerRow - 1; w >= 0; w--) {
+            int i = base + w;
+            long open = free(i, w);
+            long grown = fillDown(reach[i] | (carry & open), open);
+            carry = (grown & 1L) << 63;
+            reach[i] = grown;
+        }
+        return true;
+    }
+
+    private long free(int index, int wordInRow) {
+        long open = ~words[index];
+        return wordInRow == wordsPerRow - 1 ? open & lastWordMask : open;
+    }
+
+    /**
+     * Spreads set bits toward higher bit positions through open bits.
+     */
+    private static long fillUp(long reach, long open) {
+        reach |= open & (reach << 1);
+        open &= open << 1;
+        reach |= open & (reach << 2);
+        open &= open << 2;
+        reach |= open & (reach << 4);
+        open &= open << 4;
+        reach |= open & (reach << 8);
+        open &= open << 8;
+        reach |= open & (reach << 16);
+        open &= open << 16;
+        reach |= open & (reach << 32);
+        return reach;
+    }
+
+    /**
+     * Spreads set bits toward lower bit positions through open bits.
+     */
+    private static long fillDown(long reach, long open) {
+        reach |= open & (reach >>> 1);
+        open &= open >>> 1;
+        reach |= open & (reach >>> 2);
+        open &= open >>> 2;
+        reach |= open & (reach >>> 4);
+        open &= open >>> 4;
+        reach |= open & (reach >>> 8);
+        open &= open >>> 8;
+        reach |= open & (reach >>> 16);
+        open &= open >>> 16;
+        reach |= open & (reach >>> 32);
+        return reach;
+    }
+
+    private void checkSameSize(Bitboard other) {
+        if (other.columns != columns || other.rows != rows) {
+            throw new IllegalArgumentException("Boards differ in size");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.tron.model.util;
+
+/**
+ * ColorPalette - Generated player colors for arenas of any size
+ *
+ * The first colors match the {@link PlayerColor} constants in declaration
+ * order, so small games look exactly as before. Every further index gets a
+ * generated color: hues are spaced by the golden angle so neighbouring
+ * indices never look alike, and saturation/brightness cycle through a few
+ * levels to separate colors whose hues end up close together.
+ *
+ * Colors are packed as 0xRRGGBB integers so the model stays free of any
+ * UI toolkit types.
+ *
+ * Design Pattern: Utility Class
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class ColorPalette {
+
+    private static final PlayerColor[] BASE = PlayerColor.values();
+    private static final double GOLDEN_ANGLE = 137.50776405003785;
+    private static final double[] SATURATION = { 0.85, 0.6, 1.0 };
+    private static final double[] BRIGHTNESS = { 1.0, 0.8, 0.9 };
+
+    private ColorPalette() {
+    }
+
+    /**
+     * Get the color for a player index.
+     *
+     * @param index Player index (0 = first player)
+     * @return Packed 0xRRGGBB color
+     */
+    public static int colorAt(int index) {
+        if (index < BASE.length) {
+            return BASE[index].getRgb();
+        }
+        int n = index - BASE.length;
+        double hue = (n * GOLDEN_ANGLE) % 360.0;
+        return hsbToRgb(hue, SATURATION[n % SATURATION.length],
+                BRIGHTNESS[(n / SATURATION.length) % BRIGHTNESS.length]);
+    }
+
+    /**
+     * Generate colors for a whole game.
+     *
+     * @param count Number of players
+     * @return Packed 0xRRGGBB colors, one per player
+     */
+    public static int[] generate(int count) {
+        int[] colors = new int[count];
+        for (int i = 0; i < count; i++) {
+            colors[i] = colorAt(i);
+        }
+        return colors;
+    }
+
+    /**
+     * Get the red component of a packed color
+     *
+     * @param rgb Packed 0xRRGGBB color
+     * @return Red component (0-255)
+     */
+    public static int red(int rgb) {
+        return (rgb >> 16) & 0xFF;
+    }
+
+    /**
+     * Get the green component of a packed color
+     *
+     * @param rgb Packed 0xRRGGBB color
+     * @return Green component (0-255)
+     */
+    public static int green(int rgb) {
+        return (rgb >> 8) & 0xFF;
+    }
+
+    /**
+     * Get the blue component of a packed color
+     *
+     * @param rgb Packed 0xRRGGBB color
+     * @return Blue component (0-255)
+     */
+    public static int blue(int rgb) {
+        return rgb & 0xFF;
+    }
+
+    private static int hsbToRgb(double hue, double saturation, double brightness) {
+        double c = brightness * saturation;
+        double h = hue / 60.0;
+        double x = c * (1 - Math.abs(h % 2 - 1));
+        double r;
+        double g;
+        double b;
+        if (h < 1) {
+            r = c; g = x; b = 0;
+        } else if (h < 2) {
+            r = x; g = c; b = 0;
+        } else if (h < 3) {
+            r = 0; g = c; b = x;
+        } else if (h < 4) {
+            r = 0; g = x; b = c;
+        } else if (h < 5) {
+            r = x; g = 0; b = c;
+        } else {
+            r = c; g = 0; b = x;
+        }
+        double m = brightness - c;
+        return (toByte(r + m) << 16) | (toByte(g + m) << 8) | toByte(b + m);
+    }
+
+    private static int toByte(double component) {
+        return (int) Math.round(Math.min(1.0, Math.max(0.0, component)) * 255);
+    }
+}
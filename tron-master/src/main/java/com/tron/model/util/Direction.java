@@ -0,0 +1,102 @@
+package com.tron.model.util;
+
+/**
+ * Direction - The four axis-aligned headings a player can move in
+ *
+ * Used by the world query API to cast rays and measure free space,
+ * and by strategies to reason about moves without raw velocity pairs.
+ * Screen coordinates are used: Y grows downward, so UP has dy = -1.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public enum Direction {
+    UP(0, -1),
+    DOWN(0, 1),
+    LEFT(-1, 0),
+    RIGHT(1, 0);
+
+    private final int dx;
+    private final int dy;
+
+    Direction(int dx, int dy) {
+        this.dx = dx;
+        this.dy = dy;
+    }
+
+    /**
+     * Get the horizontal unit step (-1, 0 or 1)
+     * @return X step
+     */
+    public int getDx() {
+        return dx;
+    }
+
+    /**
+     * Get the vertical unit step (-1, 0 or 1)
+     * @return Y step
+     */
+    public int getDy() {
+        return dy;
+    }
+
+    /**
+     * Check if this direction runs along the X axis
+     * @return true for LEFT and RIGHT
+     */
+    public boolean isHorizontal() {
+        return dx != 0;
+    }
+
+    /**
+     * Get the reverse heading
+     * @return The opposite direction
+     */
+    public Direction opposite() {
+        switch (this) {
+            case UP: return DOWN;
+            case DOWN: return UP;
+            case LEFT: return RIGHT;
+            default: return LEFT;
+        }
+    }
+
+    /**
+     * Get the heading after a 90 degree turn to the left (counterclockwise
+     * on screen)
+     * @return The direction to the left
+     */
+    public Direction left() {
+        switch (this) {
+            case UP: return LEFT;
+            case LEFT: return DOWN;
+            case DOWN: return RIGHT;
+            default: return UP;
+        }
+    }
+
+    /**
+     * Get the heading after a 90 degree turn to the right (clockwise on screen)
+     * @return The direction to the right
+     */
+    public Direction right() {
+        return left().opposite();
+    }
+
+    /**
+     * Get the heading of a velocity.
+     * A velocity with both components set is treated as horizontal.
+     *
+     * @param velocityX Horizontal velocity
+     * @param velocityY Vertical velocity
+     * @return The heading, or null for a stopped player
+     */
+    public static Direction fromVelocity(int velocityX, int velocityY) {
+        if (velocityX > 0) return RIGHT;
+        if (velocityX < 0) return LEFT;
+        if (velocityY > 0) return DOWN;
+        if (velocityY < 0) return UP;
+        return null;
+    }
+}
@@ -0,0 +1,57 @@
+package com.tron.model.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latches - Deadline waits on a CountDownLatch for the game loop
+ *
+ * The game loop waits for work handed to other threads (AI decisions)
+ * until a System.nanoTime() deadline. An interrupt must not cut such a
+ * wait short, or the loop would read a decision that is still being
+ * written; it is remembered and the interrupt flag restored afterwards.
+ *
+ * Design Pattern: Utility Class
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class Latches {
+
+    /** Deadline that never passes; waits until the latch opens */
+    public static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    private Latches() {
+    }
+
+    /**
+     * Waits for a latch until a System.nanoTime() deadline, carrying on
+     * through interrupts and restoring the interrupt flag afterwards.
+     *
+     * @param latch The latch to wait for
+     * @param deadline System.nanoTime() value to give up at, or NO_DEADLINE
+     * @return true if the latch opened
+     */
+    public static boolean awaitUntil(CountDownLatch latch, long deadline) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    if (deadline == NO_DEADLINE) {
+                        latch.await();
+                        return true;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    return latch.await(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.tron.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * LatencyHistogram - Lock-free log-linear histogram of durations
+ *
+ * Records nanosecond durations from any number of threads without locks
+ * or allocation: each value lands in a bucket by its highest set bit and
+ * the next SUB_BITS bits, so buckets are at most 1/2^SUB_BITS = 25% wide
+ * relative to their value, from 1 ns up to Long.MAX_VALUE ns.
+ *
+ * Responsibilities:
+ * - record(): one atomic increment per bucket, count and sum, and a
+ *   compare-and-set loop for the maximum that only retries while the
+ *   maximum is rising
+ * - Percentiles, mean and maximum for reporting
+ *
+ * Readers may see a recording that is only partly applied (say, counted
+ * but not yet summed); reports are approximate while recording continues.
+ *
+ * Design Pattern: Log-Linear Bucketing (HDR-style histogram)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+    // Bits of precision below the highest set bit
+    private static final int SUB_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one duration. Negative values count as 0.
+     *
+     * @param nanos Duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        long seen = max.get();
+        while (value > seen && !max.compareAndSet(seen, value)) {
+            seen = max.get();
+        }
+    }
+
+    /**
+     * Get the number of recorded durations
+     * @return Recording count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Get the mean duration
+     * @return Mean in nanoseconds, 0 if nothing was recorded
+     */
+    public double getMean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Get the longest duration
+     * @return Maximum in nanoseconds, 0 if nothing was recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets a duration that the given fraction of recordings did not exceed,
+     * rounded up to the end of its bucket and capped at the maximum.
+     *
+     * @param fraction Fraction between 0 and 1, e.g. 0.99
+     * @return Percentile in nanoseconds, 0 if nothing was recorded
+     * @throws IllegalArgumentException if fraction is outside [0, 1]
+     */
+    public long getPercentile(double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("Fraction must be between 0 and 1");
+        }
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketEnd(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Clears all recordings. Not atomic with respect to concurrent record().
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    /**
+     * Bucket of a non-negative value: values below SUB_BUCKETS get their own
+     * bucket, larger ones are split by their top SUB_BITS + 1 bits.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Largest value that falls into a bucket.
+     */
+    static long bucketEnd(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        long start = (1L << exponent) | (sub << (exponent - SUB_BITS));
+        long width = 1L << (exponent - SUB_BITS);
+        return start + width - 1 < 0 ? Long.MAX_VALUE : start + width - 1;
+    }
+}
@@ -12,6 +12,11 @@ import java.util.List;
  * - Static obstacle definitions
  * - Collision detection with obstacles
  * 
+ * Obstacles are rasterized into an {@link ObstacleMask} when the map is
+ * created, so collision checks cost the same no matter how many obstacles
+ * a map has. The time spent building the mask is recorded and exposed
+ * through {@link #getBuildNanos()}.
+ * 
  * This class uses the Factory Pattern to create appropriate configurations
  * based on MapType. Each map type defines its own obstacle layout and boundary rules.
  * 
@@ -26,14 +31,20 @@ public class MapConfig {
     private final MapType mapType;
     private final List<MapObstacle> obstacles;
     private final boolean wrapAroundEnabled;
+    private final ObstacleMask obstacleMask;
+    private final long buildNanos;
     
     /**
      * Private constructor - use factory method
+     * Rasterizes the obstacles and records how long that took.
      */
     private MapConfig(MapType mapType, List<MapObstacle> obstacles) {
         this.mapType = mapType;
         this.obstacles = Collections.unmodifiableList(obstacles);
         this.wrapAroundEnabled = mapType.hasWrapAroundBoundaries();
+        long start = System.nanoTime();
+        this.obstacleMask = new ObstacleMask(this.obstacles);
+        this.buildNanos = System.nanoTime() - start;
     }
     
     /**
@@ -108,31 +119,37 @@ public class MapConfig {
     /**
      * Check if a point collides with any obstacle on this map
      * 
-     * Iterates through all obstacles and tests for intersection.
+     * Single lookup in the precomputed obstacle mask.
      * 
      * @param x Point X coordinate in pixels
      * @param y Point Y coordinate in pixels
      * @return true if the point is inside any obstacle, false otherwise
      */
     public boolean checkObstacleCollision(int x, int y) {
-        for (MapObstacle obstacle : obstacles) {
-            if (obstacle.intersects(x, y)) {
-                return true;
-            }
-        }
-        return false;
+        return obstacleMask.contains(x, y);
     }
     
     /**
      * Check if a line segment collides with any obstacle on this map
      * 
      * Useful for detecting if a player's trail crosses an obstacle.
-     * Iterates through all obstacles and tests for line-rectangle intersection.
+     * Horizontal and vertical lines are answered by a span query over the
+     * obstacle mask; any other line falls back to testing each obstacle.
      * 
      * @param line The Line object to test for collision
      * @return true if the line intersects any obstacle, false otherwise
      */
     public boolean checkObstacleCollision(Line line) {
+        int x1 = line.getStartX();
+        int y1 = line.getStartY();
+        int x2 = line.getEndX();
+        int y2 = line.getEndY();
+        if (y1 == y2) {
+            return obstacleMask.anyInRow(y1, x1, x2);
+        }
+        if (x1 == x2) {
+            return obstacleMask.anyInColumn(x1, y1, y2);
+        }
         for (MapObstacle obstacle : obstacles) {
             if (obstacle.intersects(line)) {
                 return true;
@@ -149,4 +166,22 @@ public class MapConfig {
     public MapType getMapType() {
         return mapType;
     }
+    
+    /**
+     * Get the time spent rasterizing the obstacles when the map was created
+     * 
+     * @return Mask build time in nanoseconds
+     */
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+    
+    /**
+     * Get the memory used by the precomputed obstacle mask
+     * 
+     * @return Mask size in bytes
+     */
+    public long getMaskMemoryBytes() {
+        return obstacleMask.getMemoryBytes();
+    }
 }
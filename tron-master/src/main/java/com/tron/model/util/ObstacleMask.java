@@ -0,0 +1,178 @@
+package com.tron.model.util;
+
+import java.util.List;
+
+/**
+ * ObstacleMask - Rasterized bit mask of a map's static obstacles
+ *
+ * Obstacles are baked once into a bit per pixel, so a point check is a single
+ * word lookup and a horizontal or vertical span check tests 64 pixels per word.
+ * The mask only covers the bounding box of the obstacles; everything outside
+ * it is free.
+ *
+ * Two copies of the bits are kept:
+ * - Row-major, for point checks and horizontal spans
+ * - Column-major, so vertical spans are also word-wise
+ *
+ * Coverage matches {@link MapObstacle#intersects(int, int)}: an obstacle at
+ * (x, y) of size (width, height) covers x..x+width and y..y+height inclusive.
+ *
+ * Design Pattern: Spatial Index (bit raster)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class ObstacleMask {
+
+    private final int originX;
+    private final int originY;
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final int wordsPerColumn;
+    private final long[] rows;
+    private final long[] columns;
+
+    /**
+     * Rasterizes the given obstacles.
+     *
+     * @param obstacles Obstacles to bake into the mask
+     */
+    public ObstacleMask(List<MapObstacle> obstacles) {
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (MapObstacle o : obstacles) {
+            minX = Math.min(minX, o.getX());
+            minY = Math.min(minY, o.getY());
+            maxX = Math.max(maxX, o.getX() + o.getWidth());
+            maxY = Math.max(maxY, o.getY() + o.getHeight());
+        }
+        if (obstacles.isEmpty()) {
+            originX = 0;
+            originY = 0;
+            width = 0;
+            height = 0;
+        } else {
+            originX = minX;
+            originY = minY;
+            width = maxX - minX + 1;
+            height = maxY - minY + 1;
+        }
+        wordsPerRow = (width + 63) >>> 6;
+        wordsPerColumn = (height + 63) >>> 6;
+        rows = new long[wordsPerRow * height];
+        columns = new long[wordsPerColumn * width];
+
+        for (MapObstacle o : obstacles) {
+            int left = o.getX() - originX;
+            int right = left + o.getWidth();
+            int top = o.getY() - originY;
+            int bottom = top + o.getHeight();
+            for (int r = top; r <= bottom; r++) {
+                setRange(rows, r * wordsPerRow, left, right);
+            }
+            for (int c = left; c <= right; c++) {
+                setRange(columns, c * wordsPerColumn, top, bottom);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a point lies on an obstacle.
+     *
+     * @param x Point X coordinate
+     * @param y Point Y coordinate
+     * @return true if an obstacle covers the point
+     */
+    public boolean contains(int x, int y) {
+        int c = x - originX;
+        int r = y - originY;
+        if (c < 0 || c >= width || r < 0 || r >= height) {
+            return false;
+        }
+        return (rows[r * wordsPerRow + (c >>> 6)] & (1L << (c & 63))) != 0;
+    }
+
+    /**
+     * Checks whether any obstacle pixel lies on a horizontal span.
+     *
+     * @param y Row
+     * @param fromX One end of the span (inclusive)
+     * @param toX Other end of the span (inclusive)
+     * @return true if an obstacle covers part of the span
+     */
+    public boolean anyInRow(int y, int fromX, int toX) {
+        int r = y - originY;
+        if (r < 0 || r >= height) {
+            return false;
+        }
+        int from = Math.max(Math.min(fromX, toX) - originX, 0);
+        int to = Math.min(Math.max(fromX, toX) - originX, width - 1);
+        return from <= to && anySet(rows, r * wordsPerRow, from, to);
+    }
+
+    /**
+     * Checks whether any obstacle pixel lies on a vertical span.
+     *
+     * @param x Column
+     * @param fromY One end of the span (inclusive)
+     * @param toY Other end of the span (inclusive)
+     * @return true if an obstacle covers part of the span
+     */
+    public boolean anyInColumn(int x, int fromY, int toY) {
+        int c = x - originX;
+        if (c < 0 || c >= width) {
+            return false;
+        }
+        int from = Math.max(Math.min(fromY, toY) - originY, 0);
+        int to = Math.min(Math.max(fromY, toY) - originY, height - 1);
+        return from <= to && anySet(columns, c * wordsPerColumn, from, to);
+    }
+
+    /**
+     * Get the memory used by the mask bits
+     *
+     * @return Size of both bit arrays in bytes
+     */
+    public long getMemoryBytes() {
+        return 8L * (rows.length + columns.length);
+    }
+
+    private static void setRange(long[] bits, int base, int from, int to) {
+        int firstWord = from >>> 6;
+        int lastWord = to >>> 6;
+        long firstMask = -1L << (from & 63);
+        long lastMask = -1L >>> (63 - (to & 63));
+        if (firstWord == lastWord) {
+            bits[base + firstWord] |= firstMask & lastMask;
+            return;
+        }
+        bits[base + firstWord] |= firstMask;
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            bits[base + w] = -1L;
+        }
+        bits[base + lastWord] |= lastMask;
+    }
+
+    private static boolean anySet(long[] bits, int base, int from, int to) {
+        int firstWord = from >>> 6;
+        int lastWord = to >>> 6;
+        long firstMask = -1L << (from & 63);
+        long lastMask = -1L >>> (63 - (to & 63));
+        if (firstWord == lastWord) {
+            return (bits[base + firstWord] & firstMask & lastMask) != 0;
+        }
+        if ((bits[base + firstWord] & firstMask) != 0) {
+            return true;
+        }
+        for (int w = firstWord + 1; w < lastWord; w++) {
+            if (bits[base + w] != 0) {
+                return true;
+            }
+        }
+        return (bits[base + lastWord] & lastMask) != 0;
+    }
+}
@@ -0,0 +1,206 @@
+package com.tron.model.util;
+
+import java.util.Arrays;
+
+/**
+ * OccupancyGrid - Arena-wide pixel grid recording which cells are covered by trails
+ *
+ * Every trail segment in the game is axis-aligned, so each covered pixel only needs
+ * to remember whether a horizontal and/or a vertical segment passes through it.
+ * The grid stores those two flags per cell in a flat byte array sized from the
+ * arena dimensions, which turns a head-vs-trail collision test into a handful of
+ * cell lookups instead of a scan over every segment of every player.
+ *
+ * Collision semantics match {@code GameObject.intersects(GameObject)}:
+ * - A horizontal segment is hit when the head is within halfHeight rows of it
+ *   and inside its X extent
+ * - A vertical segment is hit when the head is within halfWidth columns of it
+ *   and inside its Y extent
+ *
+ * Segments are clipped to the grid, so endpoints that lie outside the arena
+ * (e.g. just before a wrap-around) are handled safely.
+ *
+ * Design Pattern: Spatial Index (uniform grid)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public class OccupancyGrid {
+
+    /** Cell flag: a horizontal segment covers this cell */
+    public static final byte HORIZONTAL = 1;
+
+    /** Cell flag: a vertical segment covers this cell */
+    public static final byte VERTICAL = 2;
+
+    private final int width;
+    private final int height;
+    private final byte[] cells;
+
+    /**
+     * Creates an empty grid covering an arena of the given size.
+     *
+     * @param width Arena width in pixels
+     * @param height Arena height in pixels
+     * @throws IllegalArgumentException if either dimension is not positive
+     */
+    public OccupancyGrid(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive");
+        }
+        this.width = width;
+        this.height = height;
+        this.cells = new byte[width * height];
+    }
+
+    /**
+     * Marks every cell covered by an axis-aligned segment.
+     * Segments with equal Y coordinates (including zero-length segments) are
+     * treated as horizontal, matching the trail collision rules. Diagonal
+     * segments never occur in the game and are ignored.
+     *
+     * @param x1 Start X coordinate
+     * @param y1 Start Y coordinate
+     * @param x2 End X coordinate
+     * @param y2 End Y coordinate
+     */
+    public void mark(int x1, int y1, int x2, int y2) {
+        if (y1 == y2) {
+            if (y1 < 0 || y1 >= height) {
+                return;
+            }
+            int from = Math.max(Math.min(x1, x2), 0);
+            int to = Math.min(Math.max(x1, x2), width - 1);
+            int row = y1 * width;
+            for (int x = from; x <= to; x++) {
+                cells[row + x] |= HORIZONTAL;
+            }
+        } else if (x1 == x2) {
+            if (x1 < 0 || x1 >= width) {
+                return;
+            }
+            int from = Math.max(Math.min(y1, y2), 0);
+            int to = Math.min(Math.max(y1, y2), height - 1);
+            for (int y = from; y <= to; y++) {
+                cells[y * width + x1] |= VERTICAL;
+            }
+        }
+    }
+
+    /**
+     * Marks every cell covered by a trail shape.
+     *
+     * @param shape The shape to record
+     */
+    public void mark(Shape shape) {
+        mark(shape.getStartX(), shape.getStartY(), shape.getEndX(), shape.getEndY());
+    }
+
+    /**
+     * Checks whether a head of the given half-size touches any recorded trail.
+     * Probes the cells in a plus shape around the head: horizontal segments in
+     * the head's column and vertical segments in the head's row.
+     *
+     * @param x Head X coordinate
+     * @param y Head Y coordinate
+     * @param halfWidth Horizontal collision tolerance in pixels
+     * @param halfHeight Vertical collision tolerance in pixels
+     * @return true if a trail lies within the tolerance of the head
+     */
+    public boolean hitsTrail(int x, int y, int halfWidth, int halfHeight) {
+        if (x >= 0 && x < width) {
+            int from = Math.max(y - halfHeight, 0);
+            int to = Math.min(y + halfHeight, height - 1);
+            for (int row = from; row <= to; row++) {
+                if ((cells[row * width + x] & HORIZONTAL) != 0) {
+                    return true;
+                }
+            }
+        }
+        if (y >= 0 && y < height) {
+            int from = Math.max(x - halfWidth, 0);
+            int to = Math.min(x + halfWidth, width - 1);
+            int row = y * width;
+            for (int col = from; col <= to; col++) {
+                if ((cells[row + col] & VERTICAL) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a movement step passes over any recorded trail.
+     * Every cell from the step start (exclusive) to the step end (inclusive)
+     * is tested, so a head moving several pixels per tick cannot tunnel
+     * through a trail that lies between its old and new positions.
+     * The start cell is excluded because it is where the mover's own
+     * committed trail ends.
+     *
+     * @param fromX Step start X coordinate
+     * @param fromY Step start Y coordinate
+     * @param toX Step end X coordinate
+     * @param toY Step end Y coordinate
+     * @return true if any cell along the step is occupied
+     */
+    public boolean sweepHits(int fromX, int fromY, int toX, int toY) {
+        if (fromY == toY) {
+            int dir = Integer.signum(toX - fromX);
+            for (int x = fromX + dir; dir != 0 && x != toX + dir; x += dir) {
+                if (isOccupied(x, fromY)) {
+                    return true;
+                }
+            }
+        } else if (fromX == toX) {
+            int dir = Integer.signum(toY - fromY);
+            for (int y = fromY + dir; y != toY + dir; y += dir) {
+                if (isOccupied(fromX, y)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether any trail covers a single cell.
+     * Points outside the grid are reported as free.
+     *
+     * @param x Cell X coordinate
+     * @param y Cell Y coordinate
+     * @return true if a horizontal or vertical segment covers the cell
+     */
+    public boolean isOccupied(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            return false;
+        }
+        return cells[y * width + x] != 0;
+    }
+
+    /**
+     * Removes all recorded trails.
+     */
+    public void clear() {
+        Arrays.fill(cells, (byte) 0);
+    }
+
+    /**
+     * Get grid width
+     *
+     * @return Width in cells (pixels)
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Get grid height
+     *
+     * @return Height in cells (pixels)
+     */
+    public int getHeight() {
+        return height;
+    }
+}
@@ -76,6 +76,14 @@ public enum PlayerColor {
         return blue;
     }
     
+    /**
+     * Get the color packed as 0xRRGGBB
+     * @return Packed RGB value
+     */
+    public int getRgb() {
+        return (red << 16) | (green << 8) | blue;
+    }
+    
     /**
      * Convert to JavaFX Color for JavaFX-based views
      * This is the preferred method for JavaFX applications
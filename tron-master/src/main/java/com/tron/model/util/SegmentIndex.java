@@ -0,0 +1,289 @@
+package com.tron.model.util;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * SegmentIndex - Axis-partitioned interval index over axis-aligned trail segments
+ *
+ * Every trail segment in the game is either horizontal or vertical, so the index
+ * keeps two sorted structures:
+ * - Horizontal segments keyed by their Y coordinate, each row holding X intervals
+ * - Vertical segments keyed by their X coordinate, each column holding Y intervals
+ *
+ * Intervals on a row or column are stored as a sorted set of disjoint ranges.
+ * Overlapping or touching ranges are merged on insert; this is lossless for the
+ * integer point and ray queries the game needs, and keeps every stabbing query
+ * at a single floor lookup.
+ *
+ * Query costs (n = number of stored rows/columns and ranges):
+ * - insert / extendLast: O(log n)
+ * - hits (point with tolerance): O(t log n) for tolerance t
+ * - rayCast: O(log n) per candidate row/column within the ray length
+ *
+ * Segments with equal Y coordinates (including zero-length segments) are treated
+ * as horizontal, matching the trail collision rules.
+ *
+ * Design Pattern: Spatial Index
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public class SegmentIndex {
+
+    // Y -> (startX -> endX) for horizontal segments
+    private final TreeMap<Integer, TreeMap<Integer, Integer>> horizontal = new TreeMap<>();
+    // X -> (startY -> endY) for vertical segments
+    private final TreeMap<Integer, TreeMap<Integer, Integer>> vertical = new TreeMap<>();
+
+    private int segmentCount = 0;
+
+    // Last inserted segment, kept so it can be extended in place
+    private boolean hasLast = false;
+    private boolean lastHorizontal;
+    private int lastKey;
+    private int lastEndX;
+    private int lastEndY;
+    private int lastDirection;
+
+    /**
+     * Adds an axis-aligned segment to the index.
+     * Diagonal segments never occur in the game and are ignored.
+     *
+     * @param x1 Start X coordinate
+     * @param y1 Start Y coordinate
+     * @param x2 End X coordinate
+     * @param y2 End Y coordinate
+     */
+    public void insert(int x1, int y1, int x2, int y2) {
+        if (y1 == y2) {
+            addRange(horizontal, y1, Math.min(x1, x2), Math.max(x1, x2));
+            rememberLast(true, y1, x2, y2, Integer.signum(x2 - x1));
+        } else if (x1 == x2) {
+            addRange(vertical, x1, Math.min(y1, y2), Math.max(y1, y2));
+            rememberLast(false, x1, x2, y2, Integer.signum(y2 - y1));
+        } else {
+            return;
+        }
+        segmentCount++;
+    }
+
+    /**
+     * Adds a trail shape to the index.
+     *
+     * @param shape The segment to add
+     */
+    public void insert(Shape shape) {
+        insert(shape.getStartX(), shape.getStartY(), shape.getEndX(), shape.getEndY());
+    }
+
+    /**
+     * Checks whether a segment continues the last inserted segment: it starts
+     * where the last one ended and runs along the same axis in the same direction.
+     *
+     * @param x1 Start X coordinate
+     * @param y1 Start Y coordinate
+     * @param x2 End X coordinate
+     * @param y2 End Y coordinate
+     * @return true if extendLast(x2, y2) would represent the segment
+     */
+    public boolean canExtendLast(int x1, int y1, int x2, int y2) {
+        if (!hasLast || x1 != lastEndX || y1 != lastEndY) {
+            return false;
+        }
+        if (lastHorizontal) {
+            return y2 == lastKey && x2 != x1 && Integer.signum(x2 - x1) == lastDirection;
+        }
+        return x2 == lastKey && y2 != y1 && Integer.signum(y2 - y1) == lastDirection;
+    }
+
+    /**
+     * Extends the last inserted segment so that it ends at the given point.
+     * Used when consecutive trail steps are coalesced into one straight run.
+     *
+     * @param x New end X coordinate
+     * @param y New end Y coordinate
+     * @throws IllegalStateException if nothing has been inserted yet
+     * @throws IllegalArgumentException if the point is not on the last segment's axis
+     */
+    public void extendLast(int x, int y) {
+        if (!hasLast) {
+            throw new IllegalStateException("No segment to extend");
+        }
+        if (lastHorizontal) {
+            if (y != lastKey) {
+                throw new IllegalArgumentException("Point is not on the last segment's row");
+            }
+            addRange(horizontal, lastKey, Math.min(lastEndX, x), Math.max(lastEndX, x));
+        } else {
+            if (x != lastKey) {
+                throw new IllegalArgumentException("Point is not on the last segment's column");
+            }
+            addRange(vertical, lastKey, Math.min(lastEndY, y), Math.max(lastEndY, y));
+        }
+        lastEndX = x;
+        lastEndY = y;
+    }
+
+    /**
+     * Checks whether a head of the given half-size touches any indexed segment.
+     * A horizontal segment is hit when the head is within halfHeight rows of it
+     * and inside its X extent; a vertical segment when the head is within
+     * halfWidth columns of it and inside its Y extent.
+     *
+     * @param x Head X coordinate
+     * @param y Head Y coordinate
+     * @param halfWidth Horizontal collision tolerance in pixels
+     * @param halfHeight Vertical collision tolerance in pixels
+     * @return true if a segment lies within the tolerance of the head
+     */
+    public boolean hits(int x, int y, int halfWidth, int halfHeight) {
+        for (TreeMap<Integer, Integer> row
+                : horizontal.subMap(y - halfHeight, true, y + halfHeight, true).values()) {
+            if (covers(row, x)) {
+                return true;
+            }
+        }
+        for (TreeMap<Integer, Integer> column
+                : vertical.subMap(x - halfWidth, true, x + halfWidth, true).values()) {
+            if (covers(column, y)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Casts an axis-aligned ray and finds the nearest perpendicular segment it crosses.
+     * A ray travelling along X only reports vertical segments and vice versa;
+     * the origin itself is never reported.
+     *
+     * @param x Ray origin X coordinate
+     * @param y Ray origin Y coordinate
+     * @param dx Horizontal direction (-1, 0 or 1)
+     * @param dy Vertical direction (-1, 0 or 1)
+     * @param maxDistance Maximum distance to search in pixels
+     * @return Distance to the nearest crossed segment, or -1 if none within range
+     */
+    public int rayCast(int x, int y, int dx, int dy, int maxDistance) {
+        if (maxDistance < 1) {
+            return -1;
+        }
+        if (dx != 0) {
+            NavigableMap<Integer, TreeMap<Integer, Integer>> columns = dx > 0
+                    ? vertical.subMap(x, false, x + maxDistance, true)
+                    : vertical.subMap(x - maxDistance, true, x, false).descendingMap();
+            for (Map.Entry<Integer, TreeMap<Integer, Integer>> column : columns.entrySet()) {
+                if (covers(column.getValue(), y)) {
+                    return Math.abs(column.getKey() - x);
+                }
+            }
+        } else if (dy != 0) {
+            NavigableMap<Integer, TreeMap<Integer, Integer>> rows = dy > 0
+                    ? horizontal.subMap(y, false, y + maxDistance, true)
+                    : horizontal.subMap(y - maxDistance, true, y, false).descendingMap();
+            for (Map.Entry<Integer, TreeMap<Integer, Integer>> row : rows.entrySet()) {
+                if (covers(row.getValue(), x)) {
+                    return Math.abs(row.getKey() - y);
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether any horizontal segment lies on a row in the given range,
+     * regardless of its X extent.
+     *
+     * @param minY Lowest row (inclusive)
+     * @param maxY Highest row (inclusive)
+     * @return true if at least one horizontal segment is keyed in the range
+     */
+    public boolean hasHorizontalBetween(int minY, int maxY) {
+        return minY <= maxY && !horizontal.subMap(minY, true, maxY, true).isEmpty();
+    }
+
+    /**
+     * Checks whether any vertical segment lies on a column in the given range,
+     * regardless of its Y extent.
+     *
+     * @param minX Leftmost column (inclusive)
+     * @param maxX Rightmost column (inclusive)
+     * @return true if at least one vertical segment is keyed in the range
+     */
+    public boolean hasVerticalBetween(int minX, int maxX) {
+        return minX <= maxX && !vertical.subMap(minX, true, maxX, true).isEmpty();
+    }
+
+    /**
+     * Get the number of segments inserted (extensions do not count)
+     *
+     * @return Number of indexed segments
+     */
+    public int size() {
+        return segmentCount;
+    }
+
+    /**
+     * Check if the index holds no segments
+     *
+     * @return true if nothing has been inserted
+     */
+    public boolean isEmpty() {
+        return segmentCount == 0;
+    }
+
+    /**
+     * Removes all segments.
+     */
+    public void clear() {
+        horizontal.clear();
+        vertical.clear();
+        segmentCount = 0;
+        hasLast = false;
+    }
+
+    private void rememberLast(boolean isHorizontal, int key, int endX, int endY, int direction) {
+        hasLast = true;
+        lastHorizontal = isHorizontal;
+        lastKey = key;
+        lastEndX = endX;
+        lastEndY = endY;
+        lastDirection = direction;
+    }
+
+    /**
+     * Adds [from, to] to the ranges stored under key, merging with any
+     * overlapping or adjacent range.
+     */
+    private static void addRange(TreeMap<Integer, TreeMap<Integer, Integer>> axis,
+                                 int key, int from, int to) {
+        TreeMap<Integer, Integer> ranges = axis.computeIfAbsent(key, k -> new TreeMap<>());
+        int start = from;
+        int end = to;
+
+        Map.Entry<Integer, Integer> before = ranges.floorEntry(start);
+        if (before != null && before.getValue() >= start - 1) {
+            start = before.getKey();
+            end = Math.max(end, before.getValue());
+            ranges.remove(before.getKey());
+        }
+        Map.Entry<Integer, Integer> after = ranges.ceilingEntry(start);
+        while (after != null && after.getKey() <= end + 1) {
+            end = Math.max(end, after.getValue());
+            ranges.remove(after.getKey());
+            after = ranges.ceilingEntry(start);
+        }
+        ranges.put(start, end);
+    }
+
+    /**
+     * Checks whether a value lies inside one of the disjoint ranges.
+     */
+    private static boolean covers(TreeMap<Integer, Integer> ranges, int value) {
+        Map.Entry<Integer, Integer> range = ranges.floorEntry(value);
+        return range != null && range.getValue() >= value;
+    }
+}
@@ -0,0 +1,57 @@
+package com.tron.model.util;
+
+/**
+ * SegmentSource - Indexed read access to packed trail segment coordinates
+ *
+ * Reading a trail through {@link Shape} objects costs an object per segment
+ * whenever the segments are not stored as objects. A renderer that draws
+ * every trail on every frame reads the coordinates through this interface
+ * instead, by segment index, without allocating anything.
+ *
+ * Implemented by {@link TrailBuffer} and by its snapshots.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public interface SegmentSource {
+
+    /**
+     * Get the number of segments
+     *
+     * @return Segment count
+     */
+    int size();
+
+    /**
+     * Get a segment's start X coordinate
+     *
+     * @param index Segment index
+     * @return Start X coordinate
+     */
+    int getStartX(int index);
+
+    /**
+     * Get a segment's start Y coordinate
+     *
+     * @param index Segment index
+     * @return Start Y coordinate
+     */
+    int getStartY(int index);
+
+    /**
+     * Get a segment's end X coordinate
+     *
+     * @param index Segment index
+     * @return End X coordinate
+     */
+    int getEndX(int index);
+
+    /**
+     * Get a segment's end Y coordinate
+     *
+     * @param index Segment index
+     * @return End Y coordinate
+     */
+    int getEndY(int index);
+}
@@ -0,0 +1,126 @@
+package com.tron.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SpscQueue - Bounded lock-free single-producer single-consumer queue
+ *
+ * Passes objects from one thread to another without locks, e.g. input
+ * commands from the UI thread to the simulation thread. Like
+ * {@link TraceRing}, the slots are allocated once and the two threads hand
+ * over through the queue's head and tail counters only, so neither ever
+ * blocks the other.
+ *
+ * Responsibilities:
+ * - offer(): append an element, or refuse it and count the drop when full
+ * - poll(): take the oldest element, or null when empty
+ *
+ * The capacity is rounded up to a power of two so positions wrap with a
+ * mask instead of a division.
+ *
+ * Design Pattern: Ring Buffer (bounded SPSC queue)
+ *
+ * @param <E> Element type
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class SpscQueue<E> {
+
+    private final int mask;
+    private final Object[] slots;
+
+    // Next position to write (producer) and to read (consumer)
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Creates a queue holding at least the given number of elements.
+     *
+     * @param capacity Minimum capacity
+     * @throws IllegalArgumentException if capacity is not between 1 and 2^30
+     */
+    public SpscQueue(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.slots = new Object[size];
+    }
+
+    /**
+     * Appends an element. Producer thread only.
+     *
+     * @param element The element
+     * @return true if added, false if the queue was full and the element dropped
+     * @throws IllegalArgumentException if element is null
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+        long h = head.get();
+        if (h - tail.get() > mask) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        slots[(int) h & mask] = element;
+        head.lazySet(h + 1);
+        return true;
+    }
+
+    /**
+     * Takes the oldest element. Consumer thread only.
+     *
+     * @return The element, or null if the queue is empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long t = tail.get();
+        if (t == head.get()) {
+            return null;
+        }
+        int i = (int) t & mask;
+        E element = (E) slots[i];
+        slots[i] = null;
+        tail.lazySet(t + 1);
+        return element;
+    }
+
+    /**
+     * Get the number of elements waiting
+     * @return Waiting element count
+     */
+    public int size() {
+        return (int) (head.get() - tail.get());
+    }
+
+    /**
+     * Check if no elements are waiting
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Get the number of slots
+     * @return Capacity, a power of two
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Get the number of elements dropped because the queue was full
+     * @return Dropped element count
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,149 @@
+package com.tron.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TraceRing - Preallocated single-producer single-consumer event ring
+ *
+ * Holds trace events as primitive columns (time, type, value, two ints)
+ * in arrays allocated once, so writing an event allocates nothing. One
+ * thread writes with offer() and one thread reads with drainTo(); the two
+ * hand over through the ring's head and tail counters only.
+ *
+ * Responsibilities:
+ * - offer(): store an event, or drop it and count the drop when full,
+ *   so the producer never waits for the consumer
+ * - drainTo(): pass waiting events to a {@link Sink} in order
+ *
+ * The capacity is rounded up to a power of two so positions wrap with a
+ * mask instead of a division.
+ *
+ * Design Pattern: Ring Buffer (bounded SPSC queue)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class TraceRing {
+
+    /**
+     * Receives drained events as primitives, so draining allocates nothing
+     * either.
+     */
+    @FunctionalInterface
+    public interface Sink {
+        /**
+         * Handles one event.
+         *
+         * @param nanos Event time (System.nanoTime())
+         * @param type Event type, defined by the producer
+         * @param value Event value, e.g. a duration
+         * @param a First extra field
+         * @param b Second extra field
+         */
+        void accept(long nanos, int type, long value, int a, int b);
+    }
+
+    private final int mask;
+    private final long[] times;
+    private final int[] types;
+    private final long[] values;
+    private final int[] as;
+    private final int[] bs;
+
+    // Next position to write (producer) and to read (consumer)
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Creates a ring holding at least the given number of events.
+     *
+     * @param capacity Minimum capacity
+     * @throws IllegalArgumentException if capacity is not between 1 and 2^30
+     */
+    public TraceRing(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.times = new long[size];
+        this.types = new int[size];
+        this.values = new long[size];
+        this.as = new int[size];
+        this.bs = new int[size];
+    }
+
+    /**
+     * Stores an event. Producer thread only.
+     *
+     * @param nanos Event time
+     * @param type Event type
+     * @param value Event value
+     * @param a First extra field
+     * @param b Second extra field
+     * @return true if stored, false if the ring was full and the event dropped
+     */
+    public boolean offer(long nanos, int type, long value, int a, int b) {
+        long h = head.get();
+        if (h - tail.get() > mask) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        int i = (int) h & mask;
+        times[i] = nanos;
+        types[i] = type;
+        values[i] = value;
+        as[i] = a;
+        bs[i] = b;
+        head.lazySet(h + 1);
+        return true;
+    }
+
+    /**
+     * Passes up to max waiting events to a sink, oldest first. Consumer
+     * thread only.
+     *
+     * @param sink Receiver of the events
+     * @param max Maximum number of events to pass
+     * @return Number of events passed
+     */
+    public int drainTo(Sink sink, int max) {
+        long t = tail.get();
+        long available = Math.min(head.get() - t, max);
+        for (long k = 0; k < available; k++) {
+            int i = (int) (t + k) & mask;
+            sink.accept(times[i], types[i], values[i], as[i], bs[i]);
+        }
+        tail.lazySet(t + available);
+        return (int) available;
+    }
+
+    /**
+     * Get the number of events waiting to be drained
+     * @return Waiting event count
+     */
+    public int size() {
+        return (int) (head.get() - tail.get());
+    }
+
+    /**
+     * Get the number of slots
+     * @return Capacity, a power of two
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Get the number of events dropped because the ring was full
+     * @return Dropped event count
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+}
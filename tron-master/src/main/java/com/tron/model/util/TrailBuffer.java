@@ -0,0 +1,405 @@
+package com.tron.model.util;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * TrailBuffer - Packed storage for a player's trail segments
+ *
+ * Stores segment coordinates in four growable primitive arrays
+ * (struct-of-arrays: start X, start Y, end X, end Y) instead of one heap
+ * object per segment. A segment costs 16 bytes of array space, and appending
+ * or editing segments allocates nothing except when the arrays grow.
+ *
+ * Existing code that works with {@link Shape} lists reads the buffer through
+ * {@link #asList()}, a read-only list whose elements are flyweight views
+ * onto the arrays. Views read the buffer when their getters are called, so
+ * a view of a segment that is later edited in place reflects the edit.
+ * Callers that need a stable picture take a {@link #copy()} or, more
+ * cheaply, a {@link #snapshot()}. Both the buffer and its snapshots are
+ * {@link SegmentSource}s, so hot loops such as rendering can read the
+ * coordinates by index without creating a view per segment.
+ *
+ * Snapshots use structural sharing. Players only ever edit the last two
+ * segments (the run being extended and the newest stub), so everything
+ * before them is effectively immutable. A snapshot references the current
+ * arrays for that prefix and copies just the last two segments, making it
+ * O(1) in the trail length. The rare edit that would touch a shared prefix
+ * (clearing and refilling) first detaches the buffer onto fresh arrays,
+ * copy-on-write style.
+ *
+ * Design Pattern: Flyweight (segment views over packed storage),
+ * Copy-on-Write (snapshots)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class TrailBuffer implements SegmentSource {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] startX;
+    private int[] startY;
+    private int[] endX;
+    private int[] endY;
+    private int size;
+
+    // Segments below this index are shared with snapshots and must not be written
+    private int sharedPrefix;
+
+    private final List<Shape> view = new SegmentList();
+
+    /**
+     * Creates an empty buffer with the default capacity.
+     */
+    public TrailBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity Initial number of segments to reserve space for
+     */
+    public TrailBuffer(int capacity) {
+        int n = Math.max(capacity, 1);
+        startX = new int[n];
+        startY = new int[n];
+        endX = new int[n];
+        endY = new int[n];
+    }
+
+    /**
+     * Appends a segment.
+     *
+     * @param x1 Start X coordinate
+     * @param y1 Start Y coordinate
+     * @param x2 End X coordinate
+     * @param y2 End Y coordinate
+     */
+    public void add(int x1, int y1, int x2, int y2) {
+        if (size == startX.length) {
+            grow();
+        } else {
+            ensureWritable(size);
+        }
+        startX[size] = x1;
+        startY[size] = y1;
+        endX[size] = x2;
+        endY[size] = y2;
+        size++;
+    }
+
+    /**
+     * Overwrites a segment.
+     *
+     * @param index Segment index
+     * @param x1 New start X coordinate
+     * @param y1 New start Y coordinate
+     * @param x2 New end X coordinate
+     * @param y2 New end Y coordinate
+     */
+    public void set(int index, int x1, int y1, int x2, int y2) {
+        Objects.checkIndex(index, size);
+        ensureWritable(index);
+        startX[index] = x1;
+        startY[index] = y1;
+        endX[index] = x2;
+        endY[index] = y2;
+    }
+
+    /**
+     * Moves the end point of a segment.
+     *
+     * @param index Segment index
+     * @param x2 New end X coordinate
+     * @param y2 New end Y coordinate
+     */
+    public void setEnd(int index, int x2, int y2) {
+        Objects.checkIndex(index, size);
+        ensureWritable(index);
+        endX[index] = x2;
+        endY[index] = y2;
+    }
+
+    /**
+     * Removes all segments, keeping the allocated capacity.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Get the number of stored segments
+     *
+     * @return Segment count
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if the buffer holds no segments
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get a segment's start X coordinate
+     *
+     * @param index Segment index
+     * @return Start X coordinate
+     */
+    @Override
+    public int getStartX(int index) {
+        Objects.checkIndex(index, size);
+        return startX[index];
+    }
+
+    /**
+     * Get a segment's start Y coordinate
+     *
+     * @param index Segment index
+     * @return Start Y coordinate
+     */
+    @Override
+    public int getStartY(int index) {
+        Objects.checkIndex(index, size);
+        return startY[index];
+    }
+
+    /**
+     * Get a segment's end X coordinate
+     *
+     * @param index Segment index
+     * @return End X coordinate
+     */
+    @Override
+    public int getEndX(int index) {
+        Objects.checkIndex(index, size);
+        return endX[index];
+    }
+
+    /**
+     * Get a segment's end Y coordinate
+     *
+     * @param index Segment index
+     * @return End Y coordinate
+     */
+    @Override
+    public int getEndY(int index) {
+        Objects.checkIndex(index, size);
+        return endY[index];
+    }
+
+    /**
+     * Get a flyweight view of one segment.
+     *
+     * @param index Segment index
+     * @return Shape reading the segment from this buffer
+     */
+    public Shape get(int index) {
+        Objects.checkIndex(index, size);
+        return new SegmentView(this, index);
+    }
+
+    /**
+     * Get a read-only list view of all segments.
+     * The list tracks the buffer: its size and elements change as
+     * segments are added, edited or removed.
+     *
+     * @return Live list of flyweight segment views
+     */
+    public List<Shape> asList() {
+        return view;
+    }
+
+    /**
+     * Creates an independent copy holding exactly the current segments.
+     *
+     * @return A new buffer with the same contents
+     */
+    public TrailBuffer copy() {
+        TrailBuffer copy = new TrailBuffer(size);
+        System.arraycopy(startX, 0, copy.startX, 0, size);
+        System.arraycopy(startY, 0, copy.startY, 0, size);
+        System.arraycopy(endX, 0, copy.endX, 0, size);
+        System.arraycopy(endY, 0, copy.endY, 0, size);
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Takes an immutable snapshot of the current segments in O(1).
+     * The snapshot shares this buffer's arrays for every segment except the
+     * last two, which it copies. Later edits to this buffer never show
+     * through the snapshot.
+     *
+     * @return Read-only list of the current segments, which is also a
+     *         {@link SegmentSource}
+     */
+    public List<Shape> snapshot() {
+        int prefix = Math.max(size - 2, 0);
+        int[] tail = new int[4 * (size - prefix)];
+        for (int i = prefix, t = 0; i < size; i++) {
+            tail[t++] = startX[i];
+            tail[t++] = startY[i];
+            tail[t++] = endX[i];
+            tail[t++] = endY[i];
+        }
+        sharedPrefix = Math.max(sharedPrefix, prefix);
+        return new Snapshot(startX, startY, endX, endY, prefix, tail);
+    }
+
+    /**
+     * Get the memory reserved for coordinates
+     *
+     * @return Size of the four coordinate arrays in bytes
+     */
+    public long getMemoryBytes() {
+        return 16L * startX.length;
+    }
+
+    /**
+     * Detaches from arrays shared with snapshots before a shared segment
+     * is written. Growing also detaches, since it moves to new arrays.
+     */
+    private void ensureWritable(int index) {
+        if (index < sharedPrefix) {
+            startX = startX.clone();
+            startY = startY.clone();
+            endX = endX.clone();
+            endY = endY.clone();
+            sharedPrefix = 0;
+        }
+    }
+
+    private void grow() {
+        int capacity = startX.length + (startX.length >> 1) + 1;
+        startX = Arrays.copyOf(startX, capacity);
+        startY = Arrays.copyOf(startY, capacity);
+        endX = Arrays.copyOf(endX, capacity);
+        endY = Arrays.copyOf(endY, capacity);
+        sharedPrefix = 0;
+    }
+
+    /**
+     * Read-only list over the buffer's segments.
+     */
+    private final class SegmentList extends AbstractList<Shape> implements RandomAccess {
+        @Override
+        public Shape get(int index) {
+            return TrailBuffer.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Immutable trail snapshot: a shared prefix of the buffer's arrays
+     * followed by a private copy of the last segments. get() creates a
+     * Line per call; the SegmentSource getters allocate nothing.
+     */
+    private static final class Snapshot extends AbstractList<Shape>
+            implements RandomAccess, SegmentSource {
+        private final int[] startX;
+        private final int[] startY;
+        private final int[] endX;
+        private final int[] endY;
+        private final int prefix;
+        private final int[] tail;
+
+        Snapshot(int[] startX, int[] startY, int[] endX, int[] endY, int prefix, int[] tail) {
+            this.startX = startX;
+            this.startY = startY;
+            this.endX = endX;
+            this.endY = endY;
+            this.prefix = prefix;
+            this.tail = tail;
+        }
+
+        @Override
+        public Shape get(int index) {
+            return new Line(getStartX(index), getStartY(index), getEndX(index), getEndY(index));
+        }
+
+        @Override
+        public int getStartX(int index) {
+            return coordinate(index, startX, 0);
+        }
+
+        @Override
+        public int getStartY(int index) {
+            return coordinate(index, startY, 1);
+        }
+
+        @Override
+        public int getEndX(int index) {
+            return coordinate(index, endX, 2);
+        }
+
+        @Override
+        public int getEndY(int index) {
+            return coordinate(index, endY, 3);
+        }
+
+        private int coordinate(int index, int[] shared, int field) {
+            Objects.checkIndex(index, size());
+            return index < prefix ? shared[index] : tail[4 * (index - prefix) + field];
+        }
+
+        @Override
+        public int size() {
+            return prefix + tail.length / 4;
+        }
+    }
+
+    /**
+     * Flyweight segment: a buffer and an index, no coordinates of its own.
+     */
+    private static final class SegmentView implements Shape {
+        private final TrailBuffer buffer;
+        private final int index;
+
+        SegmentView(TrailBuffer buffer, int index) {
+            this.buffer = buffer;
+            this.index = index;
+        }
+
+        @Override
+        public boolean isVertical() {
+            return buffer.startX[index] == buffer.endX[index];
+        }
+
+        @Override
+        public int getStartX() {
+            return buffer.startX[index];
+        }
+
+        @Override
+        public int getStartY() {
+            return buffer.startY[index];
+        }
+
+        @Override
+        public int getEndX() {
+            return buffer.endX[index];
+        }
+
+        @Override
+        public int getEndY() {
+            return buffer.endY[index];
+        }
+    }
+}
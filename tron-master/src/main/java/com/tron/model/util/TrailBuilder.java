@@ -0,0 +1,77 @@
+package com.tron.model.util;
+
+/**
+ * TrailBuilder - Appends movement steps to a trail, coalescing straight runs
+ *
+ * Shared by every player type so the coalescing rules live in one place.
+ * A trail always ends in two segments: the run built so far and a stub
+ * holding the latest step. Collision treats the stub as not yet committed,
+ * so this shape must be kept even while the run is extended.
+ *
+ * On each step:
+ * - If the run and the stub form one straight line, the run is extended to
+ *   the stub's end and the stub is overwritten with the new step, in place
+ * - Otherwise (a turn, or the gap left by a jump) the new step is appended
+ *   as a new stub and the old stub becomes part of the committed trail
+ *
+ * A straight run therefore costs no allocation and no element shifting;
+ * the buffer only grows when the trail turns or jumps.
+ *
+ * Design Pattern: Component (shared by all player types)
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class TrailBuilder {
+
+    private final TrailBuffer trail;
+
+    /**
+     * Creates a builder appending to the given buffer.
+     *
+     * @param trail Buffer holding the trail
+     */
+    public TrailBuilder(TrailBuffer trail) {
+        this.trail = trail;
+    }
+
+    /**
+     * Records a movement step from (fromX, fromY) to (toX, toY).
+     *
+     * @param fromX Head X coordinate before the step
+     * @param fromY Head Y coordinate before the step
+     * @param toX Head X coordinate after the step
+     * @param toY Head Y coordinate after the step
+     */
+    public void step(int fromX, int fromY, int toX, int toY) {
+        int n = trail.size();
+        if (n > 1 && continuesRun(n - 2, n - 1, fromX, fromY)) {
+            trail.setEnd(n - 2, trail.getEndX(n - 1), trail.getEndY(n - 1));
+            trail.set(n - 1, fromX, fromY, toX, toY);
+        } else {
+            trail.add(fromX, fromY, toX, toY);
+        }
+    }
+
+    /**
+     * Get the buffer this builder appends to
+     *
+     * @return The trail buffer
+     */
+    public TrailBuffer getTrail() {
+        return trail;
+    }
+
+    /**
+     * Checks whether the stub continues the run in a straight line, seen from
+     * the head position the next step starts at: vertically when the head is
+     * still in the run's column, horizontally when it is still in the run's row.
+     */
+    private boolean continuesRun(int run, int stub, int headX, int headY) {
+        if (headX == trail.getStartX(run) && trail.getEndY(run) == trail.getStartY(stub)) {
+            return true;
+        }
+        return headY == trail.getStartY(run) && trail.getEndX(run) == trail.getStartX(stub);
+    }
+}
@@ -0,0 +1,94 @@
+package com.tron.model.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * TripleBuffer - Lock-free handoff of the latest value between two threads
+ *
+ * Keeps three preallocated slots. The writer owns one (the back slot) and
+ * fills it; the reader owns another (the front slot) and reads it; the
+ * third holds the most recently published value. Publishing and acquiring
+ * are each a single atomic swap of slot indices, so neither thread ever
+ * waits for the other, and a slot is never written while the reader holds
+ * it. The reader always gets the newest value; values it never asked for
+ * are simply overwritten.
+ *
+ * Responsibilities:
+ * - getBack(): the slot the writer may fill
+ * - publish(): make the filled slot the latest value
+ * - acquire(): give the reader the latest value, keeping it unchanged
+ *   until the next acquire()
+ *
+ * One thread writes and one thread reads. Everything the writer put in a
+ * slot before publish() is visible to the reader after acquire().
+ *
+ * Design Pattern: Triple Buffering
+ *
+ * @param <T> Slot type
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+public final class TripleBuffer<T> {
+
+    // Low two bits: index of the middle slot; FRESH: published since the last acquire
+    private static final int INDEX_MASK = 0b11;
+    private static final int FRESH = 0b100;
+
+    private final Object[] slots = new Object[3];
+    private final AtomicInteger middle = new AtomicInteger(2);
+    private int back = 0;
+    private int front = 1;
+
+    /**
+     * Creates a buffer with three slots.
+     *
+     * @param factory Creates each slot
+     */
+    public TripleBuffer(Supplier<T> factory) {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = factory.get();
+        }
+    }
+
+    /**
+     * Gets the slot to fill with the next value. Writer thread only.
+     *
+     * @return The back slot
+     */
+    @SuppressWarnings("unchecked")
+    public T getBack() {
+        return (T) slots[back];
+    }
+
+    /**
+     * Publishes the back slot as the latest value and hands the writer the
+     * slot it replaces. Writer thread only.
+     */
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    /**
+     * Takes the latest published value, if newer than the one held, and
+     * returns the value now held. Reader thread only.
+     *
+     * @return The front slot; unchanged until the next acquire()
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) slots[front];
+    }
+
+    /**
+     * Check if a value was published since the last acquire()
+     * @return true if acquire() would return a newer value
+     */
+    public boolean hasFresh() {
+        return (middle.get() & FRESH) != 0;
+    }
+}
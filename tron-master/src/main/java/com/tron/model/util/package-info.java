@@ -10,11 +10,37 @@
  *   <li><b>{@link com.tron.model.util.Shape}</b> - Interface for geometric shapes</li>
  *   <li><b>{@link com.tron.model.util.Line}</b> - Represents a line segment (trail segment)</li>
  *   <li><b>{@link com.tron.model.util.Intersection}</b> - Collision detection results</li>
+ *   <li><b>{@link com.tron.model.util.Direction}</b> - The four axis-aligned headings used by world queries</li>
+ * </ul>
+ * 
+ * <h2>Spatial Indexing</h2>
+ * <ul>
+ *   <li><b>{@link com.tron.model.util.OccupancyGrid}</b> - Arena-wide grid of trail-covered cells for constant-time collision lookups</li>
+ *   <li><b>{@link com.tron.model.util.SegmentIndex}</b> - Axis-partitioned interval index over trail segments for log-time point and ray queries</li>
+ *   <li><b>{@link com.tron.model.util.ObstacleMask}</b> - Rasterized obstacle bit mask for constant-time map collision checks</li>
+ *   <li><b>{@link com.tron.model.util.TrailBuffer}</b> - Packed struct-of-arrays trail storage with flyweight Shape views and O(1) snapshots</li>
+ *   <li><b>{@link com.tron.model.util.SegmentSource}</b> - Indexed, allocation-free reads of packed segment coordinates</li>
+ *   <li><b>{@link com.tron.model.util.TrailBuilder}</b> - Shared step coalescing that extends straight runs in place</li>
+ *   <li><b>{@link com.tron.model.util.Bitboard}</b> - Packed one-bit-per-cell arena grid with make/unmake moves, popcounts and word-wise flood fill</li>
+ * </ul>
+ * 
+ * <h2>Instrumentation</h2>
+ * <ul>
+ *   <li><b>{@link com.tron.model.util.LatencyHistogram}</b> - Lock-free log-linear histogram of durations with percentiles</li>
+ *   <li><b>{@link com.tron.model.util.TraceRing}</b> - Preallocated single-producer single-consumer ring of primitive trace events</li>
+ * </ul>
+ * 
+ * <h2>Thread Handoff</h2>
+ * <ul>
+ *   <li><b>{@link com.tron.model.util.SpscQueue}</b> - Bounded lock-free single-producer single-consumer queue</li>
+ *   <li><b>{@link com.tron.model.util.TripleBuffer}</b> - Lock-free handoff of the newest value between a writer and a reader</li>
+ *   <li><b>{@link com.tron.model.util.Latches}</b> - Interrupt-tolerant deadline waits for work handed to other threads</li>
  * </ul>
  * 
  * <h2>Color Management</h2>
  * <ul>
  *   <li><b>{@link com.tron.model.util.PlayerColor}</b> - Framework-independent color enum with RGB values</li>
+ *   <li><b>{@link com.tron.model.util.ColorPalette}</b> - Generated packed-RGB colors for any number of players</li>
  * </ul>
  * 
  * <h2>Map System</h2>
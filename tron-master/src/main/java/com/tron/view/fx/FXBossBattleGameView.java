@@ -9,6 +9,7 @@ import com.tron.config.BackgroundColorSettings;
 import com.tron.controller.fx.FXGameController;
 import com.tron.controller.fx.FXGameInputController;
 import com.tron.model.boss.BossBattleGameModel;
+import com.tron.model.game.FixedTimestep;
 
 import javafx.animation.AnimationTimer;
 import javafx.fxml.FXML;
@@ -149,31 +150,44 @@ public class FXBossBattleGameView implements BackgroundColorChangeListener {
     }
     
     /**
-     * Initialize game loop (50 FPS)
+     * Initialize game loop (50 ticks per second on a fixed timestep)
      */
     private void initializeGameLoop() {
         gameTimer = new AnimationTimer() {
-            private long lastUpdate = 0;
+            private final FixedTimestep timestep = new FixedTimestep();
+            private boolean active = false;
+            
+            @Override
+            public void start() {
+                timestep.restart();
+                active = true;
+                gameCanvas.setFrameDriven(true);
+                super.start();
+            }
+            
+            @Override
+            public void stop() {
+                active = false;
+                gameCanvas.setFrameDriven(false);
+                super.stop();
+            }
             
             @Override
             public void handle(long now) {
                 // Skip updates when paused
                 if (model.isPaused()) {
+                    timestep.restart();
                     return;
                 }
                 
-                if (lastUpdate == 0) {
-                    lastUpdate = now;
-                    return;
-                }
-                
-                // Target 50 FPS = 20ms per frame
-                long elapsed = now - lastUpdate;
-                if (elapsed >= 20_000_000L) { // 20ms in nanoseconds
+                // Run the ticks due at 50 Hz, whatever the frame rate
+                int steps = timestep.advance(now);
+                for (int i = 0; i < steps && active && model.isRunning(); i++) {
+                    gameCanvas.captureHeads();
                     model.tick();
                     checkGameState();
-                    lastUpdate = now;
                 }
+                gameCanvas.renderFrame(timestep.getAlpha());
             }
         };
     }
@@ -5,6 +5,7 @@ import java.util.List;
 import com.tron.model.boss.Boss;
 import com.tron.model.boss.BossBattleGameModel;
 import com.tron.model.data.DrawData;
+import com.tron.model.game.HeadInterpolator;
 import com.tron.model.game.Player;
 import com.tron.model.powerup.PowerUp;
 
@@ -32,6 +33,10 @@ import javafx.scene.text.FontWeight;
  * - Below health bar: HP text (e.g., "6/10")
  * - Entire layout centered in window
  * 
+ * Frame Interpolation:
+ * - While the game loop drives frames (setFrameDriven), the player's head
+ *   is drawn part way along its last step, see FXTronGameView
+ * 
  * @author MattBrown
  * @author MattBrown
  * @version 1.0
@@ -57,6 +62,11 @@ public class FXBossBattleView extends Canvas {
     private static final int HEALTH_BAR_HEIGHT = 20;
     private static final int HEALTH_BAR_MARGIN_TOP = 30;
     
+    // Head interpolation between fixed ticks
+    private final HeadInterpolator interpolator = new HeadInterpolator();
+    private double alpha = 1.0;
+    private volatile boolean frameDriven = false;
+    
     /**
      * Constructor
      * 
@@ -83,7 +93,9 @@ public class FXBossBattleView extends Canvas {
         model.attach(new com.tron.model.observer.GameStateObserver() {
             @Override
             public void onGameStateChanged() {
-                draw();
+                if (!frameDriven) {
+                    draw();
+                }
             }
             
             @Override
@@ -280,16 +292,46 @@ public class FXBossBattleView extends Canvas {
         gc.setFill(playerColor);
         
         // Draw player's trail
-        for (com.tron.model.util.Shape shape : data.getPath()) {
-            if (shape instanceof com.tron.model.util.Line) {
-                com.tron.model.util.Line line = (com.tron.model.util.Line) shape;
-                gc.strokeLine(line.getStartX(), line.getStartY(), line.getEndX(), line.getEndY());
-            }
+        for (int i = 0, n = data.getSegmentCount(); i < n; i++) {
+            gc.strokeLine(data.getSegmentStartX(i), data.getSegmentStartY(i),
+                    data.getSegmentEndX(i), data.getSegmentEndY(i));
         }
         
         // Draw player's current position
         if (data.isAlive()) {
-            gc.fillRect(data.getX(), data.getY(), data.getWidth(), data.getHeight());
+            int headDx = interpolator.interpolateX(0, player, alpha) - player.getX();
+            int headDy = interpolator.interpolateY(0, player, alpha) - player.getY();
+            gc.fillRect(data.getX() + headDx, data.getY() + headDy, data.getWidth(), data.getHeight());
+        }
+    }
+    
+    /**
+     * Remember the player's head position before a tick, for interpolation
+     */
+    public void captureHeads() {
+        interpolator.capture(new Player[] { model.getPlayer() });
+    }
+    
+    /**
+     * Draw a frame between the last tick and the next
+     * 
+     * @param alpha Fraction of a tick since the last one, in [0, 1]
+     */
+    public void renderFrame(double alpha) {
+        this.alpha = alpha;
+        draw();
+    }
+    
+    /**
+     * Set whether frames are drawn by renderFrame() (while the game loop
+     * runs) or on every model notification
+     * 
+     * @param frameDriven true while a game loop calls renderFrame()
+     */
+    public void setFrameDriven(boolean frameDriven) {
+        this.frameDriven = frameDriven;
+        if (!frameDriven) {
+            this.alpha = 1.0;
         }
     }
     
@@ -8,10 +8,14 @@ import com.tron.config.BackgroundColorChangeListener;
 import com.tron.config.BackgroundColorSettings;
 import com.tron.controller.fx.FXGameController;
 import com.tron.controller.fx.FXGameInputController;
+import com.tron.model.game.FixedTimestep;
+import com.tron.model.game.GameFrame;
+import com.tron.model.game.SimulationThread;
 import com.tron.model.game.SurvivalGameModel;
 import com.tron.model.game.factory.SurvivalGameModelFactory;
 
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Button;
@@ -61,6 +65,7 @@ public class FXSurvivalGameView implements BackgroundColorChangeListener {
     private FXGameInputController inputController;
     private FXGameController mainController;
     private AnimationTimer gameTimer;
+    private SimulationThread simulation;
     private boolean gameRunning = false;
     private BackgroundColorSettings colorSettings;
     private AudioManager audioManager;
@@ -84,6 +89,8 @@ public class FXSurvivalGameView implements BackgroundColorChangeListener {
     private void initializeModel() {
         SurvivalGameModelFactory factory = new SurvivalGameModelFactory();
         model = (SurvivalGameModel) factory.initializeGame();
+        model.setHighScorePrompt((score, onEntry) -> Platform.runLater(() ->
+                new FXPlayerInfoDialog(score).showAndGetResult().ifPresent(onEntry)));
     }
     
     /**
@@ -121,39 +128,52 @@ public class FXSurvivalGameView implements BackgroundColorChangeListener {
     }
     
     private void initializeGameLoop() {
+        simulation = new SimulationThread(model);
+        if (inputController != null) {
+            inputController.setSimulation(simulation);
+        }
+        
+        // The model ticks on the simulation thread; the timer only draws
         gameTimer = new AnimationTimer() {
-            private long lastUpdate = 0;
+            @Override
+            public void start() {
+                gameCanvas.setFrameDriven(true);
+                simulation.start();
+                super.start();
+            }
+            
+            @Override
+            public void stop() {
+                super.stop();
+                simulation.stop();
+                gameCanvas.setFrameDriven(false);
+            }
             
             @Override
             public void handle(long now) {
-                // Stop timer when game is paused
-                if (model.isPaused()) {
-                    return;
-                }
-                
-                if (now - lastUpdate >= 20_000_000) { // 20ms = 50 FPS
-                    model.tick();
-                    updateScore();
-                    checkGameOver();
-                    lastUpdate = now;
-                }
+                // Draw the newest frame, heads interpolated by the time since it was published
+                GameFrame frame = simulation.acquireFrame();
+                double alpha = (double) (System.nanoTime() - frame.getPublishNanos())
+                        / FixedTimestep.DEFAULT_STEP_NANOS;
+                gameCanvas.renderFrame(frame, alpha);
+                updateScore(frame);
+                checkGameOver(frame);
             }
         };
     }
     
-    private void updateScore() {
-        if (model.getPlayer() != null && scoreLabel != null) {
-            int score = model.getCurrentScore();
-            int boosts = model.getPlayer().getBoostsLeft();
-            scoreLabel.setText("Score: " + score + "   Boost: " + boosts);
+    private void updateScore(GameFrame frame) {
+        if (scoreLabel != null) {
+            scoreLabel.setText("Score: " + frame.getScore() + "   Boost: " + frame.getBoostsLeft());
         }
     }
     
-    private void checkGameOver() {
+    private void checkGameOver(GameFrame frame) {
         if (!gameRunning) return;
         
-        if (model.getPlayer() != null && !model.getPlayer().getAlive()) {
-            gameTimer.stop();
+        // The model stops running when the human player crashes
+        if (!frame.isRunning()) {
+            gameTimer.stop();  // Also stops the simulation thread
             gameRunning = false;
             
             // Stop BGM and play lose sound
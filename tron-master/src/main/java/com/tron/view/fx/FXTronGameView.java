@@ -4,6 +4,8 @@ import java.util.List;
 
 import com.tron.model.boss.Boss;
 import com.tron.model.data.DrawData;
+import com.tron.model.game.GameFrame;
+import com.tron.model.game.HeadInterpolator;
 import com.tron.model.game.Player;
 import com.tron.model.game.StoryGameModel;
 import com.tron.model.game.SurvivalGameModel;
@@ -11,6 +13,7 @@ import com.tron.model.game.TronGameModel;
 import com.tron.model.observer.GameStateObserver;
 import com.tron.model.powerup.PowerUp;
 import com.tron.model.powerup.PowerUpManager;
+import com.tron.model.util.ColorPalette;
 import com.tron.model.util.MapConfig;
 import com.tron.model.util.MapObstacle;
 
@@ -52,6 +55,15 @@ import javafx.scene.text.FontWeight;
  * - Draws white filled 5-point stars for power-ups
  * - Only rendered in Story mode
  * 
+ * Frame Interpolation:
+ * - A view driven by a FixedTimestep calls captureHeads() before each tick
+ *   and renderFrame(alpha) once per frame
+ * - Heads are then drawn part way along their last step, so they move
+ *   smoothly whatever the frame rate; trails stay at the latest tick
+ * - While setFrameDriven(true), model notifications do not redraw
+ * - renderFrame(GameFrame, alpha) draws a frame published by a
+ *   SimulationThread instead of reading the live model
+ * 
  * @author MattBrown
  * @author MattBrown
  * @version 2.0 (With Power-Up Support)
@@ -69,6 +81,11 @@ public class FXTronGameView extends Canvas implements GameStateObserver {
     private static final int HEALTH_BAR_HEIGHT = 20;
     private static final int HEALTH_BAR_MARGIN_TOP = 30;
     
+    // Head interpolation between fixed ticks
+    private final HeadInterpolator interpolator = new HeadInterpolator();
+    private double alpha = 1.0;
+    private volatile boolean frameDriven = false;
+    
     /**
      * Constructor with model reference
      * 
@@ -178,10 +195,10 @@ public class FXTronGameView extends Canvas implements GameStateObserver {
         // Draw all players
         Player[] players = model.getPlayers();
         if (players != null) {
-            for (Player p : players) {
+            for (int i = 0; i < players.length; i++) {
+                Player p = players[i];
                 if (p != null) {
-                    DrawData data = p.getDrawData();
-                    drawPlayer(data);
+                    drawPlayer(p.getDrawData(), headOffsetX(i, p), headOffsetY(i, p));
                 }
             }
         }
@@ -218,8 +235,7 @@ public class FXTronGameView extends Canvas implements GameStateObserver {
         // Draw player
         Player player = model.getPlayer();
         if (player != null) {
-            DrawData data = player.getDrawData();
-            drawPlayer(data);
+            drawPlayer(player.getDrawData(), headOffsetX(0, player), headOffsetY(0, player));
         }
         
         // Draw Boss power-ups (LAST)
@@ -378,33 +394,45 @@ public class FXTronGameView extends Canvas implements GameStateObserver {
      * @param data Player's draw data
      */
     protected void drawPlayer(DrawData data) {
-        // Convert PlayerColor to JavaFX Color
-        Color playerColor = data.getColor().toFXColor();
+        drawPlayer(data, 0, 0);
+    }
+    
+    /**
+     * Draw a single player with its head moved by an offset
+     * 
+     * @param data Player's draw data
+     * @param headDx Horizontal offset of the head from its tick position
+     * @param headDy Vertical offset of the head from its tick position
+     */
+    protected void drawPlayer(DrawData data, int headDx, int headDy) {
+        // Convert the packed render color to JavaFX Color
+        int rgb = data.getRgb();
+        Color playerColor = Color.rgb(ColorPalette.red(rgb), ColorPalette.green(rgb), ColorPalette.blue(rgb));
         gc.setStroke(playerColor);
         gc.setFill(playerColor);
         
-        // Draw player's path (trail)
-        // Note: Shape drawing needs conversion from AWT shapes to JavaFX
-        for (com.tron.model.util.Shape shape : data.getPath()) {
-            if (shape instanceof com.tron.model.util.Line) {
-                com.tron.model.util.Line line = (com.tron.model.util.Line) shape;
-                drawLine(line);
-            }
+        // Draw player's path (trail), read by index without per-segment objects
+        for (int i = 0, n = data.getSegmentCount(); i < n; i++) {
+            drawLine(data.getSegmentStartX(i), data.getSegmentStartY(i),
+                    data.getSegmentEndX(i), data.getSegmentEndY(i));
         }
         
         // Draw player's current position
         if (data.isAlive()) {
-            gc.fillRect(data.getX(), data.getY(), data.getWidth(), data.getHeight());
+            gc.fillRect(data.getX() + headDx, data.getY() + headDy, data.getWidth(), data.getHeight());
         }
     }
     
     /**
-     * Draw a line using JavaFX GraphicsContext
+     * Draw a trail segment using JavaFX GraphicsContext
      * 
-     * @param line The Line object to draw
+     * @param x1 Start X coordinate
+     * @param y1 Start Y coordinate
+     * @param x2 End X coordinate
+     * @param y2 End Y coordinate
      */
-    protected void drawLine(com.tron.model.util.Line line) {
-        gc.strokeLine(line.getStartX(), line.getStartY(), line.getEndX(), line.getEndY());
+    protected void drawLine(int x1, int y1, int x2, int y2) {
+        gc.strokeLine(x1, y1, x2, y2);
     }
     
     /**
@@ -456,14 +484,85 @@ public class FXTronGameView extends Canvas implements GameStateObserver {
     }
 
     
+    // ============ Frame Interpolation ============
+    
+    /**
+     * Remember the head positions before a tick, for interpolation
+     */
+    public void captureHeads() {
+        Player[] players = model.getPlayers();
+        if (players != null) {
+            interpolator.capture(players);
+        }
+    }
+    
+    /**
+     * Draw a frame between the last tick and the next
+     * 
+     * @param alpha Fraction of a tick since the last one, in [0, 1]
+     */
+    public void renderFrame(double alpha) {
+        this.alpha = alpha;
+        draw();
+    }
+    
+    /**
+     * Draw a frame published by a SimulationThread
+     * Only the frame's players and the static map are drawn, so the model
+     * may be ticking on another thread meanwhile
+     * 
+     * @param frame The frame to draw
+     * @param alpha Fraction of a tick since the frame's tick, in [0, 1]
+     */
+    public void renderFrame(GameFrame frame, double alpha) {
+        if (gc == null) {
+            return;
+        }
+        gc.setFill(backgroundColor);
+        gc.fillRect(0, 0, getWidth(), getHeight());
+        drawBorder();
+        drawObstacles();
+        for (int i = 0; i < frame.getPlayerCount(); i++) {
+            DrawData data = frame.getDrawData(i);
+            if (data != null) {
+                drawPlayer(data, frame.getHeadX(i, alpha) - frame.getHeadX(i),
+                        frame.getHeadY(i, alpha) - frame.getHeadY(i));
+            }
+        }
+    }
+    
+    /**
+     * Set whether frames are drawn by renderFrame() (while the game loop
+     * runs) or on every model notification
+     * 
+     * @param frameDriven true while a game loop calls renderFrame()
+     */
+    public void setFrameDriven(boolean frameDriven) {
+        this.frameDriven = frameDriven;
+        if (!frameDriven) {
+            this.alpha = 1.0;
+        }
+    }
+    
+    private int headOffsetX(int slot, Player p) {
+        return interpolator.interpolateX(slot, p, alpha) - p.getX();
+    }
+    
+    private int headOffsetY(int slot, Player p) {
+        return interpolator.interpolateY(slot, p, alpha) - p.getY();
+    }
+    
     // ============ Observer Pattern Implementation ============
     
     /**
-     * Called when game state changes - redraw the view
+     * Called when game state changes - redraw the view, unless frames are
+     * drawn by renderFrame()
      */
     @Override
     public void onGameStateChanged() {
-        draw();
+        if (!frameDriven) {
+            draw();
+        }
     }
     
     /**
@@ -488,7 +587,9 @@ public class FXTronGameView extends Canvas implements GameStateObserver {
     @Override
     public void onPlayerCrashed(int playerIndex) {
         // Subclasses can override to show game over screen
-        draw();
+        if (!frameDriven) {
+            draw();
+        }
     }
     
     /**
@@ -496,7 +597,9 @@ public class FXTronGameView extends Canvas implements GameStateObserver {
      */
     @Override
     public void onGameReset() {
-        draw();
+        if (!frameDriven) {
+            draw();
+        }
     }
     
     // ============ Utility Methods ============
@@ -8,6 +8,7 @@ import com.tron.config.BackgroundColorChangeListener;
 import com.tron.config.BackgroundColorSettings;
 import com.tron.controller.fx.FXGameController;
 import com.tron.controller.fx.FXGameInputController;
+import com.tron.model.game.FixedTimestep;
 import com.tron.model.game.TwoPlayerGameModel;
 import com.tron.model.game.factory.TwoPlayerGameModelFactory;
 
@@ -131,21 +132,41 @@ public class FXTwoPlayerGameView implements BackgroundColorChangeListener {
     
     private void initializeGameLoop() {
         gameTimer = new AnimationTimer() {
-            private long lastUpdate = 0;
+            private final FixedTimestep timestep = new FixedTimestep();
+            private boolean active = false;
+            
+            @Override
+            public void start() {
+                timestep.restart();
+                active = true;
+                gameCanvas.setFrameDriven(true);
+                super.start();
+            }
+            
+            @Override
+            public void stop() {
+                active = false;
+                gameCanvas.setFrameDriven(false);
+                super.stop();
+            }
             
             @Override
             public void handle(long now) {
                 // Continue timer but skip updates when paused
                 if (model.isPaused()) {
+                    timestep.restart();
                     return;
                 }
                 
-                if (now - lastUpdate >= 20_000_000) { // 20ms = 50 FPS
+                // Run the ticks due at 50 Hz, whatever the frame rate
+                int steps = timestep.advance(now);
+                for (int i = 0; i < steps && active; i++) {
+                    gameCanvas.captureHeads();
                     model.tick();
                     updateScore();
                     checkGameOver();
-                    lastUpdate = now;
                 }
+                gameCanvas.renderFrame(timestep.getAlpha());
             }
         };
     }
@@ -8,6 +8,7 @@ import com.tron.config.AudioSettings;
 import com.tron.config.BackgroundColorSettings;
 import com.tron.config.GameSettings;
 import com.tron.controller.fx.FXGameController;
+import com.tron.model.game.AIStrategyType;
 import com.tron.model.util.MapType;
 
 import javafx.collections.FXCollections;
@@ -86,9 +87,9 @@ public class FXOptionsMenuView {
     @FXML
     private CheckBox soundEffectsCheckBox;
     
-    // Gameplay settings checkboxes
+    // AI strategy selection
     @FXML
-    private CheckBox hardAICheckBox;
+    private ChoiceBox<String> aiStrategyChoiceBox;
     
     // Map selection
     @FXML
@@ -271,18 +272,32 @@ public class FXOptionsMenuView {
      * Initialize gameplay control checkboxes
      */
     private void initializeGameplayControls() {
-        // Initialize checkbox state from settings
-        hardAICheckBox.setSelected(gameSettings.isHardAIEnabled());
-        
-        // Set up Hard AI checkbox listener
-        hardAICheckBox.selectedProperty().addListener((observable, oldValue, newValue) -> {
-            gameSettings.setHardAIEnabled(newValue);
-            
-            // Play click sound if sound effects are enabled
-            if (audioSettings.isSoundEffectsEnabled()) {
-                audioManager.playSoundEffect(SoundEffect.CLICK);
+        // Initialize AI strategy selection
+        if (aiStrategyChoiceBox != null) {
+            for (AIStrategyType type : AIStrategyType.values()) {
+                aiStrategyChoiceBox.getItems().add(type.getDisplayName());
             }
-        });
+            aiStrategyChoiceBox.setValue(gameSettings.getAIStrategyType().getDisplayName());
+            aiStrategyChoiceBox.getStyleClass().add("choice-box-white-text");
+            
+            aiStrategyChoiceBox.getSelectionModel().selectedItemProperty().addListener(
+                (observable, oldValue, newValue) -> {
+                    if (newValue != null) {
+                        for (AIStrategyType type : AIStrategyType.values()) {
+                            if (type.getDisplayName().equals(newValue)) {
+                                gameSettings.setAIStrategyType(type);
+                                break;
+                            }
+                        }
+                        
+                        // Play click sound if sound effects are enabled
+                        if (audioSettings.isSoundEffectsEnabled()) {
+                            audioManager.playSoundEffect(SoundEffect.CLICK);
+                        }
+                    }
+                }
+            );
+        }
         
         // Initialize map type selection
         if (mapTypeChoiceBox != null) {
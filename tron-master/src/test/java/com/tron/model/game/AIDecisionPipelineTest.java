@@ -0,0 +1,333 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.model.util.PlayerColor;
+import com.tron.model.util.SegmentIndex;
+
+/**
+ * AIDecisionPipelineTest - Unit tests for AI decisions between ticks
+ *
+ * Tests that decisions made on worker threads are merged into the bots,
+ * that late or failing decisions are replaced by the fallback move, and
+ * that a game runs with the pipeline enabled, using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("AIDecisionPipeline - Asynchronous AI Decision Tests")
+class AIDecisionPipelineTest {
+
+    /**
+     * Strategy that turns down after an optional delay, or throws,
+     * counting how often it was asked.
+     */
+    private static final class ScriptedStrategy implements PlayerBehaviorStrategy {
+        private final PlayerAI bot;
+        private final long delayMillis;
+        private final boolean fail;
+        private int decisions = 0;
+
+        ScriptedStrategy(PlayerAI bot, long delayMillis, boolean fail) {
+            this.bot = bot;
+            this.delayMillis = delayMillis;
+            this.fail = fail;
+        }
+
+        @Override
+        public void decideMoveDirection() {
+            decisions++;
+            if (fail) {
+                throw new IllegalStateException("Scripted failure");
+            }
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            bot.setNextVelocityX(0);
+            bot.setNextVelocityY(3);
+        }
+
+        @Override
+        public boolean shouldBoost() {
+            return false;
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public int[] getVelocity() {
+            return new int[] { bot.getNextVelocityX(), bot.getNextVelocityY() };
+        }
+    }
+
+    /**
+     * Strategy that turns down after thinking for a given time, ignoring
+     * interrupts, counting how often it was asked.
+     */
+    private static final class StubbornStrategy implements PlayerBehaviorStrategy {
+        private final PlayerAI bot;
+        private final long thinkNanos;
+        private final AtomicInteger decisions = new AtomicInteger();
+        private volatile boolean finished = false;
+
+        StubbornStrategy(PlayerAI bot, long thinkNanos) {
+            this.bot = bot;
+            this.thinkNanos = thinkNanos;
+        }
+
+        @Override
+        public void decideMoveDirection() {
+            decisions.incrementAndGet();
+            long end = System.nanoTime() + thinkNanos;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            bot.setNextVelocityX(0);
+            bot.setNextVelocityY(3);
+            finished = true;
+        }
+
+        @Override
+        public boolean shouldBoost() {
+            return false;
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public int[] getVelocity() {
+            return new int[] { bot.getNextVelocityX(), bot.getNextVelocityY() };
+        }
+    }
+
+    private SegmentIndex index;
+    private WorldView view;
+    private PlayerAI bot;
+
+    /**
+     * Builds a 200x200 arena with the bot at (100, 100) heading right.
+     */
+    private void setUpArena(long delayMillis, boolean fail) {
+        index = new SegmentIndex();
+        view = new WorldView(index, 200, 200);
+        bot = new PlayerAI(100, 100, 3, 0, PlayerColor.RED);
+        bot.setWorldView(view, 0);
+        bot.setBehaviorStrategy(new ScriptedStrategy(bot, delayMillis, fail));
+    }
+
+    /**
+     * Test: A decision made in time is merged and used by move()
+     *
+     * Given: A bot whose strategy turns down
+     * When: Submitting, collecting and moving
+     * Then: The bot turns down, and move() does not ask the strategy again
+     */
+    @Test
+    @DisplayName("Merges decisions made in time")
+    void testMergesDecisionInTime() {
+        // Given: Quick strategy
+        setUpArena(0, false);
+        AIDecisionPipeline pipeline = new AIDecisionPipeline();
+        pipeline.setDeadlineNanos(5_000_000_000L);
+
+        // When: One decision round, then the move
+        pipeline.submit(new Player[] { bot }, view);
+        assertTrue(pipeline.isPending(), "Batch in flight after submit");
+        pipeline.collect();
+        bot.setBounds(200, 200);
+        bot.move();
+
+        // Then: Decision used once
+        ScriptedStrategy strategy = (ScriptedStrategy) bot.getBehaviorStrategy();
+        assertEquals(1, strategy.decisions, "move() should reuse the pipeline's decision");
+        assertEquals(3, bot.velocityY, "Bot should turn down");
+        assertEquals(1, pipeline.getOnTimeDecisions(), "One decision in time");
+        assertEquals(0, pipeline.getMissedDeadlines(), "No misses");
+        assertFalse(pipeline.isPending(), "Nothing in flight after collect");
+    }
+
+    /**
+     * Test: A late decision is replaced by the fallback
+     *
+     * Given: A strategy that takes 50 ms and a 1 ms deadline
+     * When: Submitting and collecting with each fallback move
+     * Then: KEEP_HEADING keeps going right; MOST_ROOM turns away from a
+     *       wall ahead; both count a miss
+     */
+    @Test
+    @DisplayName("Late decisions get the fallback move")
+    void testLateDecisionUsesFallback() {
+        // Given: Slow strategy
+        setUpArena(50, false);
+        AIDecisionPipeline pipeline = new AIDecisionPipeline();
+        pipeline.setDeadlineNanos(1_000_000L);
+
+        // When: Keep heading
+        pipeline.submit(new Player[] { bot }, view);
+        pipeline.collect();
+
+        // Then: Late turn dropped
+        assertEquals(3, bot.velocityX, "Bot should keep heading right");
+        assertEquals(0, bot.velocityY, "Late turn should be dropped");
+        assertEquals(1, pipeline.getMissedDeadlines(), "One miss");
+
+        // When: Most room, wall 10 px ahead and the top edge close
+        index.insert(110, 0, 110, 200);
+        bot.x = 100;
+        bot.y = 20;
+        bot.velocityX = 3;
+        bot.velocityY = 0;
+        pipeline.setFallback(FallbackMove.MOST_ROOM);
+        pipeline.submit(new Player[] { bot }, view);
+        pipeline.collect();
+
+        // Then: Turned down, where there is most room
+        assertEquals(0, bot.velocityX, "Bot should leave the wall");
+        assertEquals(3, bot.velocityY, "Down has the most room");
+        assertEquals(2, pipeline.getMissedDeadlines(), "Two misses");
+    }
+
+    /**
+     * Test: collect() never waits past the deadline
+     *
+     * Given: A strategy that thinks for 600 ms and ignores interrupts, and a
+     *        20 ms deadline
+     * When: Submitting and collecting, then submitting and collecting again
+     *       while the first decision still runs
+     * Then: Each collect() returns within about the deadline with the
+     *       fallback; the busy bot is not asked again; the late turn is
+     *       dropped when it finally finishes and the bot decides again
+     */
+    @Test
+    @DisplayName("Collect returns at the deadline and drops late results")
+    void testCollectIsBounded() throws InterruptedException {
+        // Given: Stubborn strategy
+        setUpArena(0, false);
+        StubbornStrategy stubborn = new StubbornStrategy(bot, 600_000_000L);
+        bot.setBehaviorStrategy(stubborn);
+        AIDecisionPipeline pipeline = new AIDecisionPipeline();
+        pipeline.setDeadlineNanos(20_000_000L);
+
+        // When: First round
+        long start = System.nanoTime();
+        pipeline.submit(new Player[] { bot }, view);
+        pipeline.collect();
+        long waited = System.nanoTime() - start;
+
+        // Then: Back at the deadline, fallback applied
+        assertTrue(waited < 250_000_000L, "collect() took " + waited / 1_000_000 + " ms");
+        assertTrue(pipeline.getLastWaitNanos() < 250_000_000L, "Wait stays near the deadline");
+        assertEquals(3, bot.velocityX, "Fallback keeps heading right");
+        assertEquals(1, pipeline.getMissedDeadlines(), "One miss");
+
+        // When: Second round while the first decision still runs
+        pipeline.submit(new Player[] { bot }, view);
+        pipeline.collect();
+
+        // Then: Not asked again, fallback again
+        assertEquals(1, stubborn.decisions.get(), "Busy bot should not decide twice at once");
+        assertEquals(2, pipeline.getMissedDeadlines(), "Second miss");
+
+        // When: The late decision finishes
+        while (bot.isDeciding()) {
+            Thread.sleep(10);
+        }
+
+        // Then: Its turn was dropped, and the bot decides again
+        assertTrue(stubborn.finished, "Late decision ran to the end");
+        assertEquals(3, bot.velocityX, "Late turn should be dropped");
+        assertEquals(0, bot.velocityY, "Late turn should be dropped");
+        pipeline.setDeadlineNanos(5_000_000_000L);
+        pipeline.submit(new Player[] { bot }, view);
+        pipeline.collect();
+        assertEquals(2, stubborn.decisions.get(), "Freed bot decides again");
+        assertEquals(3, bot.velocityY, "On-time turn is used");
+    }
+
+    /**
+     * Test: A failing decision is replaced by the fallback
+     *
+     * Given: A strategy that throws
+     * When: Submitting and collecting
+     * Then: The bot keeps heading and a miss is counted
+     */
+    @Test
+    @DisplayName("Failing decisions get the fallback move")
+    void testFailedDecisionUsesFallback() {
+        // Given: Failing strategy
+        setUpArena(0, true);
+        AIDecisionPipeline pipeline = new AIDecisionPipeline();
+
+        // When: One round
+        pipeline.submit(new Player[] { bot }, view);
+        pipeline.collect();
+
+        // Then: Fallback
+        assertEquals(3, bot.velocityX, "Bot should keep heading right");
+        assertEquals(1, pipeline.getMissedDeadlines(), "Failure counts as a miss");
+    }
+
+    /**
+     * Test: A game runs with decisions between ticks
+     *
+     * Given: A four-bot arena of territory AIs with a pipeline
+     * When: Ticking 200 times
+     * Then: Every tick's decisions were merged in time and no bot crashed
+     */
+    @Test
+    @DisplayName("Arena match runs on the pipeline")
+    void testArenaWithPipeline() {
+        // Given: Territory bots, generous deadline
+        ArenaGameModel model = new ArenaGameModel(4);
+        model.reset();
+        for (Player p : model.getPlayers()) {
+            PlayerAI ai = (PlayerAI) p;
+            ai.setBehaviorStrategy(AIStrategyType.TERRITORY.create(ai));
+        }
+        AIDecisionPipeline pipeline = new AIDecisionPipeline();
+        pipeline.setDeadlineNanos(5_000_000_000L);
+        model.setDecisionPipeline(pipeline);
+
+        // When: Ticking
+        for (int i = 0; i < 200; i++) {
+            model.tick();
+        }
+
+        // Then: All decisions merged, everyone alive
+        assertEquals(4, model.getAliveCount(), "Territory bots should survive the opening");
+        assertEquals(0, pipeline.getMissedDeadlines(), "No decision should be late");
+        assertTrue(pipeline.getOnTimeDecisions() >= 199 * 4, "One decision per bot per tick");
+    }
+
+    /**
+     * Test: Invalid configuration is rejected
+     */
+    @Test
+    @DisplayName("Rejects bad executor, deadline and fallback")
+    void testInvalidConfiguration() {
+        AIDecisionPipeline pipeline = new AIDecisionPipeline();
+        assertThrows(IllegalArgumentException.class, () -> new AIDecisionPipeline(null),
+                "Null executor should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> pipeline.setDeadlineNanos(0),
+                "Zero deadline should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> pipeline.setFallback(null),
+                "Null fallback should be rejected");
+    }
+}
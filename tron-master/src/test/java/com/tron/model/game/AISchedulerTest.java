@@ -0,0 +1,197 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.model.util.PlayerColor;
+import com.tron.model.util.SegmentIndex;
+
+/**
+ * AISchedulerTest - Unit tests for budgeted round-robin AI decisions
+ *
+ * Tests that calm bots decide only in their slot, that bots in danger
+ * decide every tick, and that a spent budget falls back and stretches the
+ * interval, using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("AIScheduler - Level-of-Detail AI Scheduling Tests")
+class AISchedulerTest {
+
+    /**
+     * Strategy that keeps heading, optionally slowly, counting its decisions.
+     */
+    private static final class CountingStrategy implements PlayerBehaviorStrategy {
+        private final long delayMillis;
+        private int decisions = 0;
+
+        CountingStrategy(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public void decideMoveDirection() {
+            decisions++;
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public boolean shouldBoost() {
+            return false;
+        }
+
+        @Override
+        public void reset() {
+        }
+
+        @Override
+        public int[] getVelocity() {
+            return new int[] { 0, 0 };
+        }
+    }
+
+    private SegmentIndex index;
+    private WorldView view;
+
+    private PlayerAI bot(int slot, int x, int y, long delayMillis) {
+        PlayerAI bot = new PlayerAI(x, y, 3, 0, PlayerColor.RED);
+        bot.setWorldView(view, slot);
+        bot.setBounds(500, 500);
+        bot.setBehaviorStrategy(new CountingStrategy(delayMillis));
+        return bot;
+    }
+
+    private static int decisions(PlayerAI bot) {
+        return ((CountingStrategy) bot.getBehaviorStrategy()).decisions;
+    }
+
+    /**
+     * Runs a number of ticks: refresh, schedule, move.
+     */
+    private void run(AIScheduler scheduler, Player[] players, int ticks) {
+        for (int t = 0; t < ticks; t++) {
+            view.update(players);
+            scheduler.schedule(players, view);
+            for (Player p : players) {
+                p.move();
+            }
+        }
+    }
+
+    /**
+     * Test: A calm bot decides only in its round-robin slot
+     *
+     * Given: One bot alone in the middle of an open 500x500 arena
+     * When: Scheduling 8 ticks with an interval of 4
+     * Then: It decides twice and keeps its heading the other 6 ticks
+     */
+    @Test
+    @DisplayName("Calm bots decide once per interval")
+    void testCalmBotDecidesInSlot() {
+        // Given: Open arena
+        index = new SegmentIndex();
+        view = new WorldView(index, 500, 500);
+        PlayerAI bot = bot(0, 200, 250, 0);
+        AIScheduler scheduler = new AIScheduler(1_000_000_000L, 4);
+
+        // When: Eight ticks
+        run(scheduler, new Player[] { bot }, 8);
+
+        // Then: Two slots
+        assertFalse(scheduler.isInDanger(bot, view), "Nothing near the bot");
+        assertEquals(2, decisions(bot), "Decides in its slot only");
+        assertEquals(2, scheduler.getFullDecisions(), "Two full decisions");
+        assertEquals(6, scheduler.getCheapDecisions(), "Keeps going otherwise");
+        assertEquals(224, bot.x, "Bot kept moving right");
+    }
+
+    /**
+     * Test: Bots in danger decide every tick
+     *
+     * Given: A wall 30 px ahead of one bot, and two bots heading side by
+     *        side in open space
+     * When: Scheduling 4 ticks with an interval of 4
+     * Then: The bot facing the wall and both close bots decide every tick
+     */
+    @Test
+    @DisplayName("Bots near a trail or another head decide every tick")
+    void testDangerDecidesEveryTick() {
+        // Given: Wall ahead of bot 0, bots 1 and 2 near each other
+        index = new SegmentIndex();
+        index.insert(130, 0, 130, 200);
+        view = new WorldView(index, 500, 500);
+        PlayerAI facingWall = bot(0, 100, 100, 0);
+        PlayerAI left = bot(1, 100, 400, 0);
+        PlayerAI right = bot(2, 100, 430, 0);
+        AIScheduler scheduler = new AIScheduler(1_000_000_000L, 4);
+
+        // When: Four ticks
+        run(scheduler, new Player[] { facingWall, left, right }, 4);
+
+        // Then: Every tick
+        assertEquals(4, decisions(facingWall), "Wall ahead");
+        assertEquals(4, decisions(left), "Head nearby");
+        assertEquals(4, decisions(right), "Head nearby");
+        assertEquals(0, scheduler.getCheapDecisions(), "Nobody was calm");
+    }
+
+    /**
+     * Test: A spent budget falls back and stretches the interval
+     *
+     * Given: Three bots facing the arena edge whose decisions take 5 ms,
+     *        and a 1 ms budget
+     * When: Scheduling one tick
+     * Then: One bot decides, two get the fallback as misses, and the
+     *       interval doubles
+     */
+    @Test
+    @DisplayName("Spent budget falls back and doubles the interval")
+    void testBudgetMissesFallBack() {
+        // Given: Slow bots near the right edge
+        index = new SegmentIndex();
+        view = new WorldView(index, 500, 500);
+        Player[] players = {
+            bot(0, 480, 100, 5), bot(1, 480, 250, 5), bot(2, 480, 400, 5)
+        };
+        AIScheduler scheduler = new AIScheduler(1_000_000L, 2);
+
+        // When: One tick
+        run(scheduler, players, 1);
+
+        // Then: One decision, two misses
+        assertEquals(1, scheduler.getFullDecisions(), "Budget allows one slow decision");
+        assertEquals(2, scheduler.getBudgetMisses(), "The others fall back");
+        assertEquals(4, scheduler.getInterval(), "Interval doubles after running over");
+        assertTrue(scheduler.getLastSpentNanos() >= 5_000_000L, "The slow decision was timed");
+    }
+
+    /**
+     * Test: Invalid configuration is rejected
+     */
+    @Test
+    @DisplayName("Rejects bad budget, interval and radius")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new AIScheduler(0, 4),
+                "Zero budget should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new AIScheduler(1000, 0),
+                "Zero interval should be rejected");
+        assertThrows(IllegalArgumentException.class,
+                () -> new AIScheduler(1000, AIScheduler.MAX_INTERVAL + 1),
+                "Interval above the maximum should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new AIScheduler().setDangerRadius(0),
+                "Zero radius should be rejected");
+    }
+}
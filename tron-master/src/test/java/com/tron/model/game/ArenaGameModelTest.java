@@ -0,0 +1,145 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ArenaGameModelTest - Unit tests for the large free-for-all arena
+ *
+ * Tests bot spawning, palette assignment, match end and tick timing
+ * using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("ArenaGameModel - Large Arena Tests")
+class ArenaGameModelTest {
+
+    /**
+     * Test: Player cap is gone
+     *
+     * Given: An arena for 300 bots
+     * When: Resetting it
+     * Then: 300 AI players exist and there is no human player
+     */
+    @Test
+    @DisplayName("Arena spawns hundreds of AI bikes")
+    void testSpawnsAllBots() {
+        // Given/When: A 300-bot arena
+        ArenaGameModel model = new ArenaGameModel(300);
+        model.reset();
+
+        // Then: Every slot is an AI player
+        assertEquals(300, model.getPlayers().length, "All bots should be created");
+        for (Player p : model.getPlayers()) {
+            assertTrue(p instanceof PlayerAI, "Every bike should be AI controlled");
+        }
+        assertNull(model.getPlayer(), "Arena has no human player");
+        assertEquals(300, model.getAliveCount(), "Everyone starts alive");
+    }
+
+    /**
+     * Test: Spawn placement scales with the bot count
+     *
+     * Given: An arena for 400 bots
+     * When: Resetting it
+     * Then: All heads are inside the map and no two heads overlap
+     */
+    @Test
+    @DisplayName("Spawns stay in bounds and never overlap")
+    void testSpawnSpacing() {
+        // Given/When: A 400-bot arena
+        ArenaGameModel model = new ArenaGameModel(400);
+        model.reset();
+        Player[] players = model.getPlayers();
+
+        // Then: In bounds and far enough apart
+        for (int i = 0; i < players.length; i++) {
+            Player a = players[i];
+            assertTrue(a.getX() > 0 && a.getX() < model.getMapWidth(), "X in bounds");
+            assertTrue(a.getY() > 0 && a.getY() < model.getMapHeight(), "Y in bounds");
+            for (int j = i + 1; j < players.length; j++) {
+                Player b = players[j];
+                boolean apart = Math.abs(a.getX() - b.getX()) > Player.WIDTH
+                        || Math.abs(a.getY() - b.getY()) > Player.HEIGHT;
+                assertTrue(apart, "Bots " + i + " and " + j + " should not overlap");
+            }
+        }
+    }
+
+    /**
+     * Test: Generated palette gives distinct colors
+     *
+     * Given: An arena for 100 bots
+     * When: Reading every player's render color
+     * Then: The first eight match the classic colors and all are distinct
+     */
+    @Test
+    @DisplayName("Bots get distinct generated colors")
+    void testDistinctColors() {
+        // Given: A 100-bot arena
+        ArenaGameModel model = new ArenaGameModel(100);
+        model.reset();
+
+        // When: Collecting colors
+        Set<Integer> colors = new HashSet<>();
+        for (Player p : model.getPlayers()) {
+            colors.add(p.getRgb());
+        }
+
+        // Then: All distinct, base colors unchanged
+        assertEquals(100, colors.size(), "Every bot should have its own color");
+        assertEquals(model.getPlayers()[0].getColor().getRgb(), model.getPlayers()[0].getRgb(),
+                "First bot keeps its classic color");
+        assertEquals(model.getPlayers()[0].getRgb(), model.getPlayers()[0].getDrawData().getRgb(),
+                "Draw data carries the render color");
+    }
+
+    /**
+     * Test: Match runs to completion and is measured
+     *
+     * Given: A 200-bot arena
+     * When: Ticking until the match ends (or a generous tick limit)
+     * Then: Bots die over time, ticks are timed and the match stops at one survivor
+     */
+    @Test
+    @DisplayName("Match runs, is timed and ends with one survivor")
+    void testMatchRunsAndIsTimed() {
+        // Given: A 200-bot arena
+        ArenaGameModel model = new ArenaGameModel(200);
+        model.reset();
+
+        // When: Ticking
+        int ticks = 0;
+        while (model.isRunning() && ticks < 20000) {
+            model.tick();
+            ticks++;
+        }
+
+        // Then: Timing was recorded and the match ended
+        assertEquals(ticks, model.getMeasuredTicks(), "Every tick should be measured");
+        assertTrue(model.getTicksPerSecond() > 0, "Throughput should be measurable");
+        assertFalse(model.isRunning(), "Match should end");
+        assertTrue(model.getAliveCount() <= 1, "At most one bike should survive");
+    }
+
+    /**
+     * Test: Arena size scales with the bot count
+     */
+    @Test
+    @DisplayName("Arena size grows with bot count")
+    void testArenaSizeFor() {
+        assertEquals(500, ArenaGameModel.arenaSizeFor(8), "Small arenas keep the classic size");
+        assertTrue(ArenaGameModel.arenaSizeFor(1000) > ArenaGameModel.arenaSizeFor(100),
+                "Bigger arenas for more bots");
+    }
+}
@@ -0,0 +1,142 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.model.util.Intersection;
+import com.tron.model.util.OccupancyGrid;
+import com.tron.model.util.PlayerColor;
+
+/**
+ * CollisionPhaseTest - Unit tests for the sort-and-sweep collision phase
+ *
+ * Tests head-vs-head resolution, broadphase pruning and the alive set
+ * using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("CollisionPhase - Broadphase Collision Tests")
+class CollisionPhaseTest {
+
+    private CollisionPhase phase;
+    private OccupancyGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        phase = new CollisionPhase();
+        grid = new OccupancyGrid(500, 500);
+    }
+
+    private static PlayerHuman playerAt(int x, int y) {
+        return new PlayerHuman(x, y, 0, 0, PlayerColor.CYAN);
+    }
+
+    /**
+     * Test: Overlapping heads crash both players
+     *
+     * Given: Two heads 3px apart and one far away
+     * When: Running the collision phase
+     * Then: The overlapping pair dies and the distant player survives
+     */
+    @Test
+    @DisplayName("Overlapping heads crash both players")
+    void testHeadOnCrashesBoth() {
+        // Given: Two close heads and one distant head
+        Player a = playerAt(100, 100);
+        Player b = playerAt(103, 101);
+        Player c = playerAt(400, 100);
+        Player[] players = { c, a, b };
+
+        // When: Resolving collisions
+        phase.run(players, grid);
+
+        // Then: Only the overlapping pair crashed
+        assertFalse(a.getAlive(), "First head of the pair should crash");
+        assertFalse(b.getAlive(), "Second head of the pair should crash");
+        assertTrue(c.getAlive(), "Distant head should survive");
+    }
+
+    /**
+     * Test: Broadphase skips heads that are far apart on X
+     *
+     * Given: A row of heads spaced 20px apart
+     * When: Running the collision phase
+     * Then: No narrowphase tests are needed and everyone survives
+     */
+    @Test
+    @DisplayName("Broadphase prunes distant heads")
+    void testBroadphasePrunes() {
+        // Given: 20 heads in a horizontal line, 20px apart
+        Player[] players = new Player[20];
+        for (int i = 0; i < players.length; i++) {
+            players[players.length - 1 - i] = playerAt(10 + i * 20, 250);
+        }
+
+        // When: Resolving collisions
+        phase.run(players, grid);
+
+        // Then: No pairs tested, nobody crashed
+        assertEquals(0, phase.getLastPairTests(), "No heads overlap on X");
+        assertEquals(20, phase.getAliveCount(), "Everyone should still be alive");
+    }
+
+    /**
+     * Test: Dead players leave the alive set
+     *
+     * Given: A player that has already crashed, overlapping a live one
+     * When: Running the collision phase
+     * Then: The dead player is dropped and the live player is not tested against it
+     */
+    @Test
+    @DisplayName("Dead players are dropped from the alive set")
+    void testDeadPlayersSkipped() {
+        // Given: A dead head overlapping a live one
+        Player dead = playerAt(200, 200);
+        Player live = playerAt(202, 200);
+        dead.crash(Intersection.UP);
+
+        // When: Resolving collisions
+        phase.run(new Player[] { dead, live }, grid);
+
+        // Then: Only the live player remains and survives
+        assertEquals(1, phase.getAliveCount(), "Dead player should be compacted out");
+        assertEquals(0, phase.getLastPairTests(), "Dead player should not be tested");
+        assertTrue(live.getAlive(), "Live player should survive");
+    }
+
+    /**
+     * Test: Alive set follows players that pass each other
+     *
+     * Given: Two heads that swap X order between ticks
+     * When: They meet after the swap
+     * Then: The re-sorted alive set still detects the overlap
+     */
+    @Test
+    @DisplayName("Alive set stays sorted as heads move")
+    void testResortAfterMovement() {
+        // Given: Two heads far apart
+        Player a = playerAt(100, 300);
+        Player b = playerAt(300, 100);
+        Player[] players = { a, b };
+        phase.run(players, grid);
+        assertEquals(0, phase.getLastPairTests(), "Far apart heads should not be tested");
+
+        // When: They move past each other and meet
+        a.x = 250;
+        a.y = 200;
+        b.x = 248;
+        b.y = 201;
+        phase.run(players, grid);
+
+        // Then: The collision is found
+        assertFalse(a.getAlive(), "Meeting heads should crash");
+        assertFalse(b.getAlive(), "Meeting heads should crash");
+    }
+}
@@ -0,0 +1,105 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.model.util.Intersection;
+
+/**
+ * DecisionPhaseTest - Unit tests for the split decide/apply tick
+ *
+ * Tests that deciding all bots in parallel gives exactly the same game as
+ * deciding them one after another, and that the phase only decides bots
+ * that still need a decision, using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("DecisionPhase - Parallel AI Decision Tests")
+class DecisionPhaseTest {
+
+    /**
+     * Builds a seeded arena of territory bots whose time budget never runs
+     * out, so every decision depends only on the arena.
+     */
+    private static ArenaGameModel arena(long seed, int bots, DecisionPhase phase) {
+        ArenaGameModel model = new ArenaGameModel(bots);
+        model.setSeed(seed);
+        model.reset();
+        for (Player p : model.getPlayers()) {
+            PlayerAI ai = (PlayerAI) p;
+            ai.setBehaviorStrategy(new FloodFillBehaviorStrategy(ai, 10_000_000_000L));
+        }
+        model.setDecisionPhase(phase);
+        return model;
+    }
+
+    /**
+     * Test: Parallel decisions give the same game as sequential ones
+     *
+     * Given: Two identically seeded 12-bot arenas, one deciding
+     *        sequentially and one in parallel
+     * When: Ticking both until the match ends or 600 ticks pass
+     * Then: Every bike has the same position, velocity and state after
+     *       every tick
+     */
+    @Test
+    @DisplayName("Parallel phase matches sequential phase tick for tick")
+    void testParallelMatchesSequential() {
+        // Given: Same seed, different phases
+        ArenaGameModel sequential = arena(42, 12, DecisionPhase.sequential());
+        ArenaGameModel parallel = arena(42, 12, DecisionPhase.parallel());
+
+        for (int tick = 0; tick < 600 && sequential.isRunning(); tick++) {
+            // When: One tick each
+            sequential.tick();
+            parallel.tick();
+
+            // Then: Identical
+            Player[] expected = sequential.getPlayers();
+            Player[] actual = parallel.getPlayers();
+            for (int i = 0; i < expected.length; i++) {
+                String where = "bike " + i + " after tick " + tick;
+                assertEquals(expected[i].x, actual[i].x, "X of " + where);
+                assertEquals(expected[i].y, actual[i].y, "Y of " + where);
+                assertEquals(expected[i].velocityX, actual[i].velocityX, "X velocity of " + where);
+                assertEquals(expected[i].velocityY, actual[i].velocityY, "Y velocity of " + where);
+                assertEquals(expected[i].getAlive(), actual[i].getAlive(), "State of " + where);
+            }
+            assertEquals(sequential.isRunning(), parallel.isRunning(), "Match state after tick " + tick);
+        }
+        assertTrue(parallel.getDecisionPhase().isParallel(), "Second model decides in parallel");
+    }
+
+    /**
+     * Test: Only live bots without a pending decision are decided
+     *
+     * Given: A four-bot arena with one bot dead and one already decided
+     * When: Running the phase
+     * Then: Two decisions are made
+     */
+    @Test
+    @DisplayName("Skips dead and already decided bots")
+    void testSkipsDeadAndDecidedBots() {
+        // Given: One dead, one decided
+        ArenaGameModel model = arena(1, 4, null);
+        Player[] players = model.getPlayers();
+        players[0].crash(Intersection.UP);
+        ((PlayerAI) players[1]).decide();
+        model.getWorldView().update(players);
+
+        // When: Running a sequential phase
+        DecisionPhase phase = DecisionPhase.sequential();
+        phase.run(players);
+
+        // Then: The other two decided
+        assertEquals(2, phase.getLastDecisionCount(), "Two bots still needed a decision");
+        assertTrue(((PlayerAI) players[2]).hasDecision(), "Bot 2 has a decision");
+        assertFalse(phase.isParallel(), "Sequential phase");
+    }
+}
@@ -0,0 +1,296 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.config.GameSettings;
+import com.tron.model.input.GameInput;
+import com.tron.model.powerup.PowerUp;
+import com.tron.model.powerup.PowerUpManager;
+
+/**
+ * DeterministicReplayTest - Unit tests for seeded, reproducible games
+ *
+ * Tests that a seed plus a log of inputs replays a bit-identical game,
+ * restarts included, across the spawn positions, the AIs' random turns and
+ * boosts, the search AIs' decisions, and the power-up spawns, using
+ * Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("Deterministic Replay - Seeded Simulation Tests")
+class DeterministicReplayTest {
+
+    private static final int TICKS = 1500;
+
+    // Input log: the human's input on every 23rd tick, cycling through these
+    private static final GameInput[] INPUTS = {
+        GameInput.MOVE_UP, GameInput.MOVE_LEFT, GameInput.BOOST,
+        GameInput.MOVE_DOWN, GameInput.MOVE_RIGHT
+    };
+
+    /**
+     * Plays a seeded game with the input log, restarting whenever it ends.
+     *
+     * @param model The game, not yet reset
+     * @param seed The match seed
+     * @param restarts Receives the number of restarts in slot 0
+     * @return A hash of the whole game state after every tick
+     */
+    private static long[] play(TronGameModel model, long seed, int[] restarts) {
+        model.setSeed(seed);
+        model.reset();
+        long[] hashes = new long[TICKS];
+        for (int tick = 0; tick < TICKS; tick++) {
+            if (!model.isRunning()) {
+                model.reset();
+                restarts[0]++;
+            }
+            if (tick % 23 == 0) {
+                model.handleInput(INPUTS[(tick / 23) % INPUTS.length]);
+            }
+            model.tick();
+            hashes[tick] = hash(model);
+        }
+        return hashes;
+    }
+
+    /**
+     * Hashes every player's position, velocity, state, boosts and trail,
+     * the score and, in story mode, the power-ups on the map.
+     */
+    private static long hash(TronGameModel model) {
+        long h = model.getCurrentScore() * 31L + (model.isRunning() ? 1 : 0);
+        for (Player p : model.getPlayers()) {
+            h = h * 31 + p.getX();
+            h = h * 31 + p.getY();
+            h = h * 31 + p.getXVelocity();
+            h = h * 31 + p.getYVelocity();
+            h = h * 31 + (p.getAlive() ? 1 : 0);
+            h = h * 31 + p.getBoostsLeft();
+            h = h * 31 + p.trail.size();
+        }
+        if (model instanceof StoryGameModel) {
+            for (PowerUp powerUp : ((StoryGameModel) model).getPowerUpManager().getActivePowerUps()) {
+                h = h * 31 + Double.doubleToLongBits(powerUp.getX());
+                h = h * 31 + Double.doubleToLongBits(powerUp.getY());
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Test: The same seed and inputs replay the same game
+     *
+     * Given: Two six-player games with the same seed and input log
+     * When: Playing both for 1500 ticks, restarting when the human dies
+     * Then: The state after every tick is identical, restarts included
+     */
+    @Test
+    @DisplayName("Same seed and inputs replay the same game")
+    void testReplayIsIdentical() {
+        // Given / When: Two runs
+        int[] restarts = new int[1];
+        long[] first = play(new TronGameModel(500, 500, 3, 6), 42L, restarts);
+        long[] second = play(new TronGameModel(500, 500, 3, 6), 42L, new int[1]);
+
+        // Then: Tick for tick
+        assertArrayEquals(first, second, "Replay should match the original");
+        assertTrue(restarts[0] > 0, "Restarts should be covered");
+    }
+
+    /**
+     * Test: A different seed gives a different game
+     *
+     * Given: Two six-player games with different seeds and the same inputs
+     * When: Playing both
+     * Then: The games differ
+     */
+    @Test
+    @DisplayName("Different seeds give different games")
+    void testDifferentSeedsDiffer() {
+        long[] first = play(new TronGameModel(500, 500, 3, 6), 42L, new int[1]);
+        long[] second = play(new TronGameModel(500, 500, 3, 6), 43L, new int[1]);
+
+        assertFalse(Arrays.equals(first, second), "Seeds should matter");
+    }
+
+    /**
+     * Test: Strategies set after reset still draw from the seed
+     *
+     * Given: Six-player games whose bots are switched to the hard AI after
+     *        every reset, which turns, jumps and boosts at random
+     * When: Replaying with the same seed and inputs
+     * Then: The games are identical
+     */
+    @Test
+    @DisplayName("Hard AI set after reset replays identically")
+    void testReplacedStrategyIsSeeded() {
+        // Given: Bots switched to the hard AI
+        Supplier<TronGameModel> hardGame = () -> new TronGameModel(500, 500, 3, 6) {
+            @Override
+            public void reset() {
+                super.reset();
+                for (Player p : players) {
+                    if (p instanceof PlayerAI) {
+                        PlayerAI ai = (PlayerAI) p;
+                        ai.setBehaviorStrategy(new HardAIBehaviorStrategy(ai));
+                        ai.addPlayers(players);
+                    }
+                }
+            }
+        };
+
+        // When: Two runs
+        long[] first = play(hardGame.get(), 7L, new int[1]);
+        long[] second = play(hardGame.get(), 7L, new int[1]);
+
+        // Then: Identical
+        assertArrayEquals(first, second, "Hard AI replay should match");
+    }
+
+    /**
+     * Test: The territory AI replays identically
+     *
+     * Given: Six-player games whose bots use the flood fill territory AI,
+     *        which normally stops its fills on a time budget
+     * When: Replaying with the same seed and inputs
+     * Then: The games are identical
+     */
+    @Test
+    @DisplayName("Territory AI replays identically")
+    void testTerritoryReplayIsIdentical() {
+        // Given: Territory bots
+        Supplier<TronGameModel> territoryGame = () -> new TronGameModel(500, 500, 3, 6) {
+            @Override
+            public void reset() {
+                super.reset();
+                for (Player p : players) {
+                    if (p instanceof PlayerAI) {
+                        PlayerAI ai = (PlayerAI) p;
+                        ai.setBehaviorStrategy(AIStrategyType.TERRITORY.create(ai));
+                        ai.addPlayers(players);
+                    }
+                }
+            }
+        };
+
+        // When: Two runs
+        long[] first = play(territoryGame.get(), 13L, new int[1]);
+        long[] second = play(territoryGame.get(), 13L, new int[1]);
+
+        // Then: Identical
+        assertArrayEquals(first, second, "Territory AI replay should match");
+    }
+
+    /**
+     * Test: The duel AI replays identically
+     *
+     * Given: Two-bot arenas whose bots use the alpha-beta duel AI, which
+     *        normally deepens its search until a time budget runs out
+     *        (with a small node budget to keep the test quick)
+     * When: Replaying with the same seed
+     * Then: The games are identical, and the bots did search
+     */
+    @Test
+    @DisplayName("Duel AI replays identically")
+    void testDuelReplayIsIdentical() {
+        // Given: Duel bots, remembered to check they searched
+        List<MinimaxBehaviorStrategy> duelists = new ArrayList<>();
+        Supplier<TronGameModel> duelGame = () -> new ArenaGameModel(2) {
+            @Override
+            public void reset() {
+                super.reset();
+                for (Player p : players) {
+                    PlayerAI ai = (PlayerAI) p;
+                    MinimaxBehaviorStrategy duelist = (MinimaxBehaviorStrategy) AIStrategyType.DUEL.create(ai);
+                    duelist.setNodeBudget(256);
+                    ai.setBehaviorStrategy(duelist);
+                    ai.addPlayers(players);
+                    duelists.add(duelist);
+                }
+            }
+        };
+
+        // When: Two runs
+        long[] first = play(duelGame.get(), 17L, new int[1]);
+        long[] second = play(duelGame.get(), 17L, new int[1]);
+
+        // Then: Identical, searches included
+        assertArrayEquals(first, second, "Duel AI replay should match");
+        assertTrue(duelists.stream().anyMatch(d -> d.getLastNodes() > 0), "Bots should have searched");
+    }
+
+    /**
+     * Test: Story mode replays, power-ups included
+     *
+     * Given: Two story games with the same seed and input log, their AI
+     *        type pinned to the hard AI whatever the saved settings say
+     * When: Playing both
+     * Then: Players and power-up spawns are identical on every tick
+     */
+    @Test
+    @DisplayName("Story mode replays with identical power-ups")
+    void testStoryReplayIsIdentical() {
+        // Given: Pinned AI type
+        GameSettings settings = GameSettings.getInstance();
+        AIStrategyType savedType = settings.getAIStrategyType();
+        settings.setAIStrategyType(AIStrategyType.HARD);
+        try {
+            // When: Two runs
+            long[] first = play(new StoryGameModel(500, 500, 3), 11L, new int[1]);
+            long[] second = play(new StoryGameModel(500, 500, 3), 11L, new int[1]);
+
+            // Then: Identical
+            assertArrayEquals(first, second, "Story replay should match");
+        } finally {
+            settings.setAIStrategyType(savedType);
+        }
+    }
+
+    /**
+     * Test: A seeded power-up manager spawns in the same places
+     *
+     * Given: Two managers with equally seeded generators
+     * When: Running both long enough to spawn several power-ups
+     * Then: They spawn at the same positions
+     */
+    @Test
+    @DisplayName("Seeded power-up spawns repeat")
+    void testSeededPowerUps() {
+        // Given: Equal seeds
+        PowerUpManager first = new PowerUpManager(500, 500);
+        PowerUpManager second = new PowerUpManager(500, 500);
+        first.setRandom(new SplittableRandom(5));
+        second.setRandom(new SplittableRandom(5));
+        first.start();
+        second.start();
+
+        // When: 30 seconds of updates
+        for (int i = 0; i < 30; i++) {
+            first.update(1.0);
+            second.update(1.0);
+        }
+
+        // Then: Same spawns
+        assertTrue(first.getActivePowerUps().size() > 1, "Several power-ups spawned");
+        assertEquals(first.getActivePowerUps().size(), second.getActivePowerUps().size());
+        for (int i = 0; i < first.getActivePowerUps().size(); i++) {
+            assertEquals(first.getActivePowerUps().get(i).getX(), second.getActivePowerUps().get(i).getX());
+            assertEquals(first.getActivePowerUps().get(i).getY(), second.getActivePowerUps().get(i).getY());
+        }
+    }
+}
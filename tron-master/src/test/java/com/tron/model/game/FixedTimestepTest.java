@@ -0,0 +1,135 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * FixedTimestepTest - Unit tests for the fixed-timestep accumulator
+ *
+ * Tests that the tick rate does not depend on the frame rate, bounded
+ * catch-up with late and skipped counts, interpolation alpha and restarts,
+ * using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("FixedTimestep - Fixed Timestep Tests")
+class FixedTimestepTest {
+
+    private static final long STEP = FixedTimestep.DEFAULT_STEP_NANOS;
+    private static final long SECOND = 1_000_000_000L;
+
+    /**
+     * Feeds one second of evenly spaced frames and returns the ticks run.
+     */
+    private static long ticksInOneSecond(long frameNanos) {
+        FixedTimestep timestep = new FixedTimestep();
+        timestep.advance(0);
+        long ticks = 0;
+        long now = 0;
+        while (now + frameNanos <= SECOND) {
+            now += frameNanos;
+            ticks += timestep.advance(now);
+        }
+        ticks += timestep.advance(SECOND);
+        return ticks;
+    }
+
+    /**
+     * Test: 50 ticks per second at any frame rate
+     *
+     * Given: Frames at 30, 60, 144 and 240 frames per second
+     * When: Feeding one second of frames
+     * Then: Exactly 50 ticks run every time
+     */
+    @Test
+    @DisplayName("Runs 50 ticks per second whatever the frame rate")
+    void testRateIndependentOfFrameRate() {
+        for (int fps : new int[] { 30, 60, 144, 240 }) {
+            assertEquals(50, ticksInOneSecond(SECOND / fps), "Ticks at " + fps + " FPS");
+        }
+    }
+
+    /**
+     * Test: Catch-up is bounded and reported
+     *
+     * Given: A timestep catching up at most 5 ticks per frame
+     * When: One frame arrives 200 ms (10 ticks) after the previous one
+     * Then: 5 ticks run, 4 of them late, and the other 5 are skipped
+     */
+    @Test
+    @DisplayName("Bounds catch-up and counts late and skipped ticks")
+    void testBoundedCatchUp() {
+        // Given: Started clock
+        FixedTimestep timestep = new FixedTimestep(STEP, 5);
+        assertEquals(0, timestep.advance(0), "First frame only starts the clock");
+
+        // When: A long stall
+        int steps = timestep.advance(10 * STEP);
+
+        // Then: Bounded
+        assertEquals(5, steps, "At most 5 ticks");
+        assertEquals(4, timestep.getLateSteps(), "Ticks beyond the first ran late");
+        assertEquals(5, timestep.getSkippedSteps(), "Rest of the backlog dropped");
+        assertEquals(5, timestep.getTotalSteps(), "Ticks handed out");
+
+        // And: Back to normal afterwards
+        assertEquals(1, timestep.advance(11 * STEP), "One tick per tick time again");
+    }
+
+    /**
+     * Test: Alpha and the time until the next tick
+     *
+     * Given: A started clock
+     * When: A frame arrives a tick and a quarter later
+     * Then: One tick runs, alpha is 0.25 and three quarters of a tick remain
+     */
+    @Test
+    @DisplayName("Reports the fraction of a tick for interpolation")
+    void testAlpha() {
+        FixedTimestep timestep = new FixedTimestep(STEP, 5);
+        timestep.advance(1_000L);
+
+        assertEquals(1, timestep.advance(1_000L + STEP + STEP / 4), "One whole tick");
+        assertEquals(0.25, timestep.getAlpha(), 1e-9, "A quarter of the next tick");
+        assertEquals(STEP * 3 / 4, timestep.getNanosUntilNextStep(), "Rest of the tick");
+    }
+
+    /**
+     * Test: A restart forgets the time in between
+     *
+     * Given: A clock with half a tick accumulated
+     * When: Restarting (e.g. paused) and resuming a second later
+     * Then: The pause is not caught up and the accumulator is empty
+     */
+    @Test
+    @DisplayName("Restart does not catch up a pause")
+    void testRestart() {
+        FixedTimestep timestep = new FixedTimestep(STEP, 5);
+        timestep.advance(0);
+        timestep.advance(STEP / 2);
+
+        timestep.restart();
+
+        assertEquals(0, timestep.advance(SECOND), "Clock starts again");
+        assertEquals(0.0, timestep.getAlpha(), "Accumulator emptied");
+        assertEquals(1, timestep.advance(SECOND + STEP), "Ticks resume");
+        assertEquals(0, timestep.getSkippedSteps(), "Nothing skipped");
+    }
+
+    /**
+     * Test: Invalid configuration is rejected
+     */
+    @Test
+    @DisplayName("Rejects non-positive step time and catch-up bound")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(0, 5),
+                "Zero step time should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestep(STEP, 0),
+                "Zero catch-up bound should be rejected");
+    }
+}
@@ -0,0 +1,173 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.model.util.PlayerColor;
+import com.tron.model.util.SegmentIndex;
+
+/**
+ * FloodFillBehaviorStrategyTest - Unit tests for the territory AI
+ *
+ * Tests that headings are scored by reachable area, that the time budget
+ * is enforced and that the strategy keeps a bot alive in a real game,
+ * using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("FloodFillBehaviorStrategy - Territory AI Tests")
+class FloodFillBehaviorStrategyTest {
+
+    private SegmentIndex index;
+    private WorldView view;
+    private PlayerAI bot;
+    private FloodFillBehaviorStrategy strategy;
+
+    /**
+     * Builds a 200x200 arena with the bot at (100, 100) heading right into
+     * a wall 4 px ahead, with its own trail behind it along y = 100.
+     */
+    private void setUpArena(long budgetNanos) {
+        index = new SegmentIndex();
+        view = new WorldView(index, 200, 200);
+        bot = new PlayerAI(100, 100, 3, 0, PlayerColor.RED);
+        bot.setWorldView(view, 0);
+        strategy = new FloodFillBehaviorStrategy(bot, budgetNanos);
+        bot.setBehaviorStrategy(strategy);
+        wall(0, 100, 100, 100);
+        wall(104, 0, 104, 200);
+        view.update(new Player[] { bot });
+    }
+
+    private void wall(int x1, int y1, int x2, int y2) {
+        index.insert(x1, y1, x2, y2);
+        view.markStep(x1, y1, x2, y2);
+    }
+
+    /**
+     * Test: Turns away from a small pocket
+     *
+     * Given: A wall ahead and a narrow pocket above (closed at y = 80)
+     * When: Deciding
+     * Then: The bot turns down, toward the larger area
+     */
+    @Test
+    @DisplayName("Turns toward the larger area (pocket above)")
+    void testAvoidsPocketAbove() {
+        // Given: Pocket above
+        setUpArena(FloodFillBehaviorStrategy.DEFAULT_BUDGET_NANOS * 100);
+        wall(0, 80, 104, 80);
+
+        // When: Deciding
+        strategy.decideMoveDirection();
+
+        // Then: Turn down
+        assertEquals(0, bot.velocityX, "Bot should stop moving into the wall");
+        assertEquals(3, bot.velocityY, "Bot should turn down, away from the pocket");
+    }
+
+    /**
+     * Test: Turns away from a small pocket
+     *
+     * Given: A wall ahead and a narrow pocket below (closed at y = 120)
+     * When: Deciding
+     * Then: The bot turns up, toward the larger area
+     */
+    @Test
+    @DisplayName("Turns toward the larger area (pocket below)")
+    void testAvoidsPocketBelow() {
+        // Given: Pocket below
+        setUpArena(FloodFillBehaviorStrategy.DEFAULT_BUDGET_NANOS * 100);
+        wall(0, 120, 104, 120);
+
+        // When: Deciding
+        strategy.decideMoveDirection();
+
+        // Then: Turn up
+        assertEquals(0, bot.velocityX, "Bot should stop moving into the wall");
+        assertEquals(-3, bot.velocityY, "Bot should turn up, away from the pocket");
+    }
+
+    /**
+     * Test: Budget cuts the search short
+     *
+     * Given: A 1 ns budget in an open arena
+     * When: Deciding
+     * Then: The decision completes with a legal heading and records a budget miss
+     */
+    @Test
+    @DisplayName("Budget is enforced and misses are counted")
+    void testBudgetEnforced() {
+        // Given: Tiny budget
+        setUpArena(1);
+
+        // When: Deciding
+        strategy.decideMoveDirection();
+
+        // Then: Legal move, budget miss recorded
+        assertEquals(3, Math.abs(bot.velocityX) + Math.abs(bot.velocityY), "Speed is kept");
+        assertEquals(0, bot.velocityX, "The wall ahead still forces a turn");
+        assertEquals(1, strategy.getBudgetExceededCount(), "The miss should be counted");
+        assertTrue(strategy.getLastDecisionNanos() > 0, "Decision time is recorded");
+    }
+
+    /**
+     * Test: An interrupt cuts the fills short
+     *
+     * Given: A generous budget and no area cap to speak of
+     * When: Deciding on an interrupted thread
+     * Then: The decision is cut short like a budget miss and still legal
+     */
+    @Test
+    @DisplayName("Interrupts stop the flood fill")
+    void testInterruptStopsFill() {
+        // Given: Ten seconds, huge cap
+        setUpArena(10_000_000_000L);
+        strategy.setAreaCap(1_000_000);
+
+        // When: Interrupted
+        Thread.currentThread().interrupt();
+        try {
+            strategy.decideMoveDirection();
+        } finally {
+            Thread.interrupted();
+        }
+
+        // Then: Cut short, legal move
+        assertEquals(1, strategy.getBudgetExceededCount(), "The cut should be counted");
+        assertEquals(0, bot.velocityX, "The wall ahead still forces a turn");
+        assertEquals(3, Math.abs(bot.velocityY), "Speed is kept");
+    }
+
+    /**
+     * Test: Territory bots survive in a real game
+     *
+     * Given: A two-bot arena where both bots use the territory AI
+     * When: Ticking 400 times
+     * Then: Both are still alive
+     */
+    @Test
+    @DisplayName("Territory bots survive the opening of an arena match")
+    void testSurvivesInArena() {
+        // Given: Two territory bots
+        ArenaGameModel model = new ArenaGameModel(2);
+        model.reset();
+        for (Player p : model.getPlayers()) {
+            PlayerAI ai = (PlayerAI) p;
+            ai.setBehaviorStrategy(AIStrategyType.TERRITORY.create(ai));
+        }
+
+        // When: Ticking
+        for (int i = 0; i < 400; i++) {
+            model.tick();
+        }
+
+        // Then: Nobody crashed
+        assertEquals(2, model.getAliveCount(), "Territory bots should not crash early");
+    }
+}
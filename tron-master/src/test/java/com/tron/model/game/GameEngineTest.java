@@ -0,0 +1,173 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * GameEngineTest - Unit tests for the headless game loop
+ *
+ * Tests running games to the end without a UI toolkit, tick limits,
+ * fixed-rate pacing, pausing and the background thread, using
+ * Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("GameEngine - Headless Game Loop Tests")
+class GameEngineTest {
+
+    /**
+     * Creates a started game. With one player the human heads for the
+     * centre and survives at least 80 ticks.
+     */
+    private static TronGameModel game(int playerCount) {
+        TronGameModel model = new TronGameModel(500, 500, 3, playerCount);
+        model.reset();
+        return model;
+    }
+
+    /**
+     * Test: A game runs to its end as fast as possible
+     *
+     * Given: A started four-player game and an unlimited tick rate
+     * When: Running with a tick limit far above any game's length
+     * Then: The game ends by itself and every tick is counted
+     */
+    @Test
+    @DisplayName("Runs a game to the end as fast as possible")
+    void testRunsToGameOver() {
+        // Given: Unpaced engine
+        TronGameModel model = game(4);
+        GameEngine engine = new GameEngine(model, GameEngine.UNLIMITED);
+
+        // When: Run to the end
+        long ticks = engine.run(100_000);
+
+        // Then: Game over
+        assertFalse(model.isRunning(), "The human crashed, ending the game");
+        assertTrue(ticks > 0 && ticks < 100_000, "Stopped at game over");
+        assertEquals(ticks, engine.getTickCount(), "Every tick counted");
+        assertEquals(ticks, model.getCurrentScore(), "One point per tick");
+    }
+
+    /**
+     * Test: Tick limit and fixed-rate pacing
+     *
+     * Given: A one-player game and a tick time of 5 ms
+     * When: Running 10 ticks
+     * Then: Exactly 10 ticks run, spread over at least 9 tick times
+     */
+    @Test
+    @DisplayName("Stops at the tick limit and paces ticks")
+    void testFixedRate() {
+        // Given: 200 ticks per second
+        TronGameModel model = game(1);
+        GameEngine engine = new GameEngine(model);
+        engine.setTicksPerSecond(200);
+        assertEquals(5_000_000L, engine.getTickNanos(), "Rate converted to tick time");
+
+        // When: Ten ticks
+        long start = System.nanoTime();
+        long ticks = engine.run(10);
+        long elapsed = System.nanoTime() - start;
+
+        // Then: Limited and paced
+        assertEquals(10, ticks, "Tick limit");
+        assertTrue(model.isRunning(), "Game still going");
+        assertTrue(elapsed >= 9 * 5_000_000L, "Paced, took " + elapsed + " ns");
+    }
+
+    /**
+     * Test: The background thread waits while paused and stops on request
+     *
+     * Given: A paused one-player game on the engine thread
+     * When: Waiting, then resuming, then stopping
+     * Then: No ticks run while paused, ticks run after resuming, and the
+     *       thread ends on stop()
+     */
+    @Test
+    @DisplayName("Background thread honours pause and stop")
+    void testBackgroundThread() throws InterruptedException {
+        // Given: Paused game
+        TronGameModel model = game(1);
+        model.pause();
+        GameEngine engine = new GameEngine(model, 1_000_000L);
+        engine.start();
+        assertTrue(engine.isActive(), "Thread running");
+
+        // When / Then: Nothing while paused
+        Thread.sleep(30);
+        assertEquals(0, engine.getTickCount(), "No ticks while paused");
+
+        // When / Then: Ticks after resuming
+        model.resume();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (engine.getTickCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        engine.stop();
+        assertTrue(engine.getTickCount() > 0, "Ticked after resume");
+        assertFalse(engine.isActive(), "Thread ended");
+    }
+
+    /**
+     * Test: Invalid configuration is rejected
+     */
+    @Test
+    @DisplayName("Rejects null model and bad tick times")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(null),
+                "Null model should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(game(1), -1),
+                "Negative tick time should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new GameEngine(game(1)).setTicksPerSecond(0),
+                "Zero rate should be rejected");
+    }
+
+    /**
+     * Test: Subclass hooks run around the ticks
+     *
+     * Given: An unpaced engine counting its hook calls
+     * When: Running 25 ticks
+     * Then: beforeTick ran once per tick, every round ran at least one
+     *       tick, and afterLoop ran once at the end
+     */
+    @Test
+    @DisplayName("Calls the tick hooks")
+    void testHooks() {
+        // Given: Counting hooks
+        int[] calls = new int[3];
+        GameEngine engine = new GameEngine(game(1), GameEngine.UNLIMITED) {
+            @Override
+            protected void beforeTick() {
+                calls[0]++;
+            }
+
+            @Override
+            protected void afterTicks(int ticks) {
+                assertTrue(ticks > 0, "Rounds hold ticks");
+                calls[1] += ticks;
+            }
+
+            @Override
+            protected void afterLoop() {
+                calls[2]++;
+            }
+        };
+
+        // When: 25 ticks
+        long ticks = engine.run(25);
+
+        // Then: Hooks called
+        assertEquals(25, ticks);
+        assertEquals(25, calls[0], "Once before every tick");
+        assertEquals(25, calls[1], "Every tick in a round");
+        assertEquals(1, calls[2], "Once at the end");
+    }
+}
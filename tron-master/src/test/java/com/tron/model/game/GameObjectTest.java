@@ -8,6 +8,9 @@ import java.util.ArrayList;
 
 import com.tron.model.data.DrawData;
 import com.tron.model.util.Intersection;
+import com.tron.model.util.Line;
+import com.tron.model.util.OccupancyGrid;
+import com.tron.model.util.PlayerColor;
 import com.tron.model.util.Shape;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -271,4 +274,48 @@ public class GameObjectTest {
         assertNotEquals(Intersection.UP, result, 
                        "Should not detect intersection when objects are separated");
     }
+
+    /**
+     * Tests that the occupancy grid lookup agrees with the trail scan.
+     * A trail recorded in the grid must be detected exactly when the
+     * path-based intersection test detects it.
+     */
+    @Test
+    @DisplayName("Grid lookup should agree with path scan")
+    void testIntersectsGridMatchesPathScan() {
+        TestGameObject other = new TestGameObject(300, 300, 0, 0, WIDTH, HEIGHT);
+        OccupancyGrid grid = new OccupancyGrid(MAP_WIDTH, MAP_HEIGHT);
+        Line trail = new Line(90, 104, 130, 104);
+        other.getPath().add(trail);
+        other.getPath().add(new Line(130, 104, 130, 110)); // newest segment, not committed
+        grid.mark(trail);
+
+        assertEquals(gameObject.intersects(other), gameObject.intersects(grid),
+                    "Grid and path scan should agree when touching a trail");
+        gameObject.y = 120;
+        assertEquals(gameObject.intersects(other), gameObject.intersects(grid),
+                    "Grid and path scan should agree when clear of trails");
+    }
+
+    /**
+     * Tests that a player moving faster than the collision tolerance cannot
+     * tunnel through a trail lying between its old and new head positions.
+     */
+    @Test
+    @DisplayName("Swept step should catch trail skipped by fast movement")
+    void testSweptCollisionPreventsTunneling() {
+        PlayerHuman fast = new PlayerHuman(100, 250, 8, 0, PlayerColor.CYAN);
+        fast.setBounds(MAP_WIDTH, MAP_HEIGHT);
+        OccupancyGrid grid = new OccupancyGrid(MAP_WIDTH, MAP_HEIGHT);
+        fast.setOccupancyGrid(grid);
+        grid.mark(105, 240, 105, 260);
+
+        fast.move();
+
+        assertEquals(108, fast.getX(), "Player should land past the trail");
+        assertEquals(Intersection.NONE, fast.intersects(grid),
+                    "Landing point alone is outside the tolerance");
+        assertEquals(Intersection.UP, fast.intersectsSwept(grid),
+                    "Swept step should detect the crossed trail");
+    }
 }
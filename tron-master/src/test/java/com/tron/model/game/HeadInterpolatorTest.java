@@ -0,0 +1,85 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.model.util.PlayerColor;
+
+/**
+ * HeadInterpolatorTest - Unit tests for head interpolation between ticks
+ *
+ * Tests sliding a head along its last step and snapping on wrap-around
+ * and replaced players, using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("HeadInterpolator - Head Interpolation Tests")
+class HeadInterpolatorTest {
+
+    /**
+     * Test: A head slides along its last step
+     *
+     * Given: A player captured at (100, 100) that then moved to (104, 100)
+     * When: Interpolating at alpha 0, 0.5 and 1
+     * Then: The head is drawn at the start, the middle and the end
+     */
+    @Test
+    @DisplayName("Interpolates between the captured and current position")
+    void testInterpolates() {
+        // Given: One step to the right
+        Player p = new PlayerHuman(100, 100, 4, 0, PlayerColor.BLUE);
+        HeadInterpolator interpolator = new HeadInterpolator();
+        interpolator.capture(new Player[] { p });
+        p.x = 104;
+
+        // When / Then: Along the step
+        assertEquals(100, interpolator.interpolateX(0, p, 0.0), "Start of the step");
+        assertEquals(102, interpolator.interpolateX(0, p, 0.5), "Middle of the step");
+        assertEquals(104, interpolator.interpolateX(0, p, 1.0), "End of the step");
+        assertEquals(100, interpolator.interpolateY(0, p, 0.5), "No vertical movement");
+    }
+
+    /**
+     * Test: Wrap-around snaps instead of sliding across the map
+     *
+     * Given: A player captured at the right edge that wrapped to the left
+     * When: Interpolating half way
+     * Then: The head is drawn at its current position
+     */
+    @Test
+    @DisplayName("Snaps when the head jumped further than a step")
+    void testSnapsOnWrap() {
+        Player p = new PlayerHuman(498, 250, 4, 0, PlayerColor.BLUE);
+        HeadInterpolator interpolator = new HeadInterpolator();
+        interpolator.capture(new Player[] { p });
+        p.x = 2;
+
+        assertEquals(2, interpolator.interpolateX(0, p, 0.5), "Drawn where it is");
+    }
+
+    /**
+     * Test: A replaced player is not interpolated from its predecessor
+     *
+     * Given: A slot captured with one player
+     * When: Asking about a different player in that slot, or an unknown slot
+     * Then: Both are drawn at their current position
+     */
+    @Test
+    @DisplayName("Snaps when the player in a slot changed")
+    void testSnapsOnNewPlayer() {
+        Player old = new PlayerHuman(100, 100, 4, 0, PlayerColor.BLUE);
+        Player fresh = new PlayerHuman(110, 100, 4, 0, PlayerColor.BLUE);
+        HeadInterpolator interpolator = new HeadInterpolator();
+        interpolator.capture(new Player[] { old });
+
+        assertEquals(110, interpolator.interpolateX(0, fresh, 0.5), "Different owner");
+        assertEquals(110, interpolator.interpolateX(3, fresh, 0.5), "Slot never captured");
+        assertThrows(IllegalArgumentException.class, () -> new HeadInterpolator(-1),
+                "Negative snap distance should be rejected");
+    }
+}
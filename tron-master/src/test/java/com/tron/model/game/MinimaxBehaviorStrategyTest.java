@@ -0,0 +1,182 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.model.util.PlayerColor;
+import com.tron.model.util.SegmentIndex;
+
+/**
+ * MinimaxBehaviorStrategyTest - Unit tests for the alpha-beta duel AI
+ *
+ * Tests that the search runs and reports its metrics against a nearby
+ * opponent, that blocked moves and pockets are avoided, that far-away or
+ * multiple opponents hand over to the territory AI, and that two duel bots
+ * survive a real game, using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("MinimaxBehaviorStrategy - Duel AI Tests")
+class MinimaxBehaviorStrategyTest {
+
+    private SegmentIndex index;
+    private WorldView view;
+    private PlayerAI bot;
+    private MinimaxBehaviorStrategy strategy;
+
+    /**
+     * Builds a 200x200 arena with the bot at (100, 100) heading right and
+     * its own trail behind it, and the given opponents.
+     */
+    private void setUpArena(long budgetNanos, PlayerAI... opponents) {
+        index = new SegmentIndex();
+        view = new WorldView(index, 200, 200);
+        bot = new PlayerAI(100, 100, 3, 0, PlayerColor.RED);
+        Player[] players = new Player[opponents.length + 1];
+        players[0] = bot;
+        System.arraycopy(opponents, 0, players, 1, opponents.length);
+        for (int i = 0; i < players.length; i++) {
+            players[i].setWorldView(view, i);
+        }
+        strategy = new MinimaxBehaviorStrategy(bot, budgetNanos);
+        bot.setBehaviorStrategy(strategy);
+        wall(0, 100, 100, 100);
+        view.update(players);
+    }
+
+    private void wall(int x1, int y1, int x2, int y2) {
+        index.insert(x1, y1, x2, y2);
+        view.markStep(x1, y1, x2, y2);
+    }
+
+    /**
+     * Test: Search runs and reports metrics
+     *
+     * Given: An open arena with the opponent a few cells away
+     * When: Deciding with a generous budget
+     * Then: At least one full round was searched and nodes/sec is reported
+     */
+    @Test
+    @DisplayName("Search reports depth and nodes per second")
+    void testSearchMetrics() {
+        // Given: Opponent close by
+        setUpArena(20_000_000L, new PlayerAI(100, 130, -3, 0, PlayerColor.BLUE));
+
+        // When: Deciding
+        strategy.decideMoveDirection();
+
+        // Then: Metrics recorded
+        assertTrue(strategy.getLastDepth() >= 2, "At least one round should complete");
+        assertTrue(strategy.getLastNodes() > 0, "Nodes should be counted");
+        assertTrue(strategy.getNodesPerSecond() > 0, "Nodes per second should be reported");
+        assertEquals(3, Math.abs(bot.velocityX) + Math.abs(bot.velocityY), "Speed is kept");
+    }
+
+    /**
+     * Test: An interrupt ends the search
+     *
+     * Given: An open arena, the opponent close by and a 10 s budget
+     * When: Deciding on an interrupted thread
+     * Then: The search stops at its next clock check instead of using
+     *       the budget, and the move is legal
+     */
+    @Test
+    @DisplayName("Interrupts stop the search")
+    void testInterruptStopsSearch() {
+        // Given: Ten seconds
+        setUpArena(10_000_000_000L, new PlayerAI(100, 130, -3, 0, PlayerColor.BLUE));
+
+        // When: Interrupted
+        Thread.currentThread().interrupt();
+        try {
+            strategy.decideMoveDirection();
+        } finally {
+            Thread.interrupted();
+        }
+
+        // Then: Stopped early
+        assertTrue(strategy.getLastDecisionNanos() < 1_000_000_000L,
+                "Took " + strategy.getLastDecisionNanos() + " ns");
+        assertEquals(3, Math.abs(bot.velocityX) + Math.abs(bot.velocityY), "Speed is kept");
+    }
+
+    /**
+     * Test: Never drives into a wall or a pocket
+     *
+     * Given: A wall 4 px ahead and a narrow pocket above, opponent nearby
+     * When: Deciding
+     * Then: The bot turns down
+     */
+    @Test
+    @DisplayName("Avoids the wall ahead and the pocket above")
+    void testAvoidsWallAndPocket() {
+        // Given: Wall ahead, pocket above
+        setUpArena(5_000_000L, new PlayerAI(60, 150, -3, 0, PlayerColor.BLUE));
+        wall(104, 0, 104, 200);
+        wall(0, 80, 104, 80);
+
+        // When: Deciding
+        strategy.decideMoveDirection();
+
+        // Then: Turn down
+        assertEquals(0, bot.velocityX, "Bot should stop moving into the wall");
+        assertEquals(3, bot.velocityY, "Bot should turn down, away from the pocket");
+    }
+
+    /**
+     * Test: Hands over to the territory AI outside a duel
+     *
+     * Given: Two live opponents
+     * When: Deciding
+     * Then: No search nodes are spent
+     */
+    @Test
+    @DisplayName("Two opponents: territory fallback, no search")
+    void testFallsBackWithTwoOpponents() {
+        // Given: Two opponents near the bot
+        setUpArena(5_000_000L,
+                new PlayerAI(100, 130, -3, 0, PlayerColor.BLUE),
+                new PlayerAI(130, 70, 0, 3, PlayerColor.GREEN));
+
+        // When: Deciding
+        strategy.decideMoveDirection();
+
+        // Then: No search
+        assertEquals(0, strategy.getLastNodes(), "Search is only for duels");
+        assertThrows(IllegalArgumentException.class, () -> strategy.setBudgetNanos(0),
+                "Budget must be positive");
+    }
+
+    /**
+     * Test: Duel bots survive in a real game
+     *
+     * Given: A two-bot arena where both bots use the duel AI
+     * When: Ticking 400 times
+     * Then: Both are still alive
+     */
+    @Test
+    @DisplayName("Duel bots survive the opening of an arena match")
+    void testSurvivesInArena() {
+        // Given: Two duel bots
+        ArenaGameModel model = new ArenaGameModel(2);
+        model.reset();
+        for (Player p : model.getPlayers()) {
+            PlayerAI ai = (PlayerAI) p;
+            ai.setBehaviorStrategy(AIStrategyType.DUEL.create(ai));
+        }
+
+        // When: Ticking
+        for (int i = 0; i < 400; i++) {
+            model.tick();
+        }
+
+        // Then: Nobody crashed
+        assertEquals(2, model.getAliveCount(), "Duel bots should not crash early");
+    }
+}
@@ -0,0 +1,146 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.model.util.PlayerColor;
+import com.tron.model.util.SegmentIndex;
+
+/**
+ * MonteCarloBehaviorStrategyTest - Unit tests for the background MCTS AI
+ *
+ * Tests that background playouts steer the bot toward open space, that
+ * throughput is reported and that the workers stop when asked, using
+ * Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("MonteCarloBehaviorStrategy - MCTS AI Tests")
+class MonteCarloBehaviorStrategyTest {
+
+    private static final long WAIT_MILLIS = 5000;
+
+    private SegmentIndex index;
+    private WorldView view;
+    private PlayerAI bot;
+    private MonteCarloBehaviorStrategy strategy;
+
+    /**
+     * Builds a 200x200 arena with the bot at (100, 100) heading right into
+     * a wall 4 px ahead, with its own trail behind it along y = 100.
+     */
+    private void setUpArena() {
+        index = new SegmentIndex();
+        view = new WorldView(index, 200, 200);
+        bot = new PlayerAI(100, 100, 3, 0, PlayerColor.RED);
+        bot.setWorldView(view, 0);
+        strategy = new MonteCarloBehaviorStrategy(bot, 1, MonteCarloBehaviorStrategy.DEFAULT_HORIZON);
+        bot.setBehaviorStrategy(strategy);
+        wall(0, 100, 100, 100);
+        wall(104, 0, 104, 200);
+        view.update(new Player[] { bot });
+    }
+
+    private void wall(int x1, int y1, int x2, int y2) {
+        index.insert(x1, y1, x2, y2);
+        view.markStep(x1, y1, x2, y2);
+    }
+
+    private void awaitPlayouts(long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (strategy.getTotalPlayouts() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (strategy != null) {
+            strategy.stop();
+        }
+    }
+
+    /**
+     * Test: Playouts steer away from a small pocket
+     *
+     * Given: A wall ahead, a pocket above (closed at y = 88) too small to
+     *        survive the playout horizon in, and
+     *        background playouts on that position
+     * When: Deciding again while heading into the wall
+     * Then: The bot turns down, based on the workers' statistics
+     */
+    @Test
+    @DisplayName("Background playouts pick the open area over the pocket")
+    void testPrefersOpenArea() throws InterruptedException {
+        // Given: Pocket above; first decision publishes the position
+        setUpArena();
+        wall(0, 88, 104, 88);
+        strategy.decideMoveDirection();
+        awaitPlayouts(5000);
+
+        // When: Deciding from the same spot, heading into the wall
+        bot.velocityX = 3;
+        bot.velocityY = 0;
+        strategy.decideMoveDirection();
+
+        // Then: Turned down on statistics, not the fallback
+        assertTrue(strategy.getLastRootVisits() > 0, "Decision should use search statistics");
+        assertEquals(0, bot.velocityX, "Bot should stop moving into the wall");
+        assertEquals(3, bot.velocityY, "Bot should turn down, away from the pocket");
+    }
+
+    /**
+     * Test: Throughput is measured and workers stop on request
+     *
+     * Given: Workers searching in the background
+     * When: Deciding twice, then stopping
+     * Then: Playouts per second is reported and the playout count stops growing
+     */
+    @Test
+    @DisplayName("Reports throughput and stops its workers")
+    void testThroughputAndStop() throws InterruptedException {
+        // Given: Search running
+        setUpArena();
+        strategy.decideMoveDirection();
+        awaitPlayouts(1000);
+
+        // When: Second decision, then stop
+        strategy.decideMoveDirection();
+        strategy.stop();
+        Thread.sleep(50);
+        long stopped = strategy.getTotalPlayouts();
+        Thread.sleep(50);
+
+        // Then: Metrics and quiet workers
+        assertTrue(strategy.getPlayoutsPerSecond() > 0, "Throughput should be reported");
+        assertEquals(1, strategy.getWorkerCount(), "One worker was requested");
+        assertEquals(stopped, strategy.getTotalPlayouts(), "Workers should stop searching");
+    }
+
+    /**
+     * Test: Invalid configuration is rejected
+     *
+     * Given: No workers or no horizon
+     * When: Constructing the strategy
+     * Then: IllegalArgumentException is thrown
+     */
+    @Test
+    @DisplayName("Rejects zero workers or horizon")
+    void testInvalidConfiguration() {
+        // Given: An AI player
+        PlayerAI ai = new PlayerAI(50, 50, 3, 0, PlayerColor.BLUE);
+
+        // When/Then: Bad arguments
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloBehaviorStrategy(ai, 0, 10),
+                "Zero workers should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloBehaviorStrategy(ai, 1, 0),
+                "Zero horizon should be rejected");
+    }
+}
@@ -0,0 +1,186 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.model.input.GameInput;
+
+/**
+ * SimulationThreadTest - Unit tests for the dedicated simulation thread
+ *
+ * Tests ticking off the calling thread, frame publishing, queued input,
+ * pausing and game over, using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("SimulationThread - Simulation Thread Tests")
+class SimulationThreadTest {
+
+    private static final long TICK_NANOS = 1_000_000L;
+
+    private static TronGameModel game(int playerCount) {
+        TronGameModel model = new TronGameModel(500, 500, 3, playerCount);
+        model.reset();
+        return model;
+    }
+
+    /**
+     * Acquires frames until one has at least the given tick count.
+     */
+    private static GameFrame awaitTick(SimulationThread sim, long tick) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        GameFrame frame = sim.acquireFrame();
+        while (frame.getTick() < tick && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+            frame = sim.acquireFrame();
+        }
+        return frame;
+    }
+
+    /**
+     * Test: The model ticks on its own thread and frames are published
+     *
+     * Given: A one-player game at 1000 ticks per second
+     * When: Starting the simulation and acquiring frames
+     * Then: Frames show the ticks, the score and the player, and their
+     *       publish latency is measured
+     */
+    @Test
+    @DisplayName("Ticks on its own thread and publishes frames")
+    void testPublishesFrames() throws InterruptedException {
+        // Given: Simulation
+        TronGameModel model = game(1);
+        SimulationThread sim = new SimulationThread(model, TICK_NANOS, 16);
+        assertEquals(-1, sim.acquireFrame().getTick(), "Nothing published before start");
+
+        // When: Run
+        sim.start();
+        assertTrue(sim.isActive(), "Thread running");
+        GameFrame frame = awaitTick(sim, 10);
+        sim.stop();
+
+        // Then: Frame content
+        assertTrue(frame.getTick() >= 10, "Ticks published");
+        assertTrue(frame.isRunning(), "Game going on");
+        assertEquals(frame.getTick(), frame.getScore(), "One point per tick");
+        assertEquals(1, frame.getPlayerCount());
+        assertNotNull(frame.getDrawData(0), "Player drawn");
+        assertTrue(sim.getPublishLatency().getCount() > 0, "Handoff latency recorded");
+        assertFalse(sim.isActive(), "Thread ended");
+        assertEquals(sim.getTickCount(), model.getCurrentScore(), "Ticks counted");
+    }
+
+    /**
+     * Test: Queued input is applied on the simulation thread
+     *
+     * Given: A running one-player game with the human moving horizontally
+     * When: Submitting a turn upward
+     * Then: After a few ticks the human moves up
+     */
+    @Test
+    @DisplayName("Applies queued input before the next tick")
+    void testInput() throws InterruptedException {
+        // Given: Human heading left or right (players start heading to the centre)
+        TronGameModel model = game(1);
+        PlayerHuman human = model.getPlayer();
+        GameInput turn = human.getYVelocity() == 0 ? GameInput.MOVE_UP : GameInput.MOVE_LEFT;
+        SimulationThread sim = new SimulationThread(model, TICK_NANOS, 16);
+        sim.start();
+
+        // When: Turn
+        assertTrue(sim.submit(turn), "Queued");
+        long after = sim.acquireFrame().getTick() + 3;
+        awaitTick(sim, after);
+        sim.stop();
+
+        // Then: Turned
+        if (turn == GameInput.MOVE_UP) {
+            assertTrue(human.getYVelocity() < 0, "Moving up");
+        } else {
+            assertTrue(human.getXVelocity() < 0, "Moving left");
+        }
+        assertEquals(0, sim.getDroppedInputs(), "Nothing dropped");
+    }
+
+    /**
+     * Test: Pausing stops the thread and the ticks
+     *
+     * Given: A running simulation
+     * When: Pausing, waiting, then resuming
+     * Then: No ticks while paused, ticks again after resuming
+     */
+    @Test
+    @DisplayName("Pause stops ticking and resume restarts it")
+    void testPauseResume() throws InterruptedException {
+        // Given: Running
+        TronGameModel model = game(1);
+        SimulationThread sim = new SimulationThread(model, TICK_NANOS, 16);
+        sim.start();
+        awaitTick(sim, 3);
+
+        // When / Then: Paused
+        sim.pause();
+        assertTrue(model.isPaused(), "Model paused");
+        assertFalse(sim.isActive(), "Thread stopped");
+        long ticks = sim.getTickCount();
+        Thread.sleep(20);
+        assertEquals(ticks, sim.getTickCount(), "No ticks while paused");
+
+        // When / Then: Resumed
+        sim.resume();
+        GameFrame frame = awaitTick(sim, ticks + 3);
+        sim.stop();
+        assertFalse(model.isPaused(), "Model running again");
+        assertTrue(frame.getTick() >= ticks + 3, "Ticks after resuming");
+    }
+
+    /**
+     * Test: The thread ends with the game
+     *
+     * Given: A four-player game ticking every 0.1 ms
+     * When: Letting it run to the end
+     * Then: The thread stops by itself and the last frame shows game over
+     */
+    @Test
+    @DisplayName("Ends with the game and publishes the final frame")
+    void testGameOver() throws InterruptedException {
+        // Given: Fast game
+        TronGameModel model = game(4);
+        SimulationThread sim = new SimulationThread(model, 100_000L, 16);
+
+        // When: Run to the end
+        sim.start();
+        long deadline = System.nanoTime() + 20_000_000_000L;
+        while (sim.isActive() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        // Then: Final frame
+        assertFalse(sim.isActive(), "Thread ended with the game");
+        GameFrame frame = sim.acquireFrame();
+        assertFalse(frame.isRunning(), "Game over published");
+        assertEquals(sim.getTickCount(), frame.getTick(), "Final frame after the last tick");
+    }
+
+    /**
+     * Test: Invalid configuration is rejected
+     */
+    @Test
+    @DisplayName("Rejects null model and bad settings")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationThread(null),
+                "Null model should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new SimulationThread(game(1), 0, 16),
+                "Zero tick time should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new SimulationThread(game(1), TICK_NANOS, 0),
+                "Zero input capacity should be rejected");
+    }
+}
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import com.tron.model.score.HighScoreEntry;
 import com.tron.model.score.Score;
 
 /**
@@ -266,4 +268,56 @@ public class SurvivalGameModelTest {
         // Assert
         assertEquals(false, gameModel.isRunning(), "Game should stop after stop() call");
     }
+
+    /**
+     * Test Case: SurvivalGameModelTest.testHighScoreThroughPrompt()
+     * 
+     * Tests that a qualifying score is entered through the high score prompt.
+     * 
+     * Class and Method under test: SurvivalGameModel.saveScore()
+     * Test Inputs/Preconditions: Empty high score file, prompt answering at once
+     * Expected Outcome: Prompt asked once with the score, entry stored
+     * Testing Framework: JUnit 5
+     */
+    @Test
+    @DisplayName("testHighScoreThroughPrompt - Qualifying score is entered via the prompt")
+    void testHighScoreThroughPrompt() {
+        // Arrange
+        int[] asked = new int[1];
+        gameModel.setHighScorePrompt((score, onEntry) -> {
+            asked[0] = score;
+            onEntry.accept(new HighScoreEntry(score, "Tester", "Hidden", "GoodGame", LocalDate.now()));
+        });
+        gameModel.setCurrentScore(42);
+
+        // Act
+        gameModel.saveScore();
+        gameModel.saveScore();
+
+        // Assert
+        assertEquals(42, asked[0], "Prompt asked for the score");
+        assertTrue(gameModel.getHighScores().contains(42), "Entry stored");
+        assertEquals(1, gameModel.getHighScores().size(), "Saved only once");
+    }
+
+    /**
+     * Test Case: SurvivalGameModelTest.testHeadlessGameOver()
+     * 
+     * Tests that a game runs to its end without a prompt or UI toolkit.
+     * 
+     * Class and Method under test: SurvivalGameModel.tick(), saveScore()
+     * Test Inputs/Preconditions: No high score prompt, unpaced GameEngine
+     * Expected Outcome: Game ends and no score is entered
+     * Testing Framework: JUnit 5
+     */
+    @Test
+    @DisplayName("testHeadlessGameOver - Game ends headless without entering scores")
+    void testHeadlessGameOver() {
+        // Act
+        new GameEngine(gameModel, GameEngine.UNLIMITED).run(100_000);
+
+        // Assert
+        assertEquals(false, gameModel.isRunning(), "Game over");
+        assertTrue(gameModel.getHighScores().isEmpty(), "Nothing entered without a prompt");
+    }
 }
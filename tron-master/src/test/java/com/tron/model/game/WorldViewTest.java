@@ -0,0 +1,188 @@
+package com.tron.model.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.model.util.Bitboard;
+import com.tron.model.util.Direction;
+import com.tron.model.util.Intersection;
+import com.tron.model.util.PlayerColor;
+import com.tron.model.util.SegmentIndex;
+
+/**
+ * WorldViewTest - Unit tests for the shared per-tick arena view
+ *
+ * Tests trail queries, head state capture and how the model wires the
+ * view into its players using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("WorldView - Per-Tick Arena View Tests")
+class WorldViewTest {
+
+    /**
+     * Test: Trail queries read the arena index
+     *
+     * Given: A vertical trail at x = 110 and a horizontal trail at y = 40
+     * When: Querying from (100, 50)
+     * Then: Ray casts and row/column queries see the trails
+     */
+    @Test
+    @DisplayName("Trail queries read the arena index")
+    void testTrailQueries() {
+        // Given: Two trails
+        SegmentIndex index = new SegmentIndex();
+        index.insert(110, 0, 110, 100);
+        index.insert(0, 40, 200, 40);
+        WorldView view = new WorldView(index, 500, 500);
+
+        // When/Then: Ray casts respect the search range
+        assertEquals(10, view.distanceToTrail(100, 50, Direction.RIGHT, 10), "Trail 10 px to the right");
+        assertEquals(-1, view.distanceToTrail(100, 50, Direction.RIGHT, 9), "Out of range");
+        assertEquals(-1, view.distanceToTrail(100, 50, Direction.LEFT, 100), "Nothing to the left");
+        assertEquals(10, view.distanceToTrail(100, 50, Direction.UP, 100), "Row 40 is 10 px up");
+        assertTrue(view.hasHorizontalTrailBetween(35, 45), "Row 40 is in range");
+        assertTrue(view.hasVerticalTrailBetween(105, 115), "Column 110 is in range");
+        assertFalse(view.hasVerticalTrailBetween(0, 100), "No column left of 100");
+    }
+
+    /**
+     * Test: Walls are trails or the arena edge, whichever is nearer
+     *
+     * Given: A 500x400 arena with a vertical trail at x = 110
+     * When: Measuring walls and free space from (100, 50)
+     * Then: The trail bounds the right, the edges bound the other directions
+     */
+    @Test
+    @DisplayName("Wall distance and free space combine trails and edges")
+    void testWallsAndFreeSpace() {
+        // Given: One trail
+        SegmentIndex index = new SegmentIndex();
+        index.insert(110, 0, 110, 100);
+        WorldView view = new WorldView(index, 500, 400);
+
+        // When/Then: Distances
+        assertEquals(10, view.distanceToWall(100, 50, Direction.RIGHT), "Trail is the nearest wall");
+        assertEquals(100, view.distanceToWall(100, 50, Direction.LEFT), "Left edge");
+        assertEquals(350, view.distanceToWall(100, 50, Direction.DOWN), "Bottom edge");
+        assertEquals(0, view.distanceToWall(0, 50, Direction.LEFT), "Standing on the edge");
+        assertEquals(9, view.freeSpaceAlong(100, 50, Direction.RIGHT, 100), "Free pixels before the trail");
+        assertEquals(5, view.freeSpaceAlong(100, 50, Direction.RIGHT, 5), "Capped at the maximum");
+        assertEquals(49, view.freeSpaceAlong(100, 50, Direction.UP, 100), "Free pixels before the top edge");
+        assertEquals(0, view.freeSpaceAlong(0, 50, Direction.LEFT, 100), "No room past the edge");
+    }
+
+    /**
+     * Test: The cell grid is a bitboard strategies can copy and fill
+     *
+     * Given: A 100x100 arena (25x25 cells) split by a full-height trail at x = 50
+     * When: Measuring reachable area on both sides and copying the grid
+     * Then: The areas add up to the free cells and the copy is independent
+     */
+    @Test
+    @DisplayName("Cell grid supports copies and reachable-area fills")
+    void testCellBitboard() {
+        // Given: Wall at column 12
+        WorldView view = new WorldView(new SegmentIndex(), 100, 100);
+        view.markStep(50, 0, 50, 99);
+        Bitboard region = view.copyCells();
+
+        // When: Filling both halves
+        int left = view.reachableArea(10, 10, region);
+        int right = view.reachableArea(90, 10, region);
+
+        // Then: 12 and 12 columns of 25 rows; copies do not write back
+        assertEquals(12 * 25, left, "Left of the wall");
+        assertEquals(12 * 25, right, "Right of the wall");
+        assertEquals(0, view.reachableArea(50, 10, region), "Start on the wall");
+        Bitboard copy = view.copyCells();
+        assertTrue(copy.makeMove(0, 0), "Copy accepts moves");
+        assertFalse(view.isCellBlocked(0, 0), "View is unchanged by the copy");
+        view.copyCellsInto(copy);
+        assertFalse(copy.get(0, 0), "copyCellsInto restores the view's grid");
+    }
+
+    /**
+     * Test: Headings follow velocity and screen coordinates
+     */
+    @Test
+    @DisplayName("Direction maps velocities to headings")
+    void testDirectionFromVelocity() {
+        assertEquals(Direction.RIGHT, Direction.fromVelocity(3, 0), "Positive X is right");
+        assertEquals(Direction.UP, Direction.fromVelocity(0, -3), "Negative Y is up");
+        assertEquals(Direction.DOWN, Direction.UP.opposite(), "Opposite of up");
+        assertNull(Direction.fromVelocity(0, 0), "Stopped player has no heading");
+    }
+
+    /**
+     * Test: Head state is captured once per refresh
+     *
+     * Given: Two players, one of them dead, and an empty slot
+     * When: Refreshing the view and then moving a player
+     * Then: The view reports the state at refresh time
+     */
+    @Test
+    @DisplayName("Head state is captured at refresh")
+    void testHeadState() {
+        // Given: Players
+        PlayerAI a = new PlayerAI(10, 20, 2, 0, PlayerColor.RED);
+        PlayerAI b = new PlayerAI(30, 40, 0, 2, PlayerColor.BLUE);
+        b.crash(Intersection.UP);
+        WorldView view = new WorldView(new SegmentIndex(), 500, 500);
+
+        // When: Refreshing, then moving
+        view.update(new Player[] { a, b, null });
+        a.x = 99;
+
+        // Then: Snapshot values
+        assertEquals(3, view.getPlayerCount(), "All slots are captured");
+        assertEquals(10, view.getHeadX(0), "Head X as of the refresh");
+        assertEquals(2, view.getVelocityX(0), "Velocity as of the refresh");
+        assertEquals(40, view.getHeadY(1), "Dead players keep their last head position");
+        assertTrue(view.isAlive(0), "Live player");
+        assertFalse(view.isAlive(1), "Crashed player");
+        assertFalse(view.isAlive(2), "Empty slot reads as dead");
+        assertEquals(1, view.getTick(), "One refresh");
+        assertThrows(IndexOutOfBoundsException.class, () -> view.getHeadX(3),
+                "Slots beyond the player count are rejected");
+    }
+
+    /**
+     * Test: The model shares one view and refreshes it every tick
+     *
+     * Given: A reset four-player game
+     * When: Ticking twice
+     * Then: Every player holds the model's view in its own slot and the view tracks ticks
+     */
+    @Test
+    @DisplayName("Model shares one view refreshed per tick")
+    void testModelWiring() {
+        // Given: A game
+        TronGameModel model = new TronGameModel(500, 500, 2, 4);
+        model.reset();
+        WorldView view = model.getWorldView();
+        assertNotNull(view, "Reset should create the view");
+
+        // When: Ticking
+        model.tick();
+        model.tick();
+
+        // Then: Shared and refreshed
+        Player[] players = model.getPlayers();
+        for (int i = 0; i < players.length; i++) {
+            assertSame(view, players[i].getWorldView(), "Every player shares the view");
+            assertEquals(i, players[i].getWorldSlot(), "Slot matches the array index");
+        }
+        assertEquals(2, view.getTick(), "One refresh per tick");
+    }
+}
@@ -0,0 +1,355 @@
+package com.tron.model.game.decorator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.tron.model.game.ArenaGameModel;
+import com.tron.model.game.FallbackMove;
+import com.tron.model.game.MinimaxBehaviorStrategy;
+import com.tron.model.game.PlayerAI;
+import com.tron.model.game.PlayerBehaviorStrategy;
+import com.tron.model.util.PlayerColor;
+
+/**
+ * Unit Tests for DeadlineBehaviorDecorator
+ *
+ * This test class verifies the time budget enforced by the
+ * DeadlineBehaviorDecorator implementation. It tests:
+ * - On-time decisions are used unchanged
+ * - Late decisions are interrupted, undone and replaced by the fallback
+ * - Fallback strategies decide and boost after a miss
+ * - Strategies missing repeatedly sit out a cooldown
+ * - Per-bot miss metrics
+ * - A real search stops soon after a miss
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @see DeadlineBehaviorDecorator
+ * @see FallbackMove
+ */
+@DisplayName("DeadlineBehaviorDecorator Tests")
+public class DeadlineBehaviorDecoratorTest {
+
+	/** Budget far above what the fast strategy needs */
+	private static final long GENEROUS_BUDGET = 5_000_000_000L;
+	/** Budget far below what the slow strategy needs */
+	private static final long TIGHT_BUDGET = 2_000_000L;
+
+	/**
+	 * Strategy that turns the player down, then thinks for a while.
+	 * Stops thinking when interrupted.
+	 */
+	private static final class TurningStrategy implements PlayerBehaviorStrategy {
+		private final PlayerAI player;
+		private final long thinkMillis;
+		private volatile int calls = 0;
+		private volatile boolean interrupted = false;
+
+		TurningStrategy(PlayerAI player, long thinkMillis) {
+			this.player = player;
+			this.thinkMillis = thinkMillis;
+		}
+
+		@Override
+		public void decideMoveDirection() {
+			calls++;
+			player.setYVelocity(3);
+			player.setXVelocity(0);
+			if (thinkMillis > 0) {
+				try {
+					Thread.sleep(thinkMillis);
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+
+		@Override
+		public boolean shouldBoost() {
+			return true;
+		}
+
+		@Override
+		public void reset() {
+		}
+
+		@Override
+		public int[] getVelocity() {
+			return new int[] { player.getXVelocity(), player.getYVelocity() };
+		}
+	}
+
+	/**
+	 * Strategy that turns the player down after thinking for a while,
+	 * ignoring interrupts.
+	 */
+	private static final class StubbornStrategy implements PlayerBehaviorStrategy {
+		private final PlayerAI player;
+		private final long thinkNanos;
+
+		StubbornStrategy(PlayerAI player, long thinkNanos) {
+			this.player = player;
+			this.thinkNanos = thinkNanos;
+		}
+
+		@Override
+		public void decideMoveDirection() {
+			long end = System.nanoTime() + thinkNanos;
+			while (System.nanoTime() < end) {
+				Thread.onSpinWait();
+			}
+			player.setYVelocity(3);
+			player.setXVelocity(0);
+		}
+
+		@Override
+		public boolean shouldBoost() {
+			return false;
+		}
+
+		@Override
+		public void reset() {
+		}
+
+		@Override
+		public int[] getVelocity() {
+			return new int[] { player.getXVelocity(), player.getYVelocity() };
+		}
+	}
+
+	private PlayerAI player;
+
+	/**
+	 * Set up a player heading right in the open.
+	 */
+	@BeforeEach
+	void setUp() {
+		player = new PlayerAI(100, 100, 3, 0, PlayerColor.RED);
+		player.setBounds(500, 500);
+	}
+
+	/**
+	 * Test Case: TC-DEADLINE-001
+	 * Verifies that a decision made within the budget is kept.
+	 *
+	 * Expected Result:
+	 * - The player turned down, the wrapped strategy's boost is used,
+	 *   and no miss is recorded
+	 */
+	@Test
+	@DisplayName("On-time decisions are kept")
+	void testOnTimeDecisionKept() {
+		TurningStrategy fast = new TurningStrategy(player, 0);
+		DeadlineBehaviorDecorator bounded = new DeadlineBehaviorDecorator(fast, player, GENEROUS_BUDGET);
+
+		bounded.decideMoveDirection();
+
+		assertEquals(0, player.getXVelocity(), "Turned");
+		assertEquals(3, player.getYVelocity(), "Heading down");
+		assertTrue(bounded.shouldBoost(), "Wrapped strategy boosts");
+		assertEquals(1, bounded.getDecisionCount(), "One decision");
+		assertEquals(0, bounded.getMissCount(), "No miss");
+		assertEquals(0.0, bounded.getMissRate(), "Miss rate zero");
+	}
+
+	/**
+	 * Test Case: TC-DEADLINE-002
+	 * Verifies that a late decision is interrupted and replaced.
+	 *
+	 * Scenario:
+	 * - The strategy turns, then thinks for 10 seconds; the budget is 2 ms
+	 *
+	 * Expected Result:
+	 * - The strategy is interrupted long before it finishes
+	 * - The turn is undone and KEEP_HEADING keeps the player going right
+	 * - One miss is recorded and no boost is asked for
+	 */
+	@Test
+	@DisplayName("Late decisions are interrupted and replaced by the fallback")
+	void testLateDecisionFallsBack() {
+		TurningStrategy slow = new TurningStrategy(player, 10_000);
+		DeadlineBehaviorDecorator bounded = new DeadlineBehaviorDecorator(
+			slow, player, TIGHT_BUDGET, FallbackMove.KEEP_HEADING);
+
+		long start = System.nanoTime();
+		bounded.decideMoveDirection();
+		long waited = System.nanoTime() - start;
+
+		assertTrue(slow.calls == 0 || slow.interrupted, "Late strategy was interrupted or never started");
+		assertTrue(waited < 5_000_000_000L, "Did not wait for the full think time");
+		assertEquals(3, player.getXVelocity(), "Turn undone");
+		assertEquals(0, player.getYVelocity(), "Still heading right");
+		assertFalse(bounded.shouldBoost(), "No boost after a fallback move");
+		assertEquals(1, bounded.getMissCount(), "One miss");
+		assertEquals(1.0, bounded.getMissRate(), "Every attempt missed");
+		assertTrue(bounded.getMaxOverrunNanos() >= 0, "Overrun measured");
+		assertFalse(Thread.currentThread().isInterrupted(), "Caller not interrupted");
+	}
+
+	/**
+	 * Test Case: TC-DEADLINE-003
+	 * Verifies that a fallback strategy decides and boosts after a miss.
+	 */
+	@Test
+	@DisplayName("Fallback strategy decides after a miss")
+	void testFallbackStrategy() {
+		PlayerBehaviorStrategy cheap = Mockito.mock(PlayerBehaviorStrategy.class);
+		Mockito.when(cheap.shouldBoost()).thenReturn(true);
+		DeadlineBehaviorDecorator bounded = new DeadlineBehaviorDecorator(
+			new TurningStrategy(player, 10_000), player, TIGHT_BUDGET, cheap);
+
+		bounded.decideMoveDirection();
+
+		Mockito.verify(cheap).decideMoveDirection();
+		assertTrue(bounded.shouldBoost(), "Fallback strategy's boost");
+		assertEquals(cheap, bounded.getFallbackStrategy(), "Fallback exposed");
+	}
+
+	/**
+	 * Test Case: TC-DEADLINE-004
+	 * Verifies that a strategy missing repeatedly sits out a cooldown.
+	 *
+	 * Scenario:
+	 * - Two misses in a row trigger a cooldown of three decisions
+	 * - Six decisions, then a reset and one more
+	 *
+	 * Expected Result:
+	 * - Decisions 1, 2 and 6 are attempted; 3 to 5 are skipped
+	 * - After reset it is attempted again straight away
+	 */
+	@Test
+	@DisplayName("Repeated misses skip the strategy for a cooldown")
+	void testCooldownAfterRepeatedMisses() {
+		TurningStrategy slow = new TurningStrategy(player, 10_000);
+		DeadlineBehaviorDecorator bounded = new DeadlineBehaviorDecorator(
+			slow, player, TIGHT_BUDGET, FallbackMove.KEEP_HEADING);
+		bounded.setCooldown(2, 3);
+
+		for (int i = 0; i < 6; i++) {
+			bounded.decideMoveDirection();
+		}
+
+		assertTrue(slow.calls <= 3, "Never run during the cooldown");
+		assertEquals(3, bounded.getSkippedCount(), "Three skipped");
+		assertEquals(3, bounded.getMissCount(), "Attempts all missed");
+		assertEquals(1.0, bounded.getMissRate(), "Rate counts attempts only");
+
+		bounded.reset();
+		bounded.decideMoveDirection();
+		assertEquals(4, bounded.getMissCount(), "Reset ends the cooldown");
+		assertEquals(3, bounded.getSkippedCount(), "Nothing more skipped");
+		assertThrows(IllegalArgumentException.class, () -> bounded.setCooldown(0, 3),
+			"Zero miss limit should be rejected");
+	}
+
+	/**
+	 * Test Case: TC-DEADLINE-007
+	 * Verifies that a real search strategy stops soon after a miss.
+	 *
+	 * Scenario:
+	 * - A duel bot with a 10 s minimax budget in a two-bot arena, bounded
+	 *   to 2 ms, decides three times
+	 *
+	 * Expected Result:
+	 * - Every decision misses, and each returns long before the search
+	 *   would have used its own budget
+	 */
+	@Test
+	@DisplayName("Interrupted searches end soon after a miss")
+	void testSearchStopsAfterMiss() {
+		ArenaGameModel model = new ArenaGameModel(2);
+		model.reset();
+		PlayerAI bot = (PlayerAI) model.getPlayers()[0];
+		MinimaxBehaviorStrategy heavy = new MinimaxBehaviorStrategy(bot, 10_000_000_000L);
+		heavy.setEvalRadius(1000);
+		DeadlineBehaviorDecorator bounded = new DeadlineBehaviorDecorator(
+			heavy, bot, TIGHT_BUDGET, FallbackMove.KEEP_HEADING);
+		bounded.setCooldown(10, 1);
+		bot.setBehaviorStrategy(bounded);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < 3; i++) {
+			model.tick();
+		}
+		long elapsed = System.nanoTime() - start;
+
+		assertEquals(3, bounded.getMissCount(), "The search never fits in 2 ms");
+		assertTrue(elapsed < 1_000_000_000L, "Took " + elapsed / 1_000_000 + " ms for three misses");
+		assertTrue(bounded.getMaxOverrunNanos() < 500_000_000L, "Overrun stays small");
+	}
+
+	/**
+	 * Test Case: TC-DEADLINE-008
+	 * Verifies what a miss costs when the strategy ignores interrupts.
+	 *
+	 * Scenario:
+	 * - A strategy that thinks for 200 ms without checking for interrupts,
+	 *   bounded to 2 ms, decides once
+	 *
+	 * Expected Result:
+	 * - The miss is counted and the fallback keeps heading, but the caller
+	 *   waited for the strategy's full run
+	 */
+	@Test
+	@DisplayName("Misses wait out strategies that ignore interrupts")
+	void testMissWaitsForStubbornStrategy() {
+		StubbornStrategy stubborn = new StubbornStrategy(player, 200_000_000L);
+		DeadlineBehaviorDecorator bounded = new DeadlineBehaviorDecorator(
+			stubborn, player, TIGHT_BUDGET, FallbackMove.KEEP_HEADING);
+
+		bounded.decideMoveDirection();
+
+		assertEquals(1, bounded.getMissCount(), "Miss counted");
+		assertEquals(3, player.getXVelocity(), "Late turn undone");
+		assertEquals(0, player.getYVelocity(), "Late turn undone");
+		assertTrue(bounded.getLastDecisionNanos() >= 200_000_000L,
+			"Waited only " + bounded.getLastDecisionNanos() / 1_000_000 + " ms");
+	}
+
+	/**
+	 * Test Case: TC-DEADLINE-005
+	 * Verifies that a strategy that throws counts as a miss.
+	 */
+	@Test
+	@DisplayName("Failing decisions count as misses")
+	void testFailureIsMiss() {
+		PlayerBehaviorStrategy broken = Mockito.mock(PlayerBehaviorStrategy.class);
+		Mockito.doThrow(new IllegalStateException("broken")).when(broken).decideMoveDirection();
+		DeadlineBehaviorDecorator bounded = new DeadlineBehaviorDecorator(broken, player, GENEROUS_BUDGET);
+
+		bounded.decideMoveDirection();
+
+		assertEquals(1, bounded.getMissCount(), "Failure counted");
+		assertEquals(3, player.getXVelocity(), "Fallback kept the player moving");
+	}
+
+	/**
+	 * Test Case: TC-DEADLINE-006
+	 * Verifies that invalid arguments are rejected.
+	 */
+	@Test
+	@DisplayName("Rejects invalid arguments")
+	void testInvalidArguments() {
+		PlayerBehaviorStrategy strategy = Mockito.mock(PlayerBehaviorStrategy.class);
+		assertThrows(IllegalArgumentException.class,
+			() -> new DeadlineBehaviorDecorator(strategy, null, GENEROUS_BUDGET),
+			"Null player should be rejected");
+		assertThrows(IllegalArgumentException.class,
+			() -> new DeadlineBehaviorDecorator(strategy, player, 0),
+			"Zero budget should be rejected");
+		assertThrows(IllegalArgumentException.class,
+			() -> new DeadlineBehaviorDecorator(strategy, player, GENEROUS_BUDGET, (FallbackMove) null),
+			"Null fallback should be rejected");
+		assertThrows(IllegalArgumentException.class,
+			() -> new DeadlineBehaviorDecorator(strategy, player, GENEROUS_BUDGET,
+				FallbackMove.KEEP_HEADING, strategy, Runnable::run),
+			"Two fallbacks should be rejected");
+	}
+}
@@ -0,0 +1,246 @@
+package com.tron.model.game.decorator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import com.tron.model.game.PlayerAI;
+import com.tron.model.game.PlayerBehaviorStrategy;
+import com.tron.model.util.LatencyHistogram;
+import com.tron.model.util.PlayerColor;
+import com.tron.model.util.TraceRing;
+
+/**
+ * Unit Tests for MetricsBehaviorDecorator
+ *
+ * This test class verifies the metrics collected by the
+ * MetricsBehaviorDecorator implementation. It tests:
+ * - Counting of decisions, turns, jumps, boosts and resets
+ * - Latency recording into a shared histogram
+ * - Trace events reaching a sink through a TraceDrainer
+ * - Absence of per-decision allocation
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @see MetricsBehaviorDecorator
+ * @see TraceDrainer
+ */
+@DisplayName("MetricsBehaviorDecorator Tests")
+public class MetricsBehaviorDecoratorTest {
+
+	/**
+	 * Strategy following a fixed script: turns down on the second
+	 * decision, jumps on the third, and boosts on every other call.
+	 */
+	private static final class ScriptedStrategy implements PlayerBehaviorStrategy {
+		private final PlayerAI player;
+		private int decisions = 0;
+		private int boostCalls = 0;
+
+		ScriptedStrategy(PlayerAI player) {
+			this.player = player;
+		}
+
+		@Override
+		public void decideMoveDirection() {
+			decisions++;
+			if (decisions == 2) {
+				player.setYVelocity(3);
+				player.setXVelocity(0);
+			} else if (decisions == 3) {
+				player.jump();
+			}
+		}
+
+		@Override
+		public boolean shouldBoost() {
+			return boostCalls++ % 2 == 0;
+		}
+
+		@Override
+		public void reset() {
+			decisions = 0;
+		}
+
+		@Override
+		public int[] getVelocity() {
+			return new int[] { player.getXVelocity(), player.getYVelocity() };
+		}
+	}
+
+	private PlayerAI player;
+	private MetricsBehaviorDecorator metrics;
+
+	/**
+	 * Set up a player heading right with a scripted strategy under metrics.
+	 */
+	@BeforeEach
+	void setUp() {
+		player = new PlayerAI(100, 100, 3, 0, PlayerColor.RED);
+		metrics = new MetricsBehaviorDecorator(new ScriptedStrategy(player), player);
+	}
+
+	/**
+	 * Test Case: TC-METRICS-001
+	 * Verifies that turns, jumps, boosts and resets are counted.
+	 *
+	 * Scenario:
+	 * - Run the script for four decisions and four boost checks, then reset
+	 *
+	 * Expected Result:
+	 * - 4 decisions, 1 turn, 1 jump, 2 boosts, 1 reset, 4 latencies
+	 */
+	@Test
+	@DisplayName("Counts decisions, turns, jumps, boosts and resets")
+	void testCountsEvents() {
+		for (int i = 0; i < 4; i++) {
+			metrics.decideMoveDirection();
+			metrics.shouldBoost();
+		}
+		metrics.reset();
+
+		assertEquals(4, metrics.getDecisionCount(), "Every decision counted");
+		assertEquals(1, metrics.getTurnCount(), "One heading change");
+		assertEquals(1, metrics.getJumpCount(), "One jump started");
+		assertEquals(2, metrics.getBoostCount(), "Every other boost check");
+		assertEquals(1, metrics.getResetCount(), "One reset");
+		assertEquals(4, metrics.getLatency().getCount(), "Every decision timed");
+	}
+
+	/**
+	 * Test Case: TC-METRICS-002
+	 * Verifies that decorators can share one latency histogram and that a
+	 * decorator without a player still counts latency and boosts.
+	 */
+	@Test
+	@DisplayName("Shares a histogram and works without a player")
+	void testSharedHistogramWithoutPlayer() {
+		LatencyHistogram shared = new LatencyHistogram();
+		PlayerBehaviorStrategy mock = Mockito.mock(PlayerBehaviorStrategy.class);
+		Mockito.when(mock.shouldBoost()).thenReturn(true);
+		MetricsBehaviorDecorator first = new MetricsBehaviorDecorator(mock, null, shared);
+		MetricsBehaviorDecorator second = new MetricsBehaviorDecorator(mock, player, shared);
+
+		first.decideMoveDirection();
+		second.decideMoveDirection();
+		first.shouldBoost();
+
+		assertEquals(2, shared.getCount(), "Both decorators record into one histogram");
+		assertEquals(0, first.getTurnCount(), "No turns without a player");
+		assertEquals(1, first.getBoostCount(), "Boost counted without a player");
+		Mockito.verify(mock, Mockito.times(2)).decideMoveDirection();
+		assertThrows(IllegalArgumentException.class,
+			() -> new MetricsBehaviorDecorator(mock, player, null),
+			"Null histogram should be rejected");
+	}
+
+	/**
+	 * Test Case: TC-METRICS-003
+	 * Verifies that trace events reach a sink through a running drainer.
+	 *
+	 * Scenario:
+	 * - Enable tracing, start a drainer, run three decisions and a boost
+	 * - Stop the drainer, which drains a final time
+	 *
+	 * Expected Result:
+	 * - Events in order: DECISION, DECISION, TURN, DECISION, JUMP, BOOST
+	 */
+	@Test
+	@DisplayName("Trace events reach the sink through the drainer")
+	void testTraceEventsDrained() {
+		List<Integer> types = new ArrayList<>();
+		TraceDrainer drainer = new TraceDrainer((nanos, type, value, a, b) -> types.add(type), 1);
+		drainer.register(metrics.enableTracing(64));
+		drainer.start();
+
+		for (int i = 0; i < 3; i++) {
+			metrics.decideMoveDirection();
+		}
+		metrics.shouldBoost();
+		drainer.stop();
+
+		assertEquals(List.of(
+			MetricsBehaviorDecorator.EVENT_DECISION,
+			MetricsBehaviorDecorator.EVENT_DECISION, MetricsBehaviorDecorator.EVENT_TURN,
+			MetricsBehaviorDecorator.EVENT_DECISION, MetricsBehaviorDecorator.EVENT_JUMP,
+			MetricsBehaviorDecorator.EVENT_BOOST), types, "Events in order");
+		assertEquals(0, metrics.getTraceRing().size(), "Ring emptied");
+
+		metrics.disableTracing();
+		assertNull(metrics.getTraceRing(), "Tracing off");
+		assertThrows(IllegalArgumentException.class, () -> drainer.register(null),
+			"Null ring should be rejected");
+	}
+
+	/**
+	 * Test Case: TC-METRICS-004
+	 * Verifies that measuring a decision allocates nothing once warmed up.
+	 *
+	 * Scenario:
+	 * - Warm up with tracing on, then measure the bytes allocated by
+	 *   100,000 decisions and boost checks on this thread
+	 *
+	 * Expected Result:
+	 * - Far less than one byte per decision (allowing for JIT and
+	 *   measurement noise)
+	 */
+	@Test
+	@DisplayName("Adds no allocation per decision")
+	void testNoAllocationPerDecision() {
+		Assumptions.assumeTrue(ManagementFactory.getThreadMXBean()
+			instanceof com.sun.management.ThreadMXBean, "Allocation counter available");
+		com.sun.management.ThreadMXBean threads =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported(), "Allocation counter supported");
+
+		PlayerBehaviorStrategy idle = new PlayerBehaviorStrategy() {
+			@Override
+			public void decideMoveDirection() {
+			}
+
+			@Override
+			public boolean shouldBoost() {
+				return true;
+			}
+
+			@Override
+			public void reset() {
+			}
+
+			@Override
+			public int[] getVelocity() {
+				return null;
+			}
+		};
+		MetricsBehaviorDecorator measured = new MetricsBehaviorDecorator(idle, player);
+		TraceRing ring = measured.enableTracing(1024);
+		TraceRing.Sink discard = (nanos, type, value, a, b) -> { };
+		for (int i = 0; i < 200_000; i++) {
+			measured.decideMoveDirection();
+			measured.shouldBoost();
+			ring.drainTo(discard, 1024);
+		}
+
+		long threadId = Thread.currentThread().threadId();
+		long before = threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < 100_000; i++) {
+			measured.decideMoveDirection();
+			measured.shouldBoost();
+			ring.drainTo(discard, 1024);
+		}
+		long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+		assertTrue(allocated < 50_000, "Allocated " + allocated + " bytes for 100,000 decisions");
+	}
+}
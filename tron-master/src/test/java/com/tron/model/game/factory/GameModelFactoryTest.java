@@ -1,10 +1,12 @@
 package com.tron.model.game.factory;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.tron.model.game.ArenaGameModel;
 import com.tron.model.game.TronGameModel;
 
 /**
@@ -30,6 +32,7 @@ import com.tron.model.game.TronGameModel;
  * @see TwoPlayerGameModelFactory
  * @see SurvivalGameModelFactory
  * @see StoryGameModelFactory
+ * @see ArenaGameModelFactory
  */
 @DisplayName("GameModelFactory Class Unit Tests")
 public class GameModelFactoryTest {
@@ -150,6 +153,55 @@ public class GameModelFactoryTest {
                 "Each factory call should create a different instance");
     }
 
+    /**
+     * Tests that ArenaGameModelFactory creates an arena with the requested bots.
+     * 
+     * Verifies:
+     * - Factory returns an ArenaGameModel
+     * - initializeGame() spawns one AI player per requested bot
+     */
+    @Test
+    @DisplayName("ArenaGameModelFactory should create arena with requested bot count")
+    void testArenaFactoryCreateGameModel() {
+        // Arrange
+        GameModelFactory factory = new ArenaGameModelFactory(40);
+        
+        // Act
+        TronGameModel model = factory.initializeGame();
+        
+        // Assert
+        assertTrue(model instanceof ArenaGameModel, "Model should be an ArenaGameModel");
+        assertEquals(40, model.getPlayers().length, "Arena should hold every requested bot");
+        assertTrue(model.isRunning(), "Initialized arena should be running");
+    }
+
+    /**
+     * Tests that a seeded template method gives reproducible start positions.
+     * 
+     * Verifies:
+     * - Two arenas initialized with the same seed start identically
+     * - The configured arena size is used
+     */
+    @Test
+    @DisplayName("initializeGame(seed) should give reproducible starts")
+    void testSeededInitializeGame() {
+        // Arrange
+        GameModelFactory factory = new ArenaGameModelFactory(6, 600);
+        
+        // Act
+        TronGameModel first = factory.initializeGame(1234L);
+        TronGameModel second = factory.initializeGame(1234L);
+        
+        // Assert
+        assertEquals(600, first.getMapWidth(), "Arena size should be configurable");
+        for (int i = 0; i < 6; i++) {
+            assertEquals(first.getPlayers()[i].getX(), second.getPlayers()[i].getX(),
+                    "Same seed should give the same X for bot " + i);
+            assertEquals(first.getPlayers()[i].getY(), second.getPlayers()[i].getY(),
+                    "Same seed should give the same Y for bot " + i);
+        }
+    }
+
     /**
      * Tests that all factory implementations follow the same contract.
      * 
@@ -164,7 +216,8 @@ public class GameModelFactoryTest {
         GameModelFactory[] factories = {
             new TwoPlayerGameModelFactory(),
             new SurvivalGameModelFactory(),
-            new StoryGameModelFactory()
+            new StoryGameModelFactory(),
+            new ArenaGameModelFactory(16)
         };
         
         // Act & Assert
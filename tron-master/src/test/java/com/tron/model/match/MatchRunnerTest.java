@@ -0,0 +1,175 @@
+package com.tron.model.match;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.model.game.DeathCause;
+import com.tron.model.game.TronGameModel;
+import com.tron.model.game.factory.ArenaGameModelFactory;
+import com.tron.model.game.factory.GameModelFactory;
+
+/**
+ * MatchRunnerTest - Unit tests for concurrent headless matches
+ *
+ * Tests single matches, concurrent runs with streamed results, the result
+ * file format and causes of death, using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("MatchRunner - Headless Match Runner Tests")
+class MatchRunnerTest {
+
+    /**
+     * Test: One arena match is played to the end and summarised
+     *
+     * Given: A runner for four-bot arenas
+     * When: Playing one match
+     * Then: Every bot either died with a cause no later than the end, or
+     *       survived the whole match; a winner is the only survivor
+     */
+    @Test
+    @DisplayName("Plays a match and records survival and causes")
+    void testRunMatch() {
+        // Given: Small arenas
+        MatchRunner runner = new MatchRunner(new ArenaGameModelFactory(4, 500), 1);
+
+        // When: One match
+        MatchResult result = runner.runMatch(0, 99L);
+
+        // Then: Consistent result
+        assertEquals(4, result.getPlayerCount());
+        assertTrue(result.getTicks() > 0, "Match ran");
+        int survivors = 0;
+        for (int i = 0; i < 4; i++) {
+            if (result.getCause(i) == null) {
+                survivors++;
+                assertEquals(result.getTicks(), result.getTicksSurvived(i), "Survivor lasted the match");
+            } else {
+                assertTrue(result.getTicksSurvived(i) < result.getTicks(), "Died during the match");
+            }
+        }
+        assertTrue(survivors <= 1, "Arena ends with at most one bike");
+        if (result.getWinner() != MatchResult.DRAW) {
+            assertNull(result.getCause(result.getWinner()), "Winner survived");
+        }
+    }
+
+    /**
+     * Test: Many matches run concurrently and every result is streamed
+     *
+     * Given: A runner with two threads
+     * When: Running 24 matches
+     * Then: The sink gets each match once, with its derived seed, and the
+     *       report adds up
+     */
+    @Test
+    @DisplayName("Runs matches concurrently and streams every result")
+    void testRunConcurrently() {
+        // Given: Two threads
+        MatchRunner runner = new MatchRunner(new ArenaGameModelFactory(4, 500), 2);
+        List<MatchResult> results = new ArrayList<>();
+
+        // When: 24 matches (the sink is called one result at a time)
+        MatchReport report = runner.run(24, 7L, results::add);
+
+        // Then: All there
+        assertEquals(24, results.size(), "Every match reported");
+        Set<Integer> indexes = new HashSet<>();
+        long ticks = 0;
+        for (MatchResult r : results) {
+            indexes.add(r.getIndex());
+            assertEquals(MatchRunner.seedFor(7L, r.getIndex()), r.getSeed(), "Derived seed");
+            ticks += r.getTicks();
+        }
+        assertEquals(24, indexes.size(), "Each match once");
+        assertEquals(24, report.getMatches());
+        assertEquals(ticks, report.getTotalTicks(), "Ticks summed");
+        assertTrue(report.getMatchesPerSecondPerCore() > 0, "Throughput measured");
+    }
+
+    /**
+     * Test: A lone player driving into the wall
+     *
+     * Given: One-player games, where the human drives straight on
+     * When: Playing a match
+     * Then: The player died at the wall and nobody won
+     */
+    @Test
+    @DisplayName("Records the cause of death")
+    void testCauseOfDeath() {
+        // Given: Lone human
+        GameModelFactory lone = new GameModelFactory() {
+            @Override
+            public TronGameModel createGameModel() {
+                return new TronGameModel(500, 500, 3, 1);
+            }
+        };
+        MatchRunner runner = new MatchRunner(lone, 1);
+
+        // When: Play
+        MatchResult result = runner.runMatch(3, 5L);
+
+        // Then: Wall
+        assertEquals(DeathCause.WALL, result.getCause(0), "Drove off the map");
+        assertEquals(MatchResult.DRAW, result.getWinner(), "No survivor, no winner");
+        assertEquals(result.getTicks() - 1, result.getTicksSurvived(0), "Died in the last tick");
+    }
+
+    /**
+     * Test: Results are written one compact line per match
+     *
+     * Given: A result with a survivor and two causes of death
+     * When: Writing it
+     * Then: The file holds the header and the result's line
+     */
+    @Test
+    @DisplayName("Writes compact result lines")
+    void testWriter() throws IOException {
+        // Given: A result
+        MatchResult result = new MatchResult(7, -42L, 2, 913,
+                new long[] { 640, 488, 913 },
+                new DeathCause[] { DeathCause.COLLISION, DeathCause.WALL, null });
+        assertEquals("7 -42 2 913 640C 488W 913+", result.toLine());
+
+        // When: Written
+        StringWriter text = new StringWriter();
+        try (MatchResultWriter writer = new MatchResultWriter(text)) {
+            writer.accept(result);
+            assertEquals(1, writer.getWritten());
+        }
+
+        // Then: Header and line
+        assertEquals(MatchResultWriter.HEADER + "\n7 -42 2 913 640C 488W 913+\n", text.toString());
+    }
+
+    /**
+     * Test: Invalid configuration is rejected
+     */
+    @Test
+    @DisplayName("Rejects bad settings")
+    void testInvalidConfiguration() {
+        GameModelFactory factory = new ArenaGameModelFactory(2);
+        assertThrows(IllegalArgumentException.class, () -> new MatchRunner(null),
+                "Null factory should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new MatchRunner(factory, 0),
+                "Zero threads should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new MatchRunner(factory).setMaxTicks(0),
+                "Zero tick limit should be rejected");
+        assertNotNull(new MatchRunner(factory).getFactory());
+    }
+}
@@ -0,0 +1,240 @@
+package com.tron.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BitboardTest - Unit tests for the packed arena bitboard
+ *
+ * Tests cell operations, make/unmake, rectangle fills across word
+ * boundaries and the word-wise flood fill against a plain BFS, using
+ * Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("Bitboard - Packed Arena Grid Tests")
+class BitboardTest {
+
+    /**
+     * Builds a board with random walls, dense enough to split it into
+     * many separate regions.
+     */
+    private static Bitboard maze(long seed, int columns, int rows, int walls) {
+        Random random = new Random(seed);
+        Bitboard board = new Bitboard(columns, rows);
+        for (int i = 0; i < walls; i++) {
+            int c = random.nextInt(columns);
+            int r = random.nextInt(rows);
+            int length = 1 + random.nextInt(Math.max(columns, rows) / 2);
+            if (random.nextBoolean()) {
+                board.setRect(c, r, c + length, r);
+            } else {
+                board.setRect(c, r, c, r + length);
+            }
+        }
+        return board;
+    }
+
+    /**
+     * Reference flood fill, one cell at a time.
+     */
+    private static int bfsArea(Bitboard board, int column, int row) {
+        if (board.get(column, row)) {
+            return 0;
+        }
+        int columns = board.getColumns();
+        boolean[] seen = new boolean[columns * board.getRows()];
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        seen[row * columns + column] = true;
+        queue.add(new int[] { column, row });
+        int area = 0;
+        int[][] steps = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+        while (!queue.isEmpty()) {
+            int[] cell = queue.poll();
+            area++;
+            for (int[] step : steps) {
+                int c = cell[0] + step[0];
+                int r = cell[1] + step[1];
+                if (!board.get(c, r) && !seen[r * columns + c]) {
+                    seen[r * columns + c] = true;
+                    queue.add(new int[] { c, r });
+                }
+            }
+        }
+        return area;
+    }
+
+    /**
+     * Test: Make and unmake restore the board
+     *
+     * Given: An empty board
+     * When: Making a move, repeating it, then unmaking it
+     * Then: The repeat is illegal and unmaking frees the cell again
+     */
+    @Test
+    @DisplayName("Make/unmake blocks and frees a cell")
+    void testMakeUnmake() {
+        // Given: Empty board
+        Bitboard board = new Bitboard(100, 10);
+
+        // When/Then: Move into a cell past the first word
+        assertTrue(board.makeMove(70, 3), "Free cell should accept the move");
+        assertFalse(board.makeMove(70, 3), "Blocked cell should reject the move");
+        assertTrue(board.get(70, 3), "Cell should be blocked");
+        assertEquals(1, board.count(), "One cell should be set");
+
+        board.unmakeMove(70, 3);
+        assertFalse(board.get(70, 3), "Cell should be free again");
+        assertEquals(1000, board.countFree(), "Board should be empty");
+    }
+
+    /**
+     * Test: Off-board cells read as blocked
+     *
+     * Given: An empty board
+     * When: Reading and moving outside it
+     * Then: Reads are blocked and moves are illegal
+     */
+    @Test
+    @DisplayName("Cells outside the board are blocked")
+    void testOffBoardBlocked() {
+        // Given: Empty board
+        Bitboard board = new Bitboard(64, 4);
+
+        // When/Then: Every edge
+        assertTrue(board.get(-1, 0), "Left of the board is blocked");
+        assertTrue(board.get(64, 0), "Right of the board is blocked");
+        assertTrue(board.get(0, -1), "Above the board is blocked");
+        assertTrue(board.get(0, 4), "Below the board is blocked");
+        assertFalse(board.makeMove(64, 0), "Off-board moves are illegal");
+        assertEquals(0, board.count(), "Nothing should be set");
+    }
+
+    /**
+     * Test: Rectangles spanning several words are set exactly
+     *
+     * Given: An empty 200-column board
+     * When: Setting a rectangle from column 10 to 150, clipped at the bottom
+     * Then: Exactly the clipped cells are set
+     */
+    @Test
+    @DisplayName("setRect fills across word boundaries and clips")
+    void testSetRect() {
+        // Given: Board with four words per row
+        Bitboard board = new Bitboard(200, 20);
+
+        // When: Rectangle running off the bottom edge
+        board.setRect(150, 15, 10, 30);
+
+        // Then: Columns 10..150 on rows 15..19
+        assertEquals(141 * 5, board.count(), "Only the clipped rectangle should be set");
+        assertTrue(board.get(10, 15), "First cell set");
+        assertTrue(board.get(150, 19), "Last cell set");
+        assertFalse(board.get(9, 15), "Left neighbour clear");
+        assertFalse(board.get(151, 15), "Right neighbour clear");
+        assertFalse(board.get(10, 14), "Row above clear");
+    }
+
+    /**
+     * Test: Flood fill matches a plain BFS on random mazes
+     *
+     * Given: Boards whose widths are and are not multiples of 64, with
+     *        random walls
+     * When: Flood filling from many start cells
+     * Then: Every area matches a cell-by-cell BFS
+     */
+    @Test
+    @DisplayName("Flood fill matches BFS on random mazes")
+    void testFloodFillMatchesBfs() {
+        int[][] sizes = { { 50, 40 }, { 64, 64 }, { 130, 90 } };
+        for (int[] size : sizes) {
+            // Given: Random maze
+            Bitboard board = maze(size[0] * 31L + size[1], size[0], size[1], size[0] / 2);
+            Bitboard region = new Bitboard(size[0], size[1]);
+            Random random = new Random(7);
+
+            for (int i = 0; i < 200; i++) {
+                // When: Filling from a random cell
+                int c = random.nextInt(size[0]);
+                int r = random.nextInt(size[1]);
+                int area = board.floodFill(c, r, region);
+
+                // Then: Same as BFS
+                assertEquals(bfsArea(board, c, r), area,
+                        "Area from (" + c + ", " + r + ") on " + size[0] + "x" + size[1]);
+            }
+        }
+    }
+
+    /**
+     * Test: Flood fill follows a serpentine corridor
+     *
+     * Given: Walls forcing a path that winds up and down the whole board
+     * When: Flood filling from one end
+     * Then: The entire corridor is found and the region excludes the walls
+     */
+    @Test
+    @DisplayName("Flood fill follows a winding corridor")
+    void testFloodFillSerpentine() {
+        // Given: Vertical walls alternately open at the bottom and the top
+        Bitboard board = new Bitboard(100, 50);
+        for (int c = 1; c < 100; c += 2) {
+            if ((c / 2) % 2 == 0) {
+                board.setRect(c, 0, c, 48);
+            } else {
+                board.setRect(c, 1, c, 49);
+            }
+        }
+        Bitboard region = new Bitboard(100, 50);
+
+        // When: Filling from the top-left corner
+        int area = board.floodFill(0, 0, region);
+
+        // Then: Whole corridor, disjoint from the walls
+        assertEquals(bfsArea(board, 0, 0), area, "Corridor area should match BFS");
+        assertEquals(board.countFree(), area, "The corridor is every free cell");
+        Bitboard overlap = new Bitboard(region);
+        for (int r = 0; r < 50; r++) {
+            for (int c = 0; c < 100; c++) {
+                if (board.get(c, r)) {
+                    overlap.clear(c, r);
+                }
+            }
+        }
+        assertEquals(area, overlap.count(), "Region should not include walls");
+    }
+
+    /**
+     * Test: Invalid use is rejected
+     *
+     * Given: A board
+     * When: Creating an empty board, filling into itself or into a
+     *       different size
+     * Then: IllegalArgumentException is thrown
+     */
+    @Test
+    @DisplayName("Rejects bad sizes and region boards")
+    void testInvalidArguments() {
+        // Given: A board
+        Bitboard board = new Bitboard(10, 10);
+
+        // When/Then: Bad arguments
+        assertThrows(IllegalArgumentException.class, () -> new Bitboard(0, 10),
+                "Zero columns should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> board.floodFill(0, 0, board),
+                "Filling into itself should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> board.floodFill(0, 0, new Bitboard(11, 10)),
+                "Region of another size should be rejected");
+        assertEquals(0, board.floodFill(-1, 0, new Bitboard(10, 10)), "Off-board start has no area");
+    }
+}
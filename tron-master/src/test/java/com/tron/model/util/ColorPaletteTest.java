@@ -0,0 +1,75 @@
+package com.tron.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ColorPaletteTest - Unit tests for generated player colors
+ *
+ * Tests base color compatibility, distinctness and packing
+ * using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("ColorPalette - Generated Color Tests")
+class ColorPaletteTest {
+
+    /**
+     * Test: First colors are the classic player colors
+     *
+     * Given: The PlayerColor constants
+     * When: Asking the palette for the same indices
+     * Then: The packed values match
+     */
+    @Test
+    @DisplayName("Base indices match PlayerColor")
+    void testBaseColors() {
+        PlayerColor[] base = PlayerColor.values();
+        for (int i = 0; i < base.length; i++) {
+            assertEquals(base[i].getRgb(), ColorPalette.colorAt(i),
+                    "Index " + i + " should be " + base[i].getColorName());
+        }
+    }
+
+    /**
+     * Test: Large palettes stay distinct
+     *
+     * Given: A palette for 1000 players
+     * When: Collecting the packed colors
+     * Then: Every color is unique and within 24 bits
+     */
+    @Test
+    @DisplayName("Generated colors are distinct")
+    void testDistinct() {
+        // Given: A large palette
+        int[] colors = ColorPalette.generate(1000);
+
+        // Then: All unique and packed correctly
+        Set<Integer> unique = new HashSet<>();
+        for (int rgb : colors) {
+            assertTrue(rgb >= 0 && rgb <= 0xFFFFFF, "Color should fit in 24 bits");
+            unique.add(rgb);
+        }
+        assertEquals(1000, unique.size(), "Every generated color should be unique");
+    }
+
+    /**
+     * Test: Component accessors unpack colors
+     */
+    @Test
+    @DisplayName("Components unpack correctly")
+    void testComponents() {
+        int rgb = PlayerColor.ORANGE.getRgb();
+        assertEquals(255, ColorPalette.red(rgb), "Red component");
+        assertEquals(200, ColorPalette.green(rgb), "Green component");
+        assertEquals(0, ColorPalette.blue(rgb), "Blue component");
+    }
+}
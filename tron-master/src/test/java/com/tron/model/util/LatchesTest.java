@@ -0,0 +1,76 @@
+package com.tron.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LatchesTest - Unit tests for deadline waits on latches
+ *
+ * Tests timing out, opening, and carrying on through interrupts, using
+ * Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("Latches - Deadline Wait Tests")
+class LatchesTest {
+
+    /**
+     * Test: A closed latch times out and an open one returns at once
+     *
+     * Given: A latch of one
+     * When: Waiting 1 ms before and after counting it down
+     * Then: The first wait gives up, the second succeeds
+     */
+    @Test
+    @DisplayName("Times out on a closed latch and returns on an open one")
+    void testDeadline() {
+        // Given: Closed latch
+        CountDownLatch latch = new CountDownLatch(1);
+
+        // When / Then: Times out, then opens
+        assertFalse(Latches.awaitUntil(latch, System.nanoTime() + 1_000_000), "Still closed");
+        latch.countDown();
+        assertTrue(Latches.awaitUntil(latch, Latches.NO_DEADLINE), "Open");
+        assertTrue(Latches.awaitUntil(latch, System.nanoTime() - 1), "Open, even past the deadline");
+    }
+
+    /**
+     * Test: An interrupt does not end the wait but is restored afterwards
+     *
+     * Given: A latch opened by another thread after 20 ms
+     * When: Waiting without a deadline on an interrupted thread
+     * Then: The wait returns only once the latch opened, with the
+     *       interrupt flag still set
+     */
+    @Test
+    @DisplayName("Waits through interrupts and restores the flag")
+    void testInterrupt() throws InterruptedException {
+        // Given: Opened later
+        CountDownLatch latch = new CountDownLatch(1);
+        Thread opener = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            latch.countDown();
+        });
+        opener.start();
+
+        // When: Interrupted wait
+        Thread.currentThread().interrupt();
+        boolean opened = Latches.awaitUntil(latch, Latches.NO_DEADLINE);
+
+        // Then: Opened, flag restored
+        assertTrue(opened, "Waited for the latch");
+        assertTrue(Thread.interrupted(), "Interrupt restored (and cleared here)");
+        opener.join();
+    }
+}
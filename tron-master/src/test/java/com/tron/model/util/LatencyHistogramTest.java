@@ -0,0 +1,114 @@
+package com.tron.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LatencyHistogramTest - Unit tests for the lock-free latency histogram
+ *
+ * Tests bucket bounds, percentile accuracy and concurrent recording,
+ * using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("LatencyHistogram - Lock-Free Histogram Tests")
+class LatencyHistogramTest {
+
+    /**
+     * Test: Every value lies inside its bucket
+     *
+     * Given: Values from 0 up to large durations
+     * When: Looking up their buckets
+     * Then: Each value is at most its bucket end and above the previous
+     *       bucket end, and buckets are at most 25% wide
+     */
+    @Test
+    @DisplayName("Buckets contain their values within 25%")
+    void testBucketBounds() {
+        for (long value = 0; value < 1_000_000L; value = value * 5 / 4 + 1) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(value <= LatencyHistogram.bucketEnd(bucket), "Value below bucket end: " + value);
+            if (bucket > 0) {
+                assertTrue(value > LatencyHistogram.bucketEnd(bucket - 1), "Value above previous end: " + value);
+                assertTrue(LatencyHistogram.bucketEnd(bucket) <= value + value / 4 + 1, "Bucket narrow: " + value);
+            }
+        }
+        assertEquals(Long.MAX_VALUE,
+                LatencyHistogram.bucketEnd(LatencyHistogram.bucketOf(Long.MAX_VALUE)), "Top bucket ends at max");
+    }
+
+    /**
+     * Test: Percentiles, mean and maximum of known values
+     *
+     * Given: The values 1..1000 microseconds
+     * When: Asking for the median, p99 and maximum
+     * Then: Each is within a bucket (25%) above the exact answer
+     */
+    @Test
+    @DisplayName("Percentiles are within one bucket of the exact value")
+    void testPercentiles() {
+        // Given: 1..1000 us
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        // When / Then: Close to the exact order statistics
+        assertEquals(1000, histogram.getCount(), "Count");
+        assertEquals(500_500.0, histogram.getMean(), 0.001, "Mean is exact");
+        assertEquals(1_000_000L, histogram.getMax(), "Max is exact");
+        long median = histogram.getPercentile(0.5);
+        assertTrue(median >= 500_000L && median <= 625_000L, "Median " + median);
+        long p99 = histogram.getPercentile(0.99);
+        assertTrue(p99 >= 990_000L && p99 <= 1_000_000L, "p99 " + p99);
+        assertEquals(1_000_000L, histogram.getPercentile(1.0), "p100 is the max");
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount(), "Reset clears count");
+        assertEquals(0, histogram.getPercentile(0.5), "Empty percentile");
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(1.5),
+                "Fraction above 1 should be rejected");
+    }
+
+    /**
+     * Test: Concurrent recording loses nothing
+     *
+     * Given: Four threads sharing one histogram
+     * When: Each records 100,000 values
+     * Then: Count, sum and maximum match exactly
+     */
+    @Test
+    @DisplayName("Concurrent recording counts every value")
+    void testConcurrentRecording() throws InterruptedException {
+        // Given: Shared histogram
+        LatencyHistogram histogram = new LatencyHistogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final long offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 100_000; i++) {
+                    histogram.record(i * 4 + offset);
+                }
+            });
+        }
+
+        // When: All threads record
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then: Nothing lost
+        assertEquals(400_000, histogram.getCount(), "Every recording counted");
+        assertEquals(399_999L, histogram.getMax(), "Largest value");
+        assertEquals(399_999 / 2.0, histogram.getMean(), 0.001, "Sum is exact");
+    }
+}
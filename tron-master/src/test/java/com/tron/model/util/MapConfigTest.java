@@ -259,4 +259,34 @@ class MapConfigTest {
         // We won't actually add to avoid test failure, just verify list is returned
         assertEquals(2, obstacles.size(), "Should have correct number of obstacles");
     }
+    
+    /**
+     * Test: Mask agrees with obstacle list and build cost is reported
+     * 
+     * Given: MAP_3 configuration (four inset walls)
+     * When: Checking every pixel of the arena and reading the build stats
+     * Then: Mask answers match the per-obstacle checks and the cost is recorded
+     */
+    @Test
+    @DisplayName("Obstacle mask matches obstacles and reports build cost")
+    void testObstacleMaskMatchesObstacles() {
+        // Given: MAP_3 configuration
+        MapConfig config = MapConfig.createMap(MapType.MAP_3);
+        
+        // When/Then: Every pixel agrees with the obstacle list
+        for (int x = 0; x < 500; x++) {
+            for (int y = 0; y < 500; y++) {
+                boolean expected = false;
+                for (MapObstacle obstacle : config.getObstacles()) {
+                    expected |= obstacle.intersects(x, y);
+                }
+                assertEquals(expected, config.checkObstacleCollision(x, y),
+                        "Mask should match obstacles at (" + x + ", " + y + ")");
+            }
+        }
+        
+        // Then: Construction cost is reported
+        assertTrue(config.getBuildNanos() >= 0, "Build time should be recorded");
+        assertTrue(config.getMaskMemoryBytes() > 0, "Mask size should be reported");
+    }
 }
@@ -0,0 +1,132 @@
+package com.tron.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ObstacleMaskTest - Unit tests for the rasterized obstacle mask
+ *
+ * Tests point and span queries against the per-obstacle checks
+ * using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("ObstacleMask - Obstacle Raster Tests")
+class ObstacleMaskTest {
+
+    /**
+     * Builds a dense maze of small random walls.
+     */
+    private static List<MapObstacle> maze(long seed, int count) {
+        Random random = new Random(seed);
+        List<MapObstacle> obstacles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            boolean horizontal = random.nextBoolean();
+            int length = 5 + random.nextInt(120);
+            obstacles.add(new MapObstacle(random.nextInt(480), random.nextInt(480),
+                    horizontal ? length : 5, horizontal ? 5 : length));
+        }
+        return obstacles;
+    }
+
+    private static boolean anyObstacle(List<MapObstacle> obstacles, Line line) {
+        for (MapObstacle obstacle : obstacles) {
+            if (obstacle.intersects(line)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Test: Point checks match the obstacle list on a dense maze
+     *
+     * Given: 300 random walls
+     * When: Checking every pixel
+     * Then: The mask agrees with MapObstacle.intersects for each one
+     */
+    @Test
+    @DisplayName("Point checks match obstacles on a dense maze")
+    void testPointsMatchObstacles() {
+        // Given: A dense maze
+        List<MapObstacle> obstacles = maze(42L, 300);
+        ObstacleMask mask = new ObstacleMask(obstacles);
+
+        // Then: Every pixel agrees
+        for (int x = -5; x < 620; x++) {
+            for (int y = -5; y < 620; y++) {
+                boolean expected = false;
+                for (MapObstacle obstacle : obstacles) {
+                    if (obstacle.intersects(x, y)) {
+                        expected = true;
+                        break;
+                    }
+                }
+                assertEquals(expected, mask.contains(x, y), "Mismatch at (" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    /**
+     * Test: Span checks match the line checks on a dense maze
+     *
+     * Given: 300 random walls
+     * When: Testing random horizontal and vertical lines, including ones
+     *       crossing 64-pixel word boundaries and leaving the mask
+     * Then: Row/column span queries agree with MapObstacle.intersects(Line)
+     */
+    @Test
+    @DisplayName("Span checks match obstacles on a dense maze")
+    void testSpansMatchObstacles() {
+        // Given: A dense maze
+        List<MapObstacle> obstacles = maze(7L, 300);
+        ObstacleMask mask = new ObstacleMask(obstacles);
+        Random random = new Random(99L);
+
+        // Then: Random spans agree in both orientations
+        for (int i = 0; i < 5000; i++) {
+            int fixed = random.nextInt(640) - 20;
+            int a = random.nextInt(640) - 20;
+            int b = a + random.nextInt(200) - 100;
+            assertEquals(anyObstacle(obstacles, new Line(a, fixed, b, fixed)),
+                    mask.anyInRow(fixed, a, b), "Row span mismatch");
+            assertEquals(anyObstacle(obstacles, new Line(fixed, a, fixed, b)),
+                    mask.anyInColumn(fixed, a, b), "Column span mismatch");
+        }
+    }
+
+    /**
+     * Test: Empty mask reports nothing
+     */
+    @Test
+    @DisplayName("Empty mask is always free")
+    void testEmptyMask() {
+        ObstacleMask mask = new ObstacleMask(Collections.emptyList());
+        assertFalse(mask.contains(0, 0), "Empty mask has no obstacles");
+        assertFalse(mask.anyInRow(0, -100, 100), "Empty mask has no row spans");
+        assertEquals(0, mask.getMemoryBytes(), "Empty mask uses no bits");
+    }
+
+    /**
+     * Test: Edges are inclusive like MapObstacle
+     */
+    @Test
+    @DisplayName("Obstacle edges are inclusive")
+    void testInclusiveEdges() {
+        ObstacleMask mask = new ObstacleMask(List.of(new MapObstacle(100, 100, 300, 5)));
+        assertTrue(mask.contains(400, 105), "Far corner is covered");
+        assertFalse(mask.contains(401, 105), "Past the far corner is free");
+        assertTrue(mask.anyInColumn(250, 0, 100), "Span touching the top edge hits");
+    }
+}
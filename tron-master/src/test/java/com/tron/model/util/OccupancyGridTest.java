@@ -0,0 +1,177 @@
+package com.tron.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * OccupancyGridTest - Unit tests for the arena trail occupancy grid
+ *
+ * Tests segment marking, clipping and the plus-shaped head probe
+ * using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("OccupancyGrid - Trail Occupancy Tests")
+class OccupancyGridTest {
+
+    private static final int HALF = 2;
+    private OccupancyGrid grid;
+
+    @BeforeEach
+    void setUp() {
+        grid = new OccupancyGrid(500, 500);
+    }
+
+    /**
+     * Test: Horizontal segment covers its cells
+     *
+     * Given: An empty grid
+     * When: Marking a horizontal segment
+     * Then: Every cell between the endpoints is occupied, neighbours are not
+     */
+    @Test
+    @DisplayName("Horizontal segment marks its cells")
+    void testMarkHorizontal() {
+        // When: Marking a horizontal segment right-to-left
+        grid.mark(new Line(120, 50, 100, 50));
+
+        // Then: Covered cells are occupied
+        assertTrue(grid.isOccupied(100, 50), "Start cell should be occupied");
+        assertTrue(grid.isOccupied(110, 50), "Middle cell should be occupied");
+        assertTrue(grid.isOccupied(120, 50), "End cell should be occupied");
+        assertFalse(grid.isOccupied(121, 50), "Cell past the end should be free");
+        assertFalse(grid.isOccupied(110, 51), "Cell in next row should be free");
+    }
+
+    /**
+     * Test: Head probe matches trail collision tolerance
+     *
+     * Given: A vertical segment at x = 200
+     * When: Probing heads at increasing horizontal distances
+     * Then: Heads within the half width collide, heads beyond do not
+     */
+    @Test
+    @DisplayName("Vertical segment hit within half width only")
+    void testVerticalTolerance() {
+        // Given: A vertical segment
+        grid.mark(200, 100, 200, 150);
+
+        // Then: Tolerance is inclusive of the half width
+        assertTrue(grid.hitsTrail(200, 120, HALF, HALF), "Head on segment should hit");
+        assertTrue(grid.hitsTrail(198, 120, HALF, HALF), "Head 2px left should hit");
+        assertTrue(grid.hitsTrail(202, 120, HALF, HALF), "Head 2px right should hit");
+        assertFalse(grid.hitsTrail(203, 120, HALF, HALF), "Head 3px right should miss");
+        assertFalse(grid.hitsTrail(200, 152, HALF, HALF), "Head beyond segment end should miss");
+    }
+
+    /**
+     * Test: Probe distinguishes segment orientation
+     *
+     * Given: A horizontal segment ending at x = 300
+     * When: Probing a head 2px past the end on the same row
+     * Then: No hit, because horizontal segments only collide within their X extent
+     */
+    @Test
+    @DisplayName("Horizontal segment not hit past its end")
+    void testOrientationAware() {
+        // Given: A horizontal segment
+        grid.mark(250, 80, 300, 80);
+
+        // Then: Only heads inside the X extent collide
+        assertFalse(grid.hitsTrail(302, 80, HALF, HALF), "Head past end should miss");
+        assertTrue(grid.hitsTrail(300, 82, HALF, HALF), "Head 2px below end should hit");
+    }
+
+    /**
+     * Test: Segments outside the arena are clipped
+     *
+     * Given: Segments that extend past the grid edges
+     * When: Marking them
+     * Then: No exception is thrown and the in-bounds part is recorded
+     */
+    @Test
+    @DisplayName("Segments are clipped to grid bounds")
+    void testClipping() {
+        // When: Marking segments crossing the edges
+        grid.mark(2, 10, -3, 10);
+        grid.mark(10, 498, 10, 503);
+        grid.mark(-5, -5, -5, 20);
+
+        // Then: In-bounds cells are occupied, out-of-bounds queries are free
+        assertTrue(grid.isOccupied(0, 10), "Clipped start should be occupied");
+        assertTrue(grid.isOccupied(10, 499), "Clipped bottom should be occupied");
+        assertFalse(grid.isOccupied(-1, 10), "Outside cells should report free");
+        assertTrue(grid.hitsTrail(0, 12, HALF, HALF), "Probe at edge should not overflow");
+    }
+
+    /**
+     * Test: Sweep detects trails crossed between two head positions
+     *
+     * Given: A vertical segment at x = 105
+     * When: Sweeping a step from x = 100 to x = 108 (landing 3px past the trail)
+     * Then: The sweep hits even though the landing point is outside the tolerance
+     */
+    @Test
+    @DisplayName("Sweep catches trail skipped by a fast step")
+    void testSweepCatchesTunneling() {
+        // Given: A vertical trail
+        grid.mark(105, 90, 105, 110);
+
+        // Then: Landing probe misses but the sweep hits
+        assertFalse(grid.hitsTrail(108, 100, HALF, HALF), "Landing point alone should miss");
+        assertTrue(grid.sweepHits(100, 100, 108, 100), "Swept step should hit");
+        assertTrue(grid.sweepHits(108, 100, 100, 100), "Sweep should work in both directions");
+        assertFalse(grid.sweepHits(100, 120, 108, 120), "Step below the trail should miss");
+    }
+
+    /**
+     * Test: Sweep excludes the start cell
+     *
+     * Given: A trail ending exactly at the step start (the mover's own trail)
+     * When: Sweeping away from it, and sweeping a zero-length step
+     * Then: No hit is reported
+     */
+    @Test
+    @DisplayName("Sweep ignores the start cell")
+    void testSweepExcludesStart() {
+        // Given: Own trail ending at (100, 100)
+        grid.mark(100, 80, 100, 100);
+
+        // Then: Leaving the corner is not a collision
+        assertFalse(grid.sweepHits(100, 100, 103, 100), "Leaving own corner should not hit");
+        assertFalse(grid.sweepHits(100, 100, 100, 100), "Zero-length step should not hit");
+    }
+
+    /**
+     * Test: Clear empties the grid
+     *
+     * Given: A grid with a marked segment
+     * When: Clearing it
+     * Then: The segment is no longer reported
+     */
+    @Test
+    @DisplayName("Clear removes all trails")
+    void testClear() {
+        grid.mark(10, 10, 40, 10);
+        grid.clear();
+        assertFalse(grid.hitsTrail(20, 10, HALF, HALF), "Cleared grid should be empty");
+        assertEquals(500, grid.getWidth(), "Width should be preserved");
+    }
+
+    /**
+     * Test: Invalid dimensions are rejected
+     */
+    @Test
+    @DisplayName("Non-positive dimensions rejected")
+    void testInvalidDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyGrid(0, 10));
+    }
+}
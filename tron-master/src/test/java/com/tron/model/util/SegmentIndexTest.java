@@ -0,0 +1,161 @@
+package com.tron.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SegmentIndexTest - Unit tests for the axis-partitioned trail segment index
+ *
+ * Tests insertion, in-place extension, point queries with tolerance
+ * and ray queries using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("SegmentIndex - Trail Segment Index Tests")
+class SegmentIndexTest {
+
+    private static final int HALF = 2;
+    private SegmentIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SegmentIndex();
+    }
+
+    /**
+     * Test: Point query matches trail collision tolerance
+     *
+     * Given: A horizontal and a vertical segment
+     * When: Probing heads around them
+     * Then: Heads within tolerance and extent hit, others miss
+     */
+    @Test
+    @DisplayName("Point query honours tolerance and extent")
+    void testHits() {
+        // Given: Two segments
+        index.insert(new Line(150, 80, 100, 80));
+        index.insert(200, 100, 200, 150);
+
+        // Then: Horizontal segment hit within half height, inside X extent
+        assertTrue(index.hits(120, 82, HALF, HALF), "Head 2px below row should hit");
+        assertFalse(index.hits(120, 83, HALF, HALF), "Head 3px below row should miss");
+        assertFalse(index.hits(152, 80, HALF, HALF), "Head past the end should miss");
+
+        // Then: Vertical segment hit within half width, inside Y extent
+        assertTrue(index.hits(198, 120, HALF, HALF), "Head 2px left of column should hit");
+        assertFalse(index.hits(197, 120, HALF, HALF), "Head 3px left of column should miss");
+        assertFalse(index.hits(200, 151, HALF, HALF), "Head past the end should miss");
+    }
+
+    /**
+     * Test: Extending the last segment grows it in place
+     *
+     * Given: A vertical segment moving down
+     * When: It is extended twice
+     * Then: The whole run is covered and the segment count is unchanged
+     */
+    @Test
+    @DisplayName("Extend last grows the segment in place")
+    void testExtendLast() {
+        // Given: A segment heading down
+        index.insert(50, 10, 50, 13);
+        assertTrue(index.canExtendLast(50, 13, 50, 16), "Collinear continuation should extend");
+        assertFalse(index.canExtendLast(50, 13, 53, 13), "A turn should not extend");
+        assertFalse(index.canExtendLast(50, 13, 50, 10), "Reversing should not extend");
+
+        // When: Extending it
+        index.extendLast(50, 16);
+        index.extendLast(50, 40);
+
+        // Then: The run is covered by one segment
+        assertTrue(index.hits(50, 30, HALF, HALF), "Extended part should hit");
+        assertEquals(1, index.size(), "Extension should not add segments");
+        assertTrue(index.canExtendLast(50, 40, 50, 43), "Extension should track the new end");
+    }
+
+    /**
+     * Test: Extending off-axis is rejected
+     */
+    @Test
+    @DisplayName("Extend last rejects off-axis points and empty index")
+    void testExtendLastInvalid() {
+        assertThrows(IllegalStateException.class, () -> index.extendLast(1, 1));
+        index.insert(10, 10, 20, 10);
+        assertThrows(IllegalArgumentException.class, () -> index.extendLast(30, 11));
+    }
+
+    /**
+     * Test: Ray query finds the nearest perpendicular segment
+     *
+     * Given: Two vertical segments to the right of the origin and one horizontal
+     * When: Casting rays in each direction
+     * Then: The nearest crossing segment within range is reported
+     */
+    @Test
+    @DisplayName("Ray query reports nearest crossing")
+    void testRayCast() {
+        // Given: Walls at x = 110 and x = 105 crossing y = 100, a floor at y = 120
+        index.insert(110, 90, 110, 110);
+        index.insert(105, 90, 105, 110);
+        index.insert(90, 120, 100, 120);
+
+        // Then: Nearest wall wins, range and extent are honoured
+        assertEquals(5, index.rayCast(100, 100, 1, 0, 20), "Nearest wall to the right");
+        assertEquals(-1, index.rayCast(100, 100, 1, 0, 4), "Wall out of range");
+        assertEquals(-1, index.rayCast(100, 111, 1, 0, 20), "Ray below the walls' extent");
+        assertEquals(-1, index.rayCast(100, 100, -1, 0, 50), "Nothing to the left");
+        assertEquals(20, index.rayCast(95, 100, 0, 1, 20), "Floor below");
+        assertEquals(-1, index.rayCast(105, 90, 0, 1, 20), "Ray starting on a wall skips its origin");
+    }
+
+    /**
+     * Test: Overlapping and touching inserts are merged
+     *
+     * Given: Segments on the same row that overlap or touch
+     * When: Querying the gaps between and around them
+     * Then: Covered points hit and the real gap still misses
+     */
+    @Test
+    @DisplayName("Intervals on a row merge without losing gaps")
+    void testMerging() {
+        // Given: [10, 20], [21, 30] touching, [25, 40] overlapping, [50, 60] apart
+        index.insert(10, 5, 20, 5);
+        index.insert(21, 5, 30, 5);
+        index.insert(40, 5, 25, 5);
+        index.insert(50, 5, 60, 5);
+
+        // Then: Merged run is covered, gap is not
+        assertTrue(index.hits(21, 5, 0, 0), "Touching boundary should be covered");
+        assertTrue(index.hits(40, 5, 0, 0), "Overlap end should be covered");
+        assertFalse(index.hits(45, 5, 0, 0), "Gap should stay free");
+        assertTrue(index.hits(50, 5, 0, 0), "Separate segment should be covered");
+        assertEquals(4, index.size(), "All inserts should be counted");
+    }
+
+    /**
+     * Test: Row and column range queries
+     */
+    @Test
+    @DisplayName("Range queries find rows and columns by key only")
+    void testRangeQueries() {
+        index.insert(0, 40, 5, 40);
+        index.insert(300, 0, 300, 5);
+
+        assertTrue(index.hasHorizontalBetween(36, 44), "Row 40 is in range");
+        assertFalse(index.hasHorizontalBetween(41, 44), "Row 40 is out of range");
+        assertTrue(index.hasVerticalBetween(295, 300), "Column 300 is in range");
+        assertFalse(index.hasVerticalBetween(301, 299), "Empty range should be false");
+
+        index.clear();
+        assertTrue(index.isEmpty(), "Cleared index should be empty");
+        assertFalse(index.hasHorizontalBetween(0, 500), "Cleared index has no rows");
+    }
+}
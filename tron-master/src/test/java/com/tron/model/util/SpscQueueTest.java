@@ -0,0 +1,94 @@
+package com.tron.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SpscQueueTest - Unit tests for the lock-free single-producer queue
+ *
+ * Tests order, refusing elements when full, and handing elements from one
+ * thread to another, using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("SpscQueue - SPSC Queue Tests")
+class SpscQueueTest {
+
+    /**
+     * Test: Elements come out in order; a full queue refuses more
+     *
+     * Given: A queue of capacity 3, rounded up to 4
+     * When: Offering 5 elements, then polling
+     * Then: The first 4 come out in order, the fifth was dropped
+     */
+    @Test
+    @DisplayName("Keeps order and drops when full")
+    void testOrderAndCapacity() {
+        // Given: Small queue
+        SpscQueue<String> queue = new SpscQueue<>(3);
+        assertEquals(4, queue.getCapacity(), "Rounded up to a power of two");
+
+        // When: Overfill
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer("e" + i), "Room for element " + i);
+        }
+        assertFalse(queue.offer("e4"), "Full");
+
+        // Then: In order, drop counted
+        assertEquals(4, queue.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals("e" + i, queue.poll());
+        }
+        assertNull(queue.poll(), "Empty");
+        assertTrue(queue.isEmpty());
+        assertEquals(1, queue.getDropped(), "One drop");
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(null),
+                "Null elements should be rejected");
+    }
+
+    /**
+     * Test: Elements cross threads intact and in order
+     *
+     * Given: A producer thread offering 100,000 numbers into a queue of 64
+     * When: The test thread polls them concurrently
+     * Then: Every number arrives once, in order
+     */
+    @Test
+    @DisplayName("Hands elements from one thread to another in order")
+    void testCrossThread() throws InterruptedException {
+        // Given: Producer retrying while full
+        final int total = 100_000;
+        SpscQueue<Integer> queue = new SpscQueue<>(64);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                while (!queue.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        // When: Consume everything
+        int expected = 0;
+        while (expected < total) {
+            Integer value = queue.poll();
+            if (value == null) {
+                Thread.yield();
+                continue;
+            }
+            // Then: In order
+            assertEquals(expected, value.intValue(), "Order kept");
+            expected++;
+        }
+        producer.join();
+        assertTrue(queue.isEmpty(), "Nothing left");
+    }
+}
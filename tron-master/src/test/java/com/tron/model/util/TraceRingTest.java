@@ -0,0 +1,132 @@
+package com.tron.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TraceRingTest - Unit tests for the preallocated trace event ring
+ *
+ * Tests event order, dropping when full, wrapping, and handing events
+ * from one thread to another, using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("TraceRing - SPSC Event Ring Tests")
+class TraceRingTest {
+
+    /**
+     * Test: Events come out in order with all fields
+     *
+     * Given: A ring of capacity 5, rounded up to 8
+     * When: Offering 3 events and draining
+     * Then: They arrive in order with their fields intact
+     */
+    @Test
+    @DisplayName("Drains events in order with all fields")
+    void testOrderAndFields() {
+        // Given: Small ring
+        TraceRing ring = new TraceRing(5);
+        assertEquals(8, ring.getCapacity(), "Rounded up to a power of two");
+
+        // When: Three events
+        for (int i = 0; i < 3; i++) {
+            ring.offer(100 + i, i, 1000L * i, -i, i * 2);
+        }
+        List<long[]> seen = new ArrayList<>();
+        int drained = ring.drainTo((nanos, type, value, a, b) ->
+                seen.add(new long[] { nanos, type, value, a, b }), 10);
+
+        // Then: In order
+        assertEquals(3, drained, "All drained");
+        for (int i = 0; i < 3; i++) {
+            assertEquals(100 + i, seen.get(i)[0], "Time");
+            assertEquals(i, seen.get(i)[1], "Type");
+            assertEquals(1000L * i, seen.get(i)[2], "Value");
+            assertEquals(-i, seen.get(i)[3], "First int");
+            assertEquals(i * 2, seen.get(i)[4], "Second int");
+        }
+        assertEquals(0, ring.size(), "Empty after draining");
+    }
+
+    /**
+     * Test: A full ring drops and counts, then wraps after draining
+     *
+     * Given: A ring of 4 filled with 6 offers
+     * When: Draining 2, offering 2 more and draining the rest
+     * Then: 2 offers were dropped, and the wrapped events follow in order
+     */
+    @Test
+    @DisplayName("Drops when full and wraps around")
+    void testDropAndWrap() {
+        // Given: Overfilled ring
+        TraceRing ring = new TraceRing(4);
+        for (int i = 0; i < 6; i++) {
+            boolean stored = ring.offer(i, 0, i, 0, 0);
+            assertEquals(i < 4, stored, "Only four fit");
+        }
+        assertEquals(2, ring.getDropped(), "Two dropped");
+
+        // When: Partial drain, refill, drain
+        List<Long> values = new ArrayList<>();
+        TraceRing.Sink sink = (nanos, type, value, a, b) -> values.add(value);
+        assertEquals(2, ring.drainTo(sink, 2), "Limited drain");
+        assertTrue(ring.offer(10, 0, 10, 0, 0), "Space again");
+        assertTrue(ring.offer(11, 0, 11, 0, 0), "Space again");
+        assertFalse(ring.offer(12, 0, 12, 0, 0), "Full again");
+        ring.drainTo(sink, 100);
+
+        // Then: Order survives the wrap
+        assertEquals(List.of(0L, 1L, 2L, 3L, 10L, 11L), values, "Oldest first");
+        assertThrows(IllegalArgumentException.class, () -> new TraceRing(0),
+                "Zero capacity should be rejected");
+    }
+
+    /**
+     * Test: Events cross from a producer thread to a consumer thread
+     *
+     * Given: A producer offering 200,000 numbered events into a ring of 256
+     * When: The consumer drains until the producer finishes
+     * Then: Every stored event arrives exactly once and in order
+     */
+    @Test
+    @DisplayName("Hands events between threads in order")
+    void testProducerConsumer() throws InterruptedException {
+        // Given: Producer thread
+        TraceRing ring = new TraceRing(256);
+        int total = 200_000;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                ring.offer(i, 0, i, 0, 0);
+            }
+        });
+        long[] state = { -1, 0, 0 }; // last value, received, out of order
+        TraceRing.Sink sink = (nanos, type, value, a, b) -> {
+            if (value <= state[0]) {
+                state[2]++;
+            }
+            state[0] = value;
+            state[1]++;
+        };
+
+        // When: Consume concurrently
+        producer.start();
+        while (producer.isAlive()) {
+            ring.drainTo(sink, 64);
+        }
+        ring.drainTo(sink, Integer.MAX_VALUE);
+
+        // Then: Stored plus dropped covers everything
+        assertEquals(0, state[2], "Strictly increasing");
+        assertEquals(total, state[1] + ring.getDropped(), "Each event received or counted as dropped");
+    }
+}
@@ -0,0 +1,227 @@
+package com.tron.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.tron.model.data.DrawData;
+
+/**
+ * TrailBufferTest - Unit tests for packed trail storage
+ *
+ * Tests appending, growth, the flyweight list view, structurally shared
+ * snapshots and allocation-free reads by index using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("TrailBuffer - Packed Trail Storage Tests")
+class TrailBufferTest {
+
+    private TrailBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new TrailBuffer(2);
+    }
+
+    /**
+     * Test: Segments survive growth
+     *
+     * Given: A buffer with capacity 2
+     * When: Appending 100 segments
+     * Then: Every segment reads back unchanged
+     */
+    @Test
+    @DisplayName("Appended segments survive growth")
+    void testAddAndGrow() {
+        // When: Appending past the initial capacity
+        for (int i = 0; i < 100; i++) {
+            buffer.add(i, i + 1, i + 2, i + 3);
+        }
+
+        // Then: All coordinates are preserved
+        assertEquals(100, buffer.size(), "All segments should be stored");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, buffer.getStartX(i), "Start X of segment " + i);
+            assertEquals(i + 1, buffer.getStartY(i), "Start Y of segment " + i);
+            assertEquals(i + 2, buffer.getEndX(i), "End X of segment " + i);
+            assertEquals(i + 3, buffer.getEndY(i), "End Y of segment " + i);
+        }
+    }
+
+    /**
+     * Test: List view exposes segments as shapes
+     *
+     * Given: A buffer with a horizontal and a vertical segment
+     * When: Reading it through asList()
+     * Then: Views report coordinates and orientation, and the list is read-only
+     */
+    @Test
+    @DisplayName("List view exposes flyweight shapes")
+    void testListView() {
+        // Given: Two segments
+        buffer.add(0, 5, 30, 5);
+        buffer.add(30, 5, 30, 40);
+
+        // When: Viewing as shapes
+        List<Shape> shapes = buffer.asList();
+
+        // Then: Views read the buffer
+        assertEquals(2, shapes.size(), "View size should match");
+        assertFalse(shapes.get(0).isVertical(), "First segment is horizontal");
+        assertTrue(shapes.get(1).isVertical(), "Second segment is vertical");
+        assertEquals(40, shapes.get(1).getEndY(), "View should read end Y");
+        assertThrows(UnsupportedOperationException.class,
+                () -> shapes.add(new Line(0, 0, 1, 0)), "View is read-only");
+        assertThrows(IndexOutOfBoundsException.class, () -> shapes.get(2),
+                "Out of range index should fail");
+    }
+
+    /**
+     * Test: Copies are independent of later edits
+     *
+     * Given: A copy taken before the last segment is extended
+     * When: Extending the original
+     * Then: The copy keeps the old end point
+     */
+    @Test
+    @DisplayName("Copy is independent of the original")
+    void testCopyIsIndependent() {
+        // Given: A copy
+        buffer.add(0, 0, 5, 0);
+        TrailBuffer copy = buffer.copy();
+
+        // When: Editing the original
+        buffer.setEnd(0, 50, 0);
+        buffer.add(50, 0, 50, 9);
+
+        // Then: Copy unchanged
+        assertEquals(1, copy.size(), "Copy keeps its size");
+        assertEquals(5, copy.asList().get(0).getEndX(), "Copy keeps its coordinates");
+        assertEquals(50, buffer.getEndX(0), "Original is edited");
+    }
+
+    /**
+     * Test: Snapshots are immutable while the trail keeps growing
+     *
+     * Given: A snapshot of a run and a stub
+     * When: The run is extended in place, a turn is added and the buffer grows
+     * Then: The snapshot still shows the segments as they were
+     */
+    @Test
+    @DisplayName("Snapshot ignores later in-place edits and growth")
+    void testSnapshotIsImmutable() {
+        // Given: Committed prefix, run and stub
+        buffer.add(0, 0, 0, 10);
+        buffer.add(0, 10, 20, 10);
+        buffer.add(20, 10, 22, 10);
+        List<Shape> snapshot = buffer.snapshot();
+
+        // When: Extending the run, overwriting the stub and growing
+        buffer.setEnd(1, 22, 10);
+        buffer.set(2, 22, 10, 24, 10);
+        for (int i = 0; i < 50; i++) {
+            buffer.add(24, 10 + i, 24, 11 + i);
+        }
+
+        // Then: Snapshot unchanged
+        assertEquals(3, snapshot.size(), "Snapshot keeps its length");
+        assertEquals(10, snapshot.get(0).getEndY(), "Shared prefix is intact");
+        assertEquals(20, snapshot.get(1).getEndX(), "Run end is frozen");
+        assertEquals(22, snapshot.get(2).getEndX(), "Stub end is frozen");
+        assertThrows(UnsupportedOperationException.class,
+                () -> snapshot.add(new Line(0, 0, 1, 0)), "Snapshot is read-only");
+    }
+
+    /**
+     * Test: Rewriting a shared prefix copies the arrays first
+     *
+     * Given: A snapshot of four segments
+     * When: Clearing the buffer and refilling it
+     * Then: The snapshot keeps the old segments and the buffer the new ones
+     */
+    @Test
+    @DisplayName("Writing a shared prefix detaches the buffer")
+    void testCopyOnWrite() {
+        // Given: A snapshot sharing two segments
+        for (int i = 0; i < 4; i++) {
+            buffer.add(i, 0, i + 1, 0);
+        }
+        List<Shape> snapshot = buffer.snapshot();
+
+        // When: Clearing and refilling
+        buffer.clear();
+        buffer.add(100, 100, 200, 100);
+        buffer.add(200, 100, 200, 200);
+
+        // Then: Both sides see their own data
+        assertEquals(0, snapshot.get(0).getStartX(), "Snapshot prefix must survive a refill");
+        assertEquals(1, snapshot.get(1).getStartX(), "Snapshot prefix must survive a refill");
+        assertEquals(100, buffer.getStartX(0), "Buffer sees the new segment");
+        assertEquals(200, buffer.getEndY(1), "Buffer sees the new segment");
+    }
+
+    /**
+     * Test: Snapshots read by index without allocating
+     *
+     * Given: Draw data over a snapshot of a 1000-segment trail
+     * When: Reading every segment through the index getters many times
+     * Then: The getters match the list view, and the reads allocate
+     *       nothing proportional to the trail
+     */
+    @Test
+    @DisplayName("Snapshot segments read by index without allocation")
+    void testSnapshotReadsWithoutAllocation() {
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean()
+                instanceof com.sun.management.ThreadMXBean, "Allocation counter available");
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported(), "Allocation counter supported");
+
+        // Given: A long trail and its draw data
+        for (int i = 0; i < 1000; i++) {
+            buffer.add(i, i + 1, i + 2, i + 3);
+        }
+        List<Shape> snapshot = buffer.snapshot();
+        assertTrue(snapshot instanceof SegmentSource, "Snapshots read by index");
+        DrawData data = new DrawData(0, 0, 5, 5, PlayerColor.CYAN, snapshot, true, false);
+        assertEquals(1000, data.getSegmentCount());
+        for (int i = 0; i < 1000; i += 333) {
+            assertEquals(snapshot.get(i).getStartX(), data.getSegmentStartX(i), "Start X of " + i);
+            assertEquals(snapshot.get(i).getEndY(), data.getSegmentEndY(i), "End Y of " + i);
+        }
+        long sum = readAll(data);
+
+        // When: 200 full reads, as 200 frames would
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int frame = 0; frame < 200; frame++) {
+            sum += readAll(data);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Then: No garbage per segment
+        assertTrue(sum > 0);
+        assertTrue(allocated < 10_000, "Allocated " + allocated + " bytes for 200,000 segment reads");
+    }
+
+    private static long readAll(DrawData data) {
+        long sum = 0;
+        for (int i = 0, n = data.getSegmentCount(); i < n; i++) {
+            sum += data.getSegmentStartX(i) + data.getSegmentStartY(i)
+                    + data.getSegmentEndX(i) + data.getSegmentEndY(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,160 @@
+package com.tron.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TrailBuilderTest - Unit tests for in-place trail coalescing
+ *
+ * Tests straight runs, turns, jumps and equivalence with the original
+ * merge-then-append rules using Given-When-Then format.
+ *
+ * @author MattBrown
+ * @author MattBrown
+ * @version 1.0
+ */
+@DisplayName("TrailBuilder - Trail Coalescing Tests")
+class TrailBuilderTest {
+
+    private TrailBuffer trail;
+    private TrailBuilder builder;
+
+    @BeforeEach
+    void setUp() {
+        trail = new TrailBuffer(4);
+        builder = new TrailBuilder(trail);
+    }
+
+    /**
+     * Test: A straight run keeps a constant segment count
+     *
+     * Given: A player moving straight down from (10, 10)
+     * When: Taking 1000 steps
+     * Then: The trail holds one run and one stub, and the buffer never grew
+     */
+    @Test
+    @DisplayName("Straight run is extended in place")
+    void testStraightRunExtendsInPlace() {
+        // Given: Initial stub
+        builder.step(10, 10, 10, 10);
+        long memory = trail.getMemoryBytes();
+
+        // When: Moving straight
+        int y = 10;
+        for (int i = 0; i < 1000; i++) {
+            builder.step(10, y, 10, y + 3);
+            y += 3;
+        }
+
+        // Then: Run plus stub, no growth
+        assertEquals(2, trail.size(), "Straight run should stay two segments");
+        assertEquals(10, trail.getStartY(0), "Run starts at the spawn");
+        assertEquals(y - 3, trail.getEndY(0), "Run ends where the stub starts");
+        assertEquals(y, trail.getEndY(1), "Stub ends at the head");
+        assertEquals(memory, trail.getMemoryBytes(), "Buffer should not grow");
+    }
+
+    /**
+     * Test: A turn starts a new segment
+     *
+     * Given: A run moving right
+     * When: Turning down and continuing
+     * Then: The horizontal run is kept and a vertical run follows it
+     */
+    @Test
+    @DisplayName("Turn starts a new segment")
+    void testTurnStartsSegment() {
+        // Given: Moving right
+        builder.step(0, 0, 0, 0);
+        builder.step(0, 0, 2, 0);
+        builder.step(2, 0, 4, 0);
+
+        // When: Turning down
+        builder.step(4, 0, 4, 2);
+        builder.step(4, 2, 4, 4);
+        builder.step(4, 4, 4, 6);
+
+        // Then: Horizontal run, vertical run, stub
+        assertEquals(3, trail.size(), "Turn should add one segment");
+        assertEquals(4, trail.getEndX(0), "Horizontal run ends at the corner");
+        assertEquals(0, trail.getEndY(0), "Horizontal run stays on its row");
+        assertEquals(4, trail.getStartX(1), "Vertical run starts at the corner");
+        assertEquals(4, trail.getEndY(1), "Vertical run ends where the stub starts");
+    }
+
+    /**
+     * Test: Same result as the original merge-then-append rules
+     *
+     * Given: A random walk with turns and 16-pixel jumps
+     * When: Building it with the TrailBuilder and with the original rules
+     * Then: Both trails hold identical segments
+     */
+    @Test
+    @DisplayName("Matches the original coalescing rules")
+    void testMatchesOriginalRules() {
+        // Given: A random walk
+        Random rand = new Random(42);
+        List<int[]> reference = new ArrayList<>();
+        int x = 200;
+        int y = 200;
+        int vx = 2;
+        int vy = 0;
+        reference.add(new int[] { x, y, x, y });
+        builder.step(x, y, x, y);
+
+        // When: Replaying it through both
+        for (int i = 0; i < 5000; i++) {
+            int r = rand.nextInt(20);
+            if (r == 0) {
+                int t = vx;
+                vx = -vy;
+                vy = t;
+            } else if (r == 1) {
+                x += Integer.signum(vx) * 16;
+                y += Integer.signum(vy) * 16;
+                continue;
+            }
+            int a = x;
+            int b = y;
+            x += vx;
+            y += vy;
+            referenceStep(reference, a, b, x, y);
+            builder.step(a, b, x, y);
+        }
+
+        // Then: Identical segments
+        assertEquals(reference.size(), trail.size(), "Segment counts should match");
+        for (int i = 0; i < reference.size(); i++) {
+            int[] s = reference.get(i);
+            assertEquals(s[0], trail.getStartX(i), "Start X of segment " + i);
+            assertEquals(s[1], trail.getStartY(i), "Start Y of segment " + i);
+            assertEquals(s[2], trail.getEndX(i), "End X of segment " + i);
+            assertEquals(s[3], trail.getEndY(i), "End Y of segment " + i);
+        }
+    }
+
+    /**
+     * The original move() logic: merge the last two segments when they
+     * form one straight run, then append the new step.
+     */
+    private static void referenceStep(List<int[]> lines, int a, int b, int x, int y) {
+        int n = lines.size();
+        if (n > 1) {
+            int[] l1 = lines.get(n - 2);
+            int[] l2 = lines.get(n - 1);
+            if ((a == l1[0] && l1[3] == l2[1]) || (b == l1[1] && l1[2] == l2[0])) {
+                l1[2] = l2[2];
+                l1[3] = l2[3];
+                lines.remove(n - 1);
+            }
+        }
+        lines.add(new int[] { a, b, x, y });
+    }
+}